@@ -27,6 +27,11 @@ import lombok.Setter;
 @Setter
 public final class HeartbeatConfiguration {
     
+    /**
+     * Default timeout seconds of one detect, zero means no timeout.
+     */
+    public static final int DEFAULT_TIMEOUT_SECONDS = 3;
+    
     private String sql;
     
     private int interval;
@@ -37,5 +42,7 @@ public final class HeartbeatConfiguration {
     
     private int retryInterval;
     
+    private int timeout = DEFAULT_TIMEOUT_SECONDS;
+    
     private int threadCount;
 }
@@ -38,6 +38,7 @@ public final class ClusterConfigurationYamlSwapper implements YamlSwapper<YamlCl
         yamlHeartBeatConfiguration.setRetryMaximum(heartbeat.getRetryMaximum());
         yamlHeartBeatConfiguration.setRetryInterval(heartbeat.getRetryInterval());
         yamlHeartBeatConfiguration.setThreadCount(heartbeat.getThreadCount());
+        yamlHeartBeatConfiguration.setTimeout(heartbeat.getTimeout());
         YamlClusterConfiguration result = new YamlClusterConfiguration();
         result.setHeartbeat(yamlHeartBeatConfiguration);
         return result;
@@ -53,6 +54,7 @@ public final class ClusterConfigurationYamlSwapper implements YamlSwapper<YamlCl
         heartBeatConfiguration.setRetryMaximum(heartbeat.getRetryMaximum());
         heartBeatConfiguration.setRetryInterval(heartbeat.getRetryInterval());
         heartBeatConfiguration.setThreadCount(0 == heartbeat.getThreadCount() ? Runtime.getRuntime().availableProcessors() << 1 : heartbeat.getThreadCount());
+        heartBeatConfiguration.setTimeout(heartbeat.getTimeout());
         ClusterConfiguration result = new ClusterConfiguration();
         result.setHeartbeat(heartBeatConfiguration);
         return result;
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.cluster.configuration.yaml;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.cluster.configuration.config.HeartbeatConfiguration;
 import org.apache.shardingsphere.infra.yaml.config.YamlConfiguration;
 
 /**
@@ -38,5 +39,7 @@ public final class YamlHeartbeatConfiguration implements YamlConfiguration {
     
     private int retryInterval;
     
+    private int timeout = HeartbeatConfiguration.DEFAULT_TIMEOUT_SECONDS;
+    
     private int threadCount;
 }
@@ -48,6 +48,7 @@ public final class ClusterConfigurationYamlSwapperTest {
         assertThat(clusterConfiguration.getHeartbeat().getSql(), is(SQL));
         assertThat(clusterConfiguration.getHeartbeat().getInterval(), is(INTERVAL));
         assertThat(clusterConfiguration.getHeartbeat().getRetryMaximum(), is(MAXIMUM));
+        assertThat(clusterConfiguration.getHeartbeat().getTimeout(), is(3));
         assertTrue(clusterConfiguration.getHeartbeat().isRetryEnable());
     }
     
@@ -64,6 +65,16 @@ public final class ClusterConfigurationYamlSwapperTest {
         assertThat(yamlClusterConfiguration.getHeartbeat().getSql(), is(SQL));
         assertThat(yamlClusterConfiguration.getHeartbeat().getInterval(), is(INTERVAL));
         assertThat(yamlClusterConfiguration.getHeartbeat().getRetryMaximum(), is(MAXIMUM));
+        assertThat(yamlClusterConfiguration.getHeartbeat().getTimeout(), is(3));
         assertTrue(yamlClusterConfiguration.getHeartbeat().isRetryEnable());
     }
+    
+    @Test
+    public void assertSwapToClusterConfigurationWithoutTimeout() {
+        YamlHeartbeatConfiguration yamlHeartBeatConfiguration = new YamlHeartbeatConfiguration();
+        yamlHeartBeatConfiguration.setTimeout(0);
+        YamlClusterConfiguration yamlClusterConfiguration = new YamlClusterConfiguration();
+        yamlClusterConfiguration.setHeartbeat(yamlHeartBeatConfiguration);
+        assertThat(new ClusterConfigurationYamlSwapper().swapToObject(yamlClusterConfiguration).getHeartbeat().getTimeout(), is(0));
+    }
 }
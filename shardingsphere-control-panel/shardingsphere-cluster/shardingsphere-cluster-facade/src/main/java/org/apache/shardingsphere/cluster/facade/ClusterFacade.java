@@ -107,6 +107,7 @@ public final class ClusterFacade {
                     : instanceState.getDataSources().get(dataSourceName);
             dataSourceState.setState(each.isDisabled() ? NodeState.DISABLED : each.isEnable() ? NodeState.ONLINE : NodeState.OFFLINE);
             dataSourceState.setLastConnect(each.getDetectTimeStamp());
+            dataSourceState.setLatency(each.getLatency());
             dataSourceStateMap.put(dataSourceName, dataSourceState);
         });
     }
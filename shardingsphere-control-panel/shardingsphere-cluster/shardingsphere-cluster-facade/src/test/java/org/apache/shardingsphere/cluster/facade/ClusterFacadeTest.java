@@ -90,8 +90,8 @@ public final class ClusterFacadeTest {
     private Map<String, Collection<HeartbeatResult>> buildHeartbeatResult() {
         Map<String, Collection<HeartbeatResult>> result = new HashMap<>();
         Collection<HeartbeatResult> heartbeatResults = new ArrayList<>();
-        heartbeatResults.add(new HeartbeatResult("ds_0", true, System.currentTimeMillis(), false));
-        heartbeatResults.add(new HeartbeatResult("ds_1", true, System.currentTimeMillis(), false));
+        heartbeatResults.add(new HeartbeatResult("ds_0", true, System.currentTimeMillis(), false, 5L));
+        heartbeatResults.add(new HeartbeatResult("ds_1", true, System.currentTimeMillis(), false, 5L));
         result.put("logic_db", heartbeatResults);
         return result;
     }
@@ -17,30 +17,23 @@
 
 package org.apache.shardingsphere.cluster.heartbeat.detect;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.cluster.heartbeat.response.HeartbeatResult;
 
 import java.util.Map;
-import java.util.concurrent.Callable;
 
 /**
  * Abstract heart beat detect.
  */
 @RequiredArgsConstructor
-@Slf4j
-public abstract class AbstractHeartbeatDetect implements Callable<Map<String, HeartbeatResult>> {
-    
-    private final boolean retryEnable;
-    
-    private final int retryMaximum;
-    
-    private final int retryInterval;
+@Getter
+public abstract class AbstractHeartbeatDetect {
     
     private final boolean needDetect;
-
+    
     /**
-     * Detect heart beat.
+     * Detect heart beat once.
      *
      * @return heart beat result.
      */
@@ -50,29 +43,8 @@ public abstract class AbstractHeartbeatDetect implements Callable<Map<String, He
      * Build heart beat result.
      *
      * @param heartbeatResult heart beat result
+     * @param latency latency of detect in milliseconds
      * @return heart beat result
      */
-    protected abstract Map<String, HeartbeatResult> buildResult(boolean heartbeatResult);
-    
-    @Override
-    public final Map<String, HeartbeatResult> call() {
-        if (!needDetect) {
-            return buildResult(false);
-        }
-        if (retryEnable && retryMaximum > 0) {
-            for (int i = 0; i < retryMaximum; i++) {
-                if (detect()) {
-                    return buildResult(true);
-                }
-                try {
-                    Thread.sleep(retryInterval * 1000L);
-                } catch (final InterruptedException ex) {
-                    log.warn("Retry heart beat detect sleep error", ex);
-                }
-            }
-            return buildResult(false);
-        } else {
-            return buildResult(detect());
-        }
-    }
+    protected abstract Map<String, HeartbeatResult> buildResult(boolean heartbeatResult, long latency);
 }
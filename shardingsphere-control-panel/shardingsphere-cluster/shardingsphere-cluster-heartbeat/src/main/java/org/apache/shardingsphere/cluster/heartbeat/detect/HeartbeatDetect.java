@@ -46,20 +46,24 @@ public final class HeartbeatDetect extends AbstractHeartbeatDetect {
     
     private final boolean dataSourceDisabled;
     
+    private final int timeout;
+    
     public HeartbeatDetect(final String schemaName, final String dataSourceName, final DataSource dataSource,
                            final HeartbeatConfiguration configuration, final Boolean dataSourceDisabled) {
-        super(configuration.isRetryEnable(), configuration.getRetryMaximum(), configuration.getRetryInterval(), !dataSourceDisabled);
+        super(!dataSourceDisabled);
         sql = configuration.getSql();
         this.schemaName = schemaName;
         this.dataSourceName = dataSourceName;
         this.dataSource = dataSource;
         this.dataSourceDisabled = dataSourceDisabled;
+        timeout = configuration.getTimeout();
     }
     
     @Override
     protected boolean detect() {
         try (Connection connection = dataSource.getConnection();
              PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setQueryTimeout(timeout);
             try (ResultSet result = preparedStatement.executeQuery()) {
                 return Objects.nonNull(result) && result.next();
             }
@@ -70,9 +74,9 @@ public final class HeartbeatDetect extends AbstractHeartbeatDetect {
     }
     
     @Override
-    protected Map<String, HeartbeatResult> buildResult(final boolean heartbeatResult) {
+    protected Map<String, HeartbeatResult> buildResult(final boolean heartbeatResult, final long latency) {
         Map<String, HeartbeatResult> result = new HashMap<>(1, 1);
-        result.put(schemaName, new HeartbeatResult(dataSourceName, heartbeatResult, System.currentTimeMillis(), dataSourceDisabled));
+        result.put(schemaName, new HeartbeatResult(dataSourceName, heartbeatResult, System.currentTimeMillis(), dataSourceDisabled, latency));
         return result;
     }
 }
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.cluster.heartbeat.detect;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.cluster.configuration.config.HeartbeatConfiguration;
+import org.apache.shardingsphere.cluster.heartbeat.response.HeartbeatResult;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heartbeat detect executor.
+ *
+ * <p>
+ * Detects run concurrently on bounded worker threads and each detect is interrupted when timeout,
+ * retries are delayed with jittered exponential backoff by scheduler instead of sleeping in worker threads.
+ * </p>
+ */
+@Slf4j
+public final class HeartbeatDetectExecutor {
+    
+    private static final long MAX_RETRY_DELAY_MILLIS = 30000L;
+    
+    private final ExecutorService executorService;
+    
+    private final ScheduledThreadPoolExecutor scheduledExecutorService;
+    
+    private final long timeoutMillis;
+    
+    private final int maxAttempts;
+    
+    private final long retryIntervalMillis;
+    
+    private final Set<CompletableFuture<Map<String, HeartbeatResult>>> pendingResults = ConcurrentHashMap.newKeySet();
+    
+    public HeartbeatDetectExecutor(final HeartbeatConfiguration configuration) {
+        executorService = Executors.newFixedThreadPool(configuration.getThreadCount(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-Heartbeat-Detect-%d").build());
+        scheduledExecutorService = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-Heartbeat-Schedule-%d").build());
+        scheduledExecutorService.setRemoveOnCancelPolicy(true);
+        scheduledExecutorService.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        timeoutMillis = TimeUnit.SECONDS.toMillis(configuration.getTimeout());
+        maxAttempts = configuration.isRetryEnable() && configuration.getRetryMaximum() > 0 ? configuration.getRetryMaximum() : 1;
+        retryIntervalMillis = TimeUnit.SECONDS.toMillis(configuration.getRetryInterval());
+    }
+    
+    /**
+     * Execute heartbeat detect.
+     *
+     * @param heartbeatDetect heartbeat detect
+     * @return future of heartbeat result, which is completed exceptionally only if executor closed before detect finished
+     */
+    public CompletableFuture<Map<String, HeartbeatResult>> execute(final AbstractHeartbeatDetect heartbeatDetect) {
+        CompletableFuture<Map<String, HeartbeatResult>> result = new CompletableFuture<>();
+        if (!heartbeatDetect.isNeedDetect()) {
+            result.complete(heartbeatDetect.buildResult(false, 0L));
+            return result;
+        }
+        pendingResults.add(result);
+        result.whenComplete((heartbeatResult, ex) -> pendingResults.remove(result));
+        executeAttempt(heartbeatDetect, 1, result);
+        return result;
+    }
+    
+    private void executeAttempt(final AbstractHeartbeatDetect heartbeatDetect, final int attempt, final CompletableFuture<Map<String, HeartbeatResult>> result) {
+        try {
+            executorService.execute(() -> detect(heartbeatDetect, attempt, result));
+        } catch (final RejectedExecutionException ex) {
+            result.complete(heartbeatDetect.buildResult(false, 0L));
+        }
+    }
+    
+    private void detect(final AbstractHeartbeatDetect heartbeatDetect, final int attempt, final CompletableFuture<Map<String, HeartbeatResult>> result) {
+        DetectAttempt detectAttempt = new DetectAttempt(Thread.currentThread());
+        long startTime = System.nanoTime();
+        ScheduledFuture<?> timeoutFuture = timeoutMillis > 0 ? scheduleTimeout(heartbeatDetect, attempt, result, detectAttempt, startTime) : null;
+        boolean detected = false;
+        try {
+            detected = heartbeatDetect.detect();
+        } catch (final RuntimeException ex) {
+            log.error("Heartbeat detect error", ex);
+        } finally {
+            if (null != timeoutFuture) {
+                timeoutFuture.cancel(false);
+            }
+        }
+        if (detectAttempt.finish()) {
+            onAttemptFinished(heartbeatDetect, attempt, detected, startTime, result);
+        } else {
+            Thread.interrupted();
+        }
+    }
+    
+    private ScheduledFuture<?> scheduleTimeout(final AbstractHeartbeatDetect heartbeatDetect, final int attempt,
+                                               final CompletableFuture<Map<String, HeartbeatResult>> result, final DetectAttempt detectAttempt, final long startTime) {
+        try {
+            return scheduledExecutorService.schedule(() -> {
+                if (detectAttempt.interrupt()) {
+                    log.warn("Heartbeat detect timeout after {} ms, attempt {} of {}", timeoutMillis, attempt, maxAttempts);
+                    onAttemptFinished(heartbeatDetect, attempt, false, startTime, result);
+                }
+            }, timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException ex) {
+            return null;
+        }
+    }
+    
+    private void onAttemptFinished(final AbstractHeartbeatDetect heartbeatDetect, final int attempt, final boolean detected,
+                                   final long startTime, final CompletableFuture<Map<String, HeartbeatResult>> result) {
+        long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        if (detected || attempt >= maxAttempts) {
+            result.complete(heartbeatDetect.buildResult(detected, latency));
+            return;
+        }
+        try {
+            scheduledExecutorService.schedule(() -> executeAttempt(heartbeatDetect, attempt + 1, result), getRetryDelayMillis(attempt), TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException ex) {
+            result.complete(heartbeatDetect.buildResult(false, latency));
+        }
+    }
+    
+    private long getRetryDelayMillis(final int attempt) {
+        long delay = Math.min(retryIntervalMillis << Math.min(attempt - 1, 16), MAX_RETRY_DELAY_MILLIS);
+        return delay - ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+    
+    /**
+     * Close heartbeat detect executor, detects not finished are completed exceptionally.
+     */
+    public void close() {
+        scheduledExecutorService.shutdownNow();
+        executorService.shutdownNow();
+        CancellationException cause = new CancellationException("Heartbeat detect executor is closed.");
+        for (CompletableFuture<Map<String, HeartbeatResult>> each : pendingResults) {
+            each.completeExceptionally(cause);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class DetectAttempt {
+        
+        private final Thread workerThread;
+        
+        private boolean finished;
+        
+        private synchronized boolean finish() {
+            if (finished) {
+                return false;
+            }
+            finished = true;
+            return true;
+        }
+        
+        private synchronized boolean interrupt() {
+            if (finished) {
+                return false;
+            }
+            finished = true;
+            workerThread.interrupt();
+            return true;
+        }
+    }
+}
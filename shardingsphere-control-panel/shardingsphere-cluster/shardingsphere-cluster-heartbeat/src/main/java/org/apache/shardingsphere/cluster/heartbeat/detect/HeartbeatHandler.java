@@ -21,7 +21,6 @@ import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.cluster.configuration.config.HeartbeatConfiguration;
 import org.apache.shardingsphere.cluster.heartbeat.response.HeartbeatResponse;
 import org.apache.shardingsphere.cluster.heartbeat.response.HeartbeatResult;
@@ -34,33 +33,30 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
-
 /**
  * Heartbeat handler.
  */
-@Slf4j
 public final class HeartbeatHandler {
     
     private HeartbeatConfiguration configuration;
     
     private Collection<String> disabledDataSources = Collections.emptyList();
     
-    private ExecutorService executorService;
+    private HeartbeatDetectExecutor heartbeatDetectExecutor;
     
     /**
      * Init heartbeat handler.
      *
      * @param configuration heartbeat configuration
      */
-    public void init(final HeartbeatConfiguration configuration) {
+    public synchronized void init(final HeartbeatConfiguration configuration) {
         Preconditions.checkNotNull(configuration, "heartbeat configuration can not be null.");
         this.configuration = configuration;
+        close();
+        heartbeatDetectExecutor = new HeartbeatDetectExecutor(configuration);
     }
     
     /**
@@ -81,42 +77,29 @@ public final class HeartbeatHandler {
      */
     public HeartbeatResponse handle(final Map<String, SchemaContext> schemaContexts, final Collection<String> disabledDataSources) {
         this.disabledDataSources = disabledDataSources;
-        executorService = Executors.newFixedThreadPool(configuration.getThreadCount());
-        List<Future<Map<String, HeartbeatResult>>> futureTasks = new ArrayList<>();
+        List<CompletableFuture<Map<String, HeartbeatResult>>> futureTasks = new ArrayList<>();
         schemaContexts.forEach((key, value) -> value.getSchema().getDataSources().forEach((innerKey, innerValue) -> {
-            futureTasks.add(executorService.submit(new HeartbeatDetect(key, innerKey, innerValue, configuration, isDisabled(key, innerKey))));
+            futureTasks.add(heartbeatDetectExecutor.execute(new HeartbeatDetect(key, innerKey, innerValue, configuration, isDisabled(key, innerKey))));
         }));
-        HeartbeatResponse result = buildHeartbeatResponse(futureTasks);
-        closeExecutor(executorService);
-        return result;
+        return buildHeartbeatResponse(futureTasks);
     }
     
     /**
      * Close heartbeat handler.
      */
-    public void close() {
-        closeExecutor(executorService);
+    public synchronized void close() {
+        if (null != heartbeatDetectExecutor) {
+            heartbeatDetectExecutor.close();
+            heartbeatDetectExecutor = null;
+        }
     }
     
-    private HeartbeatResponse buildHeartbeatResponse(final List<Future<Map<String, HeartbeatResult>>> futureTasks) {
-        Map<String, Collection<HeartbeatResult>> heartbeatResultMap = futureTasks.stream().map(each -> {
-            try {
-                return each.get();
-            } catch (InterruptedException | ExecutionException ex) {
-                log.error("Heartbeat report error", ex);
-                each.cancel(true);
-                return new HashMap<String, HeartbeatResult>();
-            }
-        }).flatMap(map -> map.entrySet().stream()).collect(Collectors.groupingBy(Entry::getKey, HashMap::new, Collectors.mapping(Entry::getValue, Collectors.toCollection(ArrayList::new))));
+    private HeartbeatResponse buildHeartbeatResponse(final List<CompletableFuture<Map<String, HeartbeatResult>>> futureTasks) {
+        Map<String, Collection<HeartbeatResult>> heartbeatResultMap = futureTasks.stream().map(each -> each.exceptionally(ex -> Collections.emptyMap())).map(CompletableFuture::join)
+                .flatMap(map -> map.entrySet().stream()).collect(Collectors.groupingBy(Entry::getKey, HashMap::new, Collectors.mapping(Entry::getValue, Collectors.toCollection(ArrayList::new))));
         return new HeartbeatResponse(heartbeatResultMap);
     }
     
-    private void closeExecutor(final ExecutorService executorService) {
-        if (null != executorService && !executorService.isShutdown()) {
-            executorService.shutdown();
-        }
-    }
-    
     private boolean isDisabled(final String schemaName, final String dataSourceName) {
         return disabledDataSources.isEmpty() ? Boolean.FALSE : disabledDataSources.contains(Joiner.on(".").join(schemaName, dataSourceName));
     }
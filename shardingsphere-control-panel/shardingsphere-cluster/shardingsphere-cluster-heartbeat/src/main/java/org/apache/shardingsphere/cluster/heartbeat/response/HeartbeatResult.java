@@ -34,4 +34,6 @@ public final class HeartbeatResult {
     private final Long detectTimeStamp;
     
     private final boolean disabled;
+    
+    private final long latency;
 }
@@ -18,8 +18,10 @@
 package org.apache.shardingsphere.cluster.heartbeat.task;
 
 import com.google.common.base.Preconditions;
+
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -39,11 +41,16 @@ public final class HeartbeatTaskManager {
     /**
      * Start heartbeat task.
      *
+     * <p>
+     * First execution is delayed by random jitter within tenth of interval, to avoid instances detecting at the same time.
+     * </p>
+     *
      * @param heartbeatTask heartbeat task
      */
     public void start(final HeartbeatTask heartbeatTask) {
         Preconditions.checkNotNull(heartbeatTask, "task can not be null");
-        executorService.scheduleAtFixedRate(heartbeatTask, 0L, interval, TimeUnit.SECONDS);
+        long intervalMillis = TimeUnit.SECONDS.toMillis(interval);
+        executorService.scheduleAtFixedRate(heartbeatTask, ThreadLocalRandom.current().nextLong(intervalMillis / 10 + 1), intervalMillis, TimeUnit.MILLISECONDS);
     }
     
     /**
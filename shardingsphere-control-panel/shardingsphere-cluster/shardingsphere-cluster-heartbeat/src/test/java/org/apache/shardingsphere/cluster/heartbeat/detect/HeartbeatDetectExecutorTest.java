@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.cluster.heartbeat.detect;
+
+import org.apache.shardingsphere.cluster.configuration.config.HeartbeatConfiguration;
+import org.apache.shardingsphere.cluster.heartbeat.response.HeartbeatResult;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertTrue;
+
+public final class HeartbeatDetectExecutorTest {
+    
+    @Test
+    public void assertCloseCompletesPendingDetectsExceptionally() {
+        HeartbeatConfiguration configuration = new HeartbeatConfiguration();
+        configuration.setThreadCount(1);
+        configuration.setTimeout(0);
+        HeartbeatDetectExecutor executor = new HeartbeatDetectExecutor(configuration);
+        CountDownLatch latch = new CountDownLatch(1);
+        CompletableFuture<Map<String, HeartbeatResult>> running = executor.execute(new HangingHeartbeatDetect(latch));
+        CompletableFuture<Map<String, HeartbeatResult>> queued = executor.execute(new HangingHeartbeatDetect(latch));
+        executor.close();
+        latch.countDown();
+        assertTrue(running.isCompletedExceptionally());
+        assertTrue(queued.isCompletedExceptionally());
+    }
+    
+    private static final class HangingHeartbeatDetect extends AbstractHeartbeatDetect {
+        
+        private final CountDownLatch latch;
+        
+        HangingHeartbeatDetect(final CountDownLatch latch) {
+            super(true);
+            this.latch = latch;
+        }
+        
+        @Override
+        protected boolean detect() {
+            try {
+                latch.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        }
+        
+        @Override
+        protected Map<String, HeartbeatResult> buildResult(final boolean heartbeatResult, final long latency) {
+            return Collections.emptyMap();
+        }
+    }
+}
@@ -36,6 +36,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -61,6 +62,8 @@ public final class HeartbeatHandlerTest {
     
     private static boolean multipleDataSource;
     
+    private static boolean hangExecuteQuery;
+    
     private HeartbeatHandler handler;
     
     @Before
@@ -68,6 +71,7 @@ public final class HeartbeatHandlerTest {
         handler = HeartbeatHandler.getInstance();
         enableExecuteQuery = true;
         multipleDataSource = false;
+        hangExecuteQuery = false;
     }
     
     @Test
@@ -128,6 +132,20 @@ public final class HeartbeatHandlerTest {
         assertFalse(heartbeatResult.isEnable());
     }
     
+    @Test
+    public void assertHandleWhenDetectTimeout() {
+        hangExecuteQuery = true;
+        multipleDataSource = true;
+        HeartbeatConfiguration configuration = getHeartbeatConfiguration(false);
+        configuration.setTimeout(1);
+        handler.init(configuration);
+        long startTime = System.currentTimeMillis();
+        HeartbeatResponse response = handler.handle(getSchemaContext(), Collections.emptyList());
+        assertTrue(System.currentTimeMillis() - startTime < 5000L);
+        assertThat(response.getHeartbeatResultMap().get(SCHEMA_NAME).size(), is(2));
+        response.getHeartbeatResultMap().get(SCHEMA_NAME).iterator().forEachRemaining(each -> assertFalse(each.isEnable()));
+    }
+    
     @Test
     public void assertMultipleDataSource() {
         multipleDataSource = true;
@@ -165,6 +183,7 @@ public final class HeartbeatHandlerTest {
         result.setRetryEnable(retry);
         result.setRetryMaximum(3);
         result.setRetryInterval(1);
+        result.setTimeout(3);
         return result;
     }
     
@@ -202,7 +221,16 @@ public final class HeartbeatHandlerTest {
     private PreparedStatement getStatement() {
         PreparedStatement result = mock(PreparedStatement.class);
         ResultSet resultSet = mock(ResultSet.class);
-        if (enableExecuteQuery) {
+        if (hangExecuteQuery) {
+            when(result.executeQuery()).thenAnswer(invocation -> {
+                try {
+                    new CountDownLatch(1).await();
+                } catch (final InterruptedException ex) {
+                    throw new SQLException(ex);
+                }
+                return resultSet;
+            });
+        } else if (enableExecuteQuery) {
             when(result.executeQuery()).thenReturn(resultSet);
             when(resultSet.next()).thenReturn(true);
         } else {
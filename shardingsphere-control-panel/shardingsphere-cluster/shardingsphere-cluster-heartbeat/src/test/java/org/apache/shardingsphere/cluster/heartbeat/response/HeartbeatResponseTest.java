@@ -34,7 +34,7 @@ public final class HeartbeatResponseTest {
     @Test
     public void getHeartbeatResultMap() {
         Map<String, Collection<HeartbeatResult>> heartbeatResultMap = new HashMap<>();
-        heartbeatResultMap.put("sharding_db", Collections.singleton(new HeartbeatResult("ds_1", true, 123L, false)));
+        heartbeatResultMap.put("sharding_db", Collections.singleton(new HeartbeatResult("ds_1", true, 123L, false, 5L)));
         HeartbeatResponse heartbeatResponse = new HeartbeatResponse(heartbeatResultMap);
         assertThat(heartbeatResponse.getHeartbeatResultMap(), is(heartbeatResultMap));
         assertTrue(heartbeatResponse.getHeartbeatResultMap().containsKey("sharding_db"));
@@ -44,5 +44,6 @@ public final class HeartbeatResponseTest {
         assertThat(heartbeatResult.getDataSourceName(), is("ds_1"));
         assertTrue(heartbeatResult.isEnable());
         assertThat(heartbeatResult.getDetectTimeStamp(), is(123L));
+        assertThat(heartbeatResult.getLatency(), is(5L));
     }
 }
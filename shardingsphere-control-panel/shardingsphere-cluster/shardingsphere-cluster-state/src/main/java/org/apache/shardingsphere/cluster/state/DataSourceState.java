@@ -32,5 +32,7 @@ public final class DataSourceState {
     
     private Long lastConnect;
     
+    private Long latency;
+    
     private int retryCount;
 }
@@ -19,13 +19,19 @@ package org.apache.shardingsphere.metrics.prometheus;
 
 import org.apache.shardingsphere.metrics.api.MetricsTracker;
 import org.apache.shardingsphere.metrics.api.MetricsTrackerFactory;
+import org.apache.shardingsphere.metrics.prometheus.impl.counter.AdmissionRejectedCounterMetricsTracker;
+import org.apache.shardingsphere.metrics.prometheus.impl.counter.CircuitBreakerRejectedCounterMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.counter.RequestTotalCounterMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.counter.SQLStatementCounterMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.counter.ShadowHitTotalCounterMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.counter.ShardingDatasourceCounterMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.counter.ShardingTableCounterMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.counter.TransactionCounterMetricsTracker;
+import org.apache.shardingsphere.metrics.prometheus.impl.gauge.AdmissionQueuedGaugeMetricsTracker;
+import org.apache.shardingsphere.metrics.prometheus.impl.gauge.AdmissionRunningGaugeMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.gauge.ChannelCountGaugeMetricsTracker;
+import org.apache.shardingsphere.metrics.prometheus.impl.histogram.BackendConnectionReservationHistogramMetricsTracker;
+import org.apache.shardingsphere.metrics.prometheus.impl.histogram.FrontendWriteBlockedHistogramMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.histogram.RequestLatencyHistogramMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.summary.RequestLatencySummaryMetricsTracker;
 
@@ -50,6 +56,12 @@ public final class PrometheusMetricsTrackerFactory implements MetricsTrackerFact
         REGISTER.add(new ShardingDatasourceCounterMetricsTracker());
         REGISTER.add(new TransactionCounterMetricsTracker());
         REGISTER.add(new ShadowHitTotalCounterMetricsTracker());
+        REGISTER.add(new CircuitBreakerRejectedCounterMetricsTracker());
+        REGISTER.add(new FrontendWriteBlockedHistogramMetricsTracker());
+        REGISTER.add(new BackendConnectionReservationHistogramMetricsTracker());
+        REGISTER.add(new AdmissionRunningGaugeMetricsTracker());
+        REGISTER.add(new AdmissionQueuedGaugeMetricsTracker());
+        REGISTER.add(new AdmissionRejectedCounterMetricsTracker());
     }
     
     @Override
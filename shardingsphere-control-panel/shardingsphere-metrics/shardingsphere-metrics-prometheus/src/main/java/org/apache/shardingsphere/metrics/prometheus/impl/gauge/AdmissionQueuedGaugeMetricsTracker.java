@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.prometheus.impl.gauge;
+
+import io.prometheus.client.Gauge;
+import org.apache.shardingsphere.metrics.api.GaugeMetricsTracker;
+import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
+
+/**
+ * Admission queued command count gauge metrics tracker.
+ */
+public final class AdmissionQueuedGaugeMetricsTracker implements GaugeMetricsTracker {
+    
+    private static final Gauge ADMISSION_QUEUED_COUNT = Gauge.build().name("admission_queued_count").labelNames("user", "schema").help("proxy admission queued command count").register();
+    
+    @Override
+    public void increment(final double amount, final String... labelValues) {
+        ADMISSION_QUEUED_COUNT.labels(labelValues).inc(amount);
+    }
+    
+    @Override
+    public void decrement(final double amount, final String... labelValues) {
+        ADMISSION_QUEUED_COUNT.labels(labelValues).dec(amount);
+    }
+    
+    @Override
+    public String metricsLabel() {
+        return MetricsLabelEnum.ADMISSION_QUEUED_COUNT.getName();
+    }
+}
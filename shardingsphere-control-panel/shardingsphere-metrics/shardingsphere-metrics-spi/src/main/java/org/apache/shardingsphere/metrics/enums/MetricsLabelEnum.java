@@ -46,7 +46,7 @@ public enum MetricsLabelEnum {
      * Request latency metrics label.
      */
     REQUEST_LATENCY("request_latency"),
-  
+    
     /**
      * Sharding table metrics label.
      */
@@ -65,7 +65,37 @@ public enum MetricsLabelEnum {
     /**
      * Shadow hit total label.
      */
-    SHADOW_HIT_TOTAL("shadow_hit_total");
+    SHADOW_HIT_TOTAL("shadow_hit_total"),
+    
+    /**
+     * Circuit breaker rejected total label.
+     */
+    CIRCUIT_BREAKER_REJECTED_TOTAL("circuit_breaker_rejected_total"),
+    
+    /**
+     * Frontend write blocked latency label.
+     */
+    FRONTEND_WRITE_BLOCKED_LATENCY("frontend_write_blocked_latency"),
+    
+    /**
+     * Backend connection reservation latency label.
+     */
+    BACKEND_CONNECTION_RESERVATION_LATENCY("backend_connection_reservation_latency"),
+    
+    /**
+     * Admission running count label.
+     */
+    ADMISSION_RUNNING_COUNT("admission_running_count"),
+    
+    /**
+     * Admission queued count label.
+     */
+    ADMISSION_QUEUED_COUNT("admission_queued_count"),
+    
+    /**
+     * Admission rejected total label.
+     */
+    ADMISSION_REJECTED_TOTAL("admission_rejected_total");
     
     private final String name;
 }
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.orchestration.core.facade.cache;
+
+import org.apache.shardingsphere.infra.executor.sql.cache.QueryResultCacheInvalidationPublisher;
+import org.apache.shardingsphere.orchestration.core.facade.OrchestrationFacade;
+import org.apache.shardingsphere.orchestration.core.registry.RegistryCenter;
+
+import java.util.Collection;
+
+/**
+ * Query result cache invalidation publisher for registry center.
+ */
+public final class RegistryQueryResultCacheInvalidationPublisher implements QueryResultCacheInvalidationPublisher {
+    
+    @Override
+    public void publish(final String schemaName, final Collection<String> tableNames) {
+        RegistryCenter registryCenter = OrchestrationFacade.getInstance().getRegistryCenter();
+        if (null != registryCenter) {
+            registryCenter.persistQueryResultCacheInvalidation(schemaName, tableNames);
+        }
+    }
+}
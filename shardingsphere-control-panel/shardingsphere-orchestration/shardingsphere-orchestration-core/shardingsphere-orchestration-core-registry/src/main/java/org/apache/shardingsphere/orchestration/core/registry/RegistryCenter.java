@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.orchestration.core.registry;
 
+import com.google.common.base.Joiner;
 import com.google.common.base.Strings;
 import org.apache.shardingsphere.orchestration.repository.api.RegistryRepository;
 import org.apache.shardingsphere.orchestration.core.registry.instance.OrchestrationInstance;
@@ -34,7 +35,7 @@ public final class RegistryCenter {
     private final RegistryRepository repository;
     
     private final OrchestrationInstance instance;
-
+    
     public RegistryCenter(final String name, final RegistryRepository registryRepository) {
         node = new RegistryCenterNode(name);
         repository = registryRepository;
@@ -71,6 +72,16 @@ public final class RegistryCenter {
         return repository.get(node.getInstancesNodeFullPath(instance.getInstanceId()));
     }
     
+    /**
+     * Persist invalidation of query result cache, which notifies all instances to evict cached query results of tables.
+     *
+     * @param schemaName schema name
+     * @param tableNames invalidated logic table names
+     */
+    public void persistQueryResultCacheInvalidation(final String schemaName, final Collection<String> tableNames) {
+        repository.persist(node.getCachesNodeFullPath(schemaName), Joiner.on(",").join(tableNames));
+    }
+    
     /**
      * Load all data sources nodes.
      *
@@ -33,6 +33,8 @@ public final class RegistryCenterNode {
     
     private static final String DATA_SOURCES_NODE_PATH = "datasources";
     
+    private static final String CACHES_NODE_PATH = "caches";
+    
     private final String name;
     
     /**
@@ -64,6 +66,35 @@ public final class RegistryCenterNode {
         return Joiner.on("/").join("", name, ROOT, DATA_SOURCES_NODE_PATH, schemaDataSourceName);
     }
     
+    /**
+     * Get query result caches node full root path.
+     *
+     * @return query result caches node full root path
+     */
+    public String getCachesNodeFullRootPath() {
+        return Joiner.on("/").join("", name, ROOT, CACHES_NODE_PATH);
+    }
+    
+    /**
+     * Get query result cache node full path.
+     *
+     * @param schemaName schema name
+     * @return query result cache node full path
+     */
+    public String getCachesNodeFullPath(final String schemaName) {
+        return Joiner.on("/").join("", name, ROOT, CACHES_NODE_PATH, schemaName);
+    }
+    
+    /**
+     * Get schema name of query result cache node.
+     *
+     * @param cacheNodeFullPath query result cache node full path
+     * @return schema name
+     */
+    public String getCacheSchemaName(final String cacheNodeFullPath) {
+        return cacheNodeFullPath.replace(getCachesNodeFullRootPath() + '/', "");
+    }
+    
     /**
      * Get orchestration sharding schema.
      *
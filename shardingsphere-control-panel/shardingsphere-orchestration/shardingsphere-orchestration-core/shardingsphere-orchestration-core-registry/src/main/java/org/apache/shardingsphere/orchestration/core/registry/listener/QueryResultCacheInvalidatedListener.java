@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.orchestration.core.registry.listener;
+
+import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.orchestration.core.common.listener.PostOrchestrationRepositoryEventListener;
+import org.apache.shardingsphere.orchestration.core.registry.RegistryCenterNode;
+import org.apache.shardingsphere.orchestration.core.registry.event.QueryResultCacheInvalidatedEvent;
+import org.apache.shardingsphere.orchestration.repository.api.RegistryRepository;
+import org.apache.shardingsphere.orchestration.repository.api.listener.DataChangedEvent;
+
+import java.util.Collections;
+
+/**
+ * Query result cache invalidated listener.
+ */
+public final class QueryResultCacheInvalidatedListener extends PostOrchestrationRepositoryEventListener {
+    
+    private final RegistryCenterNode registryCenterNode;
+    
+    public QueryResultCacheInvalidatedListener(final String name, final RegistryRepository registryRepository) {
+        super(registryRepository, Collections.singleton(new RegistryCenterNode(name).getCachesNodeFullRootPath()));
+        registryCenterNode = new RegistryCenterNode(name);
+    }
+    
+    @Override
+    protected QueryResultCacheInvalidatedEvent createOrchestrationEvent(final DataChangedEvent event) {
+        return new QueryResultCacheInvalidatedEvent(registryCenterNode.getCacheSchemaName(event.getKey()),
+                Strings.isNullOrEmpty(event.getValue()) ? Collections.emptyList() : Splitter.on(",").trimResults().omitEmptyStrings().splitToList(event.getValue()));
+    }
+}
@@ -29,9 +29,12 @@ public final class RegistryListenerManager {
     
     private final DataSourceStateChangedListener dataSourceStateChangedListener;
     
+    private final QueryResultCacheInvalidatedListener queryResultCacheInvalidatedListener;
+    
     public RegistryListenerManager(final String name, final RegistryRepository registryRepository) {
         instanceStateChangedListener = new InstanceStateChangedListener(name, registryRepository);
         dataSourceStateChangedListener = new DataSourceStateChangedListener(name, registryRepository);
+        queryResultCacheInvalidatedListener = new QueryResultCacheInvalidatedListener(name, registryRepository);
     }
     
     /**
@@ -40,5 +43,6 @@ public final class RegistryListenerManager {
     public void initListeners() {
         instanceStateChangedListener.watch(ChangedType.UPDATED);
         dataSourceStateChangedListener.watch(ChangedType.UPDATED, ChangedType.DELETED, ChangedType.ADDED);
+        queryResultCacheInvalidatedListener.watch(ChangedType.UPDATED, ChangedType.ADDED);
     }
 }
@@ -41,6 +41,16 @@ public final class RegistryCenterNodeTest {
         assertThat(registryCenterNode.getDataSourcesNodeFullPath("sharding_db"), is("/test/registry/datasources/sharding_db"));
     }
     
+    @Test
+    public void assertGetCachesNodeFullPath() {
+        assertThat(registryCenterNode.getCachesNodeFullPath("sharding_db"), is("/test/registry/caches/sharding_db"));
+    }
+    
+    @Test
+    public void assertGetCacheSchemaName() {
+        assertThat(registryCenterNode.getCacheSchemaName("/test/registry/caches/sharding_db"), is("sharding_db"));
+    }
+    
     @Test
     public void assertGetOrchestrationShardingSchema() {
         assertThat(registryCenterNode.getOrchestrationShardingSchema("/test/registry/datasources/master_slave_db.slave_ds_0").getSchemaName(), is("master_slave_db"));
@@ -25,6 +25,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -72,6 +73,12 @@ public final class RegistryCenterTest {
         verify(registryRepository).get(anyString());
     }
     
+    @Test
+    public void assertPersistQueryResultCacheInvalidation() {
+        registryCenter.persistQueryResultCacheInvalidation("sharding_db", Arrays.asList("t_dict", "t_config"));
+        verify(registryRepository).persist("/test/registry/caches/sharding_db", "t_dict,t_config");
+    }
+    
     @Test
     public void assertLoadDisabledDataSources() {
         List<String> disabledDataSources = Collections.singletonList("slave_ds_0");
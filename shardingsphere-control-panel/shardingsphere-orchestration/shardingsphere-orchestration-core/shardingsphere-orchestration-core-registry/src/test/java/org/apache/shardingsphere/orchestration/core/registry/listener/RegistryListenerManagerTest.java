@@ -39,13 +39,18 @@ public final class RegistryListenerManagerTest {
     @Mock
     private DataSourceStateChangedListener dataSourceStateChangedListener;
     
+    @Mock
+    private QueryResultCacheInvalidatedListener queryResultCacheInvalidatedListener;
+    
     @Test
     public void assertInitListeners() {
         RegistryListenerManager actual = new RegistryListenerManager("test", registryRepository);
         FieldUtil.setField(actual, "instanceStateChangedListener", instanceStateChangedListener);
         FieldUtil.setField(actual, "dataSourceStateChangedListener", dataSourceStateChangedListener);
+        FieldUtil.setField(actual, "queryResultCacheInvalidatedListener", queryResultCacheInvalidatedListener);
         actual.initListeners();
         verify(instanceStateChangedListener).watch(ChangedType.UPDATED);
         verify(dataSourceStateChangedListener).watch(ChangedType.UPDATED, ChangedType.DELETED, ChangedType.ADDED);
+        verify(queryResultCacheInvalidatedListener).watch(ChangedType.UPDATED, ChangedType.ADDED);
     }
 }
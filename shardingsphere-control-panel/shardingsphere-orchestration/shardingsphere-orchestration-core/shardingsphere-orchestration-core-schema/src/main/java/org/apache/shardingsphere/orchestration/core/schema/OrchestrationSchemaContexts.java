@@ -29,6 +29,8 @@ import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKe
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypes;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorKernel;
+import org.apache.shardingsphere.infra.executor.sql.cache.QueryResultCache;
+import org.apache.shardingsphere.infra.executor.sql.circuit.DataSourceCircuitBreakerRegistry;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaData;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
@@ -56,6 +58,7 @@ import org.apache.shardingsphere.orchestration.core.facade.OrchestrationFacade;
 import org.apache.shardingsphere.orchestration.core.metadata.event.MetaDataChangedEvent;
 import org.apache.shardingsphere.orchestration.core.registry.event.CircuitStateChangedEvent;
 import org.apache.shardingsphere.orchestration.core.registry.event.DisabledStateChangedEvent;
+import org.apache.shardingsphere.orchestration.core.registry.event.QueryResultCacheInvalidatedEvent;
 import org.apache.shardingsphere.orchestration.core.registry.schema.OrchestrationSchema;
 
 import javax.sql.DataSource;
@@ -297,6 +300,19 @@ public abstract class OrchestrationSchemaContexts implements SchemaContexts {
                 new StandardSchemaContexts(schemaContexts.getSchemaContexts(), schemaContexts.getAuthentication(), schemaContexts.getProps(), schemaContexts.getDatabaseType(), event.isCircuitBreak());
     }
     
+    /**
+     * Evict query result cache.
+     *
+     * @param event query result cache invalidated event
+     */
+    @Subscribe
+    public void renew(final QueryResultCacheInvalidatedEvent event) {
+        SchemaContext schemaContext = schemaContexts.getSchemaContexts().get(event.getSchemaName());
+        if (null != schemaContext) {
+            schemaContext.getRuntimeContext().getQueryResultCache().evict(event.getTableNames());
+        }
+    }
+    
     /**
      * Renew cluster facade.
      *
@@ -347,7 +363,8 @@ public abstract class OrchestrationSchemaContexts implements SchemaContexts {
         for (Entry<String, SchemaContext> entry : schemaContexts.getSchemaContexts().entrySet()) {
             RuntimeContext runtimeContext = entry.getValue().getRuntimeContext();
             result.put(entry.getKey(), new SchemaContext(entry.getValue().getName(), entry.getValue().getSchema(), new RuntimeContext(runtimeContext.getCachedDatabaseMetaData(),
-                    new ExecutorKernel(props.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE)), runtimeContext.getSqlParserEngine(), runtimeContext.getTransactionManagerEngine())));
+                    new ExecutorKernel(props.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE)), runtimeContext.getSqlParserEngine(), runtimeContext.getTransactionManagerEngine(),
+                    new QueryResultCache(entry.getKey(), props), new DataSourceCircuitBreakerRegistry(entry.getKey(), props))));
         }
         return result;
     }
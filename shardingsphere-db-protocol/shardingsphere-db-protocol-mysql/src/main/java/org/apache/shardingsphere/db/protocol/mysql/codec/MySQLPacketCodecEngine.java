@@ -27,32 +27,83 @@ import java.util.List;
 
 /**
  * Database packet codec for MySQL.
+ * 
+ * <p>
+ * Payload is written into output buffer directly behind a reserved header, and the header is filled after payload is written.
+ * Payload which is not less than 16MB is split into several packets with consecutive sequence IDs in place,
+ * payload of each following packet is moved toward the end of output buffer, starting from the last one, to make room for its header,
+ * so payload is not copied to another buffer.
+ * </p>
  */
 public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<MySQLPacket> {
     
+    private static final int HEADER_LENGTH = MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
+    
+    private static final int MAX_PAYLOAD_LENGTH = 0xFFFFFF;
+    
+    private static final int SHIFT_BLOCK_LENGTH = 8192;
+    
+    private int sequenceIdOffset;
+    
     @Override
     public boolean isValidHeader(final int readableBytes) {
-        return readableBytes > MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
+        return readableBytes > HEADER_LENGTH;
     }
     
     @Override
     public void decode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out, final int readableBytes) {
         int payloadLength = in.markReaderIndex().readMediumLE();
-        int realPacketLength = payloadLength + MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
+        int realPacketLength = payloadLength + HEADER_LENGTH;
         if (readableBytes < realPacketLength) {
             in.resetReaderIndex();
             return;
         }
+        sequenceIdOffset = 0;
         out.add(in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH));
     }
     
     @Override
     public void encode(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
-        try (MySQLPacketPayload payload = new MySQLPacketPayload(context.alloc().buffer())) {
-            message.write(payload);
-            out.writeMediumLE(payload.getByteBuf().readableBytes());
-            out.writeByte(message.getSequenceId());
-            out.writeBytes(payload.getByteBuf());
+        int headerIndex = out.writerIndex();
+        out.writeZero(HEADER_LENGTH);
+        message.write(new MySQLPacketPayload(out));
+        int payloadLength = out.writerIndex() - headerIndex - HEADER_LENGTH;
+        int sequenceId = message.getSequenceId() + sequenceIdOffset;
+        if (payloadLength < MAX_PAYLOAD_LENGTH) {
+            out.setMediumLE(headerIndex, payloadLength);
+            out.setByte(headerIndex + MySQLPacket.PAYLOAD_LENGTH, sequenceId);
+            return;
+        }
+        sequenceIdOffset += splitPacket(out, headerIndex, payloadLength, sequenceId);
+    }
+    
+    private int splitPacket(final ByteBuf out, final int headerIndex, final int payloadLength, final int firstSequenceId) {
+        int packetCount = payloadLength / MAX_PAYLOAD_LENGTH + 1;
+        out.ensureWritable((packetCount - 1) * HEADER_LENGTH);
+        byte[] block = new byte[SHIFT_BLOCK_LENGTH];
+        for (int i = packetCount - 1; i > 0; i--) {
+            shiftBytes(out, headerIndex + HEADER_LENGTH + i * MAX_PAYLOAD_LENGTH, getSplitPayloadLength(payloadLength, i), i * HEADER_LENGTH, block);
+        }
+        for (int i = 0; i < packetCount; i++) {
+            int packetHeaderIndex = headerIndex + i * (HEADER_LENGTH + MAX_PAYLOAD_LENGTH);
+            out.setMediumLE(packetHeaderIndex, getSplitPayloadLength(payloadLength, i));
+            out.setByte(packetHeaderIndex + MySQLPacket.PAYLOAD_LENGTH, firstSequenceId + i);
+        }
+        out.writerIndex(headerIndex + packetCount * HEADER_LENGTH + payloadLength);
+        return packetCount - 1;
+    }
+    
+    private int getSplitPayloadLength(final int payloadLength, final int packetIndex) {
+        return Math.min(payloadLength - packetIndex * MAX_PAYLOAD_LENGTH, MAX_PAYLOAD_LENGTH);
+    }
+    
+    private void shiftBytes(final ByteBuf out, final int index, final int length, final int distance, final byte[] block) {
+        int blockIndex = index + length;
+        while (blockIndex > index) {
+            int blockLength = Math.min(blockIndex - index, block.length);
+            blockIndex -= blockLength;
+            out.getBytes(blockIndex, block, 0, blockLength);
+            out.setBytes(blockIndex + distance, block, 0, blockLength);
         }
     }
     
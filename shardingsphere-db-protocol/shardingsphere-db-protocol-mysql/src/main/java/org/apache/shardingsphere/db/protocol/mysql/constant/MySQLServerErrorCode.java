@@ -29,9 +29,9 @@ import org.apache.shardingsphere.db.protocol.error.SQLErrorCode;
 @RequiredArgsConstructor
 @Getter
 public enum MySQLServerErrorCode implements SQLErrorCode {
-
+    
     ER_DBACCESS_DENIED_ERROR(1044, "42000", "Access denied for user '%s'@'%s' to database '%s'"),
-
+    
     ER_ACCESS_DENIED_ERROR(1045, "28000", "Access denied for user '%s'@'%s' (using password: %s)"),
     
     ER_NO_DB_ERROR(1046, "3D000", "No database selected"),
@@ -40,8 +40,18 @@ public enum MySQLServerErrorCode implements SQLErrorCode {
     
     ER_INTERNAL_ERROR(1815, "HY000", "Internal error: %s"),
     
+    ER_USER_LIMIT_REACHED(1226, "42000", "User '%s' has exceeded the '%s' resource (current value: %s)"),
+    
+    ER_QUERY_INTERRUPTED(1317, "70100", "Query execution was interrupted"),
+    
     ER_UNSUPPORTED_PS(1295, "HY000", "This command is not supported in the prepared statement protocol yet"),
     
+    ER_UNKNOWN_STMT_HANDLER(1243, "HY000", "Unknown prepared statement handler (%s) given to %s"),
+    
+    ER_STMT_HAS_NO_OPEN_CURSOR(1421, "HY000", "The statement (%s) has no open cursor."),
+    
+    ER_MAX_PREPARED_STMT_COUNT_REACHED(1461, "42000", "Can't create more than max_prepared_stmt_count statements (current value: %s)"),
+    
     ER_ERROR_ON_MODIFYING_GTID_EXECUTED_TABLE(3176, "HY000", 
             "Please do not modify the %s table with an XA transaction. This is an internal system table used to store GTIDs for committed transactions. " 
                     + "Although modifying it can lead to an inconsistent GTID state, if neccessary you can modify it with a non-XA transaction.");
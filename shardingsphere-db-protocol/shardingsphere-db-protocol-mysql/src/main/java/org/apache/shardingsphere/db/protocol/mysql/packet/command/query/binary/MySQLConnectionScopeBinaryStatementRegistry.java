@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * MySQL connection scope binary prepared statement registry.
+ */
+public final class MySQLConnectionScopeBinaryStatementRegistry {
+    
+    /**
+     * Same as default value of {@code max_prepared_stmt_count} of MySQL.
+     */
+    public static final int MAX_STATEMENT_COUNT = 16382;
+    
+    private final ConcurrentMap<Integer, MySQLBinaryStatement> binaryStatements = new ConcurrentHashMap<>();
+    
+    private final AtomicInteger sequence = new AtomicInteger();
+    
+    /**
+     * Register SQL.
+     *
+     * @param sql SQL
+     * @param parametersCount parameters count
+     * @return statement ID
+     */
+    public int register(final String sql, final int parametersCount) {
+        int result = sequence.incrementAndGet();
+        binaryStatements.put(result, new MySQLBinaryStatement(sql, parametersCount));
+        return result;
+    }
+    
+    /**
+     * Judge whether registered statements reach max statement count or not.
+     *
+     * @return reach max statement count or not
+     */
+    public boolean isFull() {
+        return binaryStatements.size() >= MAX_STATEMENT_COUNT;
+    }
+    
+    /**
+     * Get binary prepared statement.
+     *
+     * @param statementId statement ID
+     * @return binary prepared statement
+     */
+    public MySQLBinaryStatement getBinaryStatement(final int statementId) {
+        return binaryStatements.get(statementId);
+    }
+    
+    /**
+     * Remove binary prepared statement.
+     *
+     * @param statementId statement ID
+     */
+    public void remove(final int statementId) {
+        binaryStatements.remove(statementId);
+    }
+}
@@ -22,11 +22,13 @@ import lombok.Getter;
 import lombok.ToString;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLColumnType;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLNewParametersBoundFlag;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLServerErrorCode;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLBinaryStatement;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLBinaryStatementParameterType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLConnectionScopeBinaryStatementRegistry;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
@@ -48,6 +50,9 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
     
     private static final int NULL_BITMAP_OFFSET = 0;
     
+    private static final int CURSOR_TYPE_READ_ONLY = 0x01;
+    
+    @Getter
     private final int statementId;
     
     private final MySQLBinaryStatement binaryStatement;
@@ -64,10 +69,15 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
     @Getter
     private final List<Object> parameters;
     
-    public MySQLComStmtExecutePacket(final MySQLPacketPayload payload) throws SQLException {
+    public MySQLComStmtExecutePacket(final MySQLPacketPayload payload, final int connectionId) throws SQLException {
         super(MySQLCommandPacketType.COM_STMT_EXECUTE);
         statementId = payload.readInt4();
-        binaryStatement = MySQLBinaryStatementRegistry.getInstance().getBinaryStatement(statementId);
+        MySQLConnectionScopeBinaryStatementRegistry binaryStatementRegistry = MySQLBinaryStatementRegistry.getInstance().get(connectionId);
+        binaryStatement = null == binaryStatementRegistry ? null : binaryStatementRegistry.getBinaryStatement(statementId);
+        if (null == binaryStatement) {
+            MySQLServerErrorCode errorCode = MySQLServerErrorCode.ER_UNKNOWN_STMT_HANDLER;
+            throw new SQLException(String.format(errorCode.getErrorMessage(), statementId, "mysqld_stmt_execute"), errorCode.getSqlState(), errorCode.getErrorCode());
+        }
         flags = payload.readInt1();
         Preconditions.checkArgument(ITERATION_COUNT == payload.readInt4());
         int parametersCount = binaryStatement.getParametersCount();
@@ -108,6 +118,15 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
         return result;
     }
     
+    /**
+     * Judge whether client requests a read only cursor or not.
+     *
+     * @return client requests a read only cursor or not
+     */
+    public boolean isCursorOpen() {
+        return 0 != (flags & CURSOR_TYPE_READ_ONLY);
+    }
+    
     @Override
     public void doWrite(final MySQLPacketPayload payload) {
         payload.writeInt4(statementId);
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmark of MySQL packet encoding, which compares encoding in place with encoding through temporary buffer,
+ * for both row packet and packet which is split for payload not less than 16MB.
+ * 
+ * <p>It is not executed by unit test, run {@code main} or JMH runner with this class included, add GC profiler to compare allocation.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class MySQLPacketCodecEngineBenchmark {
+    
+    private static final int MAX_PAYLOAD_LENGTH = 0xFFFFFF;
+    
+    private final ByteBufAllocator allocator = new UnpooledByteBufAllocator(false);
+    
+    private final MySQLPacket rowPacket = new MySQLTextResultSetRowPacket(1, Arrays.asList(1L, "foo_order_0001", "foo_user_0001", "INIT", 100.25D));
+    
+    private final MySQLPacket largePacket = new LargeMySQLPacket(MAX_PAYLOAD_LENGTH + 10);
+    
+    private final MySQLPacketCodecEngine codecEngine = new MySQLPacketCodecEngine();
+    
+    private ChannelHandlerContext context;
+    
+    private ByteBuf rowOut;
+    
+    private ByteBuf largeOut;
+    
+    /**
+     * Set up output buffers.
+     */
+    @Setup
+    public void setUp() {
+        context = mock(ChannelHandlerContext.class);
+        when(context.alloc()).thenReturn(allocator);
+        rowOut = allocator.buffer(1024);
+        largeOut = allocator.buffer(MAX_PAYLOAD_LENGTH * 2);
+    }
+    
+    /**
+     * Release output buffers.
+     */
+    @TearDown
+    public void tearDown() {
+        rowOut.release();
+        largeOut.release();
+    }
+    
+    /**
+     * Encode row packet through temporary buffer.
+     *
+     * @return output buffer
+     */
+    @Benchmark
+    public ByteBuf encodeRowWithTemporaryBuffer() {
+        rowOut.clear();
+        try (MySQLPacketPayload payload = new MySQLPacketPayload(context.alloc().buffer())) {
+            rowPacket.write(payload);
+            rowOut.writeMediumLE(payload.getByteBuf().readableBytes());
+            rowOut.writeByte(rowPacket.getSequenceId());
+            rowOut.writeBytes(payload.getByteBuf());
+        }
+        return rowOut;
+    }
+    
+    /**
+     * Encode row packet in place.
+     *
+     * @return output buffer
+     */
+    @Benchmark
+    public ByteBuf encodeRowInPlace() {
+        rowOut.clear();
+        codecEngine.encode(context, rowPacket, rowOut);
+        return rowOut;
+    }
+    
+    /**
+     * Split large packet through temporary buffer holding the whole payload.
+     *
+     * @return output buffer
+     */
+    @Benchmark
+    public ByteBuf splitLargePacketWithTemporaryBuffer() {
+        largeOut.clear();
+        largeOut.writeZero(4);
+        largePacket.write(new MySQLPacketPayload(largeOut));
+        int payloadLength = largeOut.writerIndex() - 4;
+        ByteBuf payload = context.alloc().buffer(payloadLength);
+        try {
+            payload.writeBytes(largeOut, 4, payloadLength);
+            largeOut.clear();
+            int sequenceId = largePacket.getSequenceId();
+            int length;
+            do {
+                length = Math.min(payload.readableBytes(), MAX_PAYLOAD_LENGTH);
+                largeOut.writeMediumLE(length);
+                largeOut.writeByte(sequenceId++);
+                largeOut.writeBytes(payload, length);
+            } while (MAX_PAYLOAD_LENGTH == length);
+        } finally {
+            payload.release();
+        }
+        return largeOut;
+    }
+    
+    /**
+     * Split large packet in place.
+     *
+     * @return output buffer
+     */
+    @Benchmark
+    public ByteBuf splitLargePacketInPlace() {
+        largeOut.clear();
+        new MySQLPacketCodecEngine().encode(context, largePacket, largeOut);
+        return largeOut;
+    }
+    
+    /**
+     * Run benchmark.
+     *
+     * @param args arguments
+     * @throws RunnerException runner exception
+     */
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MySQLPacketCodecEngineBenchmark.class.getSimpleName()).build()).run();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LargeMySQLPacket implements MySQLPacket {
+        
+        private final int payloadLength;
+        
+        @Override
+        public int getSequenceId() {
+            return 1;
+        }
+        
+        @Override
+        public void write(final MySQLPacketPayload payload) {
+            payload.getByteBuf().writeZero(payloadLength);
+        }
+    }
+}
@@ -18,12 +18,14 @@
 package org.apache.shardingsphere.db.protocol.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -34,8 +36,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -78,22 +79,95 @@ public final class MySQLPacketCodecEngineTest {
     
     @Test
     public void assertEncode() {
-        ByteBufAllocator byteBufAllocator = mock(ByteBufAllocator.class);
-        when(context.alloc()).thenReturn(byteBufAllocator);
-        ByteBuf payloadByteBuf = mock(ByteBuf.class);
-        when(byteBufAllocator.buffer()).thenReturn(payloadByteBuf);
-        when(payloadByteBuf.readableBytes()).thenReturn(50);
-        MySQLPacket actualMessage = mock(MySQLPacket.class);
-        when(actualMessage.getSequenceId()).thenReturn(1);
-        new MySQLPacketCodecEngine().encode(context, actualMessage, byteBuf);
-        verify(actualMessage).write(ArgumentMatchers.any());
-        verify(byteBuf).writeMediumLE(50);
-        verify(byteBuf).writeByte(1);
-        verify(byteBuf).writeBytes(payloadByteBuf);
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, new FixtureMySQLPacket(1, 50), out);
+        assertThat(out.readMediumLE(), is(50));
+        assertThat(out.readByte(), is((byte) 1));
+        assertThat(out.readableBytes(), is(50));
+    }
+    
+    @Test
+    public void assertEncodeWithSplitPacket() {
+        ByteBuf out = Unpooled.buffer();
+        MySQLPacketCodecEngine codecEngine = new MySQLPacketCodecEngine();
+        codecEngine.encode(context, new FixtureMySQLPacket(1, 0xFFFFFF + 10), out);
+        assertThat(out.readMediumLE(), is(0xFFFFFF));
+        assertThat(out.readByte(), is((byte) 1));
+        out.skipBytes(0xFFFFFF);
+        assertThat(out.readMediumLE(), is(10));
+        assertThat(out.readByte(), is((byte) 2));
+        out.skipBytes(10);
+        codecEngine.encode(context, new FixtureMySQLPacket(2, 5), out);
+        assertThat(out.readMediumLE(), is(5));
+        assertThat(out.readByte(), is((byte) 3));
+    }
+    
+    @Test
+    public void assertEncodeWithPayloadLengthEqualsMaxPacketLength() {
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, new FixtureMySQLPacket(0, 0xFFFFFF), out);
+        assertThat(out.readMediumLE(), is(0xFFFFFF));
+        assertThat(out.readByte(), is((byte) 0));
+        out.skipBytes(0xFFFFFF);
+        assertThat(out.readMediumLE(), is(0));
+        assertThat(out.readByte(), is((byte) 1));
+        assertFalse(out.isReadable());
+    }
+    
+    @Test
+    public void assertEncodeWithSplitPacketKeepPayload() {
+        int payloadLength = 0xFFFFFF * 2 + 10;
+        ByteBuf out = Unpooled.buffer(payloadLength + 12);
+        new MySQLPacketCodecEngine().encode(context, new SequencedMySQLPacket(payloadLength), out);
+        int index = 0;
+        for (int sequenceId = 0; sequenceId < 3; sequenceId++) {
+            int packetLength = Math.min(payloadLength - index, 0xFFFFFF);
+            assertThat(out.readMediumLE(), is(packetLength));
+            assertThat(out.readByte(), is((byte) sequenceId));
+            ByteBuf actual = out.readSlice(packetLength);
+            for (int i = 0; i < packetLength; i++, index++) {
+                if ((byte) index != actual.getByte(i)) {
+                    fail(String.format("Byte %d of payload is shifted wrongly.", index));
+                }
+            }
+        }
+        assertFalse(out.isReadable());
     }
     
     @Test
     public void assertCreatePacketPayload() {
         assertThat(new MySQLPacketCodecEngine().createPacketPayload(byteBuf).getByteBuf(), is(byteBuf));
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class FixtureMySQLPacket implements MySQLPacket {
+        
+        private final int sequenceId;
+        
+        private final int payloadLength;
+        
+        @Override
+        public void write(final MySQLPacketPayload payload) {
+            payload.getByteBuf().writeZero(payloadLength);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SequencedMySQLPacket implements MySQLPacket {
+        
+        private final int payloadLength;
+        
+        @Override
+        public int getSequenceId() {
+            return 0;
+        }
+        
+        @Override
+        public void write(final MySQLPacketPayload payload) {
+            for (int i = 0; i < payloadLength; i++) {
+                payload.getByteBuf().writeByte(i);
+            }
+        }
+    }
 }
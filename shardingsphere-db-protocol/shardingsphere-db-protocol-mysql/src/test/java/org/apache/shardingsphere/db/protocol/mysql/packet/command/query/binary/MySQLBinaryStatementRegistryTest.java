@@ -17,47 +17,24 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
 
-import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.fixture.BinaryStatementRegistryUtil;
-import org.junit.After;
-import org.junit.Before;
 import org.junit.Test;
 
-import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
-import static org.junit.Assert.assertThat;
 
 public final class MySQLBinaryStatementRegistryTest {
     
-    private final String sql = "SELECT * FROM tbl WHERE id=?";
-    
-    @Before
-    @After
-    public void reset() {
-        BinaryStatementRegistryUtil.reset();
-    }
-    
-    @Test
-    public void assertRegisterIfAbsent() {
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().getBinaryStatement(1);
-        assertThat(actual.getSql(), is(sql));
-        assertThat(actual.getParametersCount(), is(1));
-    }
-    
     @Test
-    public void assertRegisterIfPresent() {
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().getBinaryStatement(1);
-        assertThat(actual.getSql(), is(sql));
-        assertThat(actual.getParametersCount(), is(1));
+    public void assertRegister() {
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+        assertNotNull(MySQLBinaryStatementRegistry.getInstance().get(1));
+        MySQLBinaryStatementRegistry.getInstance().unregister(1);
     }
     
     @Test
-    public void assertRemoveIfPresent() {
-        MySQLBinaryStatementRegistry.getInstance().register(sql, 1);
-        MySQLBinaryStatementRegistry.getInstance().remove(1);
-        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().getBinaryStatement(1);
-        assertNull(actual);
+    public void assertUnregister() {
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+        MySQLBinaryStatementRegistry.getInstance().unregister(1);
+        assertNull(MySQLBinaryStatementRegistry.getInstance().get(1));
     }
 }
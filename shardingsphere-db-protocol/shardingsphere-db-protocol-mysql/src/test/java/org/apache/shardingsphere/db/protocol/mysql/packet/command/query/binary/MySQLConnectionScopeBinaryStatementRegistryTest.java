@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLConnectionScopeBinaryStatementRegistryTest {
+    
+    private final String sql = "SELECT * FROM tbl WHERE id=?";
+    
+    @Test
+    public void assertRegister() {
+        MySQLConnectionScopeBinaryStatementRegistry registry = new MySQLConnectionScopeBinaryStatementRegistry();
+        assertThat(registry.register(sql, 1), is(1));
+        MySQLBinaryStatement actual = registry.getBinaryStatement(1);
+        assertThat(actual.getSql(), is(sql));
+        assertThat(actual.getParametersCount(), is(1));
+    }
+    
+    @Test
+    public void assertRegisterSameSQLTwice() {
+        MySQLConnectionScopeBinaryStatementRegistry registry = new MySQLConnectionScopeBinaryStatementRegistry();
+        assertThat(registry.register(sql, 1), is(1));
+        assertThat(registry.register(sql, 1), is(2));
+        registry.remove(1);
+        assertThat(registry.getBinaryStatement(2).getSql(), is(sql));
+    }
+    
+    @Test
+    public void assertRemove() {
+        MySQLConnectionScopeBinaryStatementRegistry registry = new MySQLConnectionScopeBinaryStatementRegistry();
+        registry.register(sql, 1);
+        registry.remove(1);
+        assertNull(registry.getBinaryStatement(1));
+    }
+    
+    @Test
+    public void assertIsFull() {
+        MySQLConnectionScopeBinaryStatementRegistry registry = new MySQLConnectionScopeBinaryStatementRegistry();
+        for (int i = 0; i < MySQLConnectionScopeBinaryStatementRegistry.MAX_STATEMENT_COUNT - 1; i++) {
+            registry.register(sql, 1);
+        }
+        assertFalse(registry.isFull());
+        registry.register(sql, 1);
+        assertTrue(registry.isFull());
+    }
+}
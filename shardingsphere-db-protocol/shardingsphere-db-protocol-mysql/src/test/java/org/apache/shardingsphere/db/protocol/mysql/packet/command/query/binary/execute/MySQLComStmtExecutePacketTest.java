@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
 
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
-import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.fixture.BinaryStatementRegistryUtil;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.After;
 import org.junit.Before;
@@ -31,7 +30,9 @@ import java.sql.SQLException;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -43,39 +44,66 @@ public final class MySQLComStmtExecutePacketTest {
     private MySQLPacketPayload payload;
     
     @Before
+    public void setUp() {
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+    }
+    
     @After
-    public void reset() {
-        BinaryStatementRegistryUtil.reset();
+    public void tearDown() {
+        MySQLBinaryStatementRegistry.getInstance().unregister(1);
     }
     
     @Test
     public void assertNewWithNotNullParameters() throws SQLException {
-        MySQLBinaryStatementRegistry.getInstance().register("SELECT id FROM tbl WHERE id=?", 1);
+        MySQLBinaryStatementRegistry.getInstance().get(1).register("SELECT id FROM tbl WHERE id=?", 1);
         when(payload.readInt4()).thenReturn(1);
         when(payload.readInt1()).thenReturn(0, 0, 1);
-        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload);
+        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload, 1);
         assertThat(actual.getSequenceId(), is(0));
         assertThat(actual.getSql(), is("SELECT id FROM tbl WHERE id=?"));
         assertThat(actual.getParameters(), is(Collections.<Object>singletonList(1)));
+        assertFalse(actual.isCursorOpen());
+    }
+    
+    @Test
+    public void assertNewWithReadOnlyCursor() throws SQLException {
+        MySQLBinaryStatementRegistry.getInstance().get(1).register("SELECT id FROM tbl", 0);
+        when(payload.readInt4()).thenReturn(1);
+        when(payload.readInt1()).thenReturn(1);
+        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload, 1);
+        assertThat(actual.getStatementId(), is(1));
+        assertTrue(actual.isCursorOpen());
     }
     
     @Test
     public void assertNewWithNullParameters() throws SQLException {
-        MySQLBinaryStatementRegistry.getInstance().register("SELECT id FROM tbl WHERE id=?", 1);
+        MySQLBinaryStatementRegistry.getInstance().get(1).register("SELECT id FROM tbl WHERE id=?", 1);
         when(payload.readInt4()).thenReturn(1);
         when(payload.readInt1()).thenReturn(0, 1);
-        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload);
+        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload, 1);
         assertThat(actual.getSequenceId(), is(0));
         assertThat(actual.getSql(), is("SELECT id FROM tbl WHERE id=?"));
         assertThat(actual.getParameters(), is(Collections.singletonList(null)));
     }
     
+    @Test(expected = SQLException.class)
+    public void assertNewWithUnknownStatement() throws SQLException {
+        when(payload.readInt4()).thenReturn(2);
+        new MySQLComStmtExecutePacket(payload, 1);
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNewWithUnregisteredConnection() throws SQLException {
+        when(payload.readInt4()).thenReturn(1);
+        new MySQLComStmtExecutePacket(payload, 2);
+    }
+    
     @Test
     public void assertWrite() throws SQLException {
-        MySQLBinaryStatementRegistry.getInstance().register("SELECT id FROM tbl WHERE id=?", 1);
+        MySQLBinaryStatementRegistry.getInstance().get(1).register("SELECT id FROM tbl WHERE id=?", 1);
         when(payload.readInt4()).thenReturn(1);
         when(payload.readInt1()).thenReturn(0, 1);
-        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload);
+        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload, 1);
         actual.write(payload);
         verify(payload, times(2)).writeInt4(1);
         verify(payload, times(4)).writeInt1(1);
@@ -62,6 +62,8 @@ public enum PostgreSQLCommandPacketType implements CommandPacketType {
     
     SYNC('S'),
     
+    CLOSE('C'),
+    
     PARSE_COMPLETE('1'),
     
     BIND_COMPLETE('2'),
@@ -74,8 +76,6 @@ public enum PostgreSQLCommandPacketType implements CommandPacketType {
     
     READY_FOR_QUERY('Z'),
     
-    CLOSE('C'),
-    
     CLOSE_COMPLETE('3'),
     
     BACKEND_KEY_DATA('K'),
@@ -119,7 +119,7 @@ public enum PostgreSQLCommandPacketType implements CommandPacketType {
     PASSWORD_MESSAGE('p'),
     
     PORTAL_SUSPENDED('s'),
-
+    
     SASL_INITIAL_RESPONSE('p'),
     
     SASL_RESPONSE('p'),
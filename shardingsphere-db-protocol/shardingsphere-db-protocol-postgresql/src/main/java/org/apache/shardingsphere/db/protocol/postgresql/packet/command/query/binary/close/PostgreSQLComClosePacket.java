@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.close;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+
+/**
+ * Command close packet for PostgreSQL.
+ */
+@Getter
+@ToString
+public final class PostgreSQLComClosePacket extends PostgreSQLCommandPacket {
+    
+    private static final char PORTAL_TYPE = 'P';
+    
+    private final char type;
+    
+    private final String name;
+    
+    public PostgreSQLComClosePacket(final PostgreSQLPacketPayload payload) {
+        payload.readInt4();
+        type = (char) payload.readInt1();
+        name = payload.readStringNul();
+    }
+    
+    /**
+     * Judge whether portal to be closed.
+     *
+     * @return is portal or not
+     */
+    public boolean isPortal() {
+        return PORTAL_TYPE == type;
+    }
+    
+    @Override
+    public void write(final PostgreSQLPacketPayload payload) {
+    }
+    
+    @Override
+    public char getMessageType() {
+        return PostgreSQLCommandPacketType.CLOSE.getValue();
+    }
+}
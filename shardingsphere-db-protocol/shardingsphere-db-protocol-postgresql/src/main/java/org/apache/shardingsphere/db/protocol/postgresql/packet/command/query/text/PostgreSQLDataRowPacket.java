@@ -44,24 +44,34 @@ public final class PostgreSQLDataRowPacket implements PostgreSQLPacket {
     public void write(final PostgreSQLPacketPayload payload) {
         payload.writeInt2(data.size());
         for (Object each : data) {
-            if (null == each) {
-                payload.writeInt4(0xFFFFFFFF);
+            writeValue(payload, each);
+        }
+    }
+    
+    /**
+     * Write value of one column in text format.
+     *
+     * @param payload packet payload
+     * @param value value of column
+     */
+    public static void writeValue(final PostgreSQLPacketPayload payload, final Object value) {
+        if (null == value) {
+            payload.writeInt4(0xFFFFFFFF);
+        } else {
+            if (value instanceof byte[]) {
+                payload.writeInt4(((byte[]) value).length);
+                payload.writeBytes((byte[]) value);
+            } else if (value instanceof SQLXML) {
+                writeSQLXMLData(payload, value);
             } else {
-                if (each instanceof byte[]) {
-                    payload.writeInt4(((byte[]) each).length);
-                    payload.writeBytes((byte[]) each);
-                } else if (each instanceof SQLXML) {
-                    writeSQLXMLData(payload, each);
-                } else {
-                    String columnData = each.toString();
-                    payload.writeInt4(columnData.getBytes().length);
-                    payload.writeStringEOF(columnData);
-                }
+                String columnData = value.toString();
+                payload.writeInt4(columnData.getBytes().length);
+                payload.writeStringEOF(columnData);
             }
         }
     }
     
-    private void writeSQLXMLData(final PostgreSQLPacketPayload payload, final Object data) {
+    private static void writeSQLXMLData(final PostgreSQLPacketPayload payload, final Object data) {
         try {
             payload.writeInt4(((SQLXML) data).getString().getBytes().length);
             payload.writeStringEOF(((SQLXML) data).getString());
@@ -27,30 +27,34 @@ import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 
 import javax.crypto.Cipher;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.security.GeneralSecurityException;
 import java.util.Arrays;
 import java.util.Properties;
 
 /**
  * AES encrypt algorithm.
+ * 
+ * <p>Initialized ciphers are cached per thread, because looking up and initializing cipher for each value is expensive.</p>
  */
-@Getter
-@Setter
 public final class AESEncryptAlgorithm implements EncryptAlgorithm {
     
     private static final String AES_KEY = "aes.key.value";
     
+    @Getter
+    @Setter
     private Properties props = new Properties();
     
-    private byte[] secretKey;
+    private ThreadLocal<Cipher> encryptCipher;
+    
+    private ThreadLocal<Cipher> decryptCipher;
     
     @Override
     public void init() {
-        secretKey = createSecretKey();
+        byte[] secretKey = createSecretKey();
+        encryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE, secretKey));
+        decryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE, secretKey));
     }
     
     private byte[] createSecretKey() {
@@ -58,30 +62,40 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
         return Arrays.copyOf(DigestUtils.sha1(props.getProperty(AES_KEY)), 16);
     }
     
-    @SneakyThrows
+    @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int mode, final byte[] secretKey) {
+        Cipher result = Cipher.getInstance(getType());
+        result.init(mode, new SecretKeySpec(secretKey, getType()));
+        return result;
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
     @Override
     public String encrypt(final Object plaintext) {
         if (null == plaintext) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(StringUtils.getBytesUtf8(String.valueOf(plaintext)));
+        byte[] result = doFinal(encryptCipher, StringUtils.getBytesUtf8(String.valueOf(plaintext)));
         return Base64.encodeBase64String(result);
     }
     
-    @SneakyThrows
+    @SneakyThrows(GeneralSecurityException.class)
     @Override
     public Object decrypt(final String ciphertext) {
         if (null == ciphertext) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.decodeBase64(ciphertext));
+        byte[] result = doFinal(decryptCipher, Base64.decodeBase64(ciphertext));
         return new String(result, StandardCharsets.UTF_8);
     }
     
-    private Cipher getCipher(final int decryptMode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
-        Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
-        return result;
+    private byte[] doFinal(final ThreadLocal<Cipher> cipher, final byte[] input) throws GeneralSecurityException {
+        try {
+            return cipher.get().doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            cipher.remove();
+            throw ex;
+        }
     }
     
     @Override
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.algorithm;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.SneakyThrows;
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.StringUtils;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * AES-GCM encrypt algorithm.
+ * 
+ * <p>
+ * Authenticated encryption with random IV for each value, ciphertext is base64 of IV followed by encrypted data and authentication tag.
+ * Same plaintext produces different ciphertexts, so it can not be used for equality query without assisted query column.
+ * </p>
+ */
+public final class AESGCMEncryptAlgorithm implements EncryptAlgorithm {
+    
+    private static final String AES_GCM_KEY = "aes-gcm.key.value";
+    
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    
+    private static final int IV_LENGTH = 12;
+    
+    private static final int TAG_BIT_LENGTH = 128;
+    
+    private static final SecureRandom RANDOM = new SecureRandom();
+    
+    private static final ThreadLocal<Cipher> CIPHER = ThreadLocal.withInitial(AESGCMEncryptAlgorithm::createCipher);
+    
+    @Getter
+    @Setter
+    private Properties props = new Properties();
+    
+    private SecretKeySpec secretKey;
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    private static Cipher createCipher() {
+        return Cipher.getInstance(TRANSFORMATION);
+    }
+    
+    @Override
+    public void init() {
+        Preconditions.checkArgument(props.containsKey(AES_GCM_KEY), String.format("%s can not be null.", AES_GCM_KEY));
+        secretKey = new SecretKeySpec(Arrays.copyOf(DigestUtils.sha256(props.getProperty(AES_GCM_KEY)), 16), "AES");
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    @Override
+    public String encrypt(final Object plaintext) {
+        if (null == plaintext) {
+            return null;
+        }
+        byte[] iv = new byte[IV_LENGTH];
+        RANDOM.nextBytes(iv);
+        byte[] encrypted = doFinal(Cipher.ENCRYPT_MODE, iv, StringUtils.getBytesUtf8(String.valueOf(plaintext)));
+        return Base64.encodeBase64String(ByteBuffer.allocate(IV_LENGTH + encrypted.length).put(iv).put(encrypted).array());
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    @Override
+    public Object decrypt(final String ciphertext) {
+        if (null == ciphertext) {
+            return null;
+        }
+        byte[] data = Base64.decodeBase64(ciphertext);
+        Preconditions.checkArgument(data.length > IV_LENGTH, "Invalid AES-GCM ciphertext.");
+        byte[] result = doFinal(Cipher.DECRYPT_MODE, Arrays.copyOf(data, IV_LENGTH), Arrays.copyOfRange(data, IV_LENGTH, data.length));
+        return new String(result, StandardCharsets.UTF_8);
+    }
+    
+    private byte[] doFinal(final int mode, final byte[] iv, final byte[] input) throws GeneralSecurityException {
+        Cipher cipher = CIPHER.get();
+        try {
+            cipher.init(mode, secretKey, new GCMParameterSpec(TAG_BIT_LENGTH, iv));
+            return cipher.doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            CIPHER.remove();
+            throw ex;
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "AES-GCM";
+    }
+}
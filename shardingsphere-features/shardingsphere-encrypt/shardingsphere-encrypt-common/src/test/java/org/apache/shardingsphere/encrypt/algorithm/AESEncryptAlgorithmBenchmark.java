@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.algorithm;
+
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.StringUtils;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput benchmark of AES encrypt algorithms, which compares thread local ciphers with looking up cipher for each value.
+ * 
+ * <p>It is not executed by unit test, run {@code main} or JMH runner with this class included.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(Threads.MAX)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class AESEncryptAlgorithmBenchmark {
+    
+    private static final String PLAINTEXT = "13800138000";
+    
+    private byte[] secretKey;
+    
+    private String ciphertext;
+    
+    private EncryptAlgorithm aes;
+    
+    private EncryptAlgorithm aesGCM;
+    
+    /**
+     * Set up encrypt algorithms.
+     */
+    @Setup
+    public void setUp() {
+        secretKey = Arrays.copyOf(DigestUtils.sha1("test"), 16);
+        aes = createAlgorithm(new AESEncryptAlgorithm(), "aes.key.value");
+        aesGCM = createAlgorithm(new AESGCMEncryptAlgorithm(), "aes-gcm.key.value");
+        ciphertext = aes.encrypt(PLAINTEXT);
+    }
+    
+    private EncryptAlgorithm createAlgorithm(final EncryptAlgorithm encryptAlgorithm, final String keyName) {
+        Properties props = new Properties();
+        props.setProperty(keyName, "test");
+        encryptAlgorithm.setProps(props);
+        encryptAlgorithm.init();
+        return encryptAlgorithm;
+    }
+    
+    /**
+     * Encrypt with cipher looked up and initialized for each value.
+     *
+     * @return ciphertext
+     * @throws GeneralSecurityException general security exception
+     */
+    @Benchmark
+    public String encryptWithCipherPerValue() throws GeneralSecurityException {
+        return Base64.encodeBase64String(createCipher(Cipher.ENCRYPT_MODE).doFinal(StringUtils.getBytesUtf8(PLAINTEXT)));
+    }
+    
+    /**
+     * Encrypt with thread local cipher of AES encrypt algorithm.
+     *
+     * @return ciphertext
+     */
+    @Benchmark
+    public String encryptWithThreadLocalCipher() {
+        return aes.encrypt(PLAINTEXT);
+    }
+    
+    /**
+     * Decrypt with cipher looked up and initialized for each value.
+     *
+     * @return plaintext
+     * @throws GeneralSecurityException general security exception
+     */
+    @Benchmark
+    public Object decryptWithCipherPerValue() throws GeneralSecurityException {
+        return new String(createCipher(Cipher.DECRYPT_MODE).doFinal(Base64.decodeBase64(ciphertext)), StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Decrypt with thread local cipher of AES encrypt algorithm.
+     *
+     * @return plaintext
+     */
+    @Benchmark
+    public Object decryptWithThreadLocalCipher() {
+        return aes.decrypt(ciphertext);
+    }
+    
+    /**
+     * Encrypt with thread local cipher of AES-GCM encrypt algorithm.
+     *
+     * @return ciphertext
+     */
+    @Benchmark
+    public String encryptGCMWithThreadLocalCipher() {
+        return aesGCM.encrypt(PLAINTEXT);
+    }
+    
+    private Cipher createCipher(final int mode) throws GeneralSecurityException {
+        Cipher result = Cipher.getInstance("AES");
+        result.init(mode, new SecretKeySpec(secretKey, "AES"));
+        return result;
+    }
+    
+    /**
+     * Run benchmark.
+     *
+     * @param args arguments
+     * @throws RunnerException runner exception
+     */
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(AESEncryptAlgorithmBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -24,11 +24,18 @@ import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class AESEncryptAlgorithmTest {
     
@@ -80,4 +87,28 @@ public final class AESEncryptAlgorithmTest {
     public void assertDecryptWithNullCiphertext() {
         assertNull(encryptAlgorithm.decrypt(null));
     }
+    
+    @Test
+    public void assertEncryptAndDecryptConcurrently() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            Collection<Callable<Boolean>> tasks = new ArrayList<>(8);
+            for (int i = 0; i < 8; i++) {
+                String plaintext = "test_" + i;
+                tasks.add(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        if (!plaintext.equals(encryptAlgorithm.decrypt(encryptAlgorithm.encrypt(plaintext)))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                });
+            }
+            for (Future<Boolean> each : executorService.invokeAll(tasks)) {
+                assertTrue(each.get());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
 }
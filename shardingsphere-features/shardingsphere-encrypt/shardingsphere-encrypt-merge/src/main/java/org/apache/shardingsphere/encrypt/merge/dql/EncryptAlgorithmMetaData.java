@@ -39,6 +39,15 @@ public final class EncryptAlgorithmMetaData {
     
     private final SelectStatementContext selectStatementContext;
     
+    /**
+     * Get column count of projections.
+     *
+     * @return column count
+     */
+    public int getColumnCount() {
+        return selectStatementContext.getProjectionsContext().getExpandProjections().size();
+    }
+    
     /**
      * Find encryptor.
      *
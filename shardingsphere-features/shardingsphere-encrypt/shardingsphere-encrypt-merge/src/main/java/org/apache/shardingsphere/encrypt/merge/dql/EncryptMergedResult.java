@@ -17,19 +17,24 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 
 import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Merged result for encrypt.
+ * 
+ * <p>
+ * Encryptors are resolved once for each column of result set, and decrypted values are cached for current row,
+ * so reading same cell repeatedly does not decrypt again.
+ * </p>
  */
-@RequiredArgsConstructor
 public final class EncryptMergedResult implements MergedResult {
     
     private final EncryptAlgorithmMetaData metaData;
@@ -38,8 +43,25 @@ public final class EncryptMergedResult implements MergedResult {
     
     private final boolean queryWithCipherColumn;
     
+    private final Map<Integer, Optional<EncryptAlgorithm>> encryptors;
+    
+    private final Map<Integer, Object> decryptedValues;
+    
+    private Boolean decryptedWasNull;
+    
+    public EncryptMergedResult(final EncryptAlgorithmMetaData metaData, final MergedResult mergedResult, final boolean queryWithCipherColumn) {
+        this.metaData = metaData;
+        this.mergedResult = mergedResult;
+        this.queryWithCipherColumn = queryWithCipherColumn;
+        int columnCount = queryWithCipherColumn ? metaData.getColumnCount() : 0;
+        encryptors = new HashMap<>(columnCount, 1);
+        decryptedValues = new HashMap<>(columnCount, 1);
+    }
+    
     @Override
     public boolean next() throws SQLException {
+        decryptedValues.clear();
+        decryptedWasNull = null;
         return mergedResult.next();
     }
     
@@ -48,26 +70,37 @@ public final class EncryptMergedResult implements MergedResult {
         if (!queryWithCipherColumn) {
             return mergedResult.getValue(columnIndex, type);
         }
-        Optional<EncryptAlgorithm> encryptAlgorithm = metaData.findEncryptor(columnIndex);
+        Optional<EncryptAlgorithm> encryptAlgorithm = encryptors.computeIfAbsent(columnIndex, metaData::findEncryptor);
         if (!encryptAlgorithm.isPresent()) {
+            decryptedWasNull = null;
             return mergedResult.getValue(columnIndex, type);
         }
+        Object result = decryptedValues.containsKey(columnIndex) ? decryptedValues.get(columnIndex) : decrypt(columnIndex, encryptAlgorithm.get());
+        decryptedWasNull = null == result;
+        return result;
+    }
+    
+    private Object decrypt(final int columnIndex, final EncryptAlgorithm encryptAlgorithm) throws SQLException {
         String ciphertext = (String) mergedResult.getValue(columnIndex, String.class);
-        return null == ciphertext ? null : encryptAlgorithm.get().decrypt(ciphertext);
+        Object result = null == ciphertext ? null : encryptAlgorithm.decrypt(ciphertext);
+        decryptedValues.put(columnIndex, result);
+        return result;
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        decryptedWasNull = null;
         return mergedResult.getCalendarValue(columnIndex, type, calendar);
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        decryptedWasNull = null;
         return mergedResult.getInputStream(columnIndex, type);
     }
     
     @Override
     public boolean wasNull() throws SQLException {
-        return mergedResult.wasNull();
+        return null == decryptedWasNull ? mergedResult.wasNull() : decryptedWasNull;
     }
 }
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class EncryptMergedResultTest {
+    
+    @Mock
+    private EncryptAlgorithmMetaData metaData;
+    
+    @Mock
+    private MergedResult mergedResult;
+    
+    @Test
+    public void assertNext() throws SQLException {
+        assertFalse(new EncryptMergedResult(metaData, mergedResult, true).next());
+    }
+    
+    @Test
+    public void assertGetValueWithoutQueryWithCipherColumn() throws SQLException {
+        when(mergedResult.getValue(1, String.class)).thenReturn("VALUE");
+        assertThat(new EncryptMergedResult(metaData, mergedResult, false).getValue(1, String.class), is("VALUE"));
+        verify(metaData, times(0)).findEncryptor(1);
+    }
+    
+    @Test
+    public void assertGetValueRepeatedlyDecryptOnce() throws SQLException {
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.decrypt("ciphertext")).thenReturn("plaintext");
+        when(metaData.findEncryptor(1)).thenReturn(Optional.of(encryptAlgorithm));
+        when(mergedResult.getValue(1, String.class)).thenReturn("ciphertext");
+        EncryptMergedResult actual = new EncryptMergedResult(metaData, mergedResult, true);
+        assertThat(actual.getValue(1, String.class), is("plaintext"));
+        assertThat(actual.getValue(1, Object.class), is("plaintext"));
+        verify(encryptAlgorithm, times(1)).decrypt("ciphertext");
+        verify(metaData, times(1)).findEncryptor(1);
+    }
+    
+    @Test
+    public void assertGetValueDecryptAgainAfterNext() throws SQLException {
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.decrypt("ciphertext_1")).thenReturn("plaintext_1");
+        when(encryptAlgorithm.decrypt("ciphertext_2")).thenReturn("plaintext_2");
+        when(metaData.findEncryptor(1)).thenReturn(Optional.of(encryptAlgorithm));
+        when(mergedResult.next()).thenReturn(true);
+        when(mergedResult.getValue(1, String.class)).thenReturn("ciphertext_1", "ciphertext_2");
+        EncryptMergedResult actual = new EncryptMergedResult(metaData, mergedResult, true);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("plaintext_1"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("plaintext_2"));
+        verify(encryptAlgorithm, times(1)).decrypt("ciphertext_1");
+        verify(encryptAlgorithm, times(1)).decrypt("ciphertext_2");
+        verify(metaData, times(1)).findEncryptor(1);
+    }
+    
+    @Test
+    public void assertWasNullAfterCachedNullDecryptedValue() throws SQLException {
+        when(metaData.findEncryptor(1)).thenReturn(Optional.of(mock(EncryptAlgorithm.class)));
+        EncryptMergedResult actual = new EncryptMergedResult(metaData, mergedResult, true);
+        assertNull(actual.getValue(1, String.class));
+        assertTrue(actual.wasNull());
+        assertNull(actual.getValue(1, String.class));
+        assertTrue(actual.wasNull());
+        verify(mergedResult, times(1)).getValue(1, String.class);
+        verify(mergedResult, times(0)).wasNull();
+    }
+    
+    @Test
+    public void assertWasNullAfterNotEncryptedColumnRead() throws SQLException {
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.decrypt("ciphertext")).thenReturn("plaintext");
+        when(metaData.findEncryptor(1)).thenReturn(Optional.of(encryptAlgorithm));
+        when(metaData.findEncryptor(2)).thenReturn(Optional.empty());
+        when(mergedResult.getValue(1, String.class)).thenReturn("ciphertext");
+        when(mergedResult.wasNull()).thenReturn(true);
+        EncryptMergedResult actual = new EncryptMergedResult(metaData, mergedResult, true);
+        assertThat(actual.getValue(1, String.class), is("plaintext"));
+        assertFalse(actual.wasNull());
+        assertNull(actual.getValue(2, String.class));
+        assertTrue(actual.wasNull());
+    }
+}
@@ -21,6 +21,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
+import java.util.Properties;
 
 /**
  * Master-slave data source rule configuration.
@@ -36,4 +37,10 @@ public final class MasterSlaveDataSourceRuleConfiguration {
     private final List<String> slaveDataSourceNames;
     
     private final String loadBalancerName;
+    
+    private final Properties props;
+    
+    public MasterSlaveDataSourceRuleConfiguration(final String name, final String masterDataSourceName, final List<String> slaveDataSourceNames, final String loadBalancerName) {
+        this(name, masterDataSourceName, slaveDataSourceNames, loadBalancerName, new Properties());
+    }
 }
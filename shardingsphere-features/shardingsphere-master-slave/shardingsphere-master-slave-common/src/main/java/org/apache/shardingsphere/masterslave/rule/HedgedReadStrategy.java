@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.masterslave.rule;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hedged read strategy of master-slave data source rule.
+ * 
+ * <p>
+ * If slave chosen by load balancer has not answered within the configured percentile of recent latency,
+ * the same query can be issued to another slave, and the extra load is capped by hedge budget of this rule.
+ * </p>
+ */
+public final class HedgedReadStrategy {
+    
+    public static final String DELAY_PERCENTILE_KEY = "hedge-delay-percentile";
+    
+    public static final String MAX_EXTRA_LOAD_PERCENT_KEY = "hedge-max-extra-load-percent";
+    
+    private static final int DEFAULT_MAX_EXTRA_LOAD_PERCENT = 10;
+    
+    private static final int LATENCY_WINDOW_SIZE = 256;
+    
+    private static final int MIN_SAMPLE_SIZE = 32;
+    
+    private static final int DELAY_REFRESH_INTERVAL = 16;
+    
+    private static final int BUDGET_WINDOW_SIZE = 1000;
+    
+    private final double delayPercentile;
+    
+    private final int maxExtraLoadPercent;
+    
+    private final long[] latencies = new long[LATENCY_WINDOW_SIZE];
+    
+    private long sampleCount;
+    
+    private volatile long delayNanos = -1L;
+    
+    private final AtomicLong requestCount = new AtomicLong();
+    
+    private final AtomicLong hedgeCount = new AtomicLong();
+    
+    public HedgedReadStrategy(final Properties props) {
+        delayPercentile = Double.parseDouble(props.getProperty(DELAY_PERCENTILE_KEY, "0"));
+        maxExtraLoadPercent = Integer.parseInt(props.getProperty(MAX_EXTRA_LOAD_PERCENT_KEY, String.valueOf(DEFAULT_MAX_EXTRA_LOAD_PERCENT)));
+    }
+    
+    /**
+     * Judge whether hedged read is enabled.
+     * 
+     * @return hedged read is enabled or not
+     */
+    public boolean isEnabled() {
+        return delayPercentile > 0 && delayPercentile < 100 && maxExtraLoadPercent > 0;
+    }
+    
+    /**
+     * Get hedge delay milliseconds for a new read request.
+     * 
+     * @return hedge delay milliseconds, empty if recent latency samples are not enough
+     */
+    public OptionalLong getDelayMillis() {
+        if (0 == requestCount.incrementAndGet() % BUDGET_WINDOW_SIZE) {
+            hedgeCount.set(0L);
+        }
+        long result = delayNanos;
+        return result < 0 ? OptionalLong.empty() : OptionalLong.of(TimeUnit.NANOSECONDS.toMillis(result));
+    }
+    
+    /**
+     * Try to acquire hedge from budget.
+     * 
+     * @return acquired or not
+     */
+    public boolean tryAcquireHedge() {
+        return hedgeCount.incrementAndGet() <= (long) BUDGET_WINDOW_SIZE * maxExtraLoadPercent / 100;
+    }
+    
+    /**
+     * Record latency of finished read request.
+     * 
+     * @param latencyNanos latency nanoseconds
+     */
+    public synchronized void recordLatency(final long latencyNanos) {
+        latencies[(int) (sampleCount % LATENCY_WINDOW_SIZE)] = latencyNanos;
+        sampleCount++;
+        if (sampleCount >= MIN_SAMPLE_SIZE && 0 == sampleCount % DELAY_REFRESH_INTERVAL) {
+            delayNanos = calculatePercentile();
+        }
+    }
+    
+    private long calculatePercentile() {
+        long[] samples = Arrays.copyOf(latencies, (int) Math.min(sampleCount, LATENCY_WINDOW_SIZE));
+        Arrays.sort(samples);
+        int index = (int) Math.ceil(delayPercentile / 100 * samples.length) - 1;
+        return samples[Math.max(0, Math.min(index, samples.length - 1))];
+    }
+}
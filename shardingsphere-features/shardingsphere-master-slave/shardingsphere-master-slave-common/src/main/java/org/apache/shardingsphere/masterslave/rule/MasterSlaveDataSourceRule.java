@@ -30,6 +30,7 @@ import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.stream.Collectors;
 
 /**
@@ -46,6 +47,8 @@ public final class MasterSlaveDataSourceRule {
     
     private final MasterSlaveLoadBalanceAlgorithm loadBalancer;
     
+    private final HedgedReadStrategy hedgedReadStrategy;
+    
     @Getter(AccessLevel.NONE)
     private final Collection<String> disabledDataSourceNames = new HashSet<>();
     
@@ -55,6 +58,7 @@ public final class MasterSlaveDataSourceRule {
         masterDataSourceName = configuration.getMasterDataSourceName();
         slaveDataSourceNames = configuration.getSlaveDataSourceNames();
         this.loadBalancer = loadBalancer;
+        hedgedReadStrategy = new HedgedReadStrategy(null == configuration.getProps() ? new Properties() : configuration.getProps());
     }
     
     private void checkConfiguration(final MasterSlaveDataSourceRuleConfiguration configuration) {
@@ -57,6 +57,7 @@ public final class MasterSlaveRuleConfigurationYamlSwapper implements YamlRuleCo
         result.setMasterDataSourceName(dataSourceRuleConfiguration.getMasterDataSourceName());
         result.setSlaveDataSourceNames(dataSourceRuleConfiguration.getSlaveDataSourceNames());
         result.setLoadBalancerName(dataSourceRuleConfiguration.getLoadBalancerName());
+        result.setProps(dataSourceRuleConfiguration.getProps());
         return result;
     }
     
@@ -75,7 +76,7 @@ public final class MasterSlaveRuleConfigurationYamlSwapper implements YamlRuleCo
     
     private MasterSlaveDataSourceRuleConfiguration swapToObject(final String name, final YamlMasterSlaveDataSourceRuleConfiguration yamlDataSourceRuleConfiguration) {
         return new MasterSlaveDataSourceRuleConfiguration(name, 
-                yamlDataSourceRuleConfiguration.getMasterDataSourceName(), yamlDataSourceRuleConfiguration.getSlaveDataSourceNames(), yamlDataSourceRuleConfiguration.getLoadBalancerName());
+                yamlDataSourceRuleConfiguration.getMasterDataSourceName(), yamlDataSourceRuleConfiguration.getSlaveDataSourceNames(), yamlDataSourceRuleConfiguration.getLoadBalancerName(), yamlDataSourceRuleConfiguration.getProps());
     }
     
     @Override
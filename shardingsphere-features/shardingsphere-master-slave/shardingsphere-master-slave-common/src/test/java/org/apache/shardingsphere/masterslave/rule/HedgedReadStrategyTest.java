@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.masterslave.rule;
+
+import org.junit.Test;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class HedgedReadStrategyTest {
+    
+    @Test
+    public void assertDisabledByDefault() {
+        assertFalse(new HedgedReadStrategy(new Properties()).isEnabled());
+    }
+    
+    @Test
+    public void assertGetDelayMillisWithoutEnoughSamples() {
+        HedgedReadStrategy strategy = new HedgedReadStrategy(createProperties("90", "10"));
+        assertTrue(strategy.isEnabled());
+        strategy.recordLatency(TimeUnit.MILLISECONDS.toNanos(1L));
+        assertFalse(strategy.getDelayMillis().isPresent());
+    }
+    
+    @Test
+    public void assertGetDelayMillis() {
+        HedgedReadStrategy strategy = new HedgedReadStrategy(createProperties("90", "10"));
+        for (int i = 1; i <= 160; i++) {
+            strategy.recordLatency(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        assertThat(strategy.getDelayMillis().getAsLong(), is(144L));
+    }
+    
+    @Test
+    public void assertTryAcquireHedgeWithinBudget() {
+        HedgedReadStrategy strategy = new HedgedReadStrategy(createProperties("90", "1"));
+        for (int i = 0; i < 10; i++) {
+            assertTrue(strategy.tryAcquireHedge());
+        }
+        assertFalse(strategy.tryAcquireHedge());
+    }
+    
+    private Properties createProperties(final String delayPercentile, final String maxExtraLoadPercent) {
+        Properties result = new Properties();
+        result.setProperty(HedgedReadStrategy.DELAY_PERCENTILE_KEY, delayPercentile);
+        result.setProperty(HedgedReadStrategy.MAX_EXTRA_LOAD_PERCENT_KEY, maxExtraLoadPercent);
+        return result;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.masterslave.route.engine.impl;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.masterslave.rule.HedgedReadStrategy;
+
+import java.util.Optional;
+
+/**
+ * Hedged read of slave data source routed for current SQL.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class HedgedRead {
+    
+    private final String candidateDataSourceName;
+    
+    private final long delayMillis;
+    
+    private final HedgedReadStrategy strategy;
+    
+    /**
+     * Get candidate slave data source name to issue hedged query.
+     * 
+     * @return candidate slave data source name, empty if hedged query is not allowed for current SQL
+     */
+    public Optional<String> getCandidateDataSourceName() {
+        return Optional.ofNullable(candidateDataSourceName);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.masterslave.route.engine.impl;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hedged read manager.
+ * 
+ * <p>Trace hedged reads of slave data sources routed in current thread.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class HedgedReadManager {
+    
+    private static final ThreadLocal<Map<String, HedgedRead>> HEDGED_READS = ThreadLocal.withInitial(HashMap::new);
+    
+    /**
+     * Register hedged read.
+     * 
+     * @param dataSourceName routed slave data source name
+     * @param hedgedRead hedged read
+     */
+    public static void register(final String dataSourceName, final HedgedRead hedgedRead) {
+        HEDGED_READS.get().put(dataSourceName, hedgedRead);
+    }
+    
+    /**
+     * Get hedged reads registered in current thread.
+     * 
+     * @return hedged reads, key is routed slave data source name
+     */
+    public static Map<String, HedgedRead> getHedgedReads() {
+        Map<String, HedgedRead> result = HEDGED_READS.get();
+        return result.isEmpty() ? Collections.emptyMap() : new HashMap<>(result);
+    }
+    
+    /**
+     * Clear hedged reads.
+     */
+    public static void clear() {
+        HEDGED_READS.remove();
+    }
+}
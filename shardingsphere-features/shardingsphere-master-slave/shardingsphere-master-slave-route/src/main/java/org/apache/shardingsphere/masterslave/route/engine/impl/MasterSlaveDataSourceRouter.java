@@ -19,11 +19,14 @@ package org.apache.shardingsphere.masterslave.route.engine.impl;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.masterslave.rule.HedgedReadStrategy;
 import org.apache.shardingsphere.masterslave.rule.MasterSlaveDataSourceRule;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
 
 /**
  * Data source router for master-slave.
@@ -44,8 +47,25 @@ public final class MasterSlaveDataSourceRouter {
             MasterVisitedManager.setMasterVisited();
             return masterSlaveDataSourceRule.getMasterDataSourceName();
         }
-        return masterSlaveDataSourceRule.getLoadBalancer().getDataSource(
-                masterSlaveDataSourceRule.getName(), masterSlaveDataSourceRule.getMasterDataSourceName(), new ArrayList<>(masterSlaveDataSourceRule.getSlaveDataSourceNames()));
+        List<String> slaveDataSourceNames = new ArrayList<>(masterSlaveDataSourceRule.getSlaveDataSourceNames());
+        String result = masterSlaveDataSourceRule.getLoadBalancer().getDataSource(masterSlaveDataSourceRule.getName(), masterSlaveDataSourceRule.getMasterDataSourceName(), slaveDataSourceNames);
+        registerHedgedRead(result, slaveDataSourceNames);
+        return result;
+    }
+    
+    private void registerHedgedRead(final String dataSourceName, final List<String> slaveDataSourceNames) {
+        HedgedReadStrategy strategy = masterSlaveDataSourceRule.getHedgedReadStrategy();
+        if (!strategy.isEnabled()) {
+            return;
+        }
+        OptionalLong delayMillis = strategy.getDelayMillis();
+        String candidateDataSourceName = delayMillis.isPresent() && slaveDataSourceNames.size() > 1 ? getCandidateDataSourceName(dataSourceName, slaveDataSourceNames) : null;
+        HedgedReadManager.register(dataSourceName, new HedgedRead(candidateDataSourceName, delayMillis.orElse(-1L), strategy));
+    }
+    
+    private String getCandidateDataSourceName(final String dataSourceName, final List<String> slaveDataSourceNames) {
+        int index = slaveDataSourceNames.indexOf(dataSourceName);
+        return slaveDataSourceNames.get((index + 1) % slaveDataSourceNames.size());
     }
     
     private boolean isMasterRoute(final SQLStatement sqlStatement) {
@@ -34,10 +34,18 @@ public final class ReplicaDataSourceConfiguration implements RuleConfiguration {
     
     private final Collection<String> replicaSourceNames;
     
+    private final int maxParallelism;
+    
     public ReplicaDataSourceConfiguration(final String name, final Collection<String> replicaSourceNames) {
+        this(name, replicaSourceNames, 1);
+    }
+    
+    public ReplicaDataSourceConfiguration(final String name, final Collection<String> replicaSourceNames, final int maxParallelism) {
         Preconditions.checkArgument(!Strings.isNullOrEmpty(name), "Name is required.");
         Preconditions.checkArgument(null != replicaSourceNames && !replicaSourceNames.isEmpty(), "replica source names are required.");
+        Preconditions.checkArgument(maxParallelism > 0, "max parallelism should be positive.");
         this.name = name;
         this.replicaSourceNames = replicaSourceNames;
+        this.maxParallelism = maxParallelism;
     }
 }
@@ -34,10 +34,14 @@ public final class ReplicaRule implements DataSourceRoutedRule {
     
     private final Map<String, Collection<String>> dataSourceRules;
     
+    private final Map<String, Integer> maxParallelisms;
+    
     public ReplicaRule(final ReplicaRuleConfiguration configuration) {
         dataSourceRules = new HashMap<>(configuration.getDataSources().size(), 1);
+        maxParallelisms = new HashMap<>(configuration.getDataSources().size(), 1);
         for (ReplicaDataSourceConfiguration each : configuration.getDataSources()) {
             dataSourceRules.put(each.getName(), each.getReplicaSourceNames());
+            maxParallelisms.put(each.getName(), each.getMaxParallelism());
         }
     }
     
@@ -75,6 +79,16 @@ public final class ReplicaRule implements DataSourceRoutedRule {
         return Optional.empty();
     }
     
+    /**
+     * Get max parallelism of execute groups on each replica data source.
+     *
+     * @param logicDataSourceName logic data source name
+     * @return max parallelism
+     */
+    public int getMaxParallelism(final String logicDataSourceName) {
+        return maxParallelisms.getOrDefault(logicDataSourceName, 1);
+    }
+    
     @Override
     public Map<String, Collection<String>> getDataSourceMapper() {
         return dataSourceRules;
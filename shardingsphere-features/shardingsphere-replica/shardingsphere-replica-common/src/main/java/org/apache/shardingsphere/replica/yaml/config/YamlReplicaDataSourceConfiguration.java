@@ -34,4 +34,6 @@ public final class YamlReplicaDataSourceConfiguration implements YamlConfigurati
     private String name;
     
     private Collection<String> replicaDataSourceNames = new LinkedList<>();
+    
+    private int maxParallelism = 1;
 }
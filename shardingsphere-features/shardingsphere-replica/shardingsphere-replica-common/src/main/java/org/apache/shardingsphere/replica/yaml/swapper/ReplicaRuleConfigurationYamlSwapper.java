@@ -46,6 +46,7 @@ public final class ReplicaRuleConfigurationYamlSwapper implements YamlRuleConfig
         YamlReplicaDataSourceConfiguration result = new YamlReplicaDataSourceConfiguration();
         result.setName(group.getName());
         result.setReplicaDataSourceNames(group.getReplicaSourceNames());
+        result.setMaxParallelism(group.getMaxParallelism());
         return result;
     }
     
@@ -59,7 +60,7 @@ public final class ReplicaRuleConfigurationYamlSwapper implements YamlRuleConfig
     }
     
     private ReplicaDataSourceConfiguration swapToObject(final String name, final YamlReplicaDataSourceConfiguration yamlGroup) {
-        return new ReplicaDataSourceConfiguration(name, yamlGroup.getReplicaDataSourceNames());
+        return new ReplicaDataSourceConfiguration(name, yamlGroup.getReplicaDataSourceNames(), yamlGroup.getMaxParallelism());
     }
     
     @Override
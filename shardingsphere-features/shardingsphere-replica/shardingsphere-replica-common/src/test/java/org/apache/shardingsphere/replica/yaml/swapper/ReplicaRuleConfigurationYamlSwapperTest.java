@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.replica.yaml.swapper;
+
+import org.apache.shardingsphere.replica.api.config.ReplicaDataSourceConfiguration;
+import org.apache.shardingsphere.replica.api.config.ReplicaRuleConfiguration;
+import org.apache.shardingsphere.replica.yaml.config.YamlReplicaDataSourceConfiguration;
+import org.apache.shardingsphere.replica.yaml.config.YamlReplicaRuleConfiguration;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ReplicaRuleConfigurationYamlSwapperTest {
+    
+    private final ReplicaRuleConfigurationYamlSwapper swapper = new ReplicaRuleConfigurationYamlSwapper();
+    
+    @Test
+    public void assertSwapToYamlConfiguration() {
+        ReplicaDataSourceConfiguration dataSourceConfig = new ReplicaDataSourceConfiguration("logic_ds", Arrays.asList("replica_ds_0", "replica_ds_1"), 4);
+        YamlReplicaRuleConfiguration actual = swapper.swapToYamlConfiguration(new ReplicaRuleConfiguration(Collections.singletonList(dataSourceConfig)));
+        YamlReplicaDataSourceConfiguration actualDataSourceConfig = actual.getDataSources().get("logic_ds");
+        assertThat(actualDataSourceConfig.getName(), is("logic_ds"));
+        assertThat(actualDataSourceConfig.getReplicaDataSourceNames(), is(Arrays.asList("replica_ds_0", "replica_ds_1")));
+        assertThat(actualDataSourceConfig.getMaxParallelism(), is(4));
+    }
+    
+    @Test
+    public void assertSwapToObjectWithoutMaxParallelism() {
+        YamlReplicaDataSourceConfiguration yamlDataSourceConfig = new YamlReplicaDataSourceConfiguration();
+        yamlDataSourceConfig.setReplicaDataSourceNames(Arrays.asList("replica_ds_0", "replica_ds_1"));
+        YamlReplicaRuleConfiguration yamlConfig = new YamlReplicaRuleConfiguration();
+        yamlConfig.getDataSources().put("logic_ds", yamlDataSourceConfig);
+        assertThat(swapper.swapToObject(yamlConfig).getDataSources().iterator().next().getMaxParallelism(), is(1));
+    }
+    
+    @Test
+    public void assertSwapRoundTrip() {
+        ReplicaDataSourceConfiguration dataSourceConfig = new ReplicaDataSourceConfiguration("logic_ds", Arrays.asList("replica_ds_0", "replica_ds_1"), 4);
+        ReplicaRuleConfiguration actual = swapper.swapToObject(swapper.swapToYamlConfiguration(new ReplicaRuleConfiguration(Collections.singletonList(dataSourceConfig))));
+        assertThat(actual.getDataSources().size(), is(1));
+        ReplicaDataSourceConfiguration actualDataSourceConfig = actual.getDataSources().iterator().next();
+        assertThat(actualDataSourceConfig.getName(), is("logic_ds"));
+        assertThat(actualDataSourceConfig.getReplicaSourceNames(), is(Arrays.asList("replica_ds_0", "replica_ds_1")));
+        assertThat(actualDataSourceConfig.getMaxParallelism(), is(4));
+    }
+}
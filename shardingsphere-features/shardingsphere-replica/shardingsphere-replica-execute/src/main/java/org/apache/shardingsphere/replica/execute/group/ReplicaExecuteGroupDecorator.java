@@ -23,32 +23,51 @@ import org.apache.shardingsphere.infra.executor.sql.group.ExecuteGroupDecorator;
 import org.apache.shardingsphere.replica.constant.ReplicaOrder;
 import org.apache.shardingsphere.replica.rule.ReplicaRule;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 /**
  * Execute group decorator for replica.
  * 
+ * <p>
+ * Input groups on the same replica data source are merged round robin into at most max parallelism groups, which can be executed in parallel.
+ * Inputs of one input group share one connection, so they are always kept in one group with original order.
+ * </p>
+ * 
  * @param <T> type of input value 
  */
 public final class ReplicaExecuteGroupDecorator<T extends ResourceManagedExecuteUnit> implements ExecuteGroupDecorator<T, ReplicaRule> {
     
     @Override
     public Collection<InputGroup<T>> decorate(final ReplicaRule rule, final Collection<InputGroup<T>> inputGroups) {
-        Map<String, InputGroup<T>> result = new LinkedHashMap<>(inputGroups.size(), 1);
+        Map<String, List<InputGroup<T>>> dataSourceGroups = new LinkedHashMap<>(inputGroups.size(), 1);
+        Map<String, Integer> dataSourceGroupCounts = new HashMap<>(inputGroups.size(), 1);
         for (InputGroup<T> each : inputGroups) {
             T sample = each.getInputs().get(0);
             String dataSourceName = sample.getExecutionUnit().getDataSourceName();
+            List<InputGroup<T>> groups = dataSourceGroups.computeIfAbsent(dataSourceName, key -> new ArrayList<>());
             Optional<String> logicDataSource = rule.findLogicDataSource(dataSourceName);
-            if (logicDataSource.isPresent() && result.containsKey(dataSourceName)) {
-                result.get(dataSourceName).getInputs().addAll(each.getInputs());
+            if (!logicDataSource.isPresent()) {
+                groups.add(each);
+                continue;
+            }
+            int groupCount = dataSourceGroupCounts.merge(dataSourceName, 1, Integer::sum);
+            int maxParallelism = rule.getMaxParallelism(logicDataSource.get());
+            if (groupCount <= maxParallelism) {
+                groups.add(each);
             } else {
-                result.put(dataSourceName, each);
+                groups.get((groupCount - 1) % maxParallelism).getInputs().addAll(each.getInputs());
             }
         }
-        return result.values();
+        Collection<InputGroup<T>> result = new LinkedList<>();
+        dataSourceGroups.values().forEach(result::addAll);
+        return result;
     }
     
     @Override
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.replica.execute.group;
+
+import org.apache.shardingsphere.infra.executor.kernel.InputGroup;
+import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.StatementExecuteUnit;
+import org.apache.shardingsphere.replica.api.config.ReplicaDataSourceConfiguration;
+import org.apache.shardingsphere.replica.api.config.ReplicaRuleConfiguration;
+import org.apache.shardingsphere.replica.rule.ReplicaRule;
+import org.junit.Test;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class ReplicaExecuteGroupDecoratorTest {
+    
+    private final ReplicaExecuteGroupDecorator<StatementExecuteUnit> decorator = new ReplicaExecuteGroupDecorator<>();
+    
+    @Test
+    public void assertDecorateWithMaxParallelismLessThanGroupCount() {
+        List<List<String>> actual = getSQLs(decorator.decorate(createReplicaRule(2), createInputGroups("replica_ds_0", 4)));
+        assertThat(actual, is(Arrays.asList(Arrays.asList("sql_0", "sql_2"), Arrays.asList("sql_1", "sql_3"))));
+    }
+    
+    @Test
+    public void assertDecorateWithMaxParallelismEqualToGroupCount() {
+        List<List<String>> actual = getSQLs(decorator.decorate(createReplicaRule(4), createInputGroups("replica_ds_0", 4)));
+        assertThat(actual, is(Arrays.asList(
+                Collections.singletonList("sql_0"), Collections.singletonList("sql_1"), Collections.singletonList("sql_2"), Collections.singletonList("sql_3"))));
+    }
+    
+    @Test
+    public void assertDecorateWithMaxParallelismGreaterThanGroupCount() {
+        List<List<String>> actual = getSQLs(decorator.decorate(createReplicaRule(8), createInputGroups("replica_ds_0", 3)));
+        assertThat(actual, is(Arrays.asList(Collections.singletonList("sql_0"), Collections.singletonList("sql_1"), Collections.singletonList("sql_2"))));
+    }
+    
+    @Test
+    public void assertDecorateWithDefaultMaxParallelism() {
+        List<List<String>> actual = getSQLs(decorator.decorate(createReplicaRule(1), createInputGroups("replica_ds_0", 3)));
+        assertThat(actual, is(Collections.singletonList(Arrays.asList("sql_0", "sql_1", "sql_2"))));
+    }
+    
+    @Test
+    public void assertDecorateWithNonReplicaDataSource() {
+        Collection<InputGroup<StatementExecuteUnit>> inputGroups = createInputGroups("ds_0", 3);
+        List<List<String>> actual = getSQLs(decorator.decorate(createReplicaRule(1), inputGroups));
+        assertThat(actual, is(Arrays.asList(Collections.singletonList("sql_0"), Collections.singletonList("sql_1"), Collections.singletonList("sql_2"))));
+    }
+    
+    private ReplicaRule createReplicaRule(final int maxParallelism) {
+        ReplicaDataSourceConfiguration dataSourceConfig = new ReplicaDataSourceConfiguration("logic_ds", Arrays.asList("replica_ds_0", "replica_ds_1"), maxParallelism);
+        return new ReplicaRule(new ReplicaRuleConfiguration(Collections.singletonList(dataSourceConfig)));
+    }
+    
+    private Collection<InputGroup<StatementExecuteUnit>> createInputGroups(final String dataSourceName, final int groupCount) {
+        Collection<InputGroup<StatementExecuteUnit>> result = new LinkedList<>();
+        for (int i = 0; i < groupCount; i++) {
+            List<StatementExecuteUnit> inputs = new ArrayList<>();
+            inputs.add(new StatementExecuteUnit(
+                    new ExecutionUnit(dataSourceName, new SQLUnit("sql_" + i, Collections.emptyList())), ConnectionMode.MEMORY_STRICTLY, mock(Statement.class)));
+            result.add(new InputGroup<>(inputs));
+        }
+        return result;
+    }
+    
+    private List<List<String>> getSQLs(final Collection<InputGroup<StatementExecuteUnit>> inputGroups) {
+        return inputGroups.stream().map(each -> each.getInputs().stream().map(input -> input.getExecutionUnit().getSqlUnit().getSql()).collect(Collectors.toList())).collect(Collectors.toList());
+    }
+}
@@ -46,6 +46,8 @@ public final class AlgorithmProvidedShardingRuleConfiguration implements RuleCon
     
     private Collection<String> broadcastTables = new LinkedList<>();
     
+    private Collection<String> cacheableTables = new LinkedList<>();
+    
     private ShardingStrategyConfiguration defaultDatabaseShardingStrategy;
     
     private ShardingStrategyConfiguration defaultTableShardingStrategy;
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmF
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.rule.DataNodeRoutedRule;
+import org.apache.shardingsphere.infra.rule.ResultCacheableRule;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.infra.spi.type.TypedSPIRegistry;
 import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
@@ -52,7 +53,7 @@ import java.util.stream.Collectors;
  * Sharding rule.
  */
 @Getter
-public final class ShardingRule implements DataNodeRoutedRule {
+public final class ShardingRule implements DataNodeRoutedRule, ResultCacheableRule {
     
     static {
         ShardingSphereServiceLoader.register(ShardingAlgorithm.class);
@@ -71,6 +72,8 @@ public final class ShardingRule implements DataNodeRoutedRule {
     
     private final Collection<String> broadcastTables;
     
+    private final Collection<String> cacheableTables;
+    
     private final ShardingStrategy defaultDatabaseShardingStrategy;
     
     private final ShardingStrategy defaultTableShardingStrategy;
@@ -86,6 +89,7 @@ public final class ShardingRule implements DataNodeRoutedRule {
         tableRules = new LinkedList<>(createTableRules(configuration.getTables(), configuration.getDefaultKeyGenerateStrategy()));
         tableRules.addAll(createAutoTableRules(configuration.getAutoTables(), configuration.getDefaultKeyGenerateStrategy()));
         broadcastTables = configuration.getBroadcastTables();
+        cacheableTables = configuration.getCacheableTables();
         bindingTableRules = createBindingTableRules(configuration.getBindingTableGroups());
         defaultDatabaseShardingStrategy = createDefaultShardingStrategy(configuration.getDefaultDatabaseShardingStrategy());
         defaultTableShardingStrategy = createDefaultShardingStrategy(configuration.getDefaultTableShardingStrategy());
@@ -102,6 +106,7 @@ public final class ShardingRule implements DataNodeRoutedRule {
         tableRules = new LinkedList<>(createTableRules(configuration.getTables(), configuration.getDefaultKeyGenerateStrategy()));
         tableRules.addAll(createAutoTableRules(configuration.getAutoTables(), configuration.getDefaultKeyGenerateStrategy()));
         broadcastTables = configuration.getBroadcastTables();
+        cacheableTables = configuration.getCacheableTables();
         bindingTableRules = createBindingTableRules(configuration.getBindingTableGroups());
         defaultDatabaseShardingStrategy = createDefaultShardingStrategy(configuration.getDefaultDatabaseShardingStrategy());
         defaultTableShardingStrategy = createDefaultShardingStrategy(configuration.getDefaultTableShardingStrategy());
@@ -286,6 +291,11 @@ public final class ShardingRule implements DataNodeRoutedRule {
         return broadcastTables.stream().anyMatch(each -> each.equalsIgnoreCase(logicTableName));
     }
     
+    @Override
+    public boolean isResultCacheable(final String logicTableName) {
+        return cacheableTables.stream().anyMatch(each -> each.equalsIgnoreCase(logicTableName));
+    }
+    
     /**
      * Judge if there is at least one table rule for logic tables.
      *
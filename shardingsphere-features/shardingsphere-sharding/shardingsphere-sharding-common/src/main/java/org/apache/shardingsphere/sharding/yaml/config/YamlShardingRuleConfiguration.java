@@ -47,6 +47,8 @@ public final class YamlShardingRuleConfiguration implements YamlRuleConfiguratio
     
     private Collection<String> broadcastTables = new ArrayList<>();
     
+    private Collection<String> cacheableTables = new ArrayList<>();
+    
     private YamlShardingStrategyConfiguration defaultDatabaseStrategy;
     
     private YamlShardingStrategyConfiguration defaultTableStrategy;
@@ -50,6 +50,7 @@ public final class ShardingRuleAlgorithmProviderConfigurationYamlSwapper impleme
         data.getAutoTables().forEach(each -> result.getAutoTables().put(each.getLogicTable(), autoTableYamlSwapper.swapToYamlConfiguration(each)));
         result.getBindingTables().addAll(data.getBindingTableGroups());
         result.getBroadcastTables().addAll(data.getBroadcastTables());
+        result.getCacheableTables().addAll(data.getCacheableTables());
         setYamlDefaultStrategies(data, result);
         setYamlAlgorithms(data, result);
         return result;
@@ -70,6 +71,7 @@ public final class ShardingRuleAlgorithmProviderConfigurationYamlSwapper impleme
         }
         result.getBindingTableGroups().addAll(yamlConfig.getBindingTables());
         result.getBroadcastTables().addAll(yamlConfig.getBroadcastTables());
+        result.getCacheableTables().addAll(yamlConfig.getCacheableTables());
         setDefaultStrategies(yamlConfig, result);
         return result;
     }
@@ -53,6 +53,7 @@ public final class ShardingRuleConfigurationYamlSwapper implements YamlRuleConfi
         data.getAutoTables().forEach(each -> result.getAutoTables().put(each.getLogicTable(), autoTableYamlSwapper.swapToYamlConfiguration(each)));
         result.getBindingTables().addAll(data.getBindingTableGroups());
         result.getBroadcastTables().addAll(data.getBroadcastTables());
+        result.getCacheableTables().addAll(data.getCacheableTables());
         setYamlDefaultStrategies(data, result);
         setYamlAlgorithms(data, result);
         return result;
@@ -94,6 +95,7 @@ public final class ShardingRuleConfigurationYamlSwapper implements YamlRuleConfi
         }
         result.getBindingTableGroups().addAll(yamlConfig.getBindingTables());
         result.getBroadcastTables().addAll(yamlConfig.getBroadcastTables());
+        result.getCacheableTables().addAll(yamlConfig.getCacheableTables());
         setDefaultStrategies(yamlConfig, result);
         setAlgorithms(yamlConfig, result);
         return result;
@@ -217,6 +217,16 @@ public final class ShardingRuleTest {
         assertFalse(createMaximumShardingRule().isBroadcastTable("other_table"));
     }
     
+    @Test
+    public void assertIsResultCacheable() {
+        assertTrue(createMaximumShardingRule().isResultCacheable("Broadcast_Table"));
+    }
+    
+    @Test
+    public void assertIsNotResultCacheable() {
+        assertFalse(createMaximumShardingRule().isResultCacheable("other_table"));
+    }
+    
     @Test
     public void assertIsShardingColumnForDefaultDatabaseShardingStrategy() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
@@ -341,6 +351,7 @@ public final class ShardingRuleTest {
         shardingRuleConfiguration.getTables().add(subTableRuleConfiguration);
         shardingRuleConfiguration.getBindingTableGroups().add(shardingTableRuleConfiguration.getLogicTable() + "," + subTableRuleConfiguration.getLogicTable());
         shardingRuleConfiguration.getBroadcastTables().add("BROADCAST_TABLE");
+        shardingRuleConfiguration.getCacheableTables().add("BROADCAST_TABLE");
         InlineShardingAlgorithm shardingAlgorithmDB = new InlineShardingAlgorithm();
         Properties props = new Properties();
         props.setProperty("algorithm.expression", "ds_%{ds_id % 2}");
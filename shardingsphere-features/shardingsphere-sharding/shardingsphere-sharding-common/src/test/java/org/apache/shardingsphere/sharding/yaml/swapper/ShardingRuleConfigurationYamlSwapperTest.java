@@ -98,6 +98,7 @@ public final class ShardingRuleConfigurationYamlSwapperTest {
         shardingRuleConfiguration.getTables().add(mock(ShardingTableRuleConfiguration.class));
         shardingRuleConfiguration.getBindingTableGroups().add("tbl, sub_tbl");
         shardingRuleConfiguration.getBroadcastTables().add("dict");
+        shardingRuleConfiguration.getCacheableTables().add("dict");
         shardingRuleConfiguration.setDefaultDatabaseShardingStrategy(mock(ShardingStrategyConfiguration.class));
         shardingRuleConfiguration.setDefaultTableShardingStrategy(mock(ShardingStrategyConfiguration.class));
         shardingRuleConfiguration.setDefaultKeyGenerateStrategy(mock(KeyGenerateStrategyConfiguration.class));
@@ -107,6 +108,8 @@ public final class ShardingRuleConfigurationYamlSwapperTest {
         assertThat(actual.getBindingTables().iterator().next(), is("tbl, sub_tbl"));
         assertThat(actual.getBroadcastTables().size(), is(1));
         assertThat(actual.getBroadcastTables().iterator().next(), is("dict"));
+        assertThat(actual.getCacheableTables().size(), is(1));
+        assertThat(actual.getCacheableTables().iterator().next(), is("dict"));
         assertNotNull(actual.getDefaultDatabaseStrategy());
         assertNotNull(actual.getDefaultTableStrategy());
         assertNotNull(actual.getDefaultKeyGenerateStrategy());
@@ -131,6 +134,7 @@ public final class ShardingRuleConfigurationYamlSwapperTest {
         yamlConfiguration.getTables().put("tbl", mock(YamlTableRuleConfiguration.class));
         yamlConfiguration.getBindingTables().add("tbl, sub_tbl");
         yamlConfiguration.getBroadcastTables().add("dict");
+        yamlConfiguration.getCacheableTables().add("dict");
         yamlConfiguration.setDefaultDatabaseStrategy(mock(YamlShardingStrategyConfiguration.class));
         yamlConfiguration.setDefaultTableStrategy(mock(YamlShardingStrategyConfiguration.class));
         yamlConfiguration.setDefaultKeyGenerateStrategy(mock(YamlKeyGenerateStrategyConfiguration.class));
@@ -140,6 +144,8 @@ public final class ShardingRuleConfigurationYamlSwapperTest {
         assertThat(actual.getBindingTableGroups().iterator().next(), is("tbl, sub_tbl"));
         assertThat(actual.getBroadcastTables().size(), is(1));
         assertThat(actual.getBroadcastTables().iterator().next(), is("dict"));
+        assertThat(actual.getCacheableTables().size(), is(1));
+        assertThat(actual.getCacheableTables().iterator().next(), is("dict"));
         assertNotNull(actual.getDefaultDatabaseShardingStrategy());
         assertNotNull(actual.getDefaultTableShardingStrategy());
         assertNotNull(actual.getDefaultKeyGenerateStrategy());
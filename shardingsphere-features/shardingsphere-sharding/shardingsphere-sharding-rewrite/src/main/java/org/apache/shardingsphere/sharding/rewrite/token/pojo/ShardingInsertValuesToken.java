@@ -21,25 +21,47 @@ import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValue;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValuesToken;
+import org.apache.shardingsphere.infra.route.context.OriginalDataNodeBuckets;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Insert values token for sharding.
  */
 public final class ShardingInsertValuesToken extends InsertValuesToken implements RouteUnitAware {
     
+    private final OriginalDataNodeBuckets originalDataNodeBuckets;
+    
     public ShardingInsertValuesToken(final int startIndex, final int stopIndex) {
+        this(startIndex, stopIndex, null);
+    }
+    
+    public ShardingInsertValuesToken(final int startIndex, final int stopIndex, final OriginalDataNodeBuckets originalDataNodeBuckets) {
         super(startIndex, stopIndex);
+        this.originalDataNodeBuckets = originalDataNodeBuckets;
     }
     
     @Override
     public String toString(final RouteUnit routeUnit) {
         StringBuilder result = new StringBuilder();
-        appendInsertValue(routeUnit, result);
+        Optional<List<Integer>> indexes = null == routeUnit || null == originalDataNodeBuckets ? Optional.empty() : originalDataNodeBuckets.findIndexes(routeUnit);
+        if (indexes.isPresent()) {
+            appendInsertValue(indexes.get(), result);
+        } else {
+            appendInsertValue(routeUnit, result);
+        }
         result.delete(result.length() - 2, result.length());
         return result.toString();
     }
     
+    private void appendInsertValue(final List<Integer> indexes, final StringBuilder stringBuilder) {
+        for (int each : indexes) {
+            stringBuilder.append(getInsertValues().get(each)).append(", ");
+        }
+    }
+    
     private void appendInsertValue(final RouteUnit routeUnit, final StringBuilder stringBuilder) {
         for (InsertValue each : getInsertValues()) {
             if (isAppend(routeUnit, (ShardingInsertValue) each)) {
@@ -63,11 +63,121 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     QUERY_WITH_CIPHER_COLUMN("query.with.cipher.column", String.valueOf(Boolean.TRUE), boolean.class),
     
+    /**
+     * Whether enable circuit breaker for every actual data source.
+     */
+    CIRCUIT_BREAKER_ENABLED("circuit.breaker.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Failure rate threshold in percentage to open circuit breaker, slow calls are counted as failure.
+     */
+    CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD("circuit.breaker.failure.rate.threshold", String.valueOf(50), int.class),
+    
+    /**
+     * Milliseconds threshold of slow call for circuit breaker, zero means latency is not counted.
+     */
+    CIRCUIT_BREAKER_SLOW_CALL_THRESHOLD("circuit.breaker.slow.call.threshold", String.valueOf(0), long.class),
+    
+    /**
+     * Milliseconds to keep circuit breaker open before permitting trial calls.
+     */
+    CIRCUIT_BREAKER_OPEN_DURATION("circuit.breaker.open.duration", String.valueOf(30000), long.class),
+    
+    /**
+     * Max entries of query result cache for cacheable tables, zero means query result cache is disabled.
+     */
+    QUERY_RESULT_CACHE_MAX_SIZE("query.result.cache.max.size", String.valueOf(0), long.class),
+    
+    /**
+     * Milliseconds to keep query result in cache after loaded.
+     */
+    QUERY_RESULT_CACHE_TTL("query.result.cache.ttl", String.valueOf(60000), long.class),
+    
+    /**
+     * Milliseconds threshold to log SQL into slow query log, zero means slow query log is disabled.
+     */
+    SLOW_QUERY_LOG_THRESHOLD("slow.query.log.threshold", String.valueOf(0), long.class),
+    
+    /**
+     * Percentage of SQL to be traced for slow query log.
+     */
+    SLOW_QUERY_LOG_SAMPLE_PERCENTAGE("slow.query.log.sample.percentage", String.valueOf(100), int.class),
+    
+    /**
+     * File of slow query log.
+     */
+    SLOW_QUERY_LOG_FILE("slow.query.log.file", "logs/slow-query.log", String.class),
+    
+    /**
+     * Max bytes of slow query log file before rolling over.
+     */
+    SLOW_QUERY_LOG_MAX_FILE_SIZE("slow.query.log.max.file.size", String.valueOf(100 * 1024 * 1024), long.class),
+    
+    /**
+     * Max count of rolled over slow query log files to keep.
+     */
+    SLOW_QUERY_LOG_MAX_BACKUP_INDEX("slow.query.log.max.backup.index", String.valueOf(5), int.class),
+    
     /**
      * Flush threshold for every records from databases for ShardingSphere-Proxy.
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy.frontend.flush.threshold", String.valueOf(128), int.class),
     
+    /**
+     * Flush threshold bytes of query data written directly into buffer for ShardingSphere-Proxy.
+     */
+    PROXY_FRONTEND_FLUSH_BYTES("proxy.frontend.flush.bytes", String.valueOf(64 * 1024), int.class),
+    
+    /**
+     * Timeout seconds of logic SQL for ShardingSphere-Proxy, zero means no timeout.
+     */
+    PROXY_QUERY_TIMEOUT("proxy.query.timeout", String.valueOf(0), int.class),
+    
+    /**
+     * Max milliseconds to wait for reserving multiple backend connections of one data source for one query.
+     */
+    PROXY_CONNECTION_RESERVATION_TIMEOUT("proxy.connection.reservation.timeout", String.valueOf(30000), long.class),
+    
+    /**
+     * Whether multiplex backend connections among frontend sessions for ShardingSphere-Proxy.
+     * 
+     * <p>
+     * Backend connections are borrowed only for the duration of a statement or transaction,
+     * session variables are tracked and synchronized on every backend connection borrowed.
+     * </p>
+     */
+    PROXY_CONNECTION_MULTIPLEXING_ENABLED("proxy.connection.multiplexing.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max opened connection size for each data source when executing DDL for ShardingSphere-Proxy.
+     * 
+     * <p>
+     * DDL of logic table is routed to every actual table, connections of each data source are opened up to this limit
+     * to execute actual DDL in parallel, larger one of this value and {@code max.connections.size.per.query} is used.
+     * </p>
+     */
+    PROXY_DDL_MAX_CONNECTIONS_SIZE_PER_DATA_SOURCE("proxy.ddl.max.connections.size.per.data.source", String.valueOf(1), int.class),
+    
+    /**
+     * Max concurrent executing commands of each user for ShardingSphere-Proxy, zero means no limit.
+     */
+    PROXY_ADMISSION_USER_MAX_CONCURRENCY("proxy.admission.user.max.concurrency", String.valueOf(0), int.class),
+    
+    /**
+     * Max queued commands of each user waiting for admission for ShardingSphere-Proxy, commands are rejected when queue is full.
+     */
+    PROXY_ADMISSION_USER_MAX_QUEUE_SIZE("proxy.admission.user.max.queue.size", String.valueOf(128), int.class),
+    
+    /**
+     * Max concurrent executing commands of each schema for ShardingSphere-Proxy, zero means no limit.
+     */
+    PROXY_ADMISSION_SCHEMA_MAX_CONCURRENCY("proxy.admission.schema.max.concurrency", String.valueOf(0), int.class),
+    
+    /**
+     * Max queued commands of each schema waiting for admission for ShardingSphere-Proxy, commands are rejected when queue is full.
+     */
+    PROXY_ADMISSION_SCHEMA_MAX_QUEUE_SIZE("proxy.admission.schema.max.queue.size", String.valueOf(1024), int.class),
+    
     /**
      * Transaction type of proxy.
      *
@@ -21,16 +21,22 @@ import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ListenableFuture;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.kernel.deadline.ExecutionDeadline;
+import org.apache.shardingsphere.infra.executor.kernel.deadline.ExecutionDeadlineHolder;
 import org.apache.shardingsphere.infra.executor.kernel.impl.ShardingSphereExecutorService;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Executor kernel.
@@ -83,6 +89,7 @@ public final class ExecutorKernel implements AutoCloseable {
         InputGroup<I> firstInputs = inputGroupsIterator.next();
         List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
         for (InputGroup<I> each : Lists.newArrayList(inputGroupsIterator)) {
+            checkDeadline();
             result.addAll(syncExecute(each, callback));
         }
         return result;
@@ -96,6 +103,7 @@ public final class ExecutorKernel implements AutoCloseable {
     }
     
     private <I, O> Collection<O> syncExecute(final InputGroup<I> inputGroup, final ExecutorCallback<I, O> callback) throws SQLException {
+        checkDeadline();
         return callback.execute(inputGroup.getInputs(), true, ExecutorDataMap.getValue());
     }
     
@@ -114,9 +122,12 @@ public final class ExecutorKernel implements AutoCloseable {
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<ListenableFuture<Collection<O>>> restFutures) throws SQLException {
         List<O> result = new LinkedList<>(firstResults);
+        Optional<ExecutionDeadline> deadline = ExecutionDeadlineHolder.get().filter(ExecutionDeadline::isBounded);
         for (ListenableFuture<Collection<O>> each : restFutures) {
             try {
-                result.addAll(each.get());
+                result.addAll(deadline.isPresent() ? each.get(deadline.get().getRemainingMillis(), TimeUnit.MILLISECONDS) : each.get());
+            } catch (final TimeoutException ex) {
+                return throwTimeoutException(deadline.get(), restFutures);
             } catch (final InterruptedException | ExecutionException ex) {
                 return throwException(ex);
             }
@@ -124,6 +135,22 @@ public final class ExecutorKernel implements AutoCloseable {
         return result;
     }
     
+    private void checkDeadline() throws SQLTimeoutException {
+        Optional<ExecutionDeadline> deadline = ExecutionDeadlineHolder.get();
+        if (deadline.isPresent()) {
+            deadline.get().check();
+        }
+    }
+    
+    private <O> List<O> throwTimeoutException(final ExecutionDeadline deadline, final Collection<ListenableFuture<Collection<O>>> restFutures) throws SQLTimeoutException {
+        deadline.cancel();
+        for (ListenableFuture<Collection<O>> each : restFutures) {
+            each.cancel(true);
+        }
+        deadline.check();
+        throw new SQLTimeoutException("Query execution was interrupted, deadline of logic SQL exceeded.");
+    }
+    
     private <O> List<O> throwException(final Exception exception) throws SQLException {
         if (exception.getCause() instanceof SQLException) {
             throw (SQLException) exception.getCause();
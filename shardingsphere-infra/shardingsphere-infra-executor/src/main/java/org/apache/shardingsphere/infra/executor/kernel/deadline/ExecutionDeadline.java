@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.deadline;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.impl.ShardingSphereThreadFactoryBuilder;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Execution deadline for one logic SQL, shared by all physical statements it is routed to.
+ */
+@Slf4j
+public final class ExecutionDeadline {
+    
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(ShardingSphereThreadFactoryBuilder.build("Execution-Deadline-Timer"));
+    
+    private final boolean bounded;
+    
+    private final long expireNanoTime;
+    
+    private final Collection<Statement> statements = new CopyOnWriteArrayList<>();
+    
+    private volatile boolean cancelled;
+    
+    private volatile ScheduledFuture<?> timeoutFuture;
+    
+    private ExecutionDeadline(final boolean bounded, final long expireNanoTime) {
+        this.bounded = bounded;
+        this.expireNanoTime = expireNanoTime;
+    }
+    
+    /**
+     * Create execution deadline without timeout, which can only be expired by cancel.
+     *
+     * @return execution deadline
+     */
+    public static ExecutionDeadline unbounded() {
+        return new ExecutionDeadline(false, 0L);
+    }
+    
+    /**
+     * Create execution deadline with timeout seconds.
+     *
+     * @param timeoutSeconds timeout seconds, zero or negative means unbounded
+     * @return execution deadline
+     */
+    public static ExecutionDeadline ofSeconds(final long timeoutSeconds) {
+        return ofMillis(TimeUnit.SECONDS.toMillis(timeoutSeconds));
+    }
+    
+    /**
+     * Create execution deadline with timeout milliseconds.
+     *
+     * @param timeoutMillis timeout milliseconds, zero or negative means unbounded
+     * @return execution deadline
+     */
+    public static ExecutionDeadline ofMillis(final long timeoutMillis) {
+        return timeoutMillis > 0 ? new ExecutionDeadline(true, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis)) : unbounded();
+    }
+    
+    /**
+     * Judge whether deadline has timeout or not.
+     *
+     * @return has timeout or not
+     */
+    public boolean isBounded() {
+        return bounded;
+    }
+    
+    /**
+     * Get remaining milliseconds before expired.
+     *
+     * @return remaining milliseconds, {@code Long.MAX_VALUE} if unbounded
+     */
+    public long getRemainingMillis() {
+        if (!bounded) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0L, TimeUnit.NANOSECONDS.toMillis(expireNanoTime - System.nanoTime()));
+    }
+    
+    /**
+     * Judge whether deadline is expired or cancelled.
+     *
+     * @return expired or not
+     */
+    public boolean isExpired() {
+        return cancelled || bounded && expireNanoTime - System.nanoTime() <= 0;
+    }
+    
+    /**
+     * Register physical statement, which will be cancelled when deadline expired.
+     *
+     * @param statement physical statement
+     */
+    public void register(final Statement statement) {
+        statements.add(statement);
+        if (cancelled) {
+            cancelQuietly(statement);
+            return;
+        }
+        if (bounded && null == timeoutFuture) {
+            scheduleTimeout();
+        }
+    }
+    
+    private synchronized void scheduleTimeout() {
+        if (null == timeoutFuture) {
+            timeoutFuture = TIMER.schedule(this::cancel, expireNanoTime - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    /**
+     * Cancel all registered physical statements and mark deadline expired.
+     */
+    public void cancel() {
+        cancelled = true;
+        for (Statement each : statements) {
+            cancelQuietly(each);
+        }
+    }
+    
+    private void cancelQuietly(final Statement statement) {
+        try {
+            statement.cancel();
+        } catch (final SQLException ex) {
+            log.warn("Cancel statement failure: ", ex);
+        }
+    }
+    
+    /**
+     * Check deadline, cancel registered physical statements and throw exception if expired.
+     *
+     * @throws SQLTimeoutException SQL timeout exception
+     */
+    public void check() throws SQLTimeoutException {
+        if (isExpired()) {
+            cancel();
+            throw new SQLTimeoutException("Query execution was interrupted, deadline of logic SQL exceeded or query cancelled.");
+        }
+    }
+    
+    /**
+     * Release registered physical statements and pending timer when logic SQL finished.
+     */
+    public void release() {
+        if (null != timeoutFuture) {
+            timeoutFuture.cancel(false);
+        }
+        statements.clear();
+    }
+}
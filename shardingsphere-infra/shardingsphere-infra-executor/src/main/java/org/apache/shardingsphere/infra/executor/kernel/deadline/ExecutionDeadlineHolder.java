@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.deadline;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * Execution deadline holder for thread local.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ExecutionDeadlineHolder {
+    
+    private static final ThreadLocal<ExecutionDeadline> DEADLINE = new ThreadLocal<>();
+    
+    /**
+     * Set execution deadline of current logic SQL.
+     *
+     * @param deadline execution deadline
+     */
+    public static void set(final ExecutionDeadline deadline) {
+        DEADLINE.set(deadline);
+    }
+    
+    /**
+     * Get execution deadline of current logic SQL.
+     *
+     * @return execution deadline
+     */
+    public static Optional<ExecutionDeadline> get() {
+        return Optional.ofNullable(DEADLINE.get());
+    }
+    
+    /**
+     * Clear execution deadline of current logic SQL.
+     */
+    public static void clear() {
+        DEADLINE.remove();
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.cache;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Query result loaded into memory, which can be replayed for every reader of query result cache.
+ *
+ * <p>
+ * Values of LOB and array are bound to connection, query result containing them is not replayable.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CachedQueryResult implements QueryResult {
+    
+    private final ResultSetMetaData resultSetMetaData;
+    
+    private final List<String> columnNames;
+    
+    private final List<String> columnLabels;
+    
+    private final List<List<Object>> rows;
+    
+    @Getter
+    private final boolean replayable;
+    
+    private Iterator<List<Object>> iterator;
+    
+    private List<Object> currentRow;
+    
+    private boolean wasNull;
+    
+    /**
+     * Load query result into memory.
+     *
+     * @param queryResult query result to be loaded
+     * @return cached query result
+     * @throws SQLException SQL exception
+     */
+    public static CachedQueryResult load(final QueryResult queryResult) throws SQLException {
+        int columnCount = queryResult.getColumnCount();
+        List<String> columnNames = new ArrayList<>(columnCount);
+        List<String> columnLabels = new ArrayList<>(columnCount);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            columnNames.add(queryResult.getColumnName(columnIndex));
+            columnLabels.add(queryResult.getColumnLabel(columnIndex));
+        }
+        List<List<Object>> rows = new ArrayList<>();
+        boolean replayable = true;
+        while (queryResult.next()) {
+            List<Object> row = new ArrayList<>(columnCount);
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                Object value = queryResult.getValue(columnIndex, Object.class);
+                replayable = replayable && !(value instanceof Blob || value instanceof Clob || value instanceof Array || value instanceof InputStream);
+                row.add(value);
+            }
+            rows.add(row);
+        }
+        return new CachedQueryResult(queryResult.getResultSetMetaData(), columnNames, columnLabels, rows, replayable);
+    }
+    
+    /**
+     * Replay query result from first row.
+     *
+     * @return replayed query result
+     */
+    public CachedQueryResult replay() {
+        return new CachedQueryResult(resultSetMetaData, columnNames, columnLabels, rows, replayable);
+    }
+    
+    @Override
+    public ResultSetMetaData getResultSetMetaData() {
+        return resultSetMetaData;
+    }
+    
+    @Override
+    public boolean next() {
+        if (null == iterator) {
+            iterator = rows.iterator();
+        }
+        if (iterator.hasNext()) {
+            currentRow = iterator.next();
+            return true;
+        }
+        currentRow = null;
+        return false;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        return getCurrentValue(columnIndex);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getCurrentValue(columnIndex);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        return getInputStream(getCurrentValue(columnIndex));
+    }
+    
+    private Object getCurrentValue(final int columnIndex) {
+        Object result = currentRow.get(columnIndex - 1);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @SneakyThrows
+    private InputStream getInputStream(final Object value) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(value);
+        objectOutputStream.flush();
+        objectOutputStream.close();
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnNames.size();
+    }
+    
+    @Override
+    public String getColumnName(final int columnIndex) {
+        return columnNames.get(columnIndex - 1);
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return columnLabels.get(columnIndex - 1);
+    }
+}
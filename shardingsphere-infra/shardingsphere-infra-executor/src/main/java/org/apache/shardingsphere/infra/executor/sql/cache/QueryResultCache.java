@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.query.ExecuteQueryResult;
+import org.apache.shardingsphere.infra.rule.ResultCacheableRule;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.ddl.DDLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.DMLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Query result cache of schema.
+ *
+ * <p>
+ * Only query results of tables marked as cacheable are cached, keyed by actual SQLs and parameters of execution units.
+ * DML and DDL on cacheable tables invalidate cached query results of these tables,
+ * and invalidation is published to other instances by {@code QueryResultCacheInvalidationPublisher}.
+ * </p>
+ */
+public final class QueryResultCache {
+    
+    static {
+        ShardingSphereServiceLoader.register(QueryResultCacheInvalidationPublisher.class);
+    }
+    
+    private final String schemaName;
+    
+    private final Cache<CacheKey, CacheEntry> cache;
+    
+    private final Collection<QueryResultCacheInvalidationPublisher> publishers = ShardingSphereServiceLoader.newServiceInstances(QueryResultCacheInvalidationPublisher.class);
+    
+    private final AtomicLong version = new AtomicLong();
+    
+    public QueryResultCache(final String schemaName, final ConfigurationProperties props) {
+        this.schemaName = schemaName;
+        long maxSize = props.<Long>getValue(ConfigurationPropertyKey.QUERY_RESULT_CACHE_MAX_SIZE);
+        cache = maxSize > 0
+                ? CacheBuilder.newBuilder().maximumSize(maxSize).expireAfterWrite(props.<Long>getValue(ConfigurationPropertyKey.QUERY_RESULT_CACHE_TTL), TimeUnit.MILLISECONDS).build() : null;
+    }
+    
+    /**
+     * Judge whether query results of tables are cacheable.
+     *
+     * @param tableNames logic table names
+     * @param rules ShardingSphere rules
+     * @return query results of tables are cacheable or not
+     */
+    public boolean isCacheable(final Collection<String> tableNames, final Collection<ShardingSphereRule> rules) {
+        return null != cache && !tableNames.isEmpty() && tableNames.stream().allMatch(each -> isResultCacheable(each, rules));
+    }
+    
+    private boolean isResultCacheable(final String tableName, final Collection<ShardingSphereRule> rules) {
+        return rules.stream().anyMatch(each -> each instanceof ResultCacheableRule && ((ResultCacheableRule) each).isResultCacheable(tableName));
+    }
+    
+    /**
+     * Get version of query result cache, which is increased by every invalidation.
+     * 
+     * <p>
+     * Version should be got before executing query, query results loaded by query started before invalidation are not cached.
+     * </p>
+     *
+     * @return version of query result cache
+     */
+    public long getVersion() {
+        return version.get();
+    }
+    
+    /**
+     * Get cached query results.
+     *
+     * @param executionUnits execution units
+     * @return replayed query results
+     */
+    public Optional<Collection<ExecuteResult>> get(final Collection<ExecutionUnit> executionUnits) {
+        if (null == cache) {
+            return Optional.empty();
+        }
+        CacheEntry entry = cache.getIfPresent(new CacheKey(executionUnits));
+        return null == entry ? Optional.empty() : Optional.of(replay(entry.executeResults));
+    }
+    
+    /**
+     * Load query results and put into cache.
+     *
+     * @param executionUnits execution units
+     * @param tableNames logic table names
+     * @param executeResults execute query results to be loaded
+     * @param version version of query result cache got before executing query
+     * @return replayed query results
+     * @throws SQLException SQL exception
+     */
+    public Collection<ExecuteResult> put(final Collection<ExecutionUnit> executionUnits, final Collection<String> tableNames,
+                                         final Collection<ExecuteResult> executeResults, final long version) throws SQLException {
+        List<ExecuteQueryResult> loadedResults = new ArrayList<>(executeResults.size());
+        boolean replayable = true;
+        for (ExecuteResult each : executeResults) {
+            CachedQueryResult queryResult = CachedQueryResult.load(((ExecuteQueryResult) each).getQueryResult());
+            replayable = replayable && queryResult.isReplayable();
+            loadedResults.add(new ExecuteQueryResult(((ExecuteQueryResult) each).getQueryHeaders(), queryResult));
+        }
+        if (replayable && null != cache && version == this.version.get()) {
+            CacheKey key = new CacheKey(executionUnits);
+            cache.put(key, new CacheEntry(toLowerCase(tableNames), loadedResults));
+            if (version != this.version.get()) {
+                cache.invalidate(key);
+            }
+        }
+        return replay(loadedResults);
+    }
+    
+    private Collection<ExecuteResult> replay(final Collection<ExecuteQueryResult> executeResults) {
+        Collection<ExecuteResult> result = new ArrayList<>(executeResults.size());
+        for (ExecuteQueryResult each : executeResults) {
+            result.add(new ExecuteQueryResult(each.getQueryHeaders(), ((CachedQueryResult) each.getQueryResult()).replay()));
+        }
+        return result;
+    }
+    
+    /**
+     * Invalidate query results of cacheable tables modified by SQL statement.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param rules ShardingSphere rules
+     * @return invalidated logic table names
+     */
+    public Collection<String> invalidate(final SQLStatementContext<?> sqlStatementContext, final Collection<ShardingSphereRule> rules) {
+        if (null == cache || null == sqlStatementContext || !isModified(sqlStatementContext.getSqlStatement())) {
+            return Collections.emptyList();
+        }
+        Collection<String> result = sqlStatementContext.getTablesContext().getTableNames().stream().filter(each -> isResultCacheable(each, rules)).collect(Collectors.toList());
+        if (!result.isEmpty()) {
+            invalidate(result);
+        }
+        return result;
+    }
+    
+    private boolean isModified(final SQLStatement sqlStatement) {
+        return sqlStatement instanceof DDLStatement || sqlStatement instanceof DMLStatement && !(sqlStatement instanceof SelectStatement);
+    }
+    
+    /**
+     * Invalidate query results of tables and publish invalidation.
+     *
+     * @param tableNames logic table names
+     */
+    public void invalidate(final Collection<String> tableNames) {
+        if (null == cache || tableNames.isEmpty()) {
+            return;
+        }
+        evict(tableNames);
+        for (QueryResultCacheInvalidationPublisher each : publishers) {
+            each.publish(schemaName, tableNames);
+        }
+    }
+    
+    /**
+     * Evict query results of tables from local cache only.
+     *
+     * @param tableNames logic table names
+     */
+    public void evict(final Collection<String> tableNames) {
+        if (null == cache) {
+            return;
+        }
+        version.incrementAndGet();
+        Collection<String> evictedTableNames = toLowerCase(tableNames);
+        cache.asMap().values().removeIf(each -> each.tableNames.stream().anyMatch(evictedTableNames::contains));
+    }
+    
+    private Collection<String> toLowerCase(final Collection<String> tableNames) {
+        return tableNames.stream().map(String::toLowerCase).collect(Collectors.toSet());
+    }
+    
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final List<Object> units;
+        
+        private CacheKey(final Collection<ExecutionUnit> executionUnits) {
+            units = new ArrayList<>(executionUnits.size() * 3);
+            for (ExecutionUnit each : executionUnits) {
+                units.add(each.getDataSourceName());
+                units.add(each.getSqlUnit().getSql());
+                units.add(new ArrayList<>(each.getSqlUnit().getParameters()));
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CacheEntry {
+        
+        private final Collection<String> tableNames;
+        
+        private final Collection<ExecuteQueryResult> executeResults;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.circuit;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+
+/**
+ * Circuit breaker configuration.
+ */
+@RequiredArgsConstructor
+@Getter
+@EqualsAndHashCode
+public final class CircuitBreakerConfiguration {
+    
+    private final boolean enabled;
+    
+    private final int failureRateThreshold;
+    
+    private final long slowCallThresholdMillis;
+    
+    private final long openDurationMillis;
+    
+    public CircuitBreakerConfiguration(final ConfigurationProperties props) {
+        this(props.<Boolean>getValue(ConfigurationPropertyKey.CIRCUIT_BREAKER_ENABLED), props.<Integer>getValue(ConfigurationPropertyKey.CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD),
+                props.<Long>getValue(ConfigurationPropertyKey.CIRCUIT_BREAKER_SLOW_CALL_THRESHOLD), props.<Long>getValue(ConfigurationPropertyKey.CIRCUIT_BREAKER_OPEN_DURATION));
+    }
+}
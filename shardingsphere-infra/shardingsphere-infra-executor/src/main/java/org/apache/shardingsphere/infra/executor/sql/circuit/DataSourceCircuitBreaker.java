@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.circuit;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Circuit breaker of actual data source.
+ * 
+ * <p>
+ * Failure rate is calculated by the outcomes of recent calls, slow calls are counted as failure.
+ * Circuit breaker opens when failure rate reaches threshold, and calls fail fast until open duration elapsed.
+ * Then some trial calls are permitted in half open state, circuit breaker closes if all of them succeed, otherwise opens again.
+ * </p>
+ */
+@Slf4j
+public final class DataSourceCircuitBreaker {
+    
+    private static final int SLIDING_WINDOW_SIZE = 100;
+    
+    private static final int MINIMUM_CALLS = 20;
+    
+    private static final int HALF_OPEN_PERMITTED_CALLS = 3;
+    
+    private static final String CONNECTION_EXCEPTION_SQL_STATE_PREFIX = "08";
+    
+    @Getter
+    private final String dataSourceName;
+    
+    private final int failureRateThreshold;
+    
+    private final long slowCallThresholdNanos;
+    
+    private final long openDurationNanos;
+    
+    private final boolean[] outcomes = new boolean[SLIDING_WINDOW_SIZE];
+    
+    private int callCount;
+    
+    private int failureCount;
+    
+    private int cursor;
+    
+    @Getter
+    private volatile CircuitBreakerState state = CircuitBreakerState.CLOSED;
+    
+    private long stateChangedTime;
+    
+    private int halfOpenPermittedCount;
+    
+    private int halfOpenSucceededCount;
+    
+    private final AtomicLong rejectedCount = new AtomicLong();
+    
+    public DataSourceCircuitBreaker(final String dataSourceName, final CircuitBreakerConfiguration configuration) {
+        this.dataSourceName = dataSourceName;
+        failureRateThreshold = configuration.getFailureRateThreshold();
+        slowCallThresholdNanos = TimeUnit.MILLISECONDS.toNanos(configuration.getSlowCallThresholdMillis());
+        openDurationNanos = TimeUnit.MILLISECONDS.toNanos(configuration.getOpenDurationMillis());
+    }
+    
+    /**
+     * Try to acquire permission to call data source.
+     * 
+     * @return permitted or not
+     */
+    public boolean tryAcquirePermission() {
+        if (CircuitBreakerState.CLOSED == state) {
+            return true;
+        }
+        boolean result = tryAcquirePermissionWhenNotClosed();
+        if (!result) {
+            rejectedCount.incrementAndGet();
+        }
+        return result;
+    }
+    
+    private synchronized boolean tryAcquirePermissionWhenNotClosed() {
+        long elapsedTime = System.nanoTime() - stateChangedTime;
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (elapsedTime < openDurationNanos) {
+                    return false;
+                }
+                transitionTo(CircuitBreakerState.HALF_OPEN);
+                break;
+            default:
+                if (halfOpenPermittedCount >= HALF_OPEN_PERMITTED_CALLS && elapsedTime >= openDurationNanos) {
+                    transitionTo(CircuitBreakerState.HALF_OPEN);
+                }
+                break;
+        }
+        if (halfOpenPermittedCount >= HALF_OPEN_PERMITTED_CALLS) {
+            return false;
+        }
+        halfOpenPermittedCount++;
+        return true;
+    }
+    
+    /**
+     * Record success call.
+     * 
+     * @param durationNanos duration of call in nanoseconds
+     */
+    public void onSuccess(final long durationNanos) {
+        record(slowCallThresholdNanos > 0 && durationNanos >= slowCallThresholdNanos);
+    }
+    
+    /**
+     * Record failure call.
+     * 
+     * <p>Only failures of data source itself are counted, such as connection or timeout failure, other failures mean data source answered.</p>
+     * 
+     * @param cause failure cause
+     * @param durationNanos duration of call in nanoseconds
+     */
+    public void onFailure(final SQLException cause, final long durationNanos) {
+        if (isDataSourceFailure(cause)) {
+            record(true);
+        } else {
+            onSuccess(durationNanos);
+        }
+    }
+    
+    private boolean isDataSourceFailure(final SQLException cause) {
+        if (cause instanceof SQLTransientConnectionException || cause instanceof SQLNonTransientConnectionException || cause instanceof SQLRecoverableException || cause instanceof SQLTimeoutException) {
+            return true;
+        }
+        return null != cause.getSQLState() && cause.getSQLState().startsWith(CONNECTION_EXCEPTION_SQL_STATE_PREFIX);
+    }
+    
+    private synchronized void record(final boolean isFailure) {
+        switch (state) {
+            case CLOSED:
+                recordWhenClosed(isFailure);
+                break;
+            case HALF_OPEN:
+                recordWhenHalfOpen(isFailure);
+                break;
+            default:
+                break;
+        }
+    }
+    
+    private void recordWhenClosed(final boolean isFailure) {
+        if (callCount == SLIDING_WINDOW_SIZE) {
+            if (outcomes[cursor]) {
+                failureCount--;
+            }
+        } else {
+            callCount++;
+        }
+        outcomes[cursor] = isFailure;
+        if (isFailure) {
+            failureCount++;
+        }
+        cursor = (cursor + 1) % SLIDING_WINDOW_SIZE;
+        if (callCount >= MINIMUM_CALLS && failureCount * 100 >= failureRateThreshold * callCount) {
+            transitionTo(CircuitBreakerState.OPEN);
+        }
+    }
+    
+    private void recordWhenHalfOpen(final boolean isFailure) {
+        if (isFailure) {
+            transitionTo(CircuitBreakerState.OPEN);
+            return;
+        }
+        halfOpenSucceededCount++;
+        if (halfOpenSucceededCount >= HALF_OPEN_PERMITTED_CALLS) {
+            transitionTo(CircuitBreakerState.CLOSED);
+        }
+    }
+    
+    private void transitionTo(final CircuitBreakerState newState) {
+        if (state != newState) {
+            log.warn("Circuit breaker of data source `{}` changed from {} to {}.", dataSourceName, state, newState);
+        }
+        state = newState;
+        stateChangedTime = System.nanoTime();
+        halfOpenPermittedCount = 0;
+        halfOpenSucceededCount = 0;
+        if (CircuitBreakerState.CLOSED == newState) {
+            callCount = 0;
+            failureCount = 0;
+            cursor = 0;
+        }
+    }
+    
+    /**
+     * Get failure rate of recent calls in percentage.
+     * 
+     * @return failure rate
+     */
+    public synchronized int getFailureRate() {
+        return 0 == callCount ? 0 : failureCount * 100 / callCount;
+    }
+    
+    /**
+     * Get count of rejected calls.
+     * 
+     * @return count of rejected calls
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.circuit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Circuit breaker registry of actual data sources.
+ * 
+ * <p>
+ * Each schema owns its registry by runtime context, so that circuit breakers of same named data sources in different schemas are independent,
+ * and circuit breakers are discarded together with runtime context when schema is removed or renewed.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class DataSourceCircuitBreakerRegistry {
+    
+    @Getter
+    private final String schemaName;
+    
+    private final CircuitBreakerConfiguration configuration;
+    
+    private final Map<String, DataSourceCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    
+    public DataSourceCircuitBreakerRegistry(final String schemaName, final ConfigurationProperties props) {
+        this(schemaName, new CircuitBreakerConfiguration(props));
+    }
+    
+    /**
+     * Find circuit breaker of actual data source.
+     * 
+     * @param dataSourceName actual data source name
+     * @return circuit breaker, empty if circuit breaker is disabled
+     */
+    public Optional<DataSourceCircuitBreaker> find(final String dataSourceName) {
+        if (!configuration.isEnabled()) {
+            return Optional.empty();
+        }
+        return Optional.of(circuitBreakers.computeIfAbsent(dataSourceName, key -> new DataSourceCircuitBreaker(key, configuration)));
+    }
+    
+    /**
+     * Get all circuit breakers.
+     * 
+     * @return circuit breakers
+     */
+    public Collection<DataSourceCircuitBreaker> getCircuitBreakers() {
+        return circuitBreakers.values();
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.infra.executor.sql.group;
 import org.apache.shardingsphere.infra.executor.kernel.InputGroup;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.log.SQLExecutionPhase;
+import org.apache.shardingsphere.infra.executor.sql.log.SlowQueryLogger;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.infra.spi.order.OrderedSPIRegistry;
@@ -51,10 +53,12 @@ public abstract class AbstractExecuteGroupEngine<T> implements ExecuteGroupEngin
     
     @Override
     public final Collection<InputGroup<T>> generate(final Collection<ExecutionUnit> executionUnits) throws SQLException {
+        long startTime = System.nanoTime();
         Collection<InputGroup<T>> result = new LinkedList<>();
         for (Entry<String, List<SQLUnit>> entry : getSQLUnitGroups(executionUnits).entrySet()) {
             result.addAll(generateSQLExecuteGroups(entry.getKey(), entry.getValue()));
         }
+        SlowQueryLogger.recordPhase(SQLExecutionPhase.CONNECTION, startTime);
         return decorate(result);
     }
     
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.log;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.impl.ShardingSphereThreadFactoryBuilder;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slow query log writer.
+ *
+ * <p>
+ *     Lines are appended by single background thread, so SQL executing threads never wait for disk.
+ *     Lines are discarded when too many lines are waiting to be written.
+ *     Log file is rolled over to {@code file.1} ... {@code file.N} when it exceeds max file size.
+ * </p>
+ */
+@Slf4j
+public final class SlowQueryLogWriter implements AutoCloseable {
+    
+    private static final int QUEUE_CAPACITY = 4096;
+    
+    private final File file;
+    
+    private final long maxFileSize;
+    
+    private final int maxBackupIndex;
+    
+    private final ThreadPoolExecutor executorService;
+    
+    private OutputStream outputStream;
+    
+    private long fileSize;
+    
+    public SlowQueryLogWriter(final String fileName, final long maxFileSize, final int maxBackupIndex) {
+        file = new File(fileName);
+        this.maxFileSize = maxFileSize;
+        this.maxBackupIndex = maxBackupIndex;
+        executorService = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                ShardingSphereThreadFactoryBuilder.build("SlowQueryLog-%d"), new ThreadPoolExecutor.DiscardPolicy());
+    }
+    
+    /**
+     * Write line asynchronously.
+     *
+     * @param line line to be written
+     */
+    public void write(final String line) {
+        executorService.execute(() -> append(line));
+    }
+    
+    private void append(final String line) {
+        byte[] bytes = (line + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+        try {
+            if (null == outputStream) {
+                open();
+            }
+            if (fileSize > 0 && fileSize + bytes.length > maxFileSize) {
+                rollOver();
+            }
+            outputStream.write(bytes);
+            fileSize += bytes.length;
+            if (executorService.getQueue().isEmpty()) {
+                outputStream.flush();
+            }
+        } catch (final IOException ex) {
+            log.error("Write slow query log error", ex);
+            closeOutputStream();
+        }
+    }
+    
+    private void open() throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (null != parent && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException(String.format("Can not create directory `%s`", parent));
+        }
+        outputStream = new BufferedOutputStream(new FileOutputStream(file, true));
+        fileSize = file.length();
+    }
+    
+    private void rollOver() throws IOException {
+        closeOutputStream();
+        if (maxBackupIndex > 0) {
+            deleteIfExists(getBackupFile(maxBackupIndex));
+            for (int i = maxBackupIndex - 1; i >= 1; i--) {
+                File backupFile = getBackupFile(i);
+                if (backupFile.exists() && !backupFile.renameTo(getBackupFile(i + 1))) {
+                    throw new IOException(String.format("Can not rename `%s`", backupFile));
+                }
+            }
+            if (!file.renameTo(getBackupFile(1))) {
+                throw new IOException(String.format("Can not rename `%s`", file));
+            }
+        } else {
+            deleteIfExists(file);
+        }
+        open();
+    }
+    
+    private File getBackupFile(final int index) {
+        return new File(file.getPath() + "." + index);
+    }
+    
+    private void deleteIfExists(final File file) throws IOException {
+        if (file.exists() && !file.delete()) {
+            throw new IOException(String.format("Can not delete `%s`", file));
+        }
+    }
+    
+    private void closeOutputStream() {
+        if (null == outputStream) {
+            return;
+        }
+        try {
+            outputStream.close();
+        } catch (final IOException ex) {
+            log.error("Close slow query log error", ex);
+        }
+        outputStream = null;
+    }
+    
+    /**
+     * Close writer after lines waiting to be written are written.
+     */
+    @Override
+    public void close() {
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(5L, TimeUnit.SECONDS)) {
+                executorService.shutdownNow();
+            }
+        } catch (final InterruptedException ex) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        closeOutputStream();
+    }
+}
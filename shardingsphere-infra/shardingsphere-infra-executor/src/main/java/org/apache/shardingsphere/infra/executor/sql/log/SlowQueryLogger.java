@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.log;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorDataMap;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slow query logger.
+ *
+ * <p>
+ *     Trace of sampled logic SQL is kept in executor data map, so executor threads can record duration of shards.
+ *     Logic SQL whose duration exceeds threshold is written into slow query log with duration of each phase,
+ *     count of shards, rows returned and the slowest shard.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SlowQueryLogger {
+    
+    private static final String TRACE_KEY = SlowQueryTrace.class.getName();
+    
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    
+    private static final Map<String, SlowQueryLogWriter> WRITERS = new ConcurrentHashMap<>();
+    
+    /**
+     * Start trace of logic SQL if slow query log is enabled and logic SQL is sampled.
+     *
+     * @param props configuration properties
+     */
+    public static void start(final ConfigurationProperties props) {
+        Map<String, Object> dataMap = ExecutorDataMap.getValue();
+        if (props.<Long>getValue(ConfigurationPropertyKey.SLOW_QUERY_LOG_THRESHOLD) <= 0L || !isSampled(props.<Integer>getValue(ConfigurationPropertyKey.SLOW_QUERY_LOG_SAMPLE_PERCENTAGE))) {
+            dataMap.remove(TRACE_KEY);
+            return;
+        }
+        dataMap.put(TRACE_KEY, new SlowQueryTrace(System.nanoTime()));
+    }
+    
+    private static boolean isSampled(final int samplePercentage) {
+        return samplePercentage >= 100 || ThreadLocalRandom.current().nextInt(100) < samplePercentage;
+    }
+    
+    /**
+     * Set logic SQL of current trace.
+     *
+     * @param schemaName schema name
+     * @param logicSQL logic SQL
+     */
+    public static void setLogicSQL(final String schemaName, final String logicSQL) {
+        SlowQueryTrace trace = getTrace(ExecutorDataMap.getValue());
+        if (null != trace) {
+            trace.setSchemaName(schemaName);
+            trace.setLogicSQL(logicSQL);
+        }
+    }
+    
+    /**
+     * Record duration of phase since start time.
+     *
+     * @param phase SQL execution phase
+     * @param startTime start time in nanoseconds
+     */
+    public static void recordPhase(final SQLExecutionPhase phase, final long startTime) {
+        SlowQueryTrace trace = getTrace(ExecutorDataMap.getValue());
+        if (null != trace) {
+            trace.addPhaseNanos(phase, System.nanoTime() - startTime);
+        }
+    }
+    
+    /**
+     * Record execution of one shard.
+     *
+     * @param dataMap executor data map of trunk thread
+     * @param dataSourceName data source name of shard
+     * @param sql actual SQL of shard
+     * @param startTime start time in nanoseconds
+     */
+    public static void recordShard(final Map<String, Object> dataMap, final String dataSourceName, final String sql, final long startTime) {
+        SlowQueryTrace trace = getTrace(dataMap);
+        if (null != trace) {
+            trace.recordShard(dataSourceName, sql, System.nanoTime() - startTime);
+        }
+    }
+    
+    /**
+     * Record rows returned.
+     *
+     * @param rows rows returned
+     */
+    public static void recordRows(final long rows) {
+        SlowQueryTrace trace = getTrace(ExecutorDataMap.getValue());
+        if (null != trace) {
+            trace.addRows(rows);
+        }
+    }
+    
+    /**
+     * Finish current trace and write slow query log if duration exceeds threshold.
+     *
+     * @param props configuration properties
+     */
+    public static void finish(final ConfigurationProperties props) {
+        SlowQueryTrace trace = (SlowQueryTrace) ExecutorDataMap.getValue().remove(TRACE_KEY);
+        if (null == trace || null == trace.getLogicSQL()) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - trace.getStartTime();
+        if (elapsedNanos < TimeUnit.MILLISECONDS.toNanos(props.<Long>getValue(ConfigurationPropertyKey.SLOW_QUERY_LOG_THRESHOLD))) {
+            return;
+        }
+        String fileName = props.getValue(ConfigurationPropertyKey.SLOW_QUERY_LOG_FILE);
+        WRITERS.computeIfAbsent(fileName, key -> new SlowQueryLogWriter(key, props.<Long>getValue(ConfigurationPropertyKey.SLOW_QUERY_LOG_MAX_FILE_SIZE),
+                props.<Integer>getValue(ConfigurationPropertyKey.SLOW_QUERY_LOG_MAX_BACKUP_INDEX))).write(format(trace, elapsedNanos));
+    }
+    
+    private static SlowQueryTrace getTrace(final Map<String, Object> dataMap) {
+        return null == dataMap ? null : (SlowQueryTrace) dataMap.get(TRACE_KEY);
+    }
+    
+    /**
+     * Format slow query trace into one line.
+     *
+     * @param trace slow query trace
+     * @param elapsedNanos elapsed nanoseconds of logic SQL
+     * @return formatted line
+     */
+    static String format(final SlowQueryTrace trace, final long elapsedNanos) {
+        StringBuilder result = new StringBuilder(256);
+        result.append(LocalDateTime.now().format(DATE_TIME_FORMATTER)).append(" elapsed_ms=").append(toMillis(elapsedNanos))
+                .append(" schema=").append(trace.getSchemaName()).append(" shards=").append(trace.getShardCount()).append(" rows=").append(trace.getRows());
+        for (SQLExecutionPhase each : SQLExecutionPhase.values()) {
+            result.append(' ').append(each.name().toLowerCase(Locale.ENGLISH)).append("_ms=").append(toMillis(trace.getPhaseNanos(each)));
+        }
+        if (null != trace.getSlowestShardDataSourceName()) {
+            result.append(" slowest_shard=").append(trace.getSlowestShardDataSourceName()).append(" slowest_shard_ms=").append(toMillis(trace.getSlowestShardNanos()))
+                    .append(" slowest_shard_sql=").append(toSingleLine(trace.getSlowestShardSQL()));
+        }
+        return result.append(" logic_sql=").append(toSingleLine(trace.getLogicSQL())).toString();
+    }
+    
+    private static String toMillis(final long nanos) {
+        return String.format(Locale.ENGLISH, "%.3f", nanos / 1000000D);
+    }
+    
+    private static String toSingleLine(final String sql) {
+        return sql.replaceAll("\\s*[\\r\\n]+\\s*", " ");
+    }
+}
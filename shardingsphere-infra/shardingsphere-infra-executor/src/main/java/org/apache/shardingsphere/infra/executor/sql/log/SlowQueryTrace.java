@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.log;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Slow query trace, which records duration of each phase and shards of one logic SQL.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class SlowQueryTrace {
+    
+    private final long startTime;
+    
+    @Getter(AccessLevel.NONE)
+    private final long[] phaseNanos = new long[SQLExecutionPhase.values().length];
+    
+    @Setter
+    private String schemaName;
+    
+    @Setter
+    private String logicSQL;
+    
+    private long rows;
+    
+    private int shardCount;
+    
+    private String slowestShardDataSourceName;
+    
+    private String slowestShardSQL;
+    
+    private long slowestShardNanos = -1L;
+    
+    /**
+     * Add duration of phase.
+     *
+     * @param phase SQL execution phase
+     * @param nanos duration nanoseconds
+     */
+    public void addPhaseNanos(final SQLExecutionPhase phase, final long nanos) {
+        phaseNanos[phase.ordinal()] += nanos;
+    }
+    
+    /**
+     * Get duration of phase.
+     *
+     * @param phase SQL execution phase
+     * @return duration nanoseconds
+     */
+    public long getPhaseNanos(final SQLExecutionPhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+    
+    /**
+     * Add rows returned.
+     *
+     * @param rows rows returned
+     */
+    public void addRows(final long rows) {
+        this.rows += rows;
+    }
+    
+    /**
+     * Record execution of one shard, which may be called by multiple executor threads.
+     *
+     * @param dataSourceName data source name of shard
+     * @param sql actual SQL of shard
+     * @param nanos duration nanoseconds
+     */
+    public synchronized void recordShard(final String dataSourceName, final String sql, final long nanos) {
+        shardCount++;
+        if (nanos > slowestShardNanos) {
+            slowestShardDataSourceName = dataSourceName;
+            slowestShardSQL = sql;
+            slowestShardNanos = nanos;
+        }
+    }
+}
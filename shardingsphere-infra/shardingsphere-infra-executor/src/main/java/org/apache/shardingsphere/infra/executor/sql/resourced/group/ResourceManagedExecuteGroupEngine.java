@@ -20,6 +20,9 @@ package org.apache.shardingsphere.infra.executor.sql.resourced.group;
 import com.google.common.collect.Lists;
 import org.apache.shardingsphere.infra.executor.kernel.InputGroup;
 import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.circuit.CircuitBreakerOpenException;
+import org.apache.shardingsphere.infra.executor.sql.circuit.DataSourceCircuitBreaker;
+import org.apache.shardingsphere.infra.executor.sql.circuit.DataSourceCircuitBreakerRegistry;
 import org.apache.shardingsphere.infra.executor.sql.group.AbstractExecuteGroupEngine;
 import org.apache.shardingsphere.infra.executor.sql.resourced.ExecutionConnection;
 import org.apache.shardingsphere.infra.executor.sql.resourced.ResourceManagedExecuteUnit;
@@ -50,11 +53,15 @@ public abstract class ResourceManagedExecuteGroupEngine
     
     private final O option;
     
-    protected ResourceManagedExecuteGroupEngine(final int maxConnectionsSizePerQuery, final E executionConnection, final O option, final Collection<ShardingSphereRule> rules) {
+    private final DataSourceCircuitBreakerRegistry circuitBreakerRegistry;
+    
+    protected ResourceManagedExecuteGroupEngine(final int maxConnectionsSizePerQuery, final E executionConnection, final O option, 
+                                                final DataSourceCircuitBreakerRegistry circuitBreakerRegistry, final Collection<ShardingSphereRule> rules) {
         super(rules);
         this.maxConnectionsSizePerQuery = maxConnectionsSizePerQuery;
         this.executionConnection = executionConnection;
         this.option = option;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
     }
     
     @Override
@@ -63,22 +70,40 @@ public abstract class ResourceManagedExecuteGroupEngine
         int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSizePerQuery ? sqlUnits.size() / maxConnectionsSizePerQuery : sqlUnits.size() / maxConnectionsSizePerQuery + 1, 1);
         List<List<SQLUnit>> sqlUnitPartitions = Lists.partition(sqlUnits, desiredPartitionSize);
         ConnectionMode connectionMode = maxConnectionsSizePerQuery < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
-        List<C> connections = executionConnection.getConnections(dataSourceName, sqlUnitPartitions.size(), connectionMode);
+        DataSourceCircuitBreaker circuitBreaker = circuitBreakerRegistry.find(dataSourceName).orElse(null);
+        List<C> connections = getConnections(dataSourceName, sqlUnitPartitions.size(), connectionMode, circuitBreaker);
         int count = 0;
         for (List<SQLUnit> each : sqlUnitPartitions) {
-            result.add(generateSQLExecuteGroup(dataSourceName, each, connections.get(count++), connectionMode));
+            result.add(generateSQLExecuteGroup(dataSourceName, each, connections.get(count++), connectionMode, circuitBreaker));
         }
         return result;
     }
     
+    private List<C> getConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode, final DataSourceCircuitBreaker circuitBreaker) throws SQLException {
+        if (null == circuitBreaker) {
+            return executionConnection.getConnections(dataSourceName, connectionSize, connectionMode);
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new CircuitBreakerOpenException(dataSourceName);
+        }
+        long startTime = System.nanoTime();
+        try {
+            return executionConnection.getConnections(dataSourceName, connectionSize, connectionMode);
+        } catch (final SQLException ex) {
+            circuitBreaker.onFailure(ex, System.nanoTime() - startTime);
+            throw ex;
+        }
+    }
+    
     private InputGroup<U> generateSQLExecuteGroup(final String dataSourceName, final List<SQLUnit> sqlUnitGroup, 
-                                                  final C connection, final ConnectionMode connectionMode) throws SQLException {
+                                                  final C connection, final ConnectionMode connectionMode, final DataSourceCircuitBreaker circuitBreaker) throws SQLException {
         List<U> result = new LinkedList<>();
         for (SQLUnit each : sqlUnitGroup) {
-            result.add(createStorageResourceExecuteUnit(new ExecutionUnit(dataSourceName, each), executionConnection, connection, connectionMode, option));
+            result.add(createStorageResourceExecuteUnit(new ExecutionUnit(dataSourceName, each), executionConnection, connection, connectionMode, option, circuitBreaker));
         }
         return new InputGroup<>(result);
     }
     
-    protected abstract U createStorageResourceExecuteUnit(ExecutionUnit executionUnit, E executionConnection, C connection, ConnectionMode connectionMode, O option) throws SQLException;
+    protected abstract U createStorageResourceExecuteUnit(ExecutionUnit executionUnit, E executionConnection, C connection, ConnectionMode connectionMode, O option,
+                                                          DataSourceCircuitBreaker circuitBreaker) throws SQLException;
 }
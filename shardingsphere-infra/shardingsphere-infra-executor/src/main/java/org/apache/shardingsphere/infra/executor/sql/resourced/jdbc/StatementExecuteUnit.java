@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.executor.sql.resourced.jdbc;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.circuit.DataSourceCircuitBreaker;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.resourced.ResourceManagedExecuteUnit;
 import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
@@ -37,4 +38,10 @@ public final class StatementExecuteUnit implements ResourceManagedExecuteUnit<St
     private final ConnectionMode connectionMode;
     
     private final Statement storageResource;
+    
+    private final DataSourceCircuitBreaker circuitBreaker;
+    
+    public StatementExecuteUnit(final ExecutionUnit executionUnit, final ConnectionMode connectionMode, final Statement storageResource) {
+        this(executionUnit, connectionMode, storageResource, null);
+    }
 }
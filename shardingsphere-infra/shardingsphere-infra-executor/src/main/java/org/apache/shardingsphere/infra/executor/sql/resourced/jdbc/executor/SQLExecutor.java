@@ -20,12 +20,18 @@ package org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.executor;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorKernel;
 import org.apache.shardingsphere.infra.executor.kernel.InputGroup;
+import org.apache.shardingsphere.infra.executor.kernel.deadline.ExecutionDeadline;
+import org.apache.shardingsphere.infra.executor.kernel.deadline.ExecutionDeadlineHolder;
+import org.apache.shardingsphere.infra.executor.sql.log.SQLExecutionPhase;
+import org.apache.shardingsphere.infra.executor.sql.log.SlowQueryLogger;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.StatementExecuteUnit;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * SQL executor.
@@ -62,11 +68,29 @@ public final class SQLExecutor {
      */
     @SuppressWarnings("unchecked")
     public <T> List<T> execute(final Collection<InputGroup<StatementExecuteUnit>> inputGroups, final SQLExecutorCallback<T> firstCallback, final SQLExecutorCallback<T> callback) throws SQLException {
+        long startTime = System.nanoTime();
         try {
+            registerDeadline(inputGroups);
             return executorKernel.execute((Collection) inputGroups, firstCallback, callback, serial);
+        } catch (final SQLTimeoutException ex) {
+            throw ex;
         } catch (final SQLException ex) {
             ExecutorExceptionHandler.handleException(ex);
             return Collections.emptyList();
+        } finally {
+            SlowQueryLogger.recordPhase(SQLExecutionPhase.EXECUTE, startTime);
+        }
+    }
+    
+    private void registerDeadline(final Collection<InputGroup<StatementExecuteUnit>> inputGroups) {
+        Optional<ExecutionDeadline> deadline = ExecutionDeadlineHolder.get();
+        if (!deadline.isPresent()) {
+            return;
+        }
+        for (InputGroup<StatementExecuteUnit> each : inputGroups) {
+            for (StatementExecuteUnit executeUnit : each.getInputs()) {
+                deadline.get().register(executeUnit.getStorageResource());
+            }
         }
     }
 }
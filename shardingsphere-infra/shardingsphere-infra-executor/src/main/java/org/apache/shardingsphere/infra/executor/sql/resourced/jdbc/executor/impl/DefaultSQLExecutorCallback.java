@@ -21,12 +21,14 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.circuit.DataSourceCircuitBreaker;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.StatementExecuteUnit;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.executor.ExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.executor.SQLExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.hook.SPISQLExecutionHook;
 import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.log.SlowQueryLogger;
 
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
@@ -34,6 +36,7 @@ import java.sql.Statement;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -69,14 +72,19 @@ public abstract class DefaultSQLExecutorCallback<T> implements SQLExecutorCallba
         ExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
         DataSourceMetaData dataSourceMetaData = getDataSourceMetaData(statementExecuteUnit.getStorageResource().getConnection().getMetaData());
         SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
+        ExecutionUnit executionUnit = statementExecuteUnit.getExecutionUnit();
+        Optional<DataSourceCircuitBreaker> circuitBreaker = Optional.ofNullable(statementExecuteUnit.getCircuitBreaker());
+        long startTime = System.nanoTime();
         try {
-            ExecutionUnit executionUnit = statementExecuteUnit.getExecutionUnit();
             sqlExecutionHook.start(executionUnit.getDataSourceName(), executionUnit.getSqlUnit().getSql(), executionUnit.getSqlUnit().getParameters(), dataSourceMetaData, isTrunkThread, dataMap);
-            T result = executeSQL(executionUnit.getSqlUnit().getSql(), statementExecuteUnit.getStorageResource(), statementExecuteUnit.getConnectionMode());
+            T result = executeSQL(executionUnit, statementExecuteUnit.getStorageResource(), statementExecuteUnit.getConnectionMode());
             sqlExecutionHook.finishSuccess();
+            SlowQueryLogger.recordShard(dataMap, executionUnit.getDataSourceName(), executionUnit.getSqlUnit().getSql(), startTime);
+            circuitBreaker.ifPresent(dataSourceCircuitBreaker -> dataSourceCircuitBreaker.onSuccess(System.nanoTime() - startTime));
             return result;
         } catch (final SQLException ex) {
             sqlExecutionHook.finishFailure(ex);
+            circuitBreaker.ifPresent(dataSourceCircuitBreaker -> dataSourceCircuitBreaker.onFailure(ex, System.nanoTime() - startTime));
             ExecutorExceptionHandler.handleException(ex);
             return null;
         }
@@ -92,5 +100,20 @@ public abstract class DefaultSQLExecutorCallback<T> implements SQLExecutorCallba
         return result;
     }
     
+    /**
+     * Execute SQL of execution unit.
+     * 
+     * <p>Override it if execution needs to know the data source or parameters of execution unit.</p>
+     * 
+     * @param executionUnit execution unit
+     * @param statement statement
+     * @param connectionMode connection mode
+     * @return execute result
+     * @throws SQLException SQL exception
+     */
+    protected T executeSQL(final ExecutionUnit executionUnit, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
+        return executeSQL(executionUnit.getSqlUnit().getSql(), statement, connectionMode);
+    }
+    
     protected abstract T executeSQL(String sql, Statement statement, ConnectionMode connectionMode) throws SQLException;
 }
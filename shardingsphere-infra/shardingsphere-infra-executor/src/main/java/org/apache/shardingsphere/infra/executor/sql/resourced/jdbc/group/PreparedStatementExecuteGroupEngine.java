@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.group;
 
 import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.circuit.DataSourceCircuitBreaker;
+import org.apache.shardingsphere.infra.executor.sql.circuit.DataSourceCircuitBreakerRegistry;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.StatementExecuteUnit;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.connection.JDBCExecutionConnection;
@@ -36,16 +38,17 @@ import java.util.List;
 public final class PreparedStatementExecuteGroupEngine extends ResourceManagedExecuteGroupEngine<StatementExecuteUnit, JDBCExecutionConnection, Connection, StatementOption> {
     
     public PreparedStatementExecuteGroupEngine(final int maxConnectionsSizePerQuery,
-                                               final JDBCExecutionConnection executionConnection, final StatementOption option, final Collection<ShardingSphereRule> rules) {
-        super(maxConnectionsSizePerQuery, executionConnection, option, rules);
+                                               final JDBCExecutionConnection executionConnection, final StatementOption option, 
+                                               final DataSourceCircuitBreakerRegistry circuitBreakerRegistry, final Collection<ShardingSphereRule> rules) {
+        super(maxConnectionsSizePerQuery, executionConnection, option, circuitBreakerRegistry, rules);
     }
     
     @Override
     protected StatementExecuteUnit createStorageResourceExecuteUnit(final ExecutionUnit executionUnit, final JDBCExecutionConnection executionConnection, final Connection connection, 
-                                                                    final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
+                                                                    final ConnectionMode connectionMode, final StatementOption option, final DataSourceCircuitBreaker circuitBreaker) throws SQLException {
         PreparedStatement preparedStatement = createPreparedStatement(
                 executionUnit.getSqlUnit().getSql(), executionUnit.getSqlUnit().getParameters(), executionConnection, connection, connectionMode, option);
-        return new StatementExecuteUnit(executionUnit, connectionMode, preparedStatement);
+        return new StatementExecuteUnit(executionUnit, connectionMode, preparedStatement, circuitBreaker);
     }
     
     private PreparedStatement createPreparedStatement(final String sql, final List<Object> parameters, final JDBCExecutionConnection executionConnection, final Connection connection,
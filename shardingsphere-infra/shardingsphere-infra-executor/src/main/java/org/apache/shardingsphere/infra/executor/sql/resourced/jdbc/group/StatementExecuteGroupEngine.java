@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.group;
 
 import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.circuit.DataSourceCircuitBreaker;
+import org.apache.shardingsphere.infra.executor.sql.circuit.DataSourceCircuitBreakerRegistry;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.StatementExecuteUnit;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.connection.JDBCExecutionConnection;
@@ -35,14 +37,15 @@ import java.util.Collection;
 public final class StatementExecuteGroupEngine extends ResourceManagedExecuteGroupEngine<StatementExecuteUnit, JDBCExecutionConnection, Connection, StatementOption> {
     
     public StatementExecuteGroupEngine(final int maxConnectionsSizePerQuery, 
-                                       final JDBCExecutionConnection executionConnection, final StatementOption option, final Collection<ShardingSphereRule> rules) {
-        super(maxConnectionsSizePerQuery, executionConnection, option, rules);
+                                       final JDBCExecutionConnection executionConnection, final StatementOption option, 
+                                       final DataSourceCircuitBreakerRegistry circuitBreakerRegistry, final Collection<ShardingSphereRule> rules) {
+        super(maxConnectionsSizePerQuery, executionConnection, option, circuitBreakerRegistry, rules);
     }
     
     @Override
     protected StatementExecuteUnit createStorageResourceExecuteUnit(final ExecutionUnit executionUnit, final JDBCExecutionConnection executionConnection, final Connection connection, 
-                                                                    final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
-        return new StatementExecuteUnit(executionUnit, connectionMode, createStatement(executionConnection, connection, connectionMode, option));
+                                                                    final ConnectionMode connectionMode, final StatementOption option, final DataSourceCircuitBreaker circuitBreaker) throws SQLException {
+        return new StatementExecuteUnit(executionUnit, connectionMode, createStatement(executionConnection, connection, connectionMode, option), circuitBreaker);
     }
     
     private Statement createStatement(final JDBCExecutionConnection executionConnection, final Connection connection,
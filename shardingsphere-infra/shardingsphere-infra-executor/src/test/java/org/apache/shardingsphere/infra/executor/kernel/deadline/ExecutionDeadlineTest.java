@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.deadline;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+public final class ExecutionDeadlineTest {
+    
+    @Test
+    public void assertUnboundedNotExpired() throws SQLTimeoutException {
+        ExecutionDeadline deadline = ExecutionDeadline.ofSeconds(0L);
+        assertFalse(deadline.isBounded());
+        assertFalse(deadline.isExpired());
+        deadline.check();
+    }
+    
+    @Test(expected = SQLTimeoutException.class)
+    public void assertCheckAfterCancel() throws SQLException {
+        ExecutionDeadline deadline = ExecutionDeadline.unbounded();
+        Statement statement = mock(Statement.class);
+        deadline.register(statement);
+        deadline.cancel();
+        assertTrue(deadline.isExpired());
+        verify(statement).cancel();
+        deadline.check();
+    }
+    
+    @Test
+    public void assertRegisterAfterCancel() throws SQLException {
+        ExecutionDeadline deadline = ExecutionDeadline.unbounded();
+        deadline.cancel();
+        Statement statement = mock(Statement.class);
+        deadline.register(statement);
+        verify(statement).cancel();
+    }
+    
+    @Test
+    public void assertCancelWhenTimeout() throws SQLException {
+        ExecutionDeadline deadline = ExecutionDeadline.ofMillis(10L);
+        assertTrue(deadline.isBounded());
+        Statement statement = mock(Statement.class);
+        deadline.register(statement);
+        verify(statement, timeout(1000L)).cancel();
+        assertTrue(deadline.isExpired());
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.cache;
+
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.query.ExecuteQueryResult;
+import org.apache.shardingsphere.infra.rule.ResultCacheableRule;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.sql.parser.binder.segment.table.TablesContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.value.identifier.IdentifierValue;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class QueryResultCacheTest {
+    
+    private final Collection<ExecutionUnit> executionUnits = Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit("SELECT * FROM t_dict", Collections.emptyList())));
+    
+    private final Collection<ShardingSphereRule> rules = Collections.singletonList(mock(ResultCacheableRule.class));
+    
+    private QueryResultCache queryResultCache;
+    
+    @Before
+    public void setUp() {
+        when(((ResultCacheableRule) rules.iterator().next()).isResultCacheable("t_dict")).thenReturn(true);
+        queryResultCache = new QueryResultCache("logic_db", createProperties("100"));
+    }
+    
+    private ConfigurationProperties createProperties(final String maxSize) {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.QUERY_RESULT_CACHE_MAX_SIZE.getKey(), maxSize);
+        return new ConfigurationProperties(props);
+    }
+    
+    @Test
+    public void assertIsCacheable() {
+        assertTrue(queryResultCache.isCacheable(Collections.singletonList("t_dict"), rules));
+        assertFalse(queryResultCache.isCacheable(Collections.singletonList("t_order"), rules));
+    }
+    
+    @Test
+    public void assertIsNotCacheableWhenDisabled() {
+        QueryResultCache disabledCache = new QueryResultCache("logic_db", createProperties("0"));
+        assertFalse(disabledCache.isCacheable(Collections.singletonList("t_dict"), rules));
+        assertFalse(disabledCache.get(executionUnits).isPresent());
+    }
+    
+    @Test
+    public void assertPutAndGet() throws SQLException {
+        Collection<ExecuteResult> actual = queryResultCache.put(executionUnits, Collections.singletonList("t_dict"), createExecuteResults(), queryResultCache.getVersion());
+        assertQueryResult(actual);
+        Optional<Collection<ExecuteResult>> cached = queryResultCache.get(executionUnits);
+        assertTrue(cached.isPresent());
+        assertQueryResult(cached.get());
+        assertQueryResult(queryResultCache.get(executionUnits).get());
+    }
+    
+    @Test
+    public void assertPutWithStaleVersion() throws SQLException {
+        long version = queryResultCache.getVersion();
+        queryResultCache.evict(Collections.singletonList("t_dict"));
+        assertQueryResult(queryResultCache.put(executionUnits, Collections.singletonList("t_dict"), createExecuteResults(), version));
+        assertFalse(queryResultCache.get(executionUnits).isPresent());
+    }
+    
+    @Test
+    public void assertInvalidateWithInsertStatement() throws SQLException {
+        queryResultCache.put(executionUnits, Collections.singletonList("t_dict"), createExecuteResults(), queryResultCache.getVersion());
+        assertThat(queryResultCache.invalidate(createSQLStatementContext(new InsertStatement()), rules), is(Collections.singletonList("t_dict")));
+        assertFalse(queryResultCache.get(executionUnits).isPresent());
+    }
+    
+    @Test
+    public void assertNotInvalidateWithSelectStatement() throws SQLException {
+        queryResultCache.put(executionUnits, Collections.singletonList("t_dict"), createExecuteResults(), queryResultCache.getVersion());
+        assertTrue(queryResultCache.invalidate(createSQLStatementContext(new SelectStatement()), rules).isEmpty());
+        assertTrue(queryResultCache.get(executionUnits).isPresent());
+    }
+    
+    private Collection<ExecuteResult> createExecuteResults() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getColumnCount()).thenReturn(1);
+        when(queryResult.getColumnName(1)).thenReturn("name");
+        when(queryResult.getColumnLabel(1)).thenReturn("name");
+        when(queryResult.next()).thenReturn(true, false);
+        when(queryResult.getValue(1, Object.class)).thenReturn("foo");
+        return Collections.singletonList(new ExecuteQueryResult(Collections.emptyList(), queryResult));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private SQLStatementContext<?> createSQLStatementContext(final SQLStatement sqlStatement) {
+        SQLStatementContext<SQLStatement> result = mock(SQLStatementContext.class);
+        when(result.getSqlStatement()).thenReturn(sqlStatement);
+        when(result.getTablesContext()).thenReturn(new TablesContext(new SimpleTableSegment(0, 0, new IdentifierValue("t_dict"))));
+        return result;
+    }
+    
+    private void assertQueryResult(final Collection<ExecuteResult> actual) throws SQLException {
+        assertThat(actual.size(), is(1));
+        QueryResult queryResult = ((ExecuteQueryResult) actual.iterator().next()).getQueryResult();
+        assertThat(queryResult.getColumnLabel(1), is("name"));
+        assertTrue(queryResult.next());
+        assertThat(queryResult.getValue(1, Object.class), is("foo"));
+        assertFalse(queryResult.next());
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.circuit;
+
+import org.junit.Test;
+
+import java.sql.SQLTransientConnectionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DataSourceCircuitBreakerRegistryTest {
+    
+    private final CircuitBreakerConfiguration configuration = new CircuitBreakerConfiguration(true, 50, 0L, 60000L);
+    
+    @Test
+    public void assertFindWhenDisabled() {
+        assertFalse(new DataSourceCircuitBreakerRegistry("logic_db", new CircuitBreakerConfiguration(false, 50, 0L, 60000L)).find("ds_0").isPresent());
+    }
+    
+    @Test
+    public void assertFindSameCircuitBreakerOfSameDataSource() {
+        DataSourceCircuitBreakerRegistry registry = new DataSourceCircuitBreakerRegistry("logic_db", configuration);
+        assertThat(registry.find("ds_0").get(), sameInstance(registry.find("ds_0").get()));
+        assertThat(registry.getCircuitBreakers().size(), is(1));
+    }
+    
+    @Test
+    public void assertCircuitBreakersOfSameNamedDataSourceInDifferentSchemasAreIndependent() {
+        DataSourceCircuitBreakerRegistry registry = new DataSourceCircuitBreakerRegistry("logic_db", configuration);
+        DataSourceCircuitBreakerRegistry otherRegistry = new DataSourceCircuitBreakerRegistry("other_db", configuration);
+        DataSourceCircuitBreaker circuitBreaker = registry.find("ds_0").get();
+        for (int i = 0; i < 20; i++) {
+            circuitBreaker.onFailure(new SQLTransientConnectionException("timeout"), 0L);
+        }
+        assertThat(circuitBreaker.getState(), is(CircuitBreakerState.OPEN));
+        assertThat(otherRegistry.find("ds_0").get(), not(sameInstance(circuitBreaker)));
+        assertThat(otherRegistry.find("ds_0").get().getState(), is(CircuitBreakerState.CLOSED));
+        assertTrue(otherRegistry.find("ds_0").get().tryAcquirePermission());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.circuit;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DataSourceCircuitBreakerTest {
+    
+    @Test
+    public void assertOpenWhenFailureRateReachesThreshold() {
+        DataSourceCircuitBreaker circuitBreaker = new DataSourceCircuitBreaker("ds_0", new CircuitBreakerConfiguration(true, 50, 0L, 60000L));
+        for (int i = 0; i < 10; i++) {
+            circuitBreaker.onSuccess(0L);
+            circuitBreaker.onFailure(new SQLTransientConnectionException("timeout"), 0L);
+        }
+        assertThat(circuitBreaker.getState(), is(CircuitBreakerState.OPEN));
+        assertFalse(circuitBreaker.tryAcquirePermission());
+        assertThat(circuitBreaker.getRejectedCount(), is(1L));
+    }
+    
+    @Test
+    public void assertNotOpenWhenFailureIsNotCausedByDataSource() {
+        DataSourceCircuitBreaker circuitBreaker = new DataSourceCircuitBreaker("ds_0", new CircuitBreakerConfiguration(true, 50, 0L, 60000L));
+        for (int i = 0; i < 20; i++) {
+            circuitBreaker.onFailure(new SQLSyntaxErrorException("syntax error"), 0L);
+        }
+        assertThat(circuitBreaker.getState(), is(CircuitBreakerState.CLOSED));
+        assertTrue(circuitBreaker.tryAcquirePermission());
+    }
+    
+    @Test
+    public void assertOpenWhenSlowCallRateReachesThreshold() {
+        DataSourceCircuitBreaker circuitBreaker = new DataSourceCircuitBreaker("ds_0", new CircuitBreakerConfiguration(true, 50, 100L, 60000L));
+        for (int i = 0; i < 20; i++) {
+            circuitBreaker.onSuccess(TimeUnit.MILLISECONDS.toNanos(200L));
+        }
+        assertThat(circuitBreaker.getState(), is(CircuitBreakerState.OPEN));
+    }
+    
+    @Test
+    public void assertCloseAfterTrialCallsSucceed() {
+        DataSourceCircuitBreaker circuitBreaker = new DataSourceCircuitBreaker("ds_0", new CircuitBreakerConfiguration(true, 50, 0L, 0L));
+        openCircuitBreaker(circuitBreaker);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(circuitBreaker.tryAcquirePermission());
+            assertThat(circuitBreaker.getState(), is(CircuitBreakerState.HALF_OPEN));
+            circuitBreaker.onSuccess(0L);
+        }
+        assertThat(circuitBreaker.getState(), is(CircuitBreakerState.CLOSED));
+        assertThat(circuitBreaker.getFailureRate(), is(0));
+    }
+    
+    @Test
+    public void assertOpenAgainWhenTrialCallFailed() {
+        DataSourceCircuitBreaker circuitBreaker = new DataSourceCircuitBreaker("ds_0", new CircuitBreakerConfiguration(true, 50, 0L, 0L));
+        openCircuitBreaker(circuitBreaker);
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onFailure(new SQLException("connection refused", "08001"), 0L);
+        assertThat(circuitBreaker.getState(), is(CircuitBreakerState.OPEN));
+    }
+    
+    private void openCircuitBreaker(final DataSourceCircuitBreaker circuitBreaker) {
+        for (int i = 0; i < 20; i++) {
+            circuitBreaker.onFailure(new SQLTransientConnectionException("timeout"), 0L);
+        }
+        assertThat(circuitBreaker.getState(), is(CircuitBreakerState.OPEN));
+    }
+}
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.infra.executor.sql.execute.jdbc.group;
 
 import org.apache.shardingsphere.infra.executor.kernel.InputGroup;
 import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.circuit.CircuitBreakerConfiguration;
+import org.apache.shardingsphere.infra.executor.sql.circuit.DataSourceCircuitBreakerRegistry;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.StatementExecuteUnit;
@@ -52,7 +54,8 @@ public final class PreparedStatementExecuteGroupEngineTest {
     @Test
     public void assertGetExecuteUnitGroupForOneShardMemoryStrictly() throws SQLException {
         preparedStatementExecuteGroupEngine = new PreparedStatementExecuteGroupEngine(
-                2, mockExecutionConnection(1, ConnectionMode.MEMORY_STRICTLY), new StatementOption(true), Collections.singletonList(mock(ShardingSphereRule.class)));
+                2, mockExecutionConnection(1, ConnectionMode.MEMORY_STRICTLY), new StatementOption(true), 
+                new DataSourceCircuitBreakerRegistry("logic_db", new CircuitBreakerConfiguration(false, 0, 0L, 0L)), Collections.singletonList(mock(ShardingSphereRule.class)));
         Collection<InputGroup<StatementExecuteUnit>> actual = preparedStatementExecuteGroupEngine.generate(mockShardRouteUnit(1, 1));
         assertThat(actual.size(), is(1));
         for (InputGroup<StatementExecuteUnit> each : actual) {
@@ -63,7 +66,8 @@ public final class PreparedStatementExecuteGroupEngineTest {
     @Test
     public void assertGetExecuteUnitGroupForMultiShardConnectionStrictly() throws SQLException {
         preparedStatementExecuteGroupEngine = new PreparedStatementExecuteGroupEngine(
-                1, mockExecutionConnection(1, ConnectionMode.CONNECTION_STRICTLY), new StatementOption(true), Collections.singletonList(mock(ShardingSphereRule.class)));
+                1, mockExecutionConnection(1, ConnectionMode.CONNECTION_STRICTLY), new StatementOption(true), 
+                new DataSourceCircuitBreakerRegistry("logic_db", new CircuitBreakerConfiguration(false, 0, 0L, 0L)), Collections.singletonList(mock(ShardingSphereRule.class)));
         Collection<InputGroup<StatementExecuteUnit>> actual = preparedStatementExecuteGroupEngine.generate(mockShardRouteUnit(10, 2));
         assertThat(actual.size(), is(10));
         for (InputGroup<StatementExecuteUnit> each : actual) {
@@ -96,5 +100,5 @@ public final class PreparedStatementExecuteGroupEngineTest {
         }
         return result;
     }
-    
+
 }
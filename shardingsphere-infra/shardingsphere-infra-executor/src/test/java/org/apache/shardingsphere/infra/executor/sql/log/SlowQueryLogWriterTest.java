@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class SlowQueryLogWriterTest {
+    
+    private File file;
+    
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("slow_query", ".log");
+    }
+    
+    @After
+    public void tearDown() {
+        file.delete();
+        new File(file.getPath() + ".1").delete();
+        new File(file.getPath() + ".2").delete();
+    }
+    
+    @Test
+    public void assertWrite() throws IOException {
+        SlowQueryLogWriter writer = new SlowQueryLogWriter(file.getPath(), 1024L, 1);
+        writer.write("line_0");
+        writer.write("line_1");
+        writer.close();
+        assertThat(Files.readAllLines(file.toPath(), StandardCharsets.UTF_8), is(Arrays.asList("line_0", "line_1")));
+    }
+    
+    @Test
+    public void assertRollOver() throws IOException {
+        SlowQueryLogWriter writer = new SlowQueryLogWriter(file.getPath(), 10L, 1);
+        writer.write("line_0");
+        writer.write("line_1");
+        writer.write("line_2");
+        writer.close();
+        assertThat(Files.readAllLines(file.toPath(), StandardCharsets.UTF_8), is(Collections.singletonList("line_2")));
+        assertThat(Files.readAllLines(new File(file.getPath() + ".1").toPath(), StandardCharsets.UTF_8), is(Collections.singletonList("line_1")));
+        assertFalse(new File(file.getPath() + ".2").exists());
+    }
+}
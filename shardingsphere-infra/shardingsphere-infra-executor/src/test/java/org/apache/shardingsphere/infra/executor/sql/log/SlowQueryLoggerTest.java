@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.log;
+
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorDataMap;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SlowQueryLoggerTest {
+    
+    @After
+    public void tearDown() {
+        ExecutorDataMap.getValue().clear();
+    }
+    
+    @Test
+    public void assertNotStartWhenDisabled() {
+        SlowQueryLogger.start(new ConfigurationProperties(new Properties()));
+        SlowQueryLogger.setLogicSQL("logic_db", "SELECT * FROM t_order");
+        assertFalse(findTrace().isPresent());
+    }
+    
+    @Test
+    public void assertNotStartWhenNotSampled() {
+        SlowQueryLogger.start(createProperties("0"));
+        assertFalse(findTrace().isPresent());
+    }
+    
+    @Test
+    public void assertStartAndFinish() {
+        ConfigurationProperties props = createProperties("100");
+        SlowQueryLogger.start(props);
+        SlowQueryLogger.setLogicSQL("logic_db", "SELECT * FROM t_order");
+        SlowQueryLogger.recordPhase(SQLExecutionPhase.ROUTE, System.nanoTime() - 1000L);
+        SlowQueryLogger.recordShard(ExecutorDataMap.getValue(), "ds_0", "SELECT * FROM t_order_0", System.nanoTime() - 1000L);
+        SlowQueryLogger.recordShard(ExecutorDataMap.getValue(), "ds_1", "SELECT * FROM t_order_1", System.nanoTime() - 1000000L);
+        SlowQueryLogger.recordRows(2L);
+        Optional<SlowQueryTrace> trace = findTrace();
+        assertTrue(trace.isPresent());
+        assertThat(trace.get().getSchemaName(), is("logic_db"));
+        assertThat(trace.get().getLogicSQL(), is("SELECT * FROM t_order"));
+        assertTrue(trace.get().getPhaseNanos(SQLExecutionPhase.ROUTE) >= 1000L);
+        assertThat(trace.get().getShardCount(), is(2));
+        assertThat(trace.get().getSlowestShardDataSourceName(), is("ds_1"));
+        assertThat(trace.get().getRows(), is(2L));
+        SlowQueryLogger.finish(props);
+        assertFalse(findTrace().isPresent());
+    }
+    
+    @Test
+    public void assertFormat() {
+        SlowQueryTrace trace = new SlowQueryTrace(System.nanoTime());
+        trace.setSchemaName("logic_db");
+        trace.setLogicSQL("SELECT *\nFROM t_order WHERE order_id = 1");
+        trace.addPhaseNanos(SQLExecutionPhase.ROUTE, 1500000L);
+        trace.recordShard("ds_0", "SELECT * FROM t_order_0 WHERE order_id = 1", 2000000L);
+        trace.addRows(10L);
+        String actual = SlowQueryLogger.format(trace, 5000000L);
+        assertThat(actual, containsString(" elapsed_ms=5.000 schema=logic_db shards=1 rows=10 parse_ms=0.000 route_ms=1.500 "));
+        assertThat(actual, containsString(" slowest_shard=ds_0 slowest_shard_ms=2.000 slowest_shard_sql=SELECT * FROM t_order_0 WHERE order_id = 1 "));
+        assertThat(actual, containsString(" logic_sql=SELECT * FROM t_order WHERE order_id = 1"));
+    }
+    
+    private ConfigurationProperties createProperties(final String samplePercentage) {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.SLOW_QUERY_LOG_THRESHOLD.getKey(), "60000");
+        props.setProperty(ConfigurationPropertyKey.SLOW_QUERY_LOG_SAMPLE_PERCENTAGE.getKey(), samplePercentage);
+        return new ConfigurationProperties(props);
+    }
+    
+    private Optional<SlowQueryTrace> findTrace() {
+        return ExecutorDataMap.getValue().values().stream().filter(each -> each instanceof SlowQueryTrace).map(each -> (SlowQueryTrace) each).findFirst();
+    }
+}
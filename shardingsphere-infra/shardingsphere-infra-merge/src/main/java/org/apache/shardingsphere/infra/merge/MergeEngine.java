@@ -19,13 +19,18 @@ package org.apache.shardingsphere.infra.merge;
 
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.deadline.ExecutionDeadline;
+import org.apache.shardingsphere.infra.executor.kernel.deadline.ExecutionDeadlineHolder;
 import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.log.SQLExecutionPhase;
+import org.apache.shardingsphere.infra.executor.sql.log.SlowQueryLogger;
 import org.apache.shardingsphere.infra.merge.engine.ResultProcessEngine;
 import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecorator;
 import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecoratorEngine;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMergerEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.deadline.DeadlineMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
@@ -74,9 +79,16 @@ public final class MergeEngine {
      * @throws SQLException SQL exception
      */
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext<?> sqlStatementContext) throws SQLException {
+        long startTime = System.nanoTime();
         Optional<MergedResult> mergedResult = executeMerge(queryResults, sqlStatementContext);
         Optional<MergedResult> result = mergedResult.isPresent() ? Optional.of(decorate(mergedResult.get(), sqlStatementContext)) : decorate(queryResults.get(0), sqlStatementContext);
-        return result.orElseGet(() -> new TransparentMergedResult(queryResults.get(0)));
+        SlowQueryLogger.recordPhase(SQLExecutionPhase.MERGE, startTime);
+        return decorateDeadline(result.orElseGet(() -> new TransparentMergedResult(queryResults.get(0))));
+    }
+    
+    private MergedResult decorateDeadline(final MergedResult mergedResult) {
+        Optional<ExecutionDeadline> deadline = ExecutionDeadlineHolder.get();
+        return deadline.isPresent() ? new DeadlineMergedResult(mergedResult, deadline.get()) : mergedResult;
     }
     
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.deadline;
+
+import org.apache.shardingsphere.infra.executor.kernel.deadline.ExecutionDeadline;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.decorator.DecoratorMergedResult;
+
+import java.sql.SQLException;
+
+/**
+ * Merged result which checks execution deadline of logic SQL for every iteration.
+ */
+public final class DeadlineMergedResult extends DecoratorMergedResult {
+    
+    private final ExecutionDeadline deadline;
+    
+    public DeadlineMergedResult(final MergedResult mergedResult, final ExecutionDeadline deadline) {
+        super(mergedResult);
+        this.deadline = deadline;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        deadline.check();
+        return getMergedResult().next();
+    }
+}
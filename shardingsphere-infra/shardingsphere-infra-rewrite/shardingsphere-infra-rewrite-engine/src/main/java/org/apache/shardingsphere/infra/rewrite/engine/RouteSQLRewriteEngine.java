@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.infra.rewrite.engine;
 
-import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
@@ -25,12 +24,13 @@ import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilde
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.sql.impl.RouteSQLBuilder;
+import org.apache.shardingsphere.infra.route.context.OriginalDataNodeBuckets;
 import org.apache.shardingsphere.infra.route.context.RouteResult;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -48,42 +48,32 @@ public final class RouteSQLRewriteEngine {
      */
     public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteResult routeResult) {
         Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(routeResult.getRouteUnits().size(), 1);
+        OriginalDataNodeBuckets originalDataNodeBuckets = isGroupedParameters(sqlRewriteContext.getParameterBuilder(), routeResult) ? new OriginalDataNodeBuckets(routeResult) : null;
         for (RouteUnit each : routeResult.getRouteUnits()) {
-            result.put(each, new SQLRewriteUnit(new RouteSQLBuilder(sqlRewriteContext, each).toSQL(), getParameters(sqlRewriteContext.getParameterBuilder(), routeResult, each)));
+            result.put(each, new SQLRewriteUnit(new RouteSQLBuilder(sqlRewriteContext, each).toSQL(), getParameters(sqlRewriteContext.getParameterBuilder(), originalDataNodeBuckets, each)));
         }
         return new RouteSQLRewriteResult(result);
     }
     
-    private List<Object> getParameters(final ParameterBuilder parameterBuilder, final RouteResult routeResult, final RouteUnit routeUnit) {
+    private boolean isGroupedParameters(final ParameterBuilder parameterBuilder, final RouteResult routeResult) {
+        return parameterBuilder instanceof GroupedParameterBuilder && !routeResult.getOriginalDataNodes().isEmpty();
+    }
+    
+    private List<Object> getParameters(final ParameterBuilder parameterBuilder, final OriginalDataNodeBuckets originalDataNodeBuckets, final RouteUnit routeUnit) {
         if (parameterBuilder instanceof StandardParameterBuilder) {
             return parameterBuilder.getParameters();
         }
-        return routeResult.getOriginalDataNodes().isEmpty()
-                ? ((GroupedParameterBuilder) parameterBuilder).getParameters() : buildRouteParameters((GroupedParameterBuilder) parameterBuilder, routeResult, routeUnit);
+        return null == originalDataNodeBuckets
+                ? parameterBuilder.getParameters() : buildRouteParameters((GroupedParameterBuilder) parameterBuilder, originalDataNodeBuckets, routeUnit);
     }
     
-    private List<Object> buildRouteParameters(final GroupedParameterBuilder parameterBuilder, final RouteResult routeResult, final RouteUnit routeUnit) {
-        List<Object> result = new LinkedList<>();
-        int count = 0;
-        for (Collection<DataNode> each : routeResult.getOriginalDataNodes()) {
-            if (isInSameDataNode(each, routeUnit)) {
-                result.addAll(parameterBuilder.getParameters(count));
-            }
-            count++;
+    private List<Object> buildRouteParameters(final GroupedParameterBuilder parameterBuilder, final OriginalDataNodeBuckets originalDataNodeBuckets, final RouteUnit routeUnit) {
+        List<Integer> indexes = originalDataNodeBuckets.findIndexes(routeUnit).orElse(Collections.emptyList());
+        List<Object> result = new ArrayList<>();
+        for (int each : indexes) {
+            result.addAll(parameterBuilder.getParameters(each));
         }
         result.addAll(parameterBuilder.getGenericParameterBuilder().getParameters());
         return result;
     }
-    
-    private boolean isInSameDataNode(final Collection<DataNode> dataNodes, final RouteUnit routeUnit) {
-        if (dataNodes.isEmpty()) {
-            return true;
-        }
-        for (DataNode each : dataNodes) {
-            if (routeUnit.findTableMapper(each.getDataSourceName(), each.getTableName()).isPresent()) {
-                return true;
-            }
-        }
-        return false;
-    }
 }
@@ -39,28 +39,21 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
             return context.getSql();
         }
         Collections.sort(context.getSqlTokens());
-        StringBuilder result = new StringBuilder();
-        result.append(context.getSql(), 0, context.getSqlTokens().get(0).getStartIndex());
-        for (SQLToken each : context.getSqlTokens()) {
-            result.append(getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+        SQLToken[] sqlTokens = context.getSqlTokens().toArray(new SQLToken[0]);
+        String sql = context.getSql();
+        StringBuilder result = new StringBuilder(sql.length());
+        result.append(sql, 0, sqlTokens[0].getStartIndex());
+        for (int i = 0; i < sqlTokens.length; i++) {
+            result.append(getSQLTokenText(sqlTokens[i]));
+            appendConjunctionText(result, sql, sqlTokens[i], i + 1 < sqlTokens.length ? sqlTokens[i + 1].getStartIndex() : sql.length());
         }
         return result.toString();
     }
     
     protected abstract String getSQLTokenText(SQLToken sqlToken);
     
-    private String getConjunctionText(final SQLToken sqlToken) {
-        return context.getSql().substring(getStartIndex(sqlToken), getStopIndex(sqlToken));
-    }
-    
-    private int getStartIndex(final SQLToken sqlToken) {
-        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
-        return Math.min(startIndex, context.getSql().length());
-    }
-    
-    private int getStopIndex(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = context.getSqlTokens().indexOf(sqlToken);
-        return context.getSqlTokens().size() - 1 == currentSQLTokenIndex ? context.getSql().length() : context.getSqlTokens().get(currentSQLTokenIndex + 1).getStartIndex();
+    private void appendConjunctionText(final StringBuilder sqlBuilder, final String sql, final SQLToken sqlToken, final int stopIndex) {
+        int startIndex = Math.min(sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex(), sql.length());
+        sqlBuilder.append(sql, startIndex, stopIndex);
     }
 }
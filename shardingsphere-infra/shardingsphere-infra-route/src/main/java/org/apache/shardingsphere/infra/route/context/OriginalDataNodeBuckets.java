@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.context;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Original data node buckets.
+ * 
+ * <p>
+ * Group indexes of original data nodes, which are indexes of insert values, by route unit in a single pass,
+ * so that each route unit only visits its own insert values when rewriting.
+ * </p>
+ */
+public final class OriginalDataNodeBuckets {
+    
+    private final Map<RouteUnit, List<Integer>> buckets;
+    
+    public OriginalDataNodeBuckets(final RouteResult routeResult) {
+        buckets = new LinkedHashMap<>(routeResult.getRouteUnits().size(), 1);
+        for (RouteUnit each : routeResult.getRouteUnits()) {
+            buckets.put(each, new ArrayList<>());
+        }
+        Map<String, Collection<RouteUnit>> routeUnitsByDataNode = getRouteUnitsByDataNode(routeResult.getRouteUnits());
+        int index = 0;
+        for (Collection<DataNode> each : routeResult.getOriginalDataNodes()) {
+            if (each.isEmpty()) {
+                addToAllBuckets(index);
+            } else {
+                addToBuckets(index, each, routeUnitsByDataNode);
+            }
+            index++;
+        }
+    }
+    
+    private Map<String, Collection<RouteUnit>> getRouteUnitsByDataNode(final Collection<RouteUnit> routeUnits) {
+        Map<String, Collection<RouteUnit>> result = new HashMap<>();
+        for (RouteUnit each : routeUnits) {
+            for (RouteMapper tableMapper : each.getTableMappers()) {
+                result.computeIfAbsent(getDataNodeKey(each.getDataSourceMapper().getLogicName(), tableMapper.getActualName()), key -> new LinkedList<>()).add(each);
+            }
+        }
+        return result;
+    }
+    
+    private void addToAllBuckets(final int index) {
+        for (List<Integer> each : buckets.values()) {
+            each.add(index);
+        }
+    }
+    
+    private void addToBuckets(final int index, final Collection<DataNode> dataNodes, final Map<String, Collection<RouteUnit>> routeUnitsByDataNode) {
+        for (DataNode each : dataNodes) {
+            for (RouteUnit routeUnit : routeUnitsByDataNode.getOrDefault(getDataNodeKey(each.getDataSourceName(), each.getTableName()), Collections.emptyList())) {
+                List<Integer> bucket = buckets.get(routeUnit);
+                if (bucket.isEmpty() || index != bucket.get(bucket.size() - 1)) {
+                    bucket.add(index);
+                }
+            }
+        }
+    }
+    
+    private String getDataNodeKey(final String dataSourceName, final String tableName) {
+        return String.join(".", dataSourceName, tableName).toLowerCase();
+    }
+    
+    /**
+     * Find indexes of original data nodes which belong to route unit.
+     *
+     * @param routeUnit route unit
+     * @return indexes of original data nodes in ascending order
+     */
+    public Optional<List<Integer>> findIndexes(final RouteUnit routeUnit) {
+        return Optional.ofNullable(buckets.get(routeUnit));
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.context;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class OriginalDataNodeBucketsTest {
+    
+    private final RouteUnit routeUnit0 = new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+    
+    private final RouteUnit routeUnit1 = new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singletonList(new RouteMapper("tbl", "tbl_1")));
+    
+    @Test
+    public void assertFindIndexes() {
+        RouteResult routeResult = new RouteResult();
+        routeResult.getRouteUnits().addAll(Arrays.asList(routeUnit0, routeUnit1));
+        routeResult.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds_0", "tbl_0")));
+        routeResult.getOriginalDataNodes().add(Collections.singletonList(new DataNode("DS_1", "TBL_1")));
+        routeResult.getOriginalDataNodes().add(Collections.emptyList());
+        routeResult.getOriginalDataNodes().add(Arrays.asList(new DataNode("ds_0", "tbl_0"), new DataNode("ds_0", "tbl_0")));
+        OriginalDataNodeBuckets actual = new OriginalDataNodeBuckets(routeResult);
+        assertThat(actual.findIndexes(routeUnit0).get(), is(Arrays.asList(0, 2, 3)));
+        assertThat(actual.findIndexes(routeUnit1).get(), is(Arrays.asList(1, 2)));
+    }
+    
+    @Test
+    public void assertFindIndexesWithUnknownRouteUnit() {
+        RouteResult routeResult = new RouteResult();
+        routeResult.getRouteUnits().add(routeUnit0);
+        assertFalse(new OriginalDataNodeBuckets(routeResult).findIndexes(routeUnit1).isPresent());
+    }
+}
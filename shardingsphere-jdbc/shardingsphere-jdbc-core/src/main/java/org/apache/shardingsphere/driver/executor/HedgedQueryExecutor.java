@@ -0,0 +1,277 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.deadline.ExecutionDeadline;
+import org.apache.shardingsphere.infra.executor.kernel.deadline.ExecutionDeadlineHolder;
+import org.apache.shardingsphere.infra.executor.kernel.impl.ShardingSphereThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.queryresult.MemoryQueryResult;
+import org.apache.shardingsphere.masterslave.route.engine.impl.HedgedRead;
+import org.apache.shardingsphere.masterslave.rule.HedgedReadStrategy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hedged query executor.
+ *
+ * <p>
+ * Issue the same query to candidate slave if routed slave has not answered within hedge delay,
+ * take whichever answers first and cancel the other one.
+ * Hedged queries run on bounded threads, query is not hedged when all of them are busy.
+ * Waiting for hedged query is bounded by deadline of logic SQL or query timeout of routed statement.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class HedgedQueryExecutor {
+    
+    private static final ScheduledExecutorService HEDGE_TRIGGER = Executors.newSingleThreadScheduledExecutor(ShardingSphereThreadFactoryBuilder.build("Hedged-Read-Trigger"));
+    
+    private static final int MAX_HEDGE_THREADS = Runtime.getRuntime().availableProcessors() * 2;
+    
+    private static final long DEFAULT_MAX_WAIT_MILLIS = 30000L;
+    
+    private static final ThreadPoolExecutor HEDGE_EXECUTOR = createHedgeExecutor();
+    
+    private final Map<String, DataSource> dataSourceMap;
+    
+    private static ThreadPoolExecutor createHedgeExecutor() {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(MAX_HEDGE_THREADS, MAX_HEDGE_THREADS, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), ShardingSphereThreadFactoryBuilder.build("Hedged-Read-%d"));
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+    
+    /**
+     * Execute query with hedging.
+     *
+     * @param executionUnit execution unit
+     * @param statement statement of routed slave
+     * @param hedgedRead hedged read
+     * @param query query of routed slave
+     * @return query result
+     * @throws SQLException SQL exception
+     */
+    public QueryResult execute(final ExecutionUnit executionUnit, final Statement statement, final HedgedRead hedgedRead, final Query query) throws SQLException {
+        long startTime = System.nanoTime();
+        Optional<String> candidateDataSourceName = hedgedRead.getCandidateDataSourceName();
+        if (!candidateDataSourceName.isPresent() || !dataSourceMap.containsKey(candidateDataSourceName.get()) || !statement.getConnection().getAutoCommit()) {
+            QueryResult result = query.execute();
+            hedgedRead.getStrategy().recordLatency(System.nanoTime() - startTime);
+            return result;
+        }
+        HedgedQuery hedgedQuery = new HedgedQuery(dataSourceMap.get(candidateDataSourceName.get()), executionUnit, statement, hedgedRead.getStrategy(), startTime, getMaxWaitMillis(statement));
+        ScheduledFuture<?> trigger = HEDGE_TRIGGER.schedule(hedgedQuery::start, hedgedRead.getDelayMillis(), TimeUnit.MILLISECONDS);
+        QueryResult result;
+        try {
+            result = query.execute();
+        } catch (final SQLException ex) {
+            trigger.cancel(false);
+            Optional<QueryResult> hedgedResult = hedgedQuery.awaitHedgedResult();
+            if (hedgedResult.isPresent()) {
+                return hedgedResult.get();
+            }
+            throw ex;
+        }
+        trigger.cancel(false);
+        if (hedgedQuery.completeByRoutedSlave()) {
+            hedgedRead.getStrategy().recordLatency(System.nanoTime() - startTime);
+            return result;
+        }
+        return hedgedQuery.awaitHedgedResult().orElse(result);
+    }
+    
+    private long getMaxWaitMillis(final Statement statement) throws SQLException {
+        Optional<ExecutionDeadline> deadline = ExecutionDeadlineHolder.get();
+        if (deadline.isPresent() && deadline.get().isBounded()) {
+            return deadline.get().getRemainingMillis();
+        }
+        int queryTimeout = statement.getQueryTimeout();
+        return queryTimeout > 0 ? TimeUnit.SECONDS.toMillis(queryTimeout) : DEFAULT_MAX_WAIT_MILLIS;
+    }
+    
+    /**
+     * Query of routed slave.
+     */
+    @FunctionalInterface
+    public interface Query {
+        
+        /**
+         * Execute query.
+         *
+         * @return query result
+         * @throws SQLException SQL exception
+         */
+        QueryResult execute() throws SQLException;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class HedgedQuery {
+        
+        private static final int PENDING = 0;
+        
+        private static final int ROUTED_SLAVE_WON = 1;
+        
+        private static final int HEDGED_SLAVE_WON = 2;
+        
+        private static final int ABANDONED = 3;
+        
+        private final DataSource dataSource;
+        
+        private final ExecutionUnit executionUnit;
+        
+        private final Statement routedStatement;
+        
+        private final HedgedReadStrategy strategy;
+        
+        private final long startTime;
+        
+        private final long maxWaitMillis;
+        
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        
+        private final AtomicBoolean started = new AtomicBoolean();
+        
+        private final CompletableFuture<Optional<QueryResult>> hedgedResult = new CompletableFuture<>();
+        
+        private volatile Statement hedgedStatement;
+        
+        private void start() {
+            if (PENDING != state.get() || !started.compareAndSet(false, true)) {
+                return;
+            }
+            if (!strategy.tryAcquireHedge()) {
+                hedgedResult.complete(Optional.empty());
+                return;
+            }
+            try {
+                HEDGE_EXECUTOR.execute(() -> hedgedResult.complete(executeHedgedQuery()));
+            } catch (final RejectedExecutionException ex) {
+                hedgedResult.complete(Optional.empty());
+            }
+        }
+        
+        private Optional<QueryResult> executeHedgedQuery() {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = createStatement(connection)) {
+                hedgedStatement = statement;
+                if (PENDING != state.get()) {
+                    return Optional.empty();
+                }
+                QueryResult result = executeQuery(statement);
+                if (!state.compareAndSet(PENDING, HEDGED_SLAVE_WON)) {
+                    return Optional.empty();
+                }
+                strategy.recordLatency(System.nanoTime() - startTime);
+                cancelQuietly(routedStatement);
+                return Optional.of(result);
+            } catch (final SQLException ex) {
+                log.debug("Hedged query failure: ", ex);
+                return Optional.empty();
+            }
+        }
+        
+        private Statement createStatement(final Connection connection) throws SQLException {
+            if (!(routedStatement instanceof PreparedStatement)) {
+                return connection.createStatement();
+            }
+            PreparedStatement result = connection.prepareStatement(executionUnit.getSqlUnit().getSql());
+            List<Object> parameters = executionUnit.getSqlUnit().getParameters();
+            for (int i = 0; i < parameters.size(); i++) {
+                result.setObject(i + 1, parameters.get(i));
+            }
+            return result;
+        }
+        
+        private QueryResult executeQuery(final Statement statement) throws SQLException {
+            try (ResultSet resultSet = statement instanceof PreparedStatement ? ((PreparedStatement) statement).executeQuery() : statement.executeQuery(executionUnit.getSqlUnit().getSql())) {
+                return new MemoryQueryResult(resultSet);
+            }
+        }
+        
+        private boolean completeByRoutedSlave() {
+            if (!state.compareAndSet(PENDING, ROUTED_SLAVE_WON)) {
+                return false;
+            }
+            Statement statement = hedgedStatement;
+            if (null != statement) {
+                cancelQuietly(statement);
+            }
+            return true;
+        }
+        
+        private Optional<QueryResult> awaitHedgedResult() {
+            if (started.compareAndSet(false, true)) {
+                return Optional.empty();
+            }
+            try {
+                return hedgedResult.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                abandon();
+                return Optional.empty();
+            } catch (final ExecutionException ex) {
+                return Optional.empty();
+            } catch (final TimeoutException ex) {
+                return abandon() ? Optional.empty() : hedgedResult.join();
+            }
+        }
+        
+        private boolean abandon() {
+            if (!state.compareAndSet(PENDING, ABANDONED)) {
+                return false;
+            }
+            Statement statement = hedgedStatement;
+            if (null != statement) {
+                cancelQuietly(statement);
+            }
+            return true;
+        }
+        
+        private void cancelQuietly(final Statement statement) {
+            try {
+                statement.cancel();
+            } catch (final SQLException ex) {
+                log.debug("Cancel statement failure: ", ex);
+            }
+        }
+    }
+}
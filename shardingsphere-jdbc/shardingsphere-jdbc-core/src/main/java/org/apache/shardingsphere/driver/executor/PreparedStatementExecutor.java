@@ -18,11 +18,13 @@
 package org.apache.shardingsphere.driver.executor;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.infra.callback.orchestration.MetaDataCallback;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.executor.kernel.InputGroup;
 import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.StatementExecuteUnit;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.executor.ExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.executor.SQLExecutor;
@@ -37,9 +39,10 @@ import org.apache.shardingsphere.infra.rule.DataNodeRoutedRule;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.kernel.context.SchemaContext;
 import org.apache.shardingsphere.kernel.context.SchemaContexts;
+import org.apache.shardingsphere.masterslave.route.engine.impl.HedgedRead;
+import org.apache.shardingsphere.masterslave.route.engine.impl.HedgedReadManager;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 
-import javax.sql.DataSource;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -56,7 +59,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public final class PreparedStatementExecutor {
     
-    private final Map<String, DataSource> dataSourceMap;
+    private final ShardingSphereConnection connection;
     
     private final SchemaContexts schemaContexts;
     
@@ -76,8 +79,16 @@ public final class PreparedStatementExecutor {
     }
     
     private DefaultSQLExecutorCallback<QueryResult> createDefaultSQLExecutorCallbackWithQueryResult(final boolean isExceptionThrown) {
+        Map<String, HedgedRead> hedgedReads = HedgedReadManager.getHedgedReads();
         return new DefaultSQLExecutorCallback<QueryResult>(schemaContexts.getDatabaseType(), isExceptionThrown) {
             
+            @Override
+            protected QueryResult executeSQL(final ExecutionUnit executionUnit, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
+                HedgedRead hedgedRead = hedgedReads.get(executionUnit.getDataSourceName());
+                return null == hedgedRead ? super.executeSQL(executionUnit, statement, connectionMode)
+                        : new HedgedQueryExecutor(connection.getDataSourceMap()).execute(executionUnit, statement, hedgedRead, () -> super.executeSQL(executionUnit, statement, connectionMode));
+            }
+            
             @Override
             protected QueryResult executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException { 
                 return createQueryResult(statement, connectionMode);
@@ -104,6 +115,7 @@ public final class PreparedStatementExecutor {
         SQLExecutorCallback<Integer> sqlExecutorCallback = createDefaultSQLExecutorCallbackWithInteger(isExceptionThrown);
         List<Integer> results = sqlExecutor.execute(inputGroups, sqlExecutorCallback);
         refreshTableMetaData(schemaContexts.getDefaultSchemaContext(), sqlStatementContext);
+        connection.invalidateQueryResultCache(sqlStatementContext);
         return isNeedAccumulate(
                 schemaContexts.getDefaultSchemaContext().getSchema().getRules().stream().filter(rule -> rule instanceof DataNodeRoutedRule).collect(Collectors.toList()), sqlStatementContext)
                 ? accumulate(results) : results.get(0);
@@ -144,6 +156,7 @@ public final class PreparedStatementExecutor {
         SQLExecutorCallback<Boolean> sqlExecutorCallback = createDefaultSQLExecutorCallbackWithBoolean(isExceptionThrown);
         List<Boolean> result = sqlExecutor.execute(inputGroups, sqlExecutorCallback);
         refreshTableMetaData(schemaContexts.getDefaultSchemaContext(), sqlStatementContext);
+        connection.invalidateQueryResultCache(sqlStatementContext);
         if (null == result || result.isEmpty() || null == result.get(0)) {
             return false;
         }
@@ -152,7 +165,7 @@ public final class PreparedStatementExecutor {
     
     private DefaultSQLExecutorCallback<Boolean> createDefaultSQLExecutorCallbackWithBoolean(final boolean isExceptionThrown) {
         return new DefaultSQLExecutorCallback<Boolean>(schemaContexts.getDatabaseType(), isExceptionThrown) {
-                    
+            
             @Override
             protected Boolean executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
                 return ((PreparedStatement) statement).execute();
@@ -169,8 +182,8 @@ public final class PreparedStatementExecutor {
         if (refreshStrategy.isPresent()) {
             RuleSchemaMetaDataLoader metaDataLoader = new RuleSchemaMetaDataLoader(schemaContext.getSchema().getRules());
             refreshStrategy.get().refreshMetaData(schemaContext.getSchema().getMetaData(), schemaContexts.getDatabaseType(),
-                    dataSourceMap, sqlStatementContext, tableName -> metaDataLoader.load(schemaContexts.getDatabaseType(),
-                            dataSourceMap, tableName, schemaContexts.getProps()));
+                    connection.getDataSourceMap(), sqlStatementContext, tableName -> metaDataLoader.load(schemaContexts.getDatabaseType(),
+                            connection.getDataSourceMap(), tableName, schemaContexts.getProps()));
             MetaDataCallback.getInstance().run(DefaultSchema.LOGIC_NAME, schemaContext.getSchema().getMetaData().getSchema());
         }
     }
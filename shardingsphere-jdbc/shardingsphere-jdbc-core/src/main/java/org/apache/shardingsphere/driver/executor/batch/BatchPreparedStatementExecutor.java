@@ -19,6 +19,7 @@ package org.apache.shardingsphere.driver.executor.batch;
 
 import com.google.common.base.Preconditions;
 import lombok.Getter;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.infra.executor.kernel.InputGroup;
 import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
@@ -48,6 +49,8 @@ import java.util.stream.Collectors;
  */
 public final class BatchPreparedStatementExecutor {
     
+    private final ShardingSphereConnection connection;
+    
     private final SchemaContexts schemaContexts;
     
     private final SQLExecutor sqlExecutor;
@@ -59,7 +62,8 @@ public final class BatchPreparedStatementExecutor {
     
     private int batchCount;
     
-    public BatchPreparedStatementExecutor(final SchemaContexts schemaContexts, final SQLExecutor sqlExecutor) {
+    public BatchPreparedStatementExecutor(final ShardingSphereConnection connection, final SchemaContexts schemaContexts, final SQLExecutor sqlExecutor) {
+        this.connection = connection;
         this.schemaContexts = schemaContexts;
         this.sqlExecutor = sqlExecutor;
         inputGroups = new LinkedList<>();
@@ -127,6 +131,7 @@ public final class BatchPreparedStatementExecutor {
             }
         };
         List<int[]> results = sqlExecutor.execute(inputGroups, callback);
+        connection.invalidateQueryResultCache(sqlStatementContext);
         return isNeedAccumulate(
                 schemaContexts.getDefaultSchemaContext().getSchema().getRules().stream().filter(rule -> rule instanceof DataNodeRoutedRule).collect(Collectors.toList()), sqlStatementContext)
                 ? accumulate(results) : results.get(0);
@@ -21,6 +21,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import lombok.Getter;
+import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteCallback;
 import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteTemplate;
 import org.apache.shardingsphere.driver.jdbc.unsupported.AbstractUnsupportedOperationConnection;
 import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
@@ -44,6 +45,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Adapter for {@code Connection}.
@@ -183,12 +185,25 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     @Override
     public void commit() throws SQLException {
-        forceExecuteTemplate.execute(cachedConnections.values(), Connection::commit);
+        forceExecute(Connection::commit);
     }
     
     @Override
     public void rollback() throws SQLException {
-        forceExecuteTemplate.execute(cachedConnections.values(), Connection::rollback);
+        forceExecute(Connection::rollback);
+    }
+    
+    private void forceExecute(final ForceExecuteCallback<Connection> callback) throws SQLException {
+        Collection<Connection> connections = cachedConnections.values();
+        if (connections.size() > 1) {
+            forceExecuteTemplate.execute(connections, callback, getExecutorService());
+        } else {
+            forceExecuteTemplate.execute(connections, callback);
+        }
+    }
+    
+    private ExecutorService getExecutorService() {
+        return schemaContexts.getDefaultSchemaContext().getRuntimeContext().getExecutorKernel().getExecutorService().getExecutorService();
     }
     
     @Override
@@ -235,7 +250,7 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
         recordMethodInvocation(Connection.class, "setTransactionIsolation", new Class[]{int.class}, new Object[]{level});
         forceExecuteTemplate.execute(cachedConnections.values(), connection -> connection.setTransactionIsolation(level));
     }
-
+    
     @Override
     public final boolean isValid(final int timeout) throws SQLException {
         for (Connection connection : cachedConnections.values()) {
@@ -19,7 +19,12 @@ package org.apache.shardingsphere.driver.jdbc.adapter.executor;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * Force execute template.
@@ -47,6 +52,56 @@ public final class ForceExecuteTemplate<T> {
         throwSQLExceptionIfNecessary(exceptions);
     }
     
+    /**
+     * Force execute in parallel.
+     * 
+     * <p>The first target is executed in current thread, others are dispatched to executor service.</p>
+     *
+     * @param targets targets to be executed
+     * @param callback force execute callback
+     * @param executorService executor service
+     * @throws SQLException throw SQL exception after all targets are executed
+     */
+    public void execute(final Collection<T> targets, final ForceExecuteCallback<T> callback, final ExecutorService executorService) throws SQLException {
+        if (targets.size() <= 1) {
+            execute(targets, callback);
+            return;
+        }
+        Iterator<T> targetsIterator = targets.iterator();
+        T firstTarget = targetsIterator.next();
+        Collection<Future<Optional<SQLException>>> futures = new LinkedList<>();
+        while (targetsIterator.hasNext()) {
+            T each = targetsIterator.next();
+            futures.add(executorService.submit(() -> execute(each, callback)));
+        }
+        Collection<SQLException> exceptions = new LinkedList<>();
+        execute(firstTarget, callback).ifPresent(exceptions::add);
+        for (Future<Optional<SQLException>> each : futures) {
+            getResult(each).ifPresent(exceptions::add);
+        }
+        throwSQLExceptionIfNecessary(exceptions);
+    }
+    
+    private Optional<SQLException> execute(final T target, final ForceExecuteCallback<T> callback) {
+        try {
+            callback.execute(target);
+            return Optional.empty();
+        } catch (final SQLException ex) {
+            return Optional.of(ex);
+        }
+    }
+    
+    private Optional<SQLException> getResult(final Future<Optional<SQLException>> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return Optional.of(new SQLException(ex));
+        } catch (final ExecutionException ex) {
+            return Optional.of(new SQLException(ex.getCause()));
+        }
+    }
+    
     private void throwSQLExceptionIfNecessary(final Collection<SQLException> exceptions) throws SQLException {
         if (exceptions.isEmpty()) {
             return;
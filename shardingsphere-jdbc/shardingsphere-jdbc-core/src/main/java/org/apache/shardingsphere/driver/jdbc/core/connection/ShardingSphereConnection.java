@@ -22,7 +22,9 @@ import org.apache.shardingsphere.driver.jdbc.adapter.AbstractConnectionAdapter;
 import org.apache.shardingsphere.driver.jdbc.core.datasource.metadata.ShardingSphereDatabaseMetaData;
 import org.apache.shardingsphere.driver.jdbc.core.statement.ShardingSpherePreparedStatement;
 import org.apache.shardingsphere.driver.jdbc.core.statement.ShardingSphereStatement;
+import org.apache.shardingsphere.kernel.context.SchemaContext;
 import org.apache.shardingsphere.kernel.context.SchemaContexts;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.apache.shardingsphere.transaction.spi.ShardingTransactionManager;
 
@@ -32,7 +34,10 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * ShardingSphere Connection.
@@ -44,6 +49,8 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
     
     private final ShardingTransactionManager shardingTransactionManager;
     
+    private final Collection<String> modifiedCacheableTables = ConcurrentHashMap.newKeySet();
+    
     public ShardingSphereConnection(final Map<String, DataSource> dataSourceMap, final SchemaContexts schemaContexts, final TransactionType transactionType) {
         super(dataSourceMap, schemaContexts);
         this.transactionType = transactionType;
@@ -68,6 +75,31 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
         return null != shardingTransactionManager && shardingTransactionManager.isInTransaction();
     }
     
+    /**
+     * Invalidate query results of cacheable tables modified by SQL statement.
+     * 
+     * <p>
+     * Cacheable tables modified in transaction are invalidated again when transaction is committed or rolled back,
+     * so query results loaded by other connections before transaction finished are not kept in cache.
+     * </p>
+     *
+     * @param sqlStatementContext SQL statement context
+     */
+    public void invalidateQueryResultCache(final SQLStatementContext<?> sqlStatementContext) {
+        SchemaContext schemaContext = getSchemaContexts().getDefaultSchemaContext();
+        Collection<String> invalidatedTables = schemaContext.getRuntimeContext().getQueryResultCache().invalidate(sqlStatementContext, schemaContext.getSchema().getRules());
+        if (!invalidatedTables.isEmpty() && isHoldTransaction()) {
+            modifiedCacheableTables.addAll(invalidatedTables);
+        }
+    }
+    
+    private void invalidateModifiedCacheableTables() {
+        if (!modifiedCacheableTables.isEmpty()) {
+            getSchemaContexts().getDefaultSchemaContext().getRuntimeContext().getQueryResultCache().invalidate(new ArrayList<>(modifiedCacheableTables));
+        }
+        modifiedCacheableTables.clear();
+    }
+    
     @Override
     public DatabaseMetaData getMetaData() {
         return new ShardingSphereDatabaseMetaData(this);
@@ -121,14 +153,24 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
     @Override
     public void setAutoCommit(final boolean autoCommit) throws SQLException {
         if (TransactionType.LOCAL == transactionType) {
-            super.setAutoCommit(autoCommit);
+            try {
+                super.setAutoCommit(autoCommit);
+            } finally {
+                if (autoCommit) {
+                    invalidateModifiedCacheableTables();
+                }
+            }
             return;
         }
         if (autoCommit != shardingTransactionManager.isInTransaction()) {
             return;
         }
         if (autoCommit && shardingTransactionManager.isInTransaction()) {
-            shardingTransactionManager.commit();
+            try {
+                shardingTransactionManager.commit();
+            } finally {
+                invalidateModifiedCacheableTables();
+            }
             return;
         }
         if (!autoCommit && !shardingTransactionManager.isInTransaction()) {
@@ -144,19 +186,27 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
     
     @Override
     public void commit() throws SQLException {
-        if (TransactionType.LOCAL == transactionType) {
-            super.commit();
-        } else {
-            shardingTransactionManager.commit();
+        try {
+            if (TransactionType.LOCAL == transactionType) {
+                super.commit();
+            } else {
+                shardingTransactionManager.commit();
+            }
+        } finally {
+            invalidateModifiedCacheableTables();
         }
     }
     
     @Override
     public void rollback() throws SQLException {
-        if (TransactionType.LOCAL == transactionType) {
-            super.rollback();
-        } else {
-            shardingTransactionManager.rollback();
+        try {
+            if (TransactionType.LOCAL == transactionType) {
+                super.rollback();
+            } else {
+                shardingTransactionManager.rollback();
+            }
+        } finally {
+            invalidateModifiedCacheableTables();
         }
     }
 }
@@ -29,11 +29,15 @@ import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.kernel.InputGroup;
+import org.apache.shardingsphere.infra.executor.kernel.deadline.ExecutionDeadline;
+import org.apache.shardingsphere.infra.executor.kernel.deadline.ExecutionDeadlineHolder;
 import org.apache.shardingsphere.infra.executor.sql.ExecutorConstant;
 import org.apache.shardingsphere.infra.executor.sql.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
+import org.apache.shardingsphere.infra.executor.sql.log.SQLExecutionPhase;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
+import org.apache.shardingsphere.infra.executor.sql.log.SlowQueryLogger;
 import org.apache.shardingsphere.infra.executor.sql.raw.RawSQLExecuteUnit;
 import org.apache.shardingsphere.infra.executor.sql.raw.execute.RawJDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.raw.execute.callback.RawSQLExecutorCallback;
@@ -52,6 +56,7 @@ import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.DataNodeRoutedRule;
 import org.apache.shardingsphere.kernel.context.SchemaContext;
 import org.apache.shardingsphere.kernel.context.SchemaContexts;
+import org.apache.shardingsphere.masterslave.route.engine.impl.HedgedReadManager;
 import org.apache.shardingsphere.sql.parser.binder.segment.insert.keygen.GeneratedKeyContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
@@ -91,6 +96,8 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     
     private ExecutionContext executionContext;
     
+    private ExecutionDeadline deadline;
+    
     private ResultSet currentResultSet;
     
     public ShardingSphereStatement(final ShardingSphereConnection connection) {
@@ -107,7 +114,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         schemaContexts = connection.getSchemaContexts();
         statements = new LinkedList<>();
         statementOption = new StatementOption(resultSetType, resultSetConcurrency, resultSetHoldability);
-        statementExecutor = new StatementExecutor(connection.getDataSourceMap(), schemaContexts, 
+        statementExecutor = new StatementExecutor(connection, schemaContexts, 
                 new SQLExecutor(schemaContexts.getDefaultSchemaContext().getRuntimeContext().getExecutorKernel(), connection.isHoldTransaction()));
         rawExecutor = new RawJDBCExecutor(schemaContexts.getDefaultSchemaContext().getRuntimeContext().getExecutorKernel(), connection.isHoldTransaction());
     }
@@ -132,6 +139,9 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             result = new ShardingSphereResultSet(statements.stream().map(this::getResultSet).collect(Collectors.toList()), mergedResult, this, executionContext);
         } finally {
             currentResultSet = null;
+            ExecutionDeadlineHolder.clear();
+            HedgedReadManager.clear();
+            SlowQueryLogger.finish(schemaContexts.getProps());
         }
         currentResultSet = result;
         return result;
@@ -150,6 +160,9 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             }
         } finally {
             currentResultSet = null;
+            ExecutionDeadlineHolder.clear();
+            HedgedReadManager.clear();
+            SlowQueryLogger.finish(schemaContexts.getProps());
         }
     }
     
@@ -169,6 +182,9 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             }
         } finally {
             currentResultSet = null;
+            ExecutionDeadlineHolder.clear();
+            HedgedReadManager.clear();
+            SlowQueryLogger.finish(schemaContexts.getProps());
         }
     }
     
@@ -186,6 +202,9 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             }
         } finally {
             currentResultSet = null;
+            ExecutionDeadlineHolder.clear();
+            HedgedReadManager.clear();
+            SlowQueryLogger.finish(schemaContexts.getProps());
         }
     }
     
@@ -203,6 +222,9 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             }
         } finally {
             currentResultSet = null;
+            ExecutionDeadlineHolder.clear();
+            HedgedReadManager.clear();
+            SlowQueryLogger.finish(schemaContexts.getProps());
         }
     }
     
@@ -220,6 +242,9 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             }
         } finally {
             currentResultSet = null;
+            ExecutionDeadlineHolder.clear();
+            HedgedReadManager.clear();
+            SlowQueryLogger.finish(schemaContexts.getProps());
         }
     }
     
@@ -240,6 +265,9 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             }
         } finally {
             currentResultSet = null;
+            ExecutionDeadlineHolder.clear();
+            HedgedReadManager.clear();
+            SlowQueryLogger.finish(schemaContexts.getProps());
         }
     }
     
@@ -258,6 +286,9 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             }
         } finally {
             currentResultSet = null;
+            ExecutionDeadlineHolder.clear();
+            HedgedReadManager.clear();
+            SlowQueryLogger.finish(schemaContexts.getProps());
         }
     }
     
@@ -276,22 +307,42 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             }
         } finally {
             currentResultSet = null;
+            ExecutionDeadlineHolder.clear();
+            HedgedReadManager.clear();
+            SlowQueryLogger.finish(schemaContexts.getProps());
         }
     }
     
     private ExecutionContext createExecutionContext(final String sql) throws SQLException {
         clearStatements();
+        startDeadline();
         SchemaContext schemaContext = schemaContexts.getDefaultSchemaContext();
+        SlowQueryLogger.start(schemaContexts.getProps());
+        SlowQueryLogger.setLogicSQL(schemaContext.getName(), sql);
+        long startTime = System.nanoTime();
         SQLStatement sqlStatement = schemaContext.getRuntimeContext().getSqlParserEngine().parse(sql, false);
+        SlowQueryLogger.recordPhase(SQLExecutionPhase.PARSE, startTime);
+        startTime = System.nanoTime();
         RouteContext routeContext = new DataNodeRouter(
                 schemaContext.getSchema().getMetaData(), schemaContexts.getProps(), schemaContext.getSchema().getRules()).route(sqlStatement, sql, Collections.emptyList());
+        SlowQueryLogger.recordPhase(SQLExecutionPhase.ROUTE, startTime);
+        startTime = System.nanoTime();
         SQLRewriteResult sqlRewriteResult = new SQLRewriteEntry(schemaContext.getSchema().getMetaData().getSchema().getConfiguredSchemaMetaData(),
                 schemaContexts.getProps(), schemaContext.getSchema().getRules()).rewrite(sql, Collections.emptyList(), routeContext);
+        SlowQueryLogger.recordPhase(SQLExecutionPhase.REWRITE, startTime);
         ExecutionContext result = new ExecutionContext(routeContext.getSqlStatementContext(), ExecutionContextBuilder.build(schemaContext.getSchema().getMetaData(), sqlRewriteResult));
         logSQL(sql, schemaContexts.getProps(), result);
         return result;
     }
     
+    private void startDeadline() {
+        if (null != deadline) {
+            deadline.release();
+        }
+        deadline = ExecutionDeadline.ofSeconds(getQueryTimeout());
+        ExecutionDeadlineHolder.set(deadline);
+    }
+    
     private void clearStatements() throws SQLException {
         for (Statement each : statements) {
             each.close();
@@ -308,7 +359,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     private Collection<InputGroup<StatementExecuteUnit>> getInputGroups() throws SQLException {
         int maxConnectionsSizePerQuery = schemaContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
         return new StatementExecuteGroupEngine(maxConnectionsSizePerQuery, connection, statementOption, 
-                schemaContexts.getDefaultSchemaContext().getSchema().getRules()).generate(executionContext.getExecutionUnits());
+                schemaContexts.getDefaultSchemaContext().getRuntimeContext().getCircuitBreakerRegistry(), schemaContexts.getDefaultSchemaContext().getSchema().getRules()).generate(executionContext.getExecutionUnits());
     }
     
     private Collection<InputGroup<RawSQLExecuteUnit>> getRawInputGroups() throws SQLException {
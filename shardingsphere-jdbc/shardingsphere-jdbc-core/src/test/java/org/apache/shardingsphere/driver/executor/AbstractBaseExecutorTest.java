@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypes;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorKernel;
+import org.apache.shardingsphere.infra.executor.sql.cache.QueryResultCache;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.executor.ExecutorExceptionHandler;
 import org.apache.shardingsphere.kernel.context.SchemaContext;
 import org.apache.shardingsphere.kernel.context.SchemaContexts;
@@ -75,6 +76,7 @@ public abstract class AbstractBaseExecutorTest {
         when(schemaContexts.getDefaultSchemaContext()).thenReturn(schemaContext);
         when(schemaContext.getRuntimeContext()).thenReturn(runtimeContext);
         when(runtimeContext.getExecutorKernel()).thenReturn(executorKernel);
+        when(runtimeContext.getQueryResultCache()).thenReturn(new QueryResultCache("logic_db", getProperties()));
         when(schemaContexts.getProps()).thenReturn(getProperties());
         when(schemaContext.getSchema()).thenReturn(schema);
         when(schemaContexts.getDatabaseType()).thenReturn(DatabaseTypes.getActualDatabaseType("H2"));
@@ -95,7 +97,7 @@ public abstract class AbstractBaseExecutorTest {
         when(result.isNeedAccumulate(any())).thenReturn(true);
         return result;
     }
-
+    
     protected final SQLStatementContext<?> getSQLStatementContext() {
         SQLStatementContext<?> result = mock(SQLStatementContext.class);
         TablesContext tablesContext = mock(TablesContext.class);
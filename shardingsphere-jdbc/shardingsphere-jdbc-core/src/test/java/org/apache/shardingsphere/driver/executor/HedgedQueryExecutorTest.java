@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor;
+
+import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.queryresult.MemoryQueryResult;
+import org.apache.shardingsphere.masterslave.route.engine.impl.HedgedRead;
+import org.apache.shardingsphere.masterslave.rule.HedgedReadStrategy;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class HedgedQueryExecutorTest {
+    
+    private static final String SQL = "SELECT * FROM t_order";
+    
+    private final ExecutionUnit executionUnit = new ExecutionUnit("slave_ds_0", new SQLUnit(SQL, Collections.emptyList()));
+    
+    private final DataSource candidateDataSource = mock(DataSource.class);
+    
+    private final Statement routedStatement = mock(Statement.class);
+    
+    private HedgedQueryExecutor hedgedQueryExecutor;
+    
+    @Before
+    public void setUp() throws SQLException {
+        Connection routedConnection = mock(Connection.class);
+        when(routedConnection.getAutoCommit()).thenReturn(true);
+        when(routedStatement.getConnection()).thenReturn(routedConnection);
+        hedgedQueryExecutor = new HedgedQueryExecutor(Collections.singletonMap("slave_ds_1", candidateDataSource));
+    }
+    
+    @Test
+    public void assertExecuteWhenRoutedSlaveWins() throws SQLException {
+        QueryResult expected = mock(QueryResult.class);
+        assertThat(hedgedQueryExecutor.execute(executionUnit, routedStatement, createHedgedRead(60000L), () -> expected), is(expected));
+        verify(candidateDataSource, never()).getConnection();
+    }
+    
+    @Test
+    public void assertExecuteWhenHedgedSlaveWins() throws SQLException, InterruptedException {
+        mockCandidateDataSource();
+        CountDownLatch routedStatementCancelled = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            routedStatementCancelled.countDown();
+            return null;
+        }).when(routedStatement).cancel();
+        QueryResult actual = hedgedQueryExecutor.execute(executionUnit, routedStatement, createHedgedRead(0L), () -> {
+            awaitQuietly(routedStatementCancelled);
+            throw new SQLException("Query cancelled.");
+        });
+        assertThat(actual, instanceOf(MemoryQueryResult.class));
+        verify(routedStatement).cancel();
+    }
+    
+    @Test
+    public void assertExecuteWhenBothSlavesFail() throws SQLException {
+        CountDownLatch hedgedQueryFailed = new CountDownLatch(1);
+        when(candidateDataSource.getConnection()).thenAnswer(invocation -> {
+            hedgedQueryFailed.countDown();
+            throw new SQLException("Candidate slave unavailable.");
+        });
+        SQLException expected = new SQLException("Routed slave unavailable.");
+        try {
+            hedgedQueryExecutor.execute(executionUnit, routedStatement, createHedgedRead(0L), () -> {
+                awaitQuietly(hedgedQueryFailed);
+                throw expected;
+            });
+            fail("Expected SQLException to be thrown.");
+        } catch (final SQLException ex) {
+            assertThat(ex, is(expected));
+        }
+    }
+    
+    private HedgedRead createHedgedRead(final long delayMillis) {
+        return new HedgedRead("slave_ds_1", delayMillis, new HedgedReadStrategy(new Properties()));
+    }
+    
+    private void mockCandidateDataSource() throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getMetaData()).thenReturn(mock(ResultSetMetaData.class));
+        when(statement.executeQuery(SQL)).thenReturn(resultSet);
+        when(connection.createStatement()).thenReturn(statement);
+        when(candidateDataSource.getConnection()).thenReturn(connection);
+    }
+    
+    private void awaitQuietly(final CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10L, TimeUnit.SECONDS));
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -60,7 +60,7 @@ public final class PreparedStatementExecutorTest extends AbstractBaseExecutorTes
     public void setUp() throws SQLException {
         super.setUp();
         ShardingSphereConnection connection = getConnection();
-        actual = spy(new PreparedStatementExecutor(connection.getDataSourceMap(), connection.getSchemaContexts(), new SQLExecutor(getExecutorKernel(), false)));
+        actual = spy(new PreparedStatementExecutor(connection, connection.getSchemaContexts(), new SQLExecutor(getExecutorKernel(), false)));
     }
     
     @Test
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.jdbc.adapter.executor;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class ForceExecuteTemplateTest {
+    
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+    
+    @After
+    public void tearDown() {
+        executorService.shutdown();
+    }
+    
+    @Test
+    public void assertExecuteInParallel() throws SQLException {
+        Connection connection1 = mock(Connection.class);
+        Connection connection2 = mock(Connection.class);
+        Connection connection3 = mock(Connection.class);
+        new ForceExecuteTemplate<Connection>().execute(Arrays.asList(connection1, connection2, connection3), Connection::commit, executorService);
+        verify(connection1).commit();
+        verify(connection2).commit();
+        verify(connection3).commit();
+    }
+    
+    @Test
+    public void assertExecuteInParallelWithExceptions() throws SQLException {
+        Connection connection1 = mock(Connection.class);
+        Connection connection2 = mock(Connection.class);
+        Connection connection3 = mock(Connection.class);
+        doThrow(new SQLException("first")).when(connection1).rollback();
+        doThrow(new SQLException("third")).when(connection3).rollback();
+        try {
+            new ForceExecuteTemplate<Connection>().execute(Arrays.asList(connection1, connection2, connection3), Connection::rollback, executorService);
+            fail("Expected SQLException");
+        } catch (final SQLException ex) {
+            assertThat(ex.getNextException().getMessage(), is("first"));
+            assertThat(ex.getNextException().getNextException().getMessage(), is("third"));
+        }
+        verify(connection2).rollback();
+    }
+}
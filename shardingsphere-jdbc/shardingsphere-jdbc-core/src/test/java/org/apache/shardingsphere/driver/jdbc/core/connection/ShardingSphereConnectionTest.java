@@ -20,6 +20,7 @@ package org.apache.shardingsphere.driver.jdbc.core.connection;
 import org.apache.shardingsphere.driver.jdbc.core.fixture.BASEShardingTransactionManagerFixture;
 import org.apache.shardingsphere.driver.jdbc.core.fixture.XAShardingTransactionManagerFixture;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypes;
+import org.apache.shardingsphere.infra.executor.sql.cache.QueryResultCache;
 import org.apache.shardingsphere.kernel.context.SchemaContext;
 import org.apache.shardingsphere.kernel.context.SchemaContexts;
 import org.apache.shardingsphere.kernel.context.StandardSchemaContexts;
@@ -27,6 +28,7 @@ import org.apache.shardingsphere.kernel.context.runtime.RuntimeContext;
 import org.apache.shardingsphere.kernel.context.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
 import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
 import org.apache.shardingsphere.transaction.core.TransactionOperationType;
 import org.apache.shardingsphere.transaction.core.TransactionType;
@@ -39,6 +41,7 @@ import org.junit.Test;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -46,8 +49,12 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class ShardingSphereConnectionTest {
@@ -132,6 +139,45 @@ public final class ShardingSphereConnectionTest {
         assertTrue(BASEShardingTransactionManagerFixture.getINVOCATIONS().contains(TransactionOperationType.ROLLBACK));
     }
 
+    @Test
+    public void assertInvalidateQueryResultCacheWithoutTransaction() {
+        SQLStatementContext<?> sqlStatementContext = mock(SQLStatementContext.class);
+        QueryResultCache queryResultCache = mockQueryResultCache(sqlStatementContext);
+        connection.invalidateQueryResultCache(sqlStatementContext);
+        verify(queryResultCache).invalidate(eq(sqlStatementContext), any());
+        assertTrue(connection.getModifiedCacheableTables().isEmpty());
+    }
+    
+    @Test
+    public void assertCommitWithModifiedCacheableTables() throws SQLException {
+        SQLStatementContext<?> sqlStatementContext = mock(SQLStatementContext.class);
+        QueryResultCache queryResultCache = mockQueryResultCache(sqlStatementContext);
+        connection.setAutoCommit(false);
+        connection.invalidateQueryResultCache(sqlStatementContext);
+        verify(queryResultCache, never()).invalidate(Collections.singletonList("t_dict"));
+        connection.commit();
+        verify(queryResultCache).invalidate(Collections.singletonList("t_dict"));
+        assertTrue(connection.getModifiedCacheableTables().isEmpty());
+    }
+    
+    @Test
+    public void assertRollbackWithModifiedCacheableTables() throws SQLException {
+        SQLStatementContext<?> sqlStatementContext = mock(SQLStatementContext.class);
+        QueryResultCache queryResultCache = mockQueryResultCache(sqlStatementContext);
+        connection.setAutoCommit(false);
+        connection.invalidateQueryResultCache(sqlStatementContext);
+        connection.rollback();
+        verify(queryResultCache).invalidate(Collections.singletonList("t_dict"));
+        assertTrue(connection.getModifiedCacheableTables().isEmpty());
+    }
+    
+    private QueryResultCache mockQueryResultCache(final SQLStatementContext<?> sqlStatementContext) {
+        QueryResultCache result = mock(QueryResultCache.class);
+        when(result.invalidate(eq(sqlStatementContext), any())).thenReturn(Collections.singletonList("t_dict"));
+        when(schemaContexts.getDefaultSchemaContext().getRuntimeContext().getQueryResultCache()).thenReturn(result);
+        return result;
+    }
+    
     @Test
     public void assertIsValid() throws SQLException {
         Connection masterConnection = mock(Connection.class);
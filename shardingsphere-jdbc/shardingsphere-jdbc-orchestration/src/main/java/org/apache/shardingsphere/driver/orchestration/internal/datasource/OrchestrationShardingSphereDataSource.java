@@ -53,6 +53,7 @@ import org.apache.shardingsphere.orchestration.core.facade.OrchestrationFacade;
 import org.apache.shardingsphere.orchestration.core.metadata.event.MetaDataChangedEvent;
 import org.apache.shardingsphere.orchestration.core.registry.event.CircuitStateChangedEvent;
 import org.apache.shardingsphere.orchestration.core.registry.event.DisabledStateChangedEvent;
+import org.apache.shardingsphere.orchestration.core.registry.event.QueryResultCacheInvalidatedEvent;
 import org.apache.shardingsphere.orchestration.core.registry.schema.OrchestrationSchema;
 import org.apache.shardingsphere.orchestration.repository.api.config.OrchestrationConfiguration;
 
@@ -268,6 +269,18 @@ public final class OrchestrationShardingSphereDataSource extends AbstractUnsuppo
         dataSource = new ShardingSphereDataSource(schemaContexts);
     }
     
+    /**
+     * Evict query result cache.
+     *
+     * @param event query result cache invalidated event
+     */
+    @Subscribe
+    public synchronized void renew(final QueryResultCacheInvalidatedEvent event) {
+        if (DefaultSchema.LOGIC_NAME.equals(event.getSchemaName())) {
+            dataSource.getSchemaContexts().getDefaultSchemaContext().getRuntimeContext().getQueryResultCache().evict(event.getTableNames());
+        }
+    }
+    
     /**
      * Renew disabled data source names.
      *
@@ -39,4 +39,6 @@ public final class ClusterBeanDefinitionTag {
     public static final String RETRY_INTERVAL_ATTRIBUTE = "retryInterval";
     
     public static final String RETRY_ENABLE_ATTRIBUTE = "retryEnable";
+    
+    public static final String TIMEOUT_ATTRIBUTE = "timeout";
 }
@@ -45,6 +45,8 @@ public final class ClusterBeanDefinitionParser extends AbstractBeanDefinitionPar
     
     private static final String PROPERTY_RETRY_INTERVAL = "retryInterval";
     
+    private static final String PROPERTY_TIMEOUT = "timeout";
+    
     private static final String PROPERTY_HEARTBEAT = "heartbeat";
     
     @Override
@@ -62,6 +64,7 @@ public final class ClusterBeanDefinitionParser extends AbstractBeanDefinitionPar
         addPropertyValueIfNotEmpty(ClusterBeanDefinitionTag.RETRY_ENABLE_ATTRIBUTE, PROPERTY_RETRY_ENABLE, element, factory);
         addPropertyValueIfNotEmpty(ClusterBeanDefinitionTag.RETRY_MAXIMUM_ATTRIBUTE, PROPERTY_RETRY_MAXIMUM, element, factory);
         addPropertyValueIfNotEmpty(ClusterBeanDefinitionTag.RETRY_INTERVAL_ATTRIBUTE, PROPERTY_RETRY_INTERVAL, element, factory);
+        addPropertyValueIfNotEmpty(ClusterBeanDefinitionTag.TIMEOUT_ATTRIBUTE, PROPERTY_TIMEOUT, element, factory);
         return factory.getBeanDefinition();
     }
     
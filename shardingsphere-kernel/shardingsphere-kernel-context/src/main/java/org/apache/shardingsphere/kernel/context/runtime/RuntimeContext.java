@@ -20,6 +20,8 @@ package org.apache.shardingsphere.kernel.context.runtime;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorKernel;
+import org.apache.shardingsphere.infra.executor.sql.cache.QueryResultCache;
+import org.apache.shardingsphere.infra.executor.sql.circuit.DataSourceCircuitBreakerRegistry;
 import org.apache.shardingsphere.rdl.parser.engine.ShardingSphereSQLParserEngine;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
 
@@ -37,4 +39,8 @@ public final class RuntimeContext {
     private final ShardingSphereSQLParserEngine sqlParserEngine;
     
     private final ShardingTransactionManagerEngine transactionManagerEngine;
+    
+    private final QueryResultCache queryResultCache;
+    
+    private final DataSourceCircuitBreakerRegistry circuitBreakerRegistry;
 }
@@ -49,4 +49,13 @@ public interface DatabaseCommunicationEngine {
      * @throws SQLException SQL exception
      */
     QueryData getQueryData() throws SQLException;
+    
+    /**
+     * Get value of current row.
+     *
+     * @param columnIndex column index, start from 1
+     * @return value of column
+     * @throws SQLException SQL exception
+     */
+    Object getValue(int columnIndex) throws SQLException;
 }
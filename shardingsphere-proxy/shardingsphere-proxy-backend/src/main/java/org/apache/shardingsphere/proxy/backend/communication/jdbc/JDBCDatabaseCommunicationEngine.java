@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKe
 import org.apache.shardingsphere.infra.executor.sql.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
+import org.apache.shardingsphere.infra.executor.sql.log.SlowQueryLogger;
 import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.query.QueryHeader;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
@@ -52,6 +53,7 @@ import org.apache.shardingsphere.transaction.core.TransactionType;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -73,6 +75,8 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     private MergedResult mergedResult;
     
+    private List<Integer> columnTypes;
+    
     public JDBCDatabaseCommunicationEngine(final String sql, final BackendConnection backendConnection, final SQLExecuteEngine sqlExecuteEngine) {
         this.sql = sql;
         connection = backendConnection;
@@ -83,6 +87,7 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     @Override
     public BackendResponse execute() {
         try {
+            SlowQueryLogger.setLogicSQL(schema.getName(), sql);
             ExecutionContext executionContext = executeEngine.execute(sql);
             if (ProxySchemaContexts.getInstance().getSchemaContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)) {
                 SQLLogger.logSQL(sql, ProxySchemaContexts.getInstance().getSchemaContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE), executionContext);
@@ -170,7 +175,11 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     @Override
     public boolean next() throws SQLException {
-        return null != mergedResult && mergedResult.next();
+        if (null != mergedResult && mergedResult.next()) {
+            SlowQueryLogger.recordRows(1L);
+            return true;
+        }
+        return false;
     }
     
     @Override
@@ -184,10 +193,19 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     }
     
     private List<Integer> getColumnTypes(final List<QueryHeader> queryHeaders) {
+        if (null != columnTypes) {
+            return columnTypes;
+        }
         List<Integer> result = new ArrayList<>(queryHeaders.size());
         for (QueryHeader each : queryHeaders) {
             result.add(each.getColumnType());
         }
-        return result;
+        columnTypes = Collections.unmodifiableList(result);
+        return columnTypes;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex) throws SQLException {
+        return mergedResult.getValue(columnIndex, Object.class);
     }
 }
@@ -20,31 +20,46 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.kernel.deadline.ExecutionDeadline;
+import org.apache.shardingsphere.infra.executor.kernel.deadline.ExecutionDeadlineHolder;
 import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.connection.JDBCExecutionConnection;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.group.StatementOption;
 import org.apache.shardingsphere.kernel.context.SchemaContext;
 import org.apache.shardingsphere.masterslave.route.engine.impl.MasterVisitedManager;
 import org.apache.shardingsphere.proxy.backend.schema.ProxySchemaContexts;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
+import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
@@ -80,11 +95,20 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
     
     private final Collection<MethodInvocation> methodInvocations = new LinkedList<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, OpenedCursor> cursors = new ConcurrentHashMap<>();
+    
+    private final SessionState sessionState = new SessionState();
+    
+    private final Collection<String> modifiedCacheableTables = ConcurrentHashMap.newKeySet();
+    
     @Getter
     private final ResourceSynchronizer resourceSynchronizer = new ResourceSynchronizer();
     
     private final ConnectionStateHandler stateHandler = new ConnectionStateHandler(resourceSynchronizer);
     
+    private volatile ExecutionDeadline deadline;
+    
     public BackendConnection(final TransactionType transactionType) {
         this.transactionType = transactionType;
         supportHint = false;
@@ -151,9 +175,11 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
         List<Connection> result;
         if (connections.size() >= connectionSize) {
             result = new ArrayList<>(connections).subList(0, connectionSize);
+            materializeCursors(result);
         } else if (!connections.isEmpty()) {
             result = new ArrayList<>(connectionSize);
             result.addAll(connections);
+            materializeCursors(connections);
             List<Connection> newConnections = createNewConnections(dataSourceName, connectionSize - connections.size(), connectionMode);
             result.addAll(newConnections);
             synchronized (cachedConnections) {
@@ -187,7 +213,89 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
     }
     
     private List<Connection> getConnectionFromUnderlying(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
-        return ProxySchemaContexts.getInstance().getBackendDataSource().getConnections(schema.getName(), dataSourceName, connectionSize, connectionMode);
+        List<Connection> result = ProxySchemaContexts.getInstance().getBackendDataSource().getConnections(schema.getName(), dataSourceName, connectionSize, connectionMode);
+        return isMultiplexing() ? synchronizeSessionState(dataSourceName, result) : result;
+    }
+    
+    private boolean isMultiplexing() {
+        return ProxySchemaContexts.getInstance().getSchemaContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_CONNECTION_MULTIPLEXING_ENABLED);
+    }
+    
+    private List<Connection> synchronizeSessionState(final String dataSourceName, final List<Connection> borrowedConnections) throws SQLException {
+        List<Connection> result = new ArrayList<>(borrowedConnections);
+        List<String> sessionStatements = sessionState.getStatements();
+        DatabaseType databaseType = ProxySchemaContexts.getInstance().getSchemaContexts().getDatabaseType();
+        try {
+            int maximumEvictCount = getMaximumEvictCount(dataSourceName);
+            for (int i = 0; i < result.size(); i++) {
+                int evictCount = 0;
+                while (!SessionStateSynchronizer.getInstance().synchronize(result.get(i), sessionStatements, databaseType)) {
+                    if (++evictCount > maximumEvictCount) {
+                        throw new SQLException(String.format("Could't get connection without state of other sessions from data source '%s', exceed maximum evict count:[%d].",
+                                dataSourceName, maximumEvictCount));
+                    }
+                    evictConnection(dataSourceName, result.get(i));
+                    result.set(i, ProxySchemaContexts.getInstance().getBackendDataSource().getConnection(schema.getName(), dataSourceName));
+                }
+            }
+        } catch (final SQLException ex) {
+            for (Connection each : result) {
+                closeConnection(each);
+            }
+            throw ex;
+        }
+        return result;
+    }
+    
+    private int getMaximumEvictCount(final String dataSourceName) {
+        DataSource dataSource = schema.getSchema().getDataSources().get(dataSourceName);
+        return dataSource instanceof HikariDataSource ? Math.max(((HikariDataSource) dataSource).getMaximumPoolSize(), MAXIMUM_RETRY_COUNT) : MAXIMUM_RETRY_COUNT;
+    }
+    
+    private void evictConnection(final String dataSourceName, final Connection connection) throws SQLException {
+        DataSource dataSource = schema.getSchema().getDataSources().get(dataSourceName);
+        if (!(dataSource instanceof HikariDataSource)) {
+            closeConnection(connection);
+            return;
+        }
+        try {
+            ((HikariDataSource) dataSource).evictConnection(connection);
+        } finally {
+            ProxySchemaContexts.getInstance().getBackendDataSource().release(connection);
+        }
+    }
+    
+    private void closeConnection(final Connection connection) throws SQLException {
+        try {
+            connection.close();
+        } finally {
+            ProxySchemaContexts.getInstance().getBackendDataSource().release(connection);
+        }
+    }
+    
+    /**
+     * Record session statement executed on all data sources, which is replayed on every backend connection borrowed later in multiplexing mode.
+     *
+     * @param sqlStatement SQL statement
+     * @param sql SQL
+     * @param succeed succeed on all data sources or not
+     */
+    public void recordSessionStatement(final SQLStatement sqlStatement, final String sql, final boolean succeed) {
+        if (!isMultiplexing()) {
+            return;
+        }
+        Collection<Connection> connections;
+        synchronized (cachedConnections) {
+            connections = new ArrayList<>(cachedConnections.values());
+        }
+        if (!succeed) {
+            connections.forEach(SessionStateSynchronizer.getInstance()::markUnknown);
+            return;
+        }
+        if (sessionState.record(sqlStatement, sql)) {
+            List<String> sessionStatements = sessionState.getStatements();
+            connections.forEach(each -> SessionStateSynchronizer.getInstance().markApplied(each, sessionStatements));
+        }
     }
     
     @Override
@@ -240,6 +348,69 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
         return cachedConnections.values().size();
     }
     
+    /**
+     * Start execution deadline for current logic SQL.
+     */
+    public void startDeadline() {
+        deadline = ExecutionDeadline.ofSeconds(ProxySchemaContexts.getInstance().getSchemaContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_QUERY_TIMEOUT));
+        ExecutionDeadlineHolder.set(deadline);
+    }
+    
+    /**
+     * Check execution deadline of current logic SQL.
+     *
+     * @throws SQLTimeoutException SQL timeout exception
+     */
+    public void checkDeadline() throws SQLTimeoutException {
+        ExecutionDeadline current = deadline;
+        if (null != current) {
+            current.check();
+        }
+    }
+    
+    /**
+     * Judge whether execution deadline of current logic SQL is expired or cancelled.
+     *
+     * @return expired or not
+     */
+    public boolean isDeadlineExpired() {
+        ExecutionDeadline current = deadline;
+        return null != current && current.isExpired();
+    }
+    
+    /**
+     * Get remaining milliseconds of execution deadline of current logic SQL.
+     *
+     * @return remaining milliseconds, {@code Long.MAX_VALUE} if no timeout
+     */
+    public long getDeadlineRemainingMillis() {
+        ExecutionDeadline current = deadline;
+        return null == current ? Long.MAX_VALUE : current.getRemainingMillis();
+    }
+    
+    /**
+     * Cancel current logic SQL and all physical statements it is executing.
+     */
+    public void cancelQuery() {
+        ExecutionDeadline current = deadline;
+        if (null != current) {
+            current.cancel();
+        }
+        resourceSynchronizer.doNotify();
+    }
+    
+    /**
+     * Finish execution deadline of current logic SQL.
+     */
+    public void finishDeadline() {
+        ExecutionDeadline current = deadline;
+        if (null != current) {
+            current.release();
+        }
+        deadline = null;
+        ExecutionDeadlineHolder.clear();
+    }
+    
     /**
      * Add statement.
      *
@@ -258,6 +429,89 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Open cursor.
+     * 
+     * <p>
+     *     Result sets and statements cached by current command, and connections of them, are owned by cursor with result set,
+     *     which are kept open across commands until the cursor is closed. Resources of other commands are closed as usual.
+     * </p>
+     *
+     * @param name cursor name
+     * @param cursor cursor
+     * @throws SQLException SQL exception
+     */
+    public void openCursor(final String name, final BackendCursor cursor) throws SQLException {
+        OpenedCursor openedCursor = new OpenedCursor(cursor);
+        if (cursor.isQuery()) {
+            openedCursor.resultSets.addAll(cachedResultSets);
+            cachedResultSets.removeAll(openedCursor.resultSets);
+            openedCursor.statements.addAll(cachedStatements);
+            cachedStatements.removeAll(openedCursor.statements);
+            for (Statement each : openedCursor.statements) {
+                Connection connection = each.getConnection();
+                if (null != connection) {
+                    openedCursor.connections.add(connection);
+                }
+            }
+        }
+        Optional.ofNullable(cursors.put(name, openedCursor)).ifPresent(this::release);
+    }
+    
+    /**
+     * Get cursor.
+     *
+     * @param name cursor name
+     * @param cursorType type of cursor
+     * @param <T> type of cursor
+     * @return cursor
+     */
+    public <T extends BackendCursor> Optional<T> getCursor(final String name, final Class<T> cursorType) {
+        OpenedCursor openedCursor = cursors.get(name);
+        return null != openedCursor && cursorType.isInstance(openedCursor.cursor) ? Optional.of(cursorType.cast(openedCursor.cursor)) : Optional.empty();
+    }
+    
+    /**
+     * Close cursor.
+     * 
+     * <p>Resources owned by cursor are released by the following close.</p>
+     *
+     * @param name cursor name
+     */
+    public void closeCursor(final String name) {
+        Optional.ofNullable(cursors.remove(name)).ifPresent(this::release);
+    }
+    
+    /**
+     * Close all cursors.
+     * 
+     * <p>Cursors do not outlive transaction, resources owned by them are released by the following close.</p>
+     */
+    public void closeCursors() {
+        for (String each : new ArrayList<>(cursors.keySet())) {
+            closeCursor(each);
+        }
+    }
+    
+    private void release(final OpenedCursor openedCursor) {
+        cachedResultSets.addAll(openedCursor.resultSets);
+        cachedStatements.addAll(openedCursor.statements);
+    }
+    
+    private void materializeCursors(final Collection<Connection> connections) throws SQLException {
+        Collection<SQLException> exceptions = new LinkedList<>();
+        for (OpenedCursor each : cursors.values()) {
+            if (Collections.disjoint(each.connections, connections)) {
+                continue;
+            }
+            each.cursor.materialize();
+            exceptions.addAll(closeResultSets(each.resultSets));
+            exceptions.addAll(closeStatements(each.statements));
+            each.connections.clear();
+        }
+        throwSQLExceptionIfNecessary(exceptions);
+    }
+    
     @Override
     public void close() throws SQLException {
         close(false);
@@ -272,8 +526,11 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
     public synchronized void close(final boolean forceClose) throws SQLException {
         Collection<SQLException> exceptions = new LinkedList<>();
         MasterVisitedManager.clear();
-        exceptions.addAll(closeResultSets());
-        exceptions.addAll(closeStatements());
+        if (forceClose) {
+            closeCursors();
+        }
+        exceptions.addAll(closeResultSets(cachedResultSets));
+        exceptions.addAll(closeStatements(cachedStatements));
         if (!stateHandler.isInTransaction() || forceClose || TransactionType.BASE == transactionType) {
             exceptions.addAll(releaseConnections(forceClose));
         }
@@ -281,46 +538,61 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
         throwSQLExceptionIfNecessary(exceptions);
     }
     
-    private Collection<SQLException> closeResultSets() {
+    private Collection<SQLException> closeResultSets(final Collection<ResultSet> resultSets) {
         Collection<SQLException> result = new LinkedList<>();
-        for (ResultSet each : cachedResultSets) {
+        for (ResultSet each : resultSets) {
             try {
                 each.close();
             } catch (final SQLException ex) {
                 result.add(ex);
             }
         }
-        cachedResultSets.clear();
+        resultSets.clear();
         return result;
     }
     
-    private Collection<SQLException> closeStatements() {
+    private Collection<SQLException> closeStatements(final Collection<Statement> statements) {
         Collection<SQLException> result = new LinkedList<>();
-        for (Statement each : cachedStatements) {
+        for (Statement each : statements) {
             try {
                 each.close();
             } catch (final SQLException ex) {
                 result.add(ex);
             }
         }
-        cachedStatements.clear();
+        statements.clear();
         return result;
     }
     
     Collection<SQLException> releaseConnections(final boolean forceRollback) {
         Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : cachedConnections.values()) {
+        Collection<Connection> cursorConnections = new HashSet<>();
+        for (OpenedCursor each : cursors.values()) {
+            cursorConnections.addAll(each.connections);
+        }
+        Iterator<Connection> iterator = cachedConnections.values().iterator();
+        while (iterator.hasNext()) {
+            Connection each = iterator.next();
+            if (cursorConnections.contains(each)) {
+                continue;
+            }
+            iterator.remove();
             try {
                 if (forceRollback && stateHandler.isInTransaction()) {
                     each.rollback();
                 }
-                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+            try {
+                closeConnection(each);
             } catch (final SQLException ex) {
                 result.add(ex);
             }
         }
-        cachedConnections.clear();
-        methodInvocations.clear();
+        if (cachedConnections.isEmpty()) {
+            methodInvocations.clear();
+        }
         return result;
     }
     
@@ -340,4 +612,16 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
             each.invoke(target);
         }
     }
+    
+    @RequiredArgsConstructor
+    private static final class OpenedCursor {
+        
+        private final BackendCursor cursor;
+        
+        private final Collection<ResultSet> resultSets = new LinkedList<>();
+        
+        private final Collection<Statement> statements = new LinkedList<>();
+        
+        private final Collection<Connection> connections = new HashSet<>();
+    }
 }
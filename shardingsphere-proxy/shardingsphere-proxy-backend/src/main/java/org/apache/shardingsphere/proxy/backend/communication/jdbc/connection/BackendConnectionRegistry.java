@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Backend connection registry, used to find connection by connection ID from other connections.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BackendConnectionRegistry {
+    
+    private static final BackendConnectionRegistry INSTANCE = new BackendConnectionRegistry();
+    
+    private final Map<Integer, BackendConnection> connections = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance.
+     *
+     * @return instance
+     */
+    public static BackendConnectionRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register backend connection.
+     *
+     * @param backendConnection backend connection
+     */
+    public void register(final BackendConnection backendConnection) {
+        connections.put(backendConnection.getConnectionId(), backendConnection);
+    }
+    
+    /**
+     * Get backend connection.
+     *
+     * @param connectionId connection ID
+     * @return backend connection
+     */
+    public Optional<BackendConnection> get(final int connectionId) {
+        return Optional.ofNullable(connections.get(connectionId));
+    }
+    
+    /**
+     * Unregister backend connection.
+     *
+     * @param connectionId connection ID
+     */
+    public void unregister(final int connectionId) {
+        connections.remove(connectionId);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import java.sql.SQLException;
+
+/**
+ * Cursor kept open on backend connection across commands.
+ */
+public interface BackendCursor {
+    
+    /**
+     * Judge whether cursor has result set.
+     *
+     * <p>Statements and result sets of cursor with result set, and connections of them, are owned by cursor until it is closed.</p>
+     *
+     * @return is query or not
+     */
+    boolean isQuery();
+    
+    /**
+     * Load remaining rows of cursor into memory.
+     *
+     * <p>Result sets owned by cursor are closed after materialized, so their connections can execute other statements of the same transaction.</p>
+     *
+     * @throws SQLException SQL exception
+     */
+    void materialize() throws SQLException;
+}
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.apache.shardingsphere.transaction.spi.ShardingTransactionManager;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 
 /**
  * Backend transaction manager.
@@ -48,6 +49,7 @@ public final class BackendTransactionManager implements TransactionManager {
     public void begin() {
         if (!connection.getStateHandler().isInTransaction()) {
             connection.getStateHandler().setStatus(ConnectionStatus.TRANSACTION);
+            connection.closeCursors();
             connection.releaseConnections(false);
         }
         if (TransactionType.LOCAL == transactionType || null == shardingTransactionManager) {
@@ -70,6 +72,8 @@ public final class BackendTransactionManager implements TransactionManager {
                 MetricsUtils.buriedTransactionMetric("commit");
             } finally {
                 connection.getStateHandler().setStatus(ConnectionStatus.TERMINATED);
+                invalidateQueryResultCache();
+                connection.closeCursors();
             }
         }
     }
@@ -86,7 +90,16 @@ public final class BackendTransactionManager implements TransactionManager {
                 MetricsUtils.buriedTransactionMetric("rollback");
             } finally {
                 connection.getStateHandler().setStatus(ConnectionStatus.TERMINATED);
+                invalidateQueryResultCache();
+                connection.closeCursors();
             }
         }
     }
+    
+    private void invalidateQueryResultCache() {
+        if (!connection.getModifiedCacheableTables().isEmpty() && null != connection.getSchema()) {
+            connection.getSchema().getRuntimeContext().getQueryResultCache().invalidate(new ArrayList<>(connection.getModifiedCacheableTables()));
+        }
+        connection.getModifiedCacheableTables().clear();
+    }
 }
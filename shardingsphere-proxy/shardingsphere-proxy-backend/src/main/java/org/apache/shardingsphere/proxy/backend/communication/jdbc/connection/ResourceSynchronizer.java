@@ -21,6 +21,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 
 /**
  * Resource synchronizer.
@@ -47,6 +48,33 @@ public final class ResourceSynchronizer {
         }
     }
     
+    /**
+     * Do await until predicate satisfied or timeout milliseconds elapsed.
+     * 
+     * <p>Predicate is evaluated while holding the lock of {@link #doNotify()},
+     * so a notify issued after predicate changed can not be missed between evaluation and await.</p>
+     *
+     * @param predicate condition to wait for
+     * @param timeoutMillis timeout milliseconds
+     * @return predicate satisfied or not
+     * @throws InterruptedException interrupted exception
+     */
+    public boolean doAwaitUntil(final BooleanSupplier predicate, final long timeoutMillis) throws InterruptedException {
+        lock.lock();
+        try {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            while (!predicate.getAsBoolean()) {
+                if (remainingNanos <= 0L) {
+                    return false;
+                }
+                remainingNanos = condition.awaitNanos(remainingNanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
     /**
      * Do notify.
      */
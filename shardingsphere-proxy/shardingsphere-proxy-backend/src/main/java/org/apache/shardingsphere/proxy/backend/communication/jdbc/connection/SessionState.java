@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import org.apache.shardingsphere.sql.parser.sql.segment.dal.VariableAssignSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dal.VariableSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dal.SetStatement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Session state of frontend connection for backend connection multiplexing.
+ *
+ * <p>
+ * Session statements are kept in executed order, statement which sets same variables as a previous one replaces it.
+ * Statements which only set global variables are not kept, because they do not belong to session.
+ * </p>
+ */
+public final class SessionState {
+    
+    private static final Collection<String> GLOBAL_SCOPES = Arrays.asList("GLOBAL", "PERSIST", "PERSIST_ONLY");
+    
+    private final Map<String, String> statements = new LinkedHashMap<>();
+    
+    /**
+     * Record session statement.
+     *
+     * @param sqlStatement SQL statement
+     * @param sql SQL
+     * @return recorded or not
+     */
+    public synchronized boolean record(final SQLStatement sqlStatement, final String sql) {
+        if (!isSessionScoped(sqlStatement)) {
+            return false;
+        }
+        String key = getKey(sqlStatement, sql);
+        statements.remove(key);
+        statements.put(key, sql);
+        return true;
+    }
+    
+    private boolean isSessionScoped(final SQLStatement sqlStatement) {
+        if (!isVariablesKnown(sqlStatement)) {
+            return true;
+        }
+        return ((SetStatement) sqlStatement).getVariableAssigns().stream().map(VariableAssignSegment::getVariable)
+                .anyMatch(each -> null == each.getScope() || !GLOBAL_SCOPES.contains(each.getScope().toUpperCase()));
+    }
+    
+    private boolean isVariablesKnown(final SQLStatement sqlStatement) {
+        return sqlStatement instanceof SetStatement && !((SetStatement) sqlStatement).getVariableAssigns().isEmpty()
+                && ((SetStatement) sqlStatement).getVariableAssigns().stream().allMatch(each -> null != each.getVariable() && null != each.getVariable().getVariable());
+    }
+    
+    private String getKey(final SQLStatement sqlStatement, final String sql) {
+        if (!isVariablesKnown(sqlStatement)) {
+            return sql.trim();
+        }
+        return ((SetStatement) sqlStatement).getVariableAssigns().stream().map(each -> getVariableText(each.getVariable(), sql)).sorted().collect(Collectors.joining(","));
+    }
+    
+    private String getVariableText(final VariableSegment variable, final String sql) {
+        if (variable.getStartIndex() >= 0 && variable.getStartIndex() <= variable.getStopIndex() && variable.getStopIndex() < sql.length()) {
+            return sql.substring(variable.getStartIndex(), variable.getStopIndex() + 1).toLowerCase();
+        }
+        return variable.getVariable().toLowerCase();
+    }
+    
+    /**
+     * Get session statements in executed order.
+     *
+     * @return session statements
+     */
+    public synchronized List<String> getStatements() {
+        return new ArrayList<>(statements.values());
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Session state synchronizer of physical connections for backend connection multiplexing.
+ *
+ * <p>
+ * Session statements applied on every physical connection are tracked. When frontend session borrows a connection, only statements it misses are replayed,
+ * connection is reset first only if it carries state of another session. PostgreSQL is reset by {@code RESET ALL}, MySQL is reset by {@code resetServerState} of its driver.
+ * Connection which can not be reset should be evicted by caller.
+ * </p>
+ */
+@Slf4j
+public final class SessionStateSynchronizer {
+    
+    private static final SessionStateSynchronizer INSTANCE = new SessionStateSynchronizer();
+    
+    private static final List<String> UNKNOWN_STATEMENTS = Collections.singletonList(null);
+    
+    private static final String RESET_SERVER_STATE_METHOD_NAME = "resetServerState";
+    
+    private final Cache<Connection, List<String>> appliedStatements = CacheBuilder.newBuilder().weakKeys().build();
+    
+    private SessionStateSynchronizer() { }
+    
+    /**
+     * Get instance of session state synchronizer.
+     *
+     * @return instance of session state synchronizer
+     */
+    public static SessionStateSynchronizer getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Synchronize session state of connection.
+     *
+     * @param connection connection
+     * @param sessionStatements session statements of frontend session
+     * @param databaseType database type
+     * @return synchronized or not, false means connection carries state of another session and can not be reset
+     * @throws SQLException SQL exception
+     */
+    public boolean synchronize(final Connection connection, final List<String> sessionStatements, final DatabaseType databaseType) throws SQLException {
+        List<String> applied = getAppliedStatements(connection);
+        if (!isPrefix(applied, sessionStatements)) {
+            if (!reset(connection, databaseType)) {
+                return false;
+            }
+            applied = Collections.emptyList();
+        }
+        try {
+            for (String each : sessionStatements.subList(applied.size(), sessionStatements.size())) {
+                execute(connection, each);
+            }
+        } catch (final SQLException ex) {
+            markUnknown(connection);
+            throw ex;
+        }
+        markApplied(connection, sessionStatements);
+        return true;
+    }
+    
+    private List<String> getAppliedStatements(final Connection connection) {
+        List<String> result = appliedStatements.getIfPresent(getPhysicalConnection(connection));
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    private boolean isPrefix(final List<String> applied, final List<String> sessionStatements) {
+        return applied.size() <= sessionStatements.size() && applied.equals(sessionStatements.subList(0, applied.size()));
+    }
+    
+    private boolean reset(final Connection connection, final DatabaseType databaseType) throws SQLException {
+        if (databaseType instanceof PostgreSQLDatabaseType) {
+            execute(connection, "RESET ALL");
+            return true;
+        }
+        if (databaseType instanceof MySQLDatabaseType) {
+            return resetServerState(getPhysicalConnection(connection));
+        }
+        return false;
+    }
+    
+    private boolean resetServerState(final Connection connection) throws SQLException {
+        Method resetServerStateMethod;
+        try {
+            resetServerStateMethod = connection.getClass().getMethod(RESET_SERVER_STATE_METHOD_NAME);
+        } catch (final NoSuchMethodException ex) {
+            return false;
+        }
+        try {
+            resetServerStateMethod.invoke(connection);
+            return true;
+        } catch (final IllegalAccessException ex) {
+            log.debug("Reset server state failure: ", ex);
+            return false;
+        } catch (final InvocationTargetException ex) {
+            throw ex.getCause() instanceof SQLException ? (SQLException) ex.getCause() : new SQLException(ex.getCause());
+        }
+    }
+    
+    private void execute(final Connection connection, final String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+    
+    /**
+     * Mark session statements applied on connection.
+     *
+     * @param connection connection
+     * @param sessionStatements session statements
+     */
+    public void markApplied(final Connection connection, final List<String> sessionStatements) {
+        appliedStatements.put(getPhysicalConnection(connection), new ArrayList<>(sessionStatements));
+    }
+    
+    /**
+     * Mark session state of connection unknown, which will be reset before borrowed next time.
+     *
+     * @param connection connection
+     */
+    public void markUnknown(final Connection connection) {
+        appliedStatements.put(getPhysicalConnection(connection), UNKNOWN_STATEMENTS);
+    }
+    
+    private Connection getPhysicalConnection(final Connection connection) {
+        try {
+            Connection result = connection.isWrapperFor(Connection.class) ? connection.unwrap(Connection.class) : null;
+            return null == result ? connection : result;
+        } catch (final SQLException ex) {
+            log.debug("Unwrap connection failure: ", ex);
+            return connection;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource;
+
+import org.apache.shardingsphere.control.panel.spi.engine.SingletonFacadeEngine;
+import org.apache.shardingsphere.control.panel.spi.metrics.MetricsHandlerFacade;
+import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Connection reservation of data source.
+ *
+ * <p>
+ * Permits of reservation are capacity of connection pool, every connection got from pool holds one permit until it is returned to pool.
+ * Query which needs multiple connections reserves all its permits atomically and in arrival order before getting connections,
+ * so no query holds part of pool while waiting for the rest of it, and queries get connections in parallel without deadlock.
+ * Waiting for permits is bounded by timeout.
+ * </p>
+ */
+public final class ConnectionReservation {
+    
+    private final int capacity;
+    
+    private final Semaphore permits;
+    
+    public ConnectionReservation(final int capacity) {
+        this.capacity = capacity;
+        permits = new Semaphore(capacity, true);
+    }
+    
+    /**
+     * Reserve permits for connections.
+     *
+     * @param connectionSize size of connections to be got
+     * @param timeoutMillis max milliseconds to wait
+     * @throws SQLException SQL exception
+     */
+    public void reserve(final int connectionSize, final long timeoutMillis) throws SQLException {
+        if (connectionSize > capacity) {
+            throw new SQLException(String.format("Could't reserve %d connections from pool with capacity %d.", connectionSize, capacity));
+        }
+        Optional<MetricsHandlerFacade> handlerFacade = SingletonFacadeEngine.buildMetrics();
+        Supplier<Boolean> histogramSupplier = handlerFacade.map(each -> each.histogramStartTimer(MetricsLabelEnum.BACKEND_CONNECTION_RESERVATION_LATENCY.getName())).orElse(null);
+        try {
+            if (!permits.tryAcquire(connectionSize, timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTimeoutException(String.format("Could't reserve %d connections in %d milliseconds.", connectionSize, timeoutMillis));
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(String.format("Interrupted while reserving %d connections.", connectionSize), ex);
+        } finally {
+            if (null != histogramSupplier) {
+                histogramSupplier.get();
+            }
+        }
+    }
+    
+    /**
+     * Release permits after connections returned to pool.
+     *
+     * @param connectionSize size of returned connections
+     */
+    public void release(final int connectionSize) {
+        permits.release(connectionSize);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.engine.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Execution report of DDL routed to actual tables.
+ *
+ * <p>
+ * Progress is logged every ten percent of actual SQLs finished,
+ * actual SQLs succeeded and failed are reported when part of them failed.
+ * </p>
+ */
+@Slf4j
+public final class DDLExecutionReport {
+    
+    private static final int MAX_REPORTED_FAILURES = 10;
+    
+    private final int total;
+    
+    private final AtomicInteger finished = new AtomicInteger();
+    
+    private final Collection<ExecutionUnit> succeeded = new ConcurrentLinkedQueue<>();
+    
+    private final Map<ExecutionUnit, Optional<SQLException>> failed = new ConcurrentHashMap<>();
+    
+    public DDLExecutionReport(final int total) {
+        this.total = total;
+    }
+    
+    /**
+     * Record actual SQL succeeded.
+     *
+     * @param executionUnit execution unit
+     */
+    public void succeed(final ExecutionUnit executionUnit) {
+        succeeded.add(executionUnit);
+        finish();
+    }
+    
+    /**
+     * Record actual SQL failed.
+     *
+     * @param executionUnit execution unit
+     * @param cause cause, absent if exception is not thrown by executor
+     */
+    public void fail(final ExecutionUnit executionUnit, final SQLException cause) {
+        failed.put(executionUnit, Optional.ofNullable(cause));
+        finish();
+    }
+    
+    private void finish() {
+        int current = finished.incrementAndGet();
+        if (total > 1 && current * 10 / total > (current - 1) * 10 / total) {
+            log.info("DDL progress: {}/{} actual SQLs finished, {} failed.", current, total, failed.size());
+        }
+    }
+    
+    /**
+     * Get succeeded count.
+     *
+     * @return succeeded count
+     */
+    public int getSucceededCount() {
+        return succeeded.size();
+    }
+    
+    /**
+     * Get failed count.
+     *
+     * @return failed count
+     */
+    public int getFailedCount() {
+        return failed.size();
+    }
+    
+    /**
+     * Throw exception if any actual SQL failed.
+     *
+     * @throws SQLException SQL exception lists failed actual SQLs, caused by the first failure
+     */
+    public void checkFailure() throws SQLException {
+        if (failed.isEmpty()) {
+            return;
+        }
+        log.warn("DDL partially failed, succeeded actual SQLs: {}", succeeded.stream().map(this::formatExecutionUnit).collect(Collectors.joining("; ")));
+        SQLException cause = failed.values().stream().filter(Optional::isPresent).map(Optional::get).findFirst().orElse(null);
+        String message = String.format("DDL partially failed, %d of %d actual SQLs succeeded, failed actual SQLs: %s", succeeded.size(), total, formatFailures());
+        throw null == cause ? new SQLException(message) : new SQLException(message, cause.getSQLState(), cause.getErrorCode(), cause);
+    }
+    
+    private String formatFailures() {
+        String result = failed.entrySet().stream().limit(MAX_REPORTED_FAILURES).map(this::formatFailure).collect(Collectors.joining("; "));
+        return failed.size() > MAX_REPORTED_FAILURES ? String.format("%s; and %d more", result, failed.size() - MAX_REPORTED_FAILURES) : result;
+    }
+    
+    private String formatFailure(final Entry<ExecutionUnit, Optional<SQLException>> failure) {
+        return failure.getValue().map(ex -> String.format("%s (%s)", formatExecutionUnit(failure.getKey()), ex.getMessage())).orElseGet(() -> formatExecutionUnit(failure.getKey()));
+    }
+    
+    private String formatExecutionUnit(final ExecutionUnit executionUnit) {
+        return String.format("%s::%s", executionUnit.getDataSourceName(), executionUnit.getSqlUnit().getSql());
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.engine.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.StatementExecuteUnit;
+import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.executor.SQLExecutorCallback;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Map;
+
+/**
+ * SQL executor callback for DDL of Proxy.
+ *
+ * <p>
+ * Each actual SQL is executed by delegate callback, failure of one actual SQL is recorded into report
+ * instead of aborting other actual SQLs, so that all of them are finished before failure reported.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class DDLSQLExecutorCallback implements SQLExecutorCallback<ExecuteResult> {
+    
+    private final SQLExecutorCallback<ExecuteResult> delegate;
+    
+    private final DDLExecutionReport report;
+    
+    @Override
+    public Collection<ExecuteResult> execute(final Collection<StatementExecuteUnit> inputs, final boolean isTrunkThread, final Map<String, Object> dataMap) {
+        Collection<ExecuteResult> result = new LinkedList<>();
+        for (StatementExecuteUnit each : inputs) {
+            try {
+                ExecuteResult executeResult = delegate.execute(Collections.singletonList(each), isTrunkThread, dataMap).iterator().next();
+                if (null == executeResult) {
+                    report.fail(each.getExecutionUnit(), null);
+                } else {
+                    report.succeed(each.getExecutionUnit());
+                    result.add(executeResult);
+                }
+            } catch (final SQLException ex) {
+                report.fail(each.getExecutionUnit(), ex);
+            }
+        }
+        return result;
+    }
+}
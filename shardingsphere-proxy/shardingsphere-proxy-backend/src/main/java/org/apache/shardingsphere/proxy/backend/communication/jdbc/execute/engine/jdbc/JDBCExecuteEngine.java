@@ -20,9 +20,12 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.engin
 import com.google.common.base.Strings;
 import lombok.Getter;
 import org.apache.shardingsphere.control.panel.spi.engine.SingletonFacadeEngine;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.kernel.InputGroup;
 import org.apache.shardingsphere.infra.executor.sql.ExecutorConstant;
+import org.apache.shardingsphere.infra.executor.sql.cache.QueryResultCache;
+import org.apache.shardingsphere.infra.executor.sql.circuit.CircuitBreakerOpenException;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.group.ExecuteGroupEngine;
 import org.apache.shardingsphere.infra.executor.sql.raw.RawSQLExecuteUnit;
@@ -34,24 +37,30 @@ import org.apache.shardingsphere.infra.executor.sql.raw.group.RawExecuteGroupEng
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.StatementExecuteUnit;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.executor.ExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.executor.SQLExecutor;
+import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.executor.SQLExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.group.StatementOption;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.SQLExecuteEngine;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.wrapper.JDBCExecutorWrapper;
 import org.apache.shardingsphere.proxy.backend.executor.BackendExecutorContext;
+import org.apache.shardingsphere.proxy.backend.metrics.MetricsUtils;
 import org.apache.shardingsphere.proxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.proxy.backend.response.query.QueryResponse;
 import org.apache.shardingsphere.proxy.backend.response.update.UpdateResponse;
 import org.apache.shardingsphere.proxy.backend.schema.ProxySchemaContexts;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.statement.ddl.DDLStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.DeleteStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.UpdateStatement;
 
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * SQL Execute engine for JDBC.
@@ -88,11 +97,7 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
         Collection<ExecuteResult> executeResults;
         if (ExecutorConstant.MANAGED_RESOURCE) {
-            ExecuteGroupEngine executeGroupEngine = jdbcExecutorWrapper.getExecuteGroupEngine(backendConnection, new StatementOption(isReturnGeneratedKeys));
-            Collection<InputGroup<StatementExecuteUnit>> inputGroups = executeGroupEngine.generate(executionContext.getExecutionUnits());
-            executeResults = sqlExecutor.execute(inputGroups,
-                    new ProxySQLExecutorCallback(sqlStatementContext, backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, true),
-                    new ProxySQLExecutorCallback(sqlStatementContext, backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, false));
+            executeResults = executeWithQueryResultCache(executionContext, isReturnGeneratedKeys, isExceptionThrown);
         } else {
             int maxConnectionsSizePerQuery = ProxySchemaContexts.getInstance().getSchemaContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
             Collection<InputGroup<RawSQLExecuteUnit>> inputGroups = new RawExecuteGroupEngine(
@@ -120,6 +125,63 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         }
     }
     
+    private Collection<ExecuteResult> executeWithQueryResultCache(final ExecutionContext executionContext, final boolean isReturnGeneratedKeys, final boolean isExceptionThrown) throws SQLException {
+        QueryResultCache queryResultCache = backendConnection.getSchema().getRuntimeContext().getQueryResultCache();
+        Collection<ShardingSphereRule> rules = backendConnection.getSchema().getSchema().getRules();
+        Collection<String> tableNames = executionContext.getSqlStatementContext().getTablesContext().getTableNames();
+        boolean isCacheable = executionContext.getSqlStatementContext().getSqlStatement() instanceof SelectStatement
+                && !backendConnection.getStateHandler().isInTransaction() && queryResultCache.isCacheable(tableNames, rules);
+        if (isCacheable) {
+            Optional<Collection<ExecuteResult>> cachedResults = queryResultCache.get(executionContext.getExecutionUnits());
+            if (cachedResults.isPresent()) {
+                return cachedResults.get();
+            }
+        }
+        long cacheVersion = queryResultCache.getVersion();
+        Collection<ExecuteResult> result;
+        try {
+            result = executeWithManagedResource(executionContext, isReturnGeneratedKeys, isExceptionThrown);
+        } finally {
+            Collection<String> invalidatedTables = queryResultCache.invalidate(executionContext.getSqlStatementContext(), rules);
+            if (!invalidatedTables.isEmpty() && backendConnection.getStateHandler().isInTransaction()) {
+                backendConnection.getModifiedCacheableTables().addAll(invalidatedTables);
+            }
+        }
+        return isCacheable ? queryResultCache.put(executionContext.getExecutionUnits(), tableNames, result, cacheVersion) : result;
+    }
+    
+    private Collection<ExecuteResult> executeWithManagedResource(final ExecutionContext executionContext, final boolean isReturnGeneratedKeys, final boolean isExceptionThrown) throws SQLException {
+        SQLStatementContext sqlStatementContext = executionContext.getSqlStatementContext();
+        boolean isParallelDDL = sqlStatementContext.getSqlStatement() instanceof DDLStatement && !backendConnection.isSerialExecute();
+        ExecuteGroupEngine executeGroupEngine = jdbcExecutorWrapper.getExecuteGroupEngine(backendConnection, getMaxConnectionsSizePerQuery(isParallelDDL), new StatementOption(isReturnGeneratedKeys));
+        Collection<InputGroup<StatementExecuteUnit>> inputGroups = generateInputGroups(executeGroupEngine, executionContext);
+        SQLExecutorCallback<ExecuteResult> firstCallback = new ProxySQLExecutorCallback(sqlStatementContext, backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, true);
+        SQLExecutorCallback<ExecuteResult> callback = new ProxySQLExecutorCallback(sqlStatementContext, backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, false);
+        if (isParallelDDL) {
+            DDLExecutionReport report = new DDLExecutionReport(executionContext.getExecutionUnits().size());
+            Collection<ExecuteResult> result = sqlExecutor.execute(inputGroups, new DDLSQLExecutorCallback(firstCallback, report), new DDLSQLExecutorCallback(callback, report));
+            report.checkFailure();
+            return result;
+        }
+        return sqlExecutor.execute(inputGroups, firstCallback, callback);
+    }
+    
+    private int getMaxConnectionsSizePerQuery(final boolean isParallelDDL) {
+        ConfigurationProperties props = ProxySchemaContexts.getInstance().getSchemaContexts().getProps();
+        int result = props.<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        return isParallelDDL ? Math.max(result, props.<Integer>getValue(ConfigurationPropertyKey.PROXY_DDL_MAX_CONNECTIONS_SIZE_PER_DATA_SOURCE)) : result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Collection<InputGroup<StatementExecuteUnit>> generateInputGroups(final ExecuteGroupEngine executeGroupEngine, final ExecutionContext executionContext) throws SQLException {
+        try {
+            return executeGroupEngine.generate(executionContext.getExecutionUnits());
+        } catch (final CircuitBreakerOpenException ex) {
+            MetricsUtils.buriedCircuitBreakerRejectedMetrics(ex.getDataSourceName());
+            throw ex;
+        }
+    }
+    
     private BackendResponse getExecuteQueryResponse(final List<QueryHeader> queryHeaders, final Collection<ExecuteResult> executeResults) {
         QueryResponse result = new QueryResponse(queryHeaders);
         for (ExecuteResult each : executeResults) {
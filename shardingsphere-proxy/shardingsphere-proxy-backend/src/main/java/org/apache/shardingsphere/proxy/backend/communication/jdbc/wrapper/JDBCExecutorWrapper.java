@@ -54,8 +54,9 @@ public interface JDBCExecutorWrapper {
      * Get execute group engine.
      *
      * @param backendConnection backend connection
+     * @param maxConnectionsSizePerQuery max connections size per query
      * @param option statement option
      * @return execute group engine
      */
-    ExecuteGroupEngine getExecuteGroupEngine(BackendConnection backendConnection, StatementOption option);
+    ExecuteGroupEngine getExecuteGroupEngine(BackendConnection backendConnection, int maxConnectionsSizePerQuery, StatementOption option);
 }
@@ -76,5 +76,13 @@ public final class MetricsUtils {
             }
         }));
     }
+    
+    /**
+     * Buried circuit breaker rejected metrics.
+     *
+     * @param dataSourceName data source name
+     */
+    public static void buriedCircuitBreakerRejectedMetrics(final String dataSourceName) {
+        SingletonFacadeEngine.buildMetrics().ifPresent(metricsHandlerFacade -> metricsHandlerFacade.counterIncrement(MetricsLabelEnum.CIRCUIT_BREAKER_REJECTED_TOTAL.getName(), dataSourceName));
+    }
 }
-
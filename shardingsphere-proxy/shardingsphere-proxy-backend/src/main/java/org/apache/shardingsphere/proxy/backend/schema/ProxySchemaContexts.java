@@ -18,12 +18,18 @@
 package org.apache.shardingsphere.proxy.backend.schema;
 
 import com.google.common.base.Strings;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
 import org.apache.shardingsphere.kernel.context.SchemaContext;
 import org.apache.shardingsphere.kernel.context.SchemaContexts;
 import org.apache.shardingsphere.kernel.context.StandardSchemaContexts;
 import org.apache.shardingsphere.proxy.backend.BackendDataSource;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource.ConnectionReservation;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.apache.shardingsphere.transaction.spi.ShardingTransactionManager;
 
@@ -37,6 +43,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Proxy schema contexts.
@@ -115,6 +122,11 @@ public final class ProxySchemaContexts {
     
     public final class JDBCBackendDataSource implements BackendDataSource {
         
+        private final LoadingCache<HikariDataSource, ConnectionReservation> connectionReservations = CacheBuilder.newBuilder().weakKeys()
+                .build(CacheLoader.from(dataSource -> new ConnectionReservation(Math.max(dataSource.getMaximumPoolSize(), 1))));
+        
+        private final Map<Connection, ConnectionReservation> reservedConnections = new ConcurrentHashMap<>();
+        
         /**
          * Get connection.
          *
@@ -143,6 +155,11 @@ public final class ProxySchemaContexts {
         
         /**
          * Get connections.
+         * 
+         * <p>
+         *     Connections of Hikari pool are reserved from its capacity, {@link #release(Connection)} should be called after they are returned to pool.
+         *     Connections of sharding transaction and of data sources with unknown capacity are not reserved.
+         * </p>
          *
          * @param schemaName scheme name
          * @param dataSourceName data source name
@@ -152,27 +169,55 @@ public final class ProxySchemaContexts {
          * @return connections
          * @throws SQLException SQL exception
          */
-        @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
         public List<Connection> getConnections(final String schemaName, final String dataSourceName, 
                                                final int connectionSize, final ConnectionMode connectionMode, final TransactionType transactionType) throws SQLException {
             DataSource dataSource = schemaContexts.getSchemaContexts().get(schemaName).getSchema().getDataSources().get(dataSourceName);
+            ShardingTransactionManager shardingTransactionManager = 
+                    schemaContexts.getSchemaContexts().get(schemaName).getRuntimeContext().getTransactionManagerEngine().getTransactionManager(transactionType);
+            if (dataSource instanceof HikariDataSource && !isInShardingTransaction(shardingTransactionManager)) {
+                return reserveConnections(dataSourceName, (HikariDataSource) dataSource, connectionSize, shardingTransactionManager);
+            }
             if (1 == connectionSize) {
-                return Collections.singletonList(createConnection(schemaName, dataSourceName, dataSource, transactionType));
+                return Collections.singletonList(createConnection(dataSourceName, dataSource, shardingTransactionManager));
+            }
+            return createConnections(dataSourceName, dataSource, connectionSize, shardingTransactionManager);
+        }
+        
+        private List<Connection> reserveConnections(final String dataSourceName, final HikariDataSource dataSource, 
+                                                    final int connectionSize, final ShardingTransactionManager shardingTransactionManager) throws SQLException {
+            ConnectionReservation connectionReservation = connectionReservations.getUnchecked(dataSource);
+            connectionReservation.reserve(connectionSize, schemaContexts.getProps().<Long>getValue(ConfigurationPropertyKey.PROXY_CONNECTION_RESERVATION_TIMEOUT));
+            List<Connection> result;
+            try {
+                result = createConnections(dataSourceName, dataSource, connectionSize, shardingTransactionManager);
+            } catch (final SQLException ex) {
+                connectionReservation.release(connectionSize);
+                throw ex;
             }
-            if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
-                return createConnections(schemaName, dataSourceName, dataSource, connectionSize, transactionType);
+            for (Connection each : result) {
+                reservedConnections.put(each, connectionReservation);
             }
-            synchronized (dataSource) {
-                return createConnections(schemaName, dataSourceName, dataSource, connectionSize, transactionType);
+            return result;
+        }
+        
+        /**
+         * Release reservation of connection after it is closed or evicted.
+         *
+         * @param connection connection returned to data source
+         */
+        public void release(final Connection connection) {
+            ConnectionReservation connectionReservation = reservedConnections.remove(connection);
+            if (null != connectionReservation) {
+                connectionReservation.release(1);
             }
         }
         
-        private List<Connection> createConnections(final String schemaName, final String dataSourceName, 
-                                                   final DataSource dataSource, final int connectionSize, final TransactionType transactionType) throws SQLException {
+        private List<Connection> createConnections(final String dataSourceName, final DataSource dataSource, 
+                                                   final int connectionSize, final ShardingTransactionManager shardingTransactionManager) throws SQLException {
             List<Connection> result = new ArrayList<>(connectionSize);
             for (int i = 0; i < connectionSize; i++) {
                 try {
-                    result.add(createConnection(schemaName, dataSourceName, dataSource, transactionType));
+                    result.add(createConnection(dataSourceName, dataSource, shardingTransactionManager));
                 } catch (final SQLException ex) {
                     for (Connection each : result) {
                         each.close();
@@ -183,9 +228,7 @@ public final class ProxySchemaContexts {
             return result;
         }
         
-        private Connection createConnection(final String schemaName, final String dataSourceName, final DataSource dataSource, final TransactionType transactionType) throws SQLException {
-            ShardingTransactionManager shardingTransactionManager = 
-                    schemaContexts.getSchemaContexts().get(schemaName).getRuntimeContext().getTransactionManagerEngine().getTransactionManager(transactionType);
+        private Connection createConnection(final String dataSourceName, final DataSource dataSource, final ShardingTransactionManager shardingTransactionManager) throws SQLException {
             return isInShardingTransaction(shardingTransactionManager) ? shardingTransactionManager.getConnection(dataSourceName) : dataSource.getConnection();
         }
         
@@ -27,9 +27,12 @@ import org.apache.shardingsphere.proxy.backend.response.update.UpdateResponse;
 import org.apache.shardingsphere.proxy.backend.schema.ProxySchemaContexts;
 import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandler;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dal.SetStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.tcl.SetTransactionStatement;
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.Optional;
 
 /**
  * Backend handler for broadcast.
@@ -54,12 +57,15 @@ public final class BroadcastBackendHandler implements TextProtocolBackendHandler
             responses.add(databaseCommunicationEngineFactory.newTextProtocolInstance(sqlStatement, sql, backendConnection).execute());
         }
         backendConnection.setCurrentSchema(originalSchema);
-        for (BackendResponse each : responses) {
-            if (each instanceof ErrorResponse) {
-                return each;
-            }
+        Optional<BackendResponse> errorResponse = responses.stream().filter(each -> each instanceof ErrorResponse).findFirst();
+        if (isSessionStatement()) {
+            backendConnection.recordSessionStatement(sqlStatement, sql, !errorResponse.isPresent());
         }
-        return new UpdateResponse();
+        return errorResponse.orElseGet(UpdateResponse::new);
+    }
+    
+    private boolean isSessionStatement() {
+        return sqlStatement instanceof SetStatement || sqlStatement instanceof SetTransactionStatement;
     }
     
     @Override
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnectionRegistry;
+import org.apache.shardingsphere.proxy.backend.response.BackendResponse;
+import org.apache.shardingsphere.proxy.backend.response.error.ErrorResponse;
+import org.apache.shardingsphere.proxy.backend.response.query.QueryData;
+import org.apache.shardingsphere.proxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandler;
+import org.apache.shardingsphere.sql.parser.sql.statement.dal.dialect.mysql.KillStatement;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Kill query backend handler, which cancels logic SQL of another frontend connection across all shards.
+ */
+@RequiredArgsConstructor
+public final class KillQueryBackendHandler implements TextProtocolBackendHandler {
+    
+    private final KillStatement killStatement;
+    
+    private final BackendConnection backendConnection;
+    
+    @Override
+    public BackendResponse execute() {
+        Optional<BackendConnection> target = killStatement.getProcessId() > Integer.MAX_VALUE ? Optional.empty() : BackendConnectionRegistry.getInstance().get((int) killStatement.getProcessId());
+        if (!target.isPresent() || !isSameUser(target.get())) {
+            return new ErrorResponse(new SQLException(String.format("Unknown thread id: %d", killStatement.getProcessId()), "HY000", 1094));
+        }
+        target.get().cancelQuery();
+        return new UpdateResponse();
+    }
+    
+    private boolean isSameUser(final BackendConnection target) {
+        return null != backendConnection.getUserName() && null != target.getUserName() && backendConnection.getUserName().equals(target.getUserName());
+    }
+    
+    @Override
+    public boolean next() {
+        return false;
+    }
+    
+    @Override
+    public QueryData getQueryData() {
+        return null;
+    }
+}
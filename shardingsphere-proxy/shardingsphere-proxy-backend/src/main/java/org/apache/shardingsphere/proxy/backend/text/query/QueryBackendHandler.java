@@ -69,4 +69,15 @@ public final class QueryBackendHandler implements TextProtocolBackendHandler {
     public QueryData getQueryData() throws SQLException {
         return databaseCommunicationEngine.getQueryData();
     }
+    
+    /**
+     * Get value of current row.
+     *
+     * @param columnIndex column index, start from 1
+     * @return value of column
+     * @throws SQLException SQL exception
+     */
+    public Object getValue(final int columnIndex) throws SQLException {
+        return databaseCommunicationEngine.getValue(columnIndex);
+    }
 }
@@ -44,6 +44,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -52,6 +53,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -60,6 +62,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -239,6 +242,102 @@ public final class BackendConnectionTest {
         assertTrue(actual.getCachedStatements().isEmpty());
     }
     
+    @Test
+    public void assertAutoCloseConnectionWithOpenCursor() throws SQLException {
+        BackendConnection actual;
+        Connection cursorConnection = mock(Connection.class);
+        ResultSet cursorResultSet = mock(ResultSet.class);
+        Statement cursorStatement = mock(Statement.class);
+        ResultSet otherResultSet = mock(ResultSet.class);
+        Statement otherStatement = mock(Statement.class);
+        List<Connection> otherConnections = MockConnectionUtil.mockNewConnections(2);
+        try (BackendConnection backendConnection = new BackendConnection(TransactionType.LOCAL)) {
+            backendConnection.setCurrentSchema("schema_0");
+            when(backendDataSource.getConnections(anyString(), anyString(), eq(1), any())).thenReturn(Collections.singletonList(cursorConnection));
+            backendConnection.getConnections("ds1", 1, ConnectionMode.MEMORY_STRICTLY);
+            when(cursorStatement.getConnection()).thenReturn(cursorConnection);
+            backendConnection.add(cursorStatement);
+            backendConnection.add(cursorResultSet);
+            backendConnection.openCursor("1", mockCursor());
+            backendConnection.close();
+            when(backendDataSource.getConnections(anyString(), anyString(), eq(2), any())).thenReturn(otherConnections);
+            backendConnection.getConnections("ds1", 2, ConnectionMode.MEMORY_STRICTLY);
+            backendConnection.getStateHandler().setRunningStatusIfNecessary();
+            backendConnection.add(otherStatement);
+            backendConnection.add(otherResultSet);
+            actual = backendConnection;
+        }
+        verify(otherResultSet).close();
+        verify(otherStatement).close();
+        verify(otherConnections.get(0)).close();
+        verify(otherConnections.get(1)).close();
+        verify(cursorResultSet, never()).close();
+        verify(cursorStatement, never()).close();
+        verify(cursorConnection, never()).close();
+        assertThat(actual.getConnectionSize(), is(1));
+        assertThat(actual.getStateHandler().getStatus(), is(ConnectionStatus.RELEASE));
+        assertTrue(actual.getCursor("1", BackendCursor.class).isPresent());
+        actual.closeCursor("1");
+        actual.close();
+        verify(cursorResultSet).close();
+        verify(cursorStatement).close();
+        verify(cursorConnection).close();
+        assertThat(actual.getConnectionSize(), is(0));
+        assertTrue(actual.getCachedResultSets().isEmpty());
+        assertTrue(actual.getCachedStatements().isEmpty());
+    }
+    
+    @Test
+    public void assertMaterializeCursorWhenConnectionReusedInTransaction() throws SQLException {
+        backendConnection.getStateHandler().setStatus(ConnectionStatus.TRANSACTION);
+        Connection connection = mock(Connection.class);
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(1), any())).thenReturn(Collections.singletonList(connection));
+        backendConnection.getConnections("ds1", 1, ConnectionMode.MEMORY_STRICTLY);
+        ResultSet resultSet = mock(ResultSet.class);
+        Statement statement = mock(Statement.class);
+        when(statement.getConnection()).thenReturn(connection);
+        backendConnection.add(statement);
+        backendConnection.add(resultSet);
+        BackendCursor cursor = mockCursor();
+        backendConnection.openCursor("1", cursor);
+        backendConnection.close();
+        verify(resultSet, never()).close();
+        verify(cursor, never()).materialize();
+        assertThat(backendConnection.getConnections("ds1", 1, ConnectionMode.MEMORY_STRICTLY), is(Collections.singletonList(connection)));
+        verify(cursor).materialize();
+        verify(resultSet).close();
+        verify(statement).close();
+        verify(connection, never()).close();
+        assertTrue(backendConnection.getCursor("1", BackendCursor.class).isPresent());
+    }
+    
+    @Test
+    public void assertAutoCloseConnectionAfterCursorsClosed() throws SQLException {
+        BackendConnection actual;
+        try (BackendConnection backendConnection = new BackendConnection(TransactionType.LOCAL)) {
+            backendConnection.setCurrentSchema("schema_0");
+            when(backendDataSource.getConnections(anyString(), anyString(), eq(2), any())).thenReturn(MockConnectionUtil.mockNewConnections(2));
+            backendConnection.getConnections("ds1", 2, ConnectionMode.MEMORY_STRICTLY);
+            backendConnection.getStateHandler().setRunningStatusIfNecessary();
+            mockResultSetAndStatement(backendConnection);
+            backendConnection.openCursor("1", mockCursor());
+            backendConnection.openCursor("2", mockCursor());
+            backendConnection.closeCursors();
+            actual = backendConnection;
+        }
+        assertFalse(actual.getCursor("1", BackendCursor.class).isPresent());
+        assertFalse(actual.getCursor("2", BackendCursor.class).isPresent());
+        assertThat(actual.getConnectionSize(), is(0));
+        assertTrue(actual.getCachedResultSets().isEmpty());
+        assertTrue(actual.getCachedStatements().isEmpty());
+    }
+    
+    private BackendCursor mockCursor() {
+        BackendCursor result = mock(BackendCursor.class);
+        when(result.isQuery()).thenReturn(true);
+        return result;
+    }
+    
     private void mockResultSetAndStatement(final BackendConnection backendConnection) {
         ResultSet resultSet = mock(ResultSet.class);
         Statement statement = mock(Statement.class);
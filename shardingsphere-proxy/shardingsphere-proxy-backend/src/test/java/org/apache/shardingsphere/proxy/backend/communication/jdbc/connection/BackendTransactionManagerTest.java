@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.sql.cache.QueryResultCache;
 import org.apache.shardingsphere.kernel.context.SchemaContext;
 import org.apache.shardingsphere.kernel.context.runtime.RuntimeContext;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
@@ -31,7 +32,11 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.lang.reflect.Field;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -73,6 +78,7 @@ public final class BackendTransactionManagerTest {
         newBackendTransactionManager(TransactionType.LOCAL, false);
         backendTransactionManager.begin();
         verify(stateHandler).setStatus(ConnectionStatus.TRANSACTION);
+        verify(backendConnection).closeCursors();
         verify(backendConnection).releaseConnections(false);
         verify(localTransactionManager).begin();
     }
@@ -92,6 +98,7 @@ public final class BackendTransactionManagerTest {
         backendTransactionManager.commit();
         verify(stateHandler).setStatus(ConnectionStatus.TERMINATED);
         verify(localTransactionManager).commit();
+        verify(backendConnection).closeCursors();
     }
     
     @Test
@@ -102,6 +109,19 @@ public final class BackendTransactionManagerTest {
         verify(shardingTransactionManager).commit();
     }
     
+    @Test
+    public void assertCommitWithModifiedCacheableTables() throws SQLException {
+        QueryResultCache queryResultCache = mock(QueryResultCache.class);
+        when(schema.getRuntimeContext().getQueryResultCache()).thenReturn(queryResultCache);
+        Collection<String> modifiedCacheableTables = new HashSet<>(Collections.singleton("t_dict"));
+        when(backendConnection.getModifiedCacheableTables()).thenReturn(modifiedCacheableTables);
+        newBackendTransactionManager(TransactionType.LOCAL, true);
+        backendTransactionManager.commit();
+        verify(localTransactionManager).commit();
+        verify(queryResultCache).invalidate(Collections.singletonList("t_dict"));
+        assertTrue(modifiedCacheableTables.isEmpty());
+    }
+    
     @Test
     public void assertCommitWithoutTransaction() throws SQLException {
         newBackendTransactionManager(TransactionType.LOCAL, false);
@@ -117,6 +137,7 @@ public final class BackendTransactionManagerTest {
         backendTransactionManager.rollback();
         verify(stateHandler).setStatus(ConnectionStatus.TERMINATED);
         verify(localTransactionManager).rollback();
+        verify(backendConnection).closeCursors();
     }
     
     @Test
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class ResourceSynchronizerTest {
+    
+    private final ResourceSynchronizer resourceSynchronizer = new ResourceSynchronizer();
+    
+    @Test
+    public void assertDoAwaitUntilPredicateSatisfied() throws InterruptedException {
+        assertTrue(resourceSynchronizer.doAwaitUntil(() -> true, 0L));
+    }
+    
+    @Test
+    public void assertDoAwaitUntilTimeout() throws InterruptedException {
+        assertFalse(resourceSynchronizer.doAwaitUntil(() -> false, 10L));
+    }
+    
+    @Test(timeout = 10000L)
+    public void assertDoAwaitUntilNotified() throws InterruptedException {
+        AtomicBoolean writable = new AtomicBoolean();
+        Thread notifyThread = new Thread(() -> {
+            try {
+                Thread.sleep(100L);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            writable.set(true);
+            resourceSynchronizer.doNotify();
+        });
+        notifyThread.start();
+        assertTrue(resourceSynchronizer.doAwaitUntil(writable::get, Long.MAX_VALUE));
+        notifyThread.join();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class SessionStateSynchronizerTest {
+    
+    private Connection connection;
+    
+    private Statement statement;
+    
+    @Before
+    public void setUp() throws SQLException {
+        connection = mock(Connection.class);
+        statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+    }
+    
+    @Test
+    public void assertSynchronizeWithMissingStatements() throws SQLException {
+        SessionStateSynchronizer.getInstance().markApplied(connection, Collections.singletonList("SET NAMES utf8mb4"));
+        assertTrue(SessionStateSynchronizer.getInstance().synchronize(connection, Arrays.asList("SET NAMES utf8mb4", "SET sql_mode = ''"), new MySQLDatabaseType()));
+        verify(statement, never()).execute("SET NAMES utf8mb4");
+        verify(statement).execute("SET sql_mode = ''");
+    }
+    
+    @Test
+    public void assertSynchronizeWithSameStatements() throws SQLException {
+        SessionStateSynchronizer.getInstance().markApplied(connection, Collections.singletonList("SET NAMES utf8mb4"));
+        assertTrue(SessionStateSynchronizer.getInstance().synchronize(connection, Collections.singletonList("SET NAMES utf8mb4"), new MySQLDatabaseType()));
+        verify(connection, never()).createStatement();
+    }
+    
+    @Test
+    public void assertSynchronizeWithStateOfOtherSessionCanNotReset() throws SQLException {
+        SessionStateSynchronizer.getInstance().markApplied(connection, Collections.singletonList("SET NAMES latin1"));
+        assertFalse(SessionStateSynchronizer.getInstance().synchronize(connection, Collections.singletonList("SET NAMES utf8mb4"), new H2DatabaseType()));
+        verify(connection, never()).createStatement();
+    }
+    
+    @Test
+    public void assertSynchronizeWithStateOfOtherSessionResetServerState() throws SQLException {
+        ResettableConnection resettableConnection = mock(ResettableConnection.class);
+        when(resettableConnection.createStatement()).thenReturn(statement);
+        SessionStateSynchronizer.getInstance().markApplied(resettableConnection, Collections.singletonList("SET NAMES latin1"));
+        assertTrue(SessionStateSynchronizer.getInstance().synchronize(resettableConnection, Collections.singletonList("SET NAMES utf8mb4"), new MySQLDatabaseType()));
+        verify(resettableConnection).resetServerState();
+        verify(statement).execute("SET NAMES utf8mb4");
+    }
+    
+    @Test
+    public void assertSynchronizeWithStateOfOtherSessionWithoutResetServerState() throws SQLException {
+        SessionStateSynchronizer.getInstance().markApplied(connection, Collections.singletonList("SET NAMES latin1"));
+        assertFalse(SessionStateSynchronizer.getInstance().synchronize(connection, Collections.singletonList("SET NAMES utf8mb4"), new MySQLDatabaseType()));
+        verify(connection, never()).createStatement();
+    }
+    
+    @Test
+    public void assertSynchronizeWithStateOfOtherSessionReset() throws SQLException {
+        SessionStateSynchronizer.getInstance().markApplied(connection, Collections.singletonList("SET search_path TO s1"));
+        assertTrue(SessionStateSynchronizer.getInstance().synchronize(connection, Collections.singletonList("SET search_path TO s2"), new PostgreSQLDatabaseType()));
+        verify(statement).execute("RESET ALL");
+        verify(statement).execute("SET search_path TO s2");
+    }
+    
+    @Test
+    public void assertSynchronizeWithUnknownState() throws SQLException {
+        SessionStateSynchronizer.getInstance().markUnknown(connection);
+        assertTrue(SessionStateSynchronizer.getInstance().synchronize(connection, Collections.emptyList(), new PostgreSQLDatabaseType()));
+        verify(statement, times(1)).execute("RESET ALL");
+    }
+    
+    public interface ResettableConnection extends Connection {
+        
+        /**
+         * Reset server state.
+         *
+         * @throws SQLException SQL exception
+         */
+        void resetServerState() throws SQLException;
+    }
+}
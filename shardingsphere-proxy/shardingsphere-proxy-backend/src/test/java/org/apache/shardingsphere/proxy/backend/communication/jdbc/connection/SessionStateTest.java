@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import org.apache.shardingsphere.sql.parser.sql.segment.dal.VariableAssignSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dal.VariableSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dal.SetStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.tcl.SetTransactionStatement;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SessionStateTest {
+    
+    @Test
+    public void assertRecordReplacesSameVariable() {
+        SessionState sessionState = new SessionState();
+        assertTrue(sessionState.record(createSetStatement(null, "sql_mode", 4, 11), "SET sql_mode = ''"));
+        assertTrue(sessionState.record(createSetStatement(null, "time_zone", 4, 12), "SET time_zone = '+08:00'"));
+        assertTrue(sessionState.record(createSetStatement(null, "sql_mode", 4, 11), "SET sql_mode = 'ANSI'"));
+        assertThat(sessionState.getStatements(), is(Arrays.asList("SET time_zone = '+08:00'", "SET sql_mode = 'ANSI'")));
+    }
+    
+    @Test
+    public void assertRecordGlobalVariable() {
+        SessionState sessionState = new SessionState();
+        assertFalse(sessionState.record(createSetStatement("GLOBAL", "max_connections", 11, 25), "SET GLOBAL max_connections = 100"));
+        assertTrue(sessionState.getStatements().isEmpty());
+    }
+    
+    @Test
+    public void assertRecordStatementWithoutVariables() {
+        SessionState sessionState = new SessionState();
+        assertTrue(sessionState.record(new SetTransactionStatement(), "SET SESSION TRANSACTION ISOLATION LEVEL READ COMMITTED"));
+        assertTrue(sessionState.record(new SetTransactionStatement(), " SET SESSION TRANSACTION ISOLATION LEVEL READ COMMITTED "));
+        assertThat(sessionState.getStatements(), is(Collections.singletonList("SET SESSION TRANSACTION ISOLATION LEVEL READ COMMITTED")));
+    }
+    
+    private SetStatement createSetStatement(final String scope, final String variableName, final int startIndex, final int stopIndex) {
+        VariableSegment variable = new VariableSegment();
+        variable.setScope(scope);
+        variable.setVariable(variableName);
+        variable.setStartIndex(startIndex);
+        variable.setStopIndex(stopIndex);
+        VariableAssignSegment variableAssign = new VariableAssignSegment();
+        variableAssign.setVariable(variable);
+        SetStatement result = new SetStatement();
+        result.getVariableAssigns().add(variableAssign);
+        return result;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+
+public final class ConnectionReservationTest {
+    
+    @Test(expected = SQLTimeoutException.class)
+    public void assertReserveTimeout() throws SQLException {
+        ConnectionReservation reservation = new ConnectionReservation(3);
+        reservation.reserve(2, 0L);
+        reservation.reserve(2, 10L);
+    }
+    
+    @Test
+    public void assertReserveAfterPartialRelease() throws SQLException {
+        ConnectionReservation reservation = new ConnectionReservation(3);
+        reservation.reserve(2, 0L);
+        reservation.reserve(1, 0L);
+        reservation.release(1);
+        reservation.release(1);
+        reservation.reserve(2, 0L);
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertReserveExceedCapacity() throws SQLException {
+        new ConnectionReservation(2).reserve(3, 0L);
+    }
+}
@@ -17,10 +17,12 @@
 
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource;
 
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.auth.Authentication;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
 import org.apache.shardingsphere.kernel.context.SchemaContext;
@@ -37,6 +39,7 @@ import javax.sql.DataSource;
 import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -70,7 +73,13 @@ public final class JDBCBackendDataSourceTest {
         Field schemaContexts = ProxySchemaContexts.getInstance().getClass().getDeclaredField("schemaContexts");
         schemaContexts.setAccessible(true);
         schemaContexts.set(ProxySchemaContexts.getInstance(),
-                new StandardSchemaContexts(getSchemaContextMap(), new Authentication(), new ConfigurationProperties(new Properties()), new MySQLDatabaseType()));
+                new StandardSchemaContexts(getSchemaContextMap(), new Authentication(), new ConfigurationProperties(createProperties()), new MySQLDatabaseType()));
+    }
+    
+    private Properties createProperties() {
+        Properties result = new Properties();
+        result.setProperty(ConfigurationPropertyKey.PROXY_CONNECTION_RESERVATION_TIMEOUT.getKey(), "0");
+        return result;
     }
     
     private Map<String, SchemaContext> getSchemaContextMap() {
@@ -92,6 +101,15 @@ public final class JDBCBackendDataSourceTest {
         for (int i = 0; i < size; i++) {
             result.put("ds_" + i, new MockDataSource());
         }
+        result.put("ds_hikari", mockHikariDataSource());
+        return result;
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private HikariDataSource mockHikariDataSource() {
+        HikariDataSource result = mock(HikariDataSource.class);
+        when(result.getMaximumPoolSize()).thenReturn(2);
+        when(result.getConnection()).thenAnswer(invocation -> mock(Connection.class));
         return result;
     }
     
@@ -112,6 +130,28 @@ public final class JDBCBackendDataSourceTest {
         ProxySchemaContexts.getInstance().getBackendDataSource().getConnections("schema", "ds_1", 6, ConnectionMode.MEMORY_STRICTLY);
     }
     
+    @Test(expected = SQLTimeoutException.class)
+    public void assertGetConnectionTimeoutWhenPoolCapacityReserved() throws SQLException {
+        ProxySchemaContexts.getInstance().getBackendDataSource().getConnections("schema", "ds_hikari", 2, ConnectionMode.MEMORY_STRICTLY);
+        ProxySchemaContexts.getInstance().getBackendDataSource().getConnection("schema", "ds_hikari");
+    }
+    
+    @Test
+    public void assertGetConnectionAfterReservedConnectionReleased() throws SQLException {
+        List<Connection> connections = ProxySchemaContexts.getInstance().getBackendDataSource().getConnections("schema", "ds_hikari", 2, ConnectionMode.MEMORY_STRICTLY);
+        ProxySchemaContexts.getInstance().getBackendDataSource().release(connections.get(0));
+        Connection actual = ProxySchemaContexts.getInstance().getBackendDataSource().getConnection("schema", "ds_hikari");
+        assertThat(actual, instanceOf(Connection.class));
+    }
+    
+    @Test(expected = SQLTimeoutException.class)
+    public void assertReleaseConnectionOnlyOnce() throws SQLException {
+        List<Connection> connections = ProxySchemaContexts.getInstance().getBackendDataSource().getConnections("schema", "ds_hikari", 2, ConnectionMode.MEMORY_STRICTLY);
+        ProxySchemaContexts.getInstance().getBackendDataSource().release(connections.get(0));
+        ProxySchemaContexts.getInstance().getBackendDataSource().release(connections.get(0));
+        ProxySchemaContexts.getInstance().getBackendDataSource().getConnections("schema", "ds_hikari", 2, ConnectionMode.MEMORY_STRICTLY);
+    }
+    
     @Test
     public void assertGetConnectionsByMultiThread() {
         ExecutorService executorService = Executors.newFixedThreadPool(20);
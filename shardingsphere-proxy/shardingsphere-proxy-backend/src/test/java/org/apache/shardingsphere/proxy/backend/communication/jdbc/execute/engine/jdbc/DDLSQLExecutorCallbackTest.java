@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.engine.jdbc;
+
+import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.update.ExecuteUpdateResult;
+import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.StatementExecuteUnit;
+import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.executor.SQLExecutorCallback;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class DDLSQLExecutorCallbackTest {
+    
+    @SuppressWarnings("unchecked")
+    private final SQLExecutorCallback<ExecuteResult> delegate = mock(SQLExecutorCallback.class);
+    
+    @Test
+    public void assertExecuteAllSucceeded() throws SQLException {
+        StatementExecuteUnit unit0 = createStatementExecuteUnit("ds_0", "ALTER TABLE t_order_0 ADD c INT");
+        StatementExecuteUnit unit1 = createStatementExecuteUnit("ds_0", "ALTER TABLE t_order_1 ADD c INT");
+        when(delegate.execute(eq(Collections.singletonList(unit0)), anyBoolean(), anyMap())).thenReturn(Collections.singletonList(new ExecuteUpdateResult(0, 0L)));
+        when(delegate.execute(eq(Collections.singletonList(unit1)), anyBoolean(), anyMap())).thenReturn(Collections.singletonList(new ExecuteUpdateResult(0, 0L)));
+        DDLExecutionReport report = new DDLExecutionReport(2);
+        Collection<ExecuteResult> actual = new DDLSQLExecutorCallback(delegate, report).execute(Arrays.asList(unit0, unit1), true, Collections.emptyMap());
+        assertThat(actual.size(), is(2));
+        assertThat(report.getSucceededCount(), is(2));
+        assertThat(report.getFailedCount(), is(0));
+        report.checkFailure();
+    }
+    
+    @Test
+    public void assertExecuteContinuesAfterFailure() throws SQLException {
+        StatementExecuteUnit unit0 = createStatementExecuteUnit("ds_0", "ALTER TABLE t_order_0 ADD c INT");
+        StatementExecuteUnit unit1 = createStatementExecuteUnit("ds_0", "ALTER TABLE t_order_1 ADD c INT");
+        StatementExecuteUnit unit2 = createStatementExecuteUnit("ds_1", "ALTER TABLE t_order_2 ADD c INT");
+        when(delegate.execute(eq(Collections.singletonList(unit0)), anyBoolean(), anyMap())).thenThrow(new SQLException("Duplicate column name 'c'", "42S21", 1060));
+        when(delegate.execute(eq(Collections.singletonList(unit1)), anyBoolean(), anyMap())).thenReturn(Collections.singletonList(new ExecuteUpdateResult(0, 0L)));
+        when(delegate.execute(eq(Collections.singletonList(unit2)), anyBoolean(), anyMap())).thenReturn(Collections.singletonList(null));
+        DDLExecutionReport report = new DDLExecutionReport(3);
+        Collection<ExecuteResult> actual = new DDLSQLExecutorCallback(delegate, report).execute(Arrays.asList(unit0, unit1, unit2), false, Collections.emptyMap());
+        assertThat(actual.size(), is(1));
+        assertThat(report.getSucceededCount(), is(1));
+        assertThat(report.getFailedCount(), is(2));
+        try {
+            report.checkFailure();
+            fail("Expected SQLException.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getMessage(), containsString("1 of 3 actual SQLs succeeded"));
+            assertThat(ex.getMessage(), containsString("ds_0::ALTER TABLE t_order_0 ADD c INT (Duplicate column name 'c')"));
+            assertThat(ex.getMessage(), containsString("ds_1::ALTER TABLE t_order_2 ADD c INT"));
+            assertThat(ex.getSQLState(), is("42S21"));
+            assertThat(ex.getErrorCode(), is(1060));
+        }
+    }
+    
+    private StatementExecuteUnit createStatementExecuteUnit(final String dataSourceName, final String sql) {
+        return new StatementExecuteUnit(new ExecutionUnit(dataSourceName, new SQLUnit(sql, Collections.emptyList())), ConnectionMode.CONNECTION_STRICTLY, mock(Statement.class));
+    }
+}
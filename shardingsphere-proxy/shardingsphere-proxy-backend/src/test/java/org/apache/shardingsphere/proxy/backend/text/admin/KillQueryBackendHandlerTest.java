@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.admin;
+
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnectionRegistry;
+import org.apache.shardingsphere.proxy.backend.response.error.ErrorResponse;
+import org.apache.shardingsphere.proxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.sql.parser.sql.statement.dal.dialect.mysql.KillStatement;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class KillQueryBackendHandlerTest {
+    
+    private static final int TARGET_CONNECTION_ID = 10001;
+    
+    @After
+    public void tearDown() {
+        BackendConnectionRegistry.getInstance().unregister(TARGET_CONNECTION_ID);
+    }
+    
+    @Test
+    public void assertKillQueryOfSameUser() {
+        BackendConnection target = registerTarget("root");
+        assertThat(new KillQueryBackendHandler(createKillStatement(), createBackendConnection("root")).execute(), instanceOf(UpdateResponse.class));
+        verify(target).cancelQuery();
+    }
+    
+    @Test
+    public void assertKillQueryOfOtherUser() {
+        BackendConnection target = registerTarget("root");
+        assertThat(new KillQueryBackendHandler(createKillStatement(), createBackendConnection("guest")).execute(), instanceOf(ErrorResponse.class));
+        verify(target, never()).cancelQuery();
+    }
+    
+    @Test
+    public void assertKillQueryWithUnknownUser() {
+        BackendConnection target = registerTarget("root");
+        assertThat(new KillQueryBackendHandler(createKillStatement(), createBackendConnection(null)).execute(), instanceOf(ErrorResponse.class));
+        verify(target, never()).cancelQuery();
+    }
+    
+    @Test
+    public void assertKillQueryOfUnknownUser() {
+        BackendConnection target = registerTarget(null);
+        assertThat(new KillQueryBackendHandler(createKillStatement(), createBackendConnection("root")).execute(), instanceOf(ErrorResponse.class));
+        verify(target, never()).cancelQuery();
+    }
+    
+    @Test
+    public void assertKillQueryOfUnknownConnection() {
+        assertThat(new KillQueryBackendHandler(createKillStatement(), createBackendConnection("root")).execute(), instanceOf(ErrorResponse.class));
+    }
+    
+    private BackendConnection registerTarget(final String userName) {
+        BackendConnection result = createBackendConnection(userName);
+        when(result.getConnectionId()).thenReturn(TARGET_CONNECTION_ID);
+        BackendConnectionRegistry.getInstance().register(result);
+        return result;
+    }
+    
+    private BackendConnection createBackendConnection(final String userName) {
+        BackendConnection result = mock(BackendConnection.class);
+        when(result.getUserName()).thenReturn(userName);
+        return result;
+    }
+    
+    private KillStatement createKillStatement() {
+        KillStatement result = new KillStatement();
+        result.setProcessId(TARGET_CONNECTION_ID);
+        result.setKillQuery(true);
+        return result;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.Channel;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.control.panel.spi.engine.SingletonFacadeEngine;
+import org.apache.shardingsphere.control.panel.spi.metrics.MetricsHandlerFacade;
+import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+
+import java.sql.SQLTimeoutException;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Channel writability awaiter.
+ *
+ * <p>
+ * Query data producer is parked while outbound buffer of channel is above high water mark,
+ * and is resumed by {@code channelWritabilityChanged} as soon as buffer drains below low water mark.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ChannelWritabilityAwaiter {
+    
+    /**
+     * Await until channel writable, inactive or execution deadline of current logic SQL expired.
+     *
+     * @param channel channel
+     * @param backendConnection backend connection
+     * @throws InterruptedException interrupted exception
+     * @throws SQLTimeoutException SQL timeout exception
+     */
+    public static void await(final Channel channel, final BackendConnection backendConnection) throws InterruptedException, SQLTimeoutException {
+        if (channel.isWritable() || !channel.isActive()) {
+            return;
+        }
+        Optional<MetricsHandlerFacade> handlerFacade = SingletonFacadeEngine.buildMetrics();
+        Supplier<Boolean> histogramSupplier = handlerFacade.map(each -> each.histogramStartTimer(MetricsLabelEnum.FRONTEND_WRITE_BLOCKED_LATENCY.getName())).orElse(null);
+        try {
+            backendConnection.getResourceSynchronizer().doAwaitUntil(
+                () -> channel.isWritable() || !channel.isActive() || backendConnection.isDeadlineExpired(), backendConnection.getDeadlineRemainingMillis());
+        } finally {
+            if (null != histogramSupplier) {
+                histogramSupplier.get();
+            }
+        }
+        backendConnection.checkDeadline();
+    }
+}
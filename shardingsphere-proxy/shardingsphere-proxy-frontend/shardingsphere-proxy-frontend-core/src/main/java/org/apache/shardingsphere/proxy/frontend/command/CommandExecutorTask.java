@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.frontend.command;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.ReferenceCountUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.control.panel.spi.engine.SingletonFacadeEngine;
@@ -27,11 +28,15 @@ import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacketType;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.infra.executor.sql.log.SlowQueryLogger;
 import org.apache.shardingsphere.infra.hook.RootInvokeHook;
 import org.apache.shardingsphere.infra.hook.SPIRootInvokeHook;
 import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.exception.AdmissionRejectedException;
+import org.apache.shardingsphere.proxy.backend.schema.ProxySchemaContexts;
 import org.apache.shardingsphere.proxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.api.PipelinedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.api.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.engine.CommandExecuteEngine;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
@@ -56,6 +61,12 @@ public final class CommandExecutorTask implements Runnable {
     
     private final Object message;
     
+    private final AdmissionRejectedException admissionRejectedException;
+    
+    public CommandExecutorTask(final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, final BackendConnection backendConnection, final ChannelHandlerContext context, final Object message) {
+        this(databaseProtocolFrontendEngine, backendConnection, context, message, null);
+    }
+    
     /**
      * To make sure SkyWalking will be available at the next release of ShardingSphere,
      * a new plugin should be provided to SkyWalking project if this API changed.
@@ -64,8 +75,13 @@ public final class CommandExecutorTask implements Runnable {
      */
     @Override
     public void run() {
+        if (!context.channel().isActive()) {
+            ReferenceCountUtil.release(message);
+            return;
+        }
         RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
         rootInvokeHook.start();
+        SlowQueryLogger.start(ProxySchemaContexts.getInstance().getSchemaContexts().getProps());
         Supplier<Boolean> histogramSupplier = null;
         Optional<MetricsHandlerFacade> handlerFacade = SingletonFacadeEngine.buildMetrics();
         if (handlerFacade.isPresent()) {
@@ -77,6 +93,7 @@ public final class CommandExecutorTask implements Runnable {
              PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message)) {
             backendConnection.getStateHandler().waitUntilConnectionReleasedIfNecessary();
             backendConnection.getStateHandler().setRunningStatusIfNecessary();
+            backendConnection.startDeadline();
             isNeedFlush = executeCommand(context, payload, backendConnection);
             connectionSize = backendConnection.getConnectionSize();
             // CHECKSTYLE:OFF
@@ -87,10 +104,12 @@ public final class CommandExecutorTask implements Runnable {
             Optional<DatabasePacket<?>> databasePacket = databaseProtocolFrontendEngine.getCommandExecuteEngine().getOtherPacket();
             databasePacket.ifPresent(context::writeAndFlush);
         } finally {
+            backendConnection.finishDeadline();
             if (isNeedFlush) {
                 context.flush();
             }
             rootInvokeHook.finish(connectionSize);
+            SlowQueryLogger.finish(ProxySchemaContexts.getInstance().getSchemaContexts().getProps());
             if (null != histogramSupplier) {
                 histogramSupplier.get();
             }
@@ -100,17 +119,23 @@ public final class CommandExecutorTask implements Runnable {
     private boolean executeCommand(final ChannelHandlerContext context, final PacketPayload payload, final BackendConnection backendConnection) throws SQLException {
         CommandExecuteEngine commandExecuteEngine = databaseProtocolFrontendEngine.getCommandExecuteEngine();
         CommandPacketType type = commandExecuteEngine.getCommandPacketType(payload);
+        if (null != admissionRejectedException && !commandExecuteEngine.isAdmissionExempted(type)) {
+            context.write(commandExecuteEngine.getErrorPacket(admissionRejectedException));
+            commandExecuteEngine.getOtherPacket().ifPresent(context::write);
+            return true;
+        }
         CommandPacket commandPacket = commandExecuteEngine.getCommandPacket(payload, type, backendConnection);
         CommandExecutor commandExecutor = commandExecuteEngine.getCommandExecutor(type, commandPacket, backendConnection);
         Collection<DatabasePacket<?>> responsePackets = commandExecutor.execute();
-        if (responsePackets.isEmpty()) {
+        if (responsePackets.isEmpty() && !(commandExecutor instanceof QueryCommandExecutor)) {
             return false;
         }
         responsePackets.forEach(context::write);
+        boolean isPipelined = commandExecutor instanceof PipelinedCommandExecutor;
         if (commandExecutor instanceof QueryCommandExecutor) {
             commandExecuteEngine.writeQueryData(context, backendConnection, (QueryCommandExecutor) commandExecutor, responsePackets.size());
-            return true;
+            return !isPipelined;
         }
-        return databaseProtocolFrontendEngine.getFrontendContext().isFlushForPerCommandPacket();
+        return !isPipelined && databaseProtocolFrontendEngine.getFrontendContext().isFlushForPerCommandPacket();
     }
 }
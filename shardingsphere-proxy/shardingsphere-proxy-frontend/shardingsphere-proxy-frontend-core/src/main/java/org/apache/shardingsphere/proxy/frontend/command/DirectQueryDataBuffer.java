@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.proxy.frontend.api.DirectQueryCommandExecutor;
+
+import java.sql.SQLException;
+
+/**
+ * Buffer of query data written by {@link DirectQueryCommandExecutor}.
+ * 
+ * <p>Rows are accumulated in one pooled buffer and handed to channel in batches.</p>
+ */
+@RequiredArgsConstructor
+public final class DirectQueryDataBuffer implements AutoCloseable {
+    
+    private static final int WRITE_THRESHOLD_BYTES = 16 * 1024;
+    
+    private final ChannelHandlerContext context;
+    
+    private ByteBuf buffer;
+    
+    private long writtenBytes;
+    
+    /**
+     * Write query data of current row into buffer.
+     *
+     * @param queryCommandExecutor direct query command executor
+     * @return written or not
+     * @throws SQLException SQL exception
+     */
+    public boolean write(final DirectQueryCommandExecutor queryCommandExecutor) throws SQLException {
+        if (null == buffer) {
+            buffer = context.alloc().ioBuffer();
+        }
+        if (!queryCommandExecutor.writeQueryData(buffer)) {
+            return false;
+        }
+        if (buffer.readableBytes() >= WRITE_THRESHOLD_BYTES) {
+            writePending();
+        }
+        return true;
+    }
+    
+    /**
+     * Write pending query data to channel without flush.
+     */
+    public void writePending() {
+        if (null != buffer && buffer.isReadable()) {
+            writtenBytes += buffer.readableBytes();
+            context.write(buffer);
+            buffer = null;
+        }
+    }
+    
+    /**
+     * Write pending query data to channel and flush.
+     */
+    public void flush() {
+        writePending();
+        context.flush();
+        writtenBytes = 0L;
+    }
+    
+    /**
+     * Get bytes of query data written into buffer since last flush.
+     *
+     * @return unflushed bytes
+     */
+    public long getUnflushedBytes() {
+        return null == buffer ? writtenBytes : writtenBytes + buffer.readableBytes();
+    }
+    
+    @Override
+    public void close() {
+        if (null != buffer) {
+            buffer.release();
+            buffer = null;
+        }
+    }
+}
@@ -20,18 +20,21 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 import io.netty.channel.ChannelId;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.impl.ShardingSphereThreadFactoryBuilder;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
 
 /**
  * Channel thread executor group.
  * 
  * <p>
- *     Manage the thread for each channel invoking.
- *     This ensure XA transaction framework processed by current thread id.
+ *     Manage the serial executor for each channel invoking, all serial executors share one executor service.
+ *     Thread of channel is kept while channel holds thread bound state, this ensure XA transaction framework processed by current thread id.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -39,7 +42,11 @@ public final class ChannelThreadExecutorGroup {
     
     private static final ChannelThreadExecutorGroup INSTANCE = new ChannelThreadExecutorGroup();
     
-    private final Map<ChannelId, ExecutorService> executorServices = new ConcurrentHashMap<>();
+    private static final String NAME_FORMAT = "Channel-Command-%d";
+    
+    private final ExecutorService sharedExecutorService = Executors.newCachedThreadPool(ShardingSphereThreadFactoryBuilder.build(NAME_FORMAT));
+    
+    private final Map<ChannelId, SerialCommandExecutor> executors = new ConcurrentHashMap<>();
     
     /**
      * Get channel thread executor group.
@@ -54,19 +61,20 @@ public final class ChannelThreadExecutorGroup {
      * Register channel.
      *
      * @param channelId channel id
+     * @param threadBound whether channel holds thread bound state or not
      */
-    public void register(final ChannelId channelId) {
-        executorServices.put(channelId, Executors.newSingleThreadExecutor());
+    public void register(final ChannelId channelId, final BooleanSupplier threadBound) {
+        executors.put(channelId, new SerialCommandExecutor(sharedExecutorService, threadBound));
     }
     
     /**
-     * Get executor service of current channel.
+     * Get executor of current channel.
      *
      * @param channelId channel id
-     * @return executor service of current channel
+     * @return executor of current channel
      */
-    public ExecutorService get(final ChannelId channelId) {
-        return executorServices.get(channelId);
+    public Executor get(final ChannelId channelId) {
+        return executors.get(channelId);
     }
     
     /**
@@ -75,6 +83,9 @@ public final class ChannelThreadExecutorGroup {
      * @param channelId channel id
      */
     public void unregister(final ChannelId channelId) {
-        executorServices.remove(channelId).shutdown();
+        SerialCommandExecutor executor = executors.remove(channelId);
+        if (null != executor) {
+            executor.close();
+        }
     }
 }
@@ -0,0 +1,369 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import io.netty.channel.ChannelId;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.control.panel.spi.engine.SingletonFacadeEngine;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
+import org.apache.shardingsphere.proxy.backend.exception.AdmissionRejectedException;
+import org.apache.shardingsphere.proxy.backend.schema.ProxySchemaContexts;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Command admission controller.
+ *
+ * <p>
+ *     Limit concurrent executing commands of each user and each schema, commands exceeding the limits wait in FIFO queue of their user,
+ *     so commands of one channel keep their order. Queued users are admitted in round robin, so one user can not starve others.
+ *     Commands are rejected once queue of user or schema is full, commands of connections in transaction are always admitted
+ *     to avoid transactions holding locks waiting behind commands blocked by these locks.
+ * </p>
+ * 
+ * <p>
+ *     Rejection is not answered on IO thread, because command type is not decoded yet and earlier commands of the same channel may be still queued.
+ *     Rejected command is dispatched behind queued commands of its user instead, and decides how to answer the rejection after its type is decoded.
+ * </p>
+ * 
+ * <p>
+ *     Queued commands of channel are removed from queues when it is closed, so they no longer take admission slots or queue capacity.
+ *     They are dispatched at once without admission, and should skip execution when their channel is closed.
+ * </p>
+ */
+public final class CommandAdmissionController {
+    
+    private static final CommandAdmissionController INSTANCE = create(ProxySchemaContexts.getInstance().getSchemaContexts().getProps());
+    
+    private static final String NO_SCHEMA = "";
+    
+    private final int userMaxConcurrency;
+    
+    private final int userMaxQueueSize;
+    
+    private final int schemaMaxConcurrency;
+    
+    private final int schemaMaxQueueSize;
+    
+    private final boolean enabled;
+    
+    private final Map<String, UserState> users = new HashMap<>();
+    
+    private final Map<String, SchemaState> schemas = new HashMap<>();
+    
+    private final Queue<UserState> queuedUsers = new LinkedList<>();
+    
+    public CommandAdmissionController(final int userMaxConcurrency, final int userMaxQueueSize, final int schemaMaxConcurrency, final int schemaMaxQueueSize) {
+        this.userMaxConcurrency = userMaxConcurrency;
+        this.userMaxQueueSize = userMaxQueueSize;
+        this.schemaMaxConcurrency = schemaMaxConcurrency;
+        this.schemaMaxQueueSize = schemaMaxQueueSize;
+        enabled = userMaxConcurrency > 0 || schemaMaxConcurrency > 0;
+    }
+    
+    private static CommandAdmissionController create(final ConfigurationProperties props) {
+        return new CommandAdmissionController(props.<Integer>getValue(ConfigurationPropertyKey.PROXY_ADMISSION_USER_MAX_CONCURRENCY),
+                props.<Integer>getValue(ConfigurationPropertyKey.PROXY_ADMISSION_USER_MAX_QUEUE_SIZE),
+                props.<Integer>getValue(ConfigurationPropertyKey.PROXY_ADMISSION_SCHEMA_MAX_CONCURRENCY),
+                props.<Integer>getValue(ConfigurationPropertyKey.PROXY_ADMISSION_SCHEMA_MAX_QUEUE_SIZE));
+    }
+    
+    /**
+     * Get instance of command admission controller.
+     *
+     * @return command admission controller
+     */
+    public static CommandAdmissionController getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Execute command on executor after admitted.
+     *
+     * @param channelId channel ID of command
+     * @param userName user name
+     * @param schemaName schema name, null if no schema selected
+     * @param inTransaction whether connection is in transaction or not
+     * @param executor executor to execute command
+     * @param command command to be executed
+     * @param rejectedCommand command to be executed instead if rejected when queue of user or schema is full
+     */
+    public void execute(final ChannelId channelId, final String userName, final String schemaName, final boolean inTransaction, final Executor executor,
+                        final Runnable command, final Function<AdmissionRejectedException, Runnable> rejectedCommand) {
+        if (!enabled) {
+            executor.execute(command);
+            return;
+        }
+        AdmissionCommand admissionCommand = new AdmissionCommand(channelId, null == userName ? "" : userName, null == schemaName ? NO_SCHEMA : schemaName, executor, command, false);
+        Runnable rejectionCommand = null;
+        boolean admitted;
+        boolean dispatchRejection = false;
+        synchronized (this) {
+            UserState userState = users.computeIfAbsent(admissionCommand.userName, key -> new UserState());
+            SchemaState schemaState = schemas.computeIfAbsent(admissionCommand.schemaName, key -> new SchemaState());
+            admitted = inTransaction || userState.queuedCommands.isEmpty() && isAdmissible(userState, schemaState, admissionCommand.schemaName);
+            if (admitted) {
+                acquire(userState, schemaState);
+            } else {
+                AdmissionRejectedException rejection = findRejection(userState, schemaState, admissionCommand);
+                if (null == rejection) {
+                    enqueue(userState, schemaState, admissionCommand);
+                } else {
+                    rejectionCommand = rejectedCommand.apply(rejection);
+                    dispatchRejection = enqueueRejection(userState, schemaState, admissionCommand, rejectionCommand);
+                }
+            }
+        }
+        if (admitted) {
+            buriedMetrics(MetricsLabelEnum.ADMISSION_RUNNING_COUNT, true, admissionCommand);
+            dispatch(admissionCommand);
+        } else if (null == rejectionCommand) {
+            buriedMetrics(MetricsLabelEnum.ADMISSION_QUEUED_COUNT, true, admissionCommand);
+        } else {
+            SingletonFacadeEngine.buildMetrics().ifPresent(
+                metricsHandlerFacade -> metricsHandlerFacade.counterIncrement(MetricsLabelEnum.ADMISSION_REJECTED_TOTAL.getName(), admissionCommand.userName, admissionCommand.schemaName));
+            if (dispatchRejection) {
+                executor.execute(rejectionCommand);
+            }
+        }
+    }
+    
+    private boolean isAdmissible(final UserState userState, final SchemaState schemaState, final String schemaName) {
+        return (userMaxConcurrency <= 0 || userState.runningCount < userMaxConcurrency)
+                && (schemaMaxConcurrency <= 0 || NO_SCHEMA.equals(schemaName) || schemaState.runningCount < schemaMaxConcurrency);
+    }
+    
+    private void acquire(final UserState userState, final SchemaState schemaState) {
+        userState.runningCount++;
+        schemaState.runningCount++;
+    }
+    
+    private AdmissionRejectedException findRejection(final UserState userState, final SchemaState schemaState, final AdmissionCommand admissionCommand) {
+        if (userState.queuedCount >= userMaxQueueSize) {
+            return new AdmissionRejectedException(admissionCommand.userName, ConfigurationPropertyKey.PROXY_ADMISSION_USER_MAX_QUEUE_SIZE.getKey(), userMaxQueueSize);
+        }
+        if (!NO_SCHEMA.equals(admissionCommand.schemaName) && schemaState.queuedCount >= schemaMaxQueueSize) {
+            return new AdmissionRejectedException(admissionCommand.userName, ConfigurationPropertyKey.PROXY_ADMISSION_SCHEMA_MAX_QUEUE_SIZE.getKey(), schemaMaxQueueSize);
+        }
+        return null;
+    }
+    
+    private void enqueue(final UserState userState, final SchemaState schemaState, final AdmissionCommand admissionCommand) {
+        if (userState.queuedCommands.isEmpty()) {
+            queuedUsers.offer(userState);
+        }
+        userState.queuedCommands.offer(admissionCommand);
+        userState.queuedCount++;
+        schemaState.queuedCount++;
+    }
+    
+    private boolean enqueueRejection(final UserState userState, final SchemaState schemaState, final AdmissionCommand admissionCommand, final Runnable rejectedCommand) {
+        if (userState.queuedCommands.isEmpty()) {
+            removeIfIdle(admissionCommand.userName, userState, admissionCommand.schemaName, schemaState);
+            return true;
+        }
+        userState.queuedCommands.offer(new AdmissionCommand(admissionCommand.channelId, admissionCommand.userName, admissionCommand.schemaName, admissionCommand.executor, rejectedCommand, true));
+        return false;
+    }
+    
+    private void dispatch(final AdmissionCommand admissionCommand) {
+        if (admissionCommand.rejected) {
+            admissionCommand.executor.execute(admissionCommand.command);
+            return;
+        }
+        admissionCommand.executor.execute(() -> {
+            try {
+                admissionCommand.command.run();
+            } finally {
+                release(admissionCommand);
+            }
+        });
+    }
+    
+    private void release(final AdmissionCommand admissionCommand) {
+        Collection<AdmissionCommand> admittedCommands;
+        synchronized (this) {
+            UserState userState = users.get(admissionCommand.userName);
+            SchemaState schemaState = schemas.get(admissionCommand.schemaName);
+            userState.runningCount--;
+            schemaState.runningCount--;
+            admittedCommands = admitQueuedCommands();
+            removeIfIdle(admissionCommand.userName, userState, admissionCommand.schemaName, schemaState);
+        }
+        buriedMetrics(MetricsLabelEnum.ADMISSION_RUNNING_COUNT, false, admissionCommand);
+        dispatchAdmittedCommands(admittedCommands);
+    }
+    
+    /**
+     * Cancel admission of queued commands of closed channel.
+     *
+     * @param channelId channel ID of closed channel
+     */
+    public void cancel(final ChannelId channelId) {
+        if (!enabled) {
+            return;
+        }
+        Collection<AdmissionCommand> cancelledCommands = new LinkedList<>();
+        Collection<AdmissionCommand> admittedCommands;
+        synchronized (this) {
+            for (UserState each : users.values()) {
+                cancelQueuedCommands(each, channelId, cancelledCommands);
+            }
+            admittedCommands = admitQueuedCommands();
+            users.values().removeIf(each -> 0 == each.runningCount && each.queuedCommands.isEmpty());
+            schemas.values().removeIf(each -> 0 == each.runningCount && 0 == each.queuedCount);
+        }
+        for (AdmissionCommand each : cancelledCommands) {
+            if (!each.rejected) {
+                buriedMetrics(MetricsLabelEnum.ADMISSION_QUEUED_COUNT, false, each);
+            }
+            each.executor.execute(each.command);
+        }
+        dispatchAdmittedCommands(admittedCommands);
+    }
+    
+    private void cancelQueuedCommands(final UserState userState, final ChannelId channelId, final Collection<AdmissionCommand> cancelledCommands) {
+        Iterator<AdmissionCommand> iterator = userState.queuedCommands.iterator();
+        while (iterator.hasNext()) {
+            AdmissionCommand each = iterator.next();
+            if (!channelId.equals(each.channelId)) {
+                continue;
+            }
+            iterator.remove();
+            if (!each.rejected) {
+                userState.queuedCount--;
+                schemas.get(each.schemaName).queuedCount--;
+            }
+            cancelledCommands.add(each);
+        }
+    }
+    
+    private void dispatchAdmittedCommands(final Collection<AdmissionCommand> admittedCommands) {
+        for (AdmissionCommand each : admittedCommands) {
+            if (!each.rejected) {
+                buriedMetrics(MetricsLabelEnum.ADMISSION_QUEUED_COUNT, false, each);
+                buriedMetrics(MetricsLabelEnum.ADMISSION_RUNNING_COUNT, true, each);
+            }
+            dispatch(each);
+        }
+    }
+    
+    private Collection<AdmissionCommand> admitQueuedCommands() {
+        Collection<AdmissionCommand> result = new LinkedList<>();
+        boolean admitted = true;
+        while (admitted && !queuedUsers.isEmpty()) {
+            admitted = false;
+            Collection<UserState> blockedUsers = new LinkedList<>();
+            Collection<UserState> admittedUsers = new LinkedList<>();
+            for (UserState each : queuedUsers) {
+                admitted = pollRejectedCommands(each, result) || admitted;
+                AdmissionCommand head = each.queuedCommands.peek();
+                if (null == head) {
+                    continue;
+                }
+                SchemaState schemaState = schemas.get(head.schemaName);
+                if (!isAdmissible(each, schemaState, head.schemaName)) {
+                    blockedUsers.add(each);
+                    continue;
+                }
+                each.queuedCommands.poll();
+                each.queuedCount--;
+                schemaState.queuedCount--;
+                acquire(each, schemaState);
+                result.add(head);
+                admitted = true;
+                if (!each.queuedCommands.isEmpty()) {
+                    admittedUsers.add(each);
+                }
+            }
+            queuedUsers.clear();
+            queuedUsers.addAll(blockedUsers);
+            queuedUsers.addAll(admittedUsers);
+        }
+        return result;
+    }
+    
+    private boolean pollRejectedCommands(final UserState userState, final Collection<AdmissionCommand> admittedCommands) {
+        boolean result = false;
+        while (!userState.queuedCommands.isEmpty() && userState.queuedCommands.peek().rejected) {
+            admittedCommands.add(userState.queuedCommands.poll());
+            result = true;
+        }
+        return result;
+    }
+    
+    private void removeIfIdle(final String userName, final UserState userState, final String schemaName, final SchemaState schemaState) {
+        if (0 == userState.runningCount && userState.queuedCommands.isEmpty()) {
+            users.remove(userName);
+        }
+        if (0 == schemaState.runningCount && 0 == schemaState.queuedCount) {
+            schemas.remove(schemaName);
+        }
+    }
+    
+    private void buriedMetrics(final MetricsLabelEnum metricsLabel, final boolean increment, final AdmissionCommand admissionCommand) {
+        SingletonFacadeEngine.buildMetrics().ifPresent(metricsHandlerFacade -> {
+            if (increment) {
+                metricsHandlerFacade.gaugeIncrement(metricsLabel.getName(), admissionCommand.userName, admissionCommand.schemaName);
+            } else {
+                metricsHandlerFacade.gaugeDecrement(metricsLabel.getName(), admissionCommand.userName, admissionCommand.schemaName);
+            }
+        });
+    }
+    
+    private static final class UserState {
+        
+        private final Queue<AdmissionCommand> queuedCommands = new LinkedList<>();
+        
+        private int queuedCount;
+        
+        private int runningCount;
+    }
+    
+    private static final class SchemaState {
+        
+        private int queuedCount;
+        
+        private int runningCount;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class AdmissionCommand {
+        
+        private final ChannelId channelId;
+        
+        private final String userName;
+        
+        private final String schemaName;
+        
+        private final Executor executor;
+        
+        private final Runnable command;
+        
+        private final boolean rejected;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Serial command executor.
+ * 
+ * <p>
+ *     Run commands of one channel one by one on shared executor, so ordering of channel is preserved without occupying a thread per channel.
+ *     While the channel holds thread bound state (such as hint or XA transaction), the draining thread is kept for the channel until the state is released.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class SerialCommandExecutor implements Executor {
+    
+    private static final long THREAD_BOUND_POLL_MILLIS = 1000L;
+    
+    private final Executor sharedExecutor;
+    
+    private final BooleanSupplier threadBound;
+    
+    private final BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+    
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    
+    private volatile boolean closed;
+    
+    @Override
+    public void execute(final Runnable command) {
+        tasks.offer(command);
+        scheduleIfNecessary();
+    }
+    
+    private void scheduleIfNecessary() {
+        if (!tasks.isEmpty() && scheduled.compareAndSet(false, true)) {
+            sharedExecutor.execute(this::drain);
+        }
+    }
+    
+    private void drain() {
+        try {
+            Runnable task;
+            while (null != (task = nextTask())) {
+                task.run();
+            }
+        } finally {
+            scheduled.set(false);
+            scheduleIfNecessary();
+        }
+    }
+    
+    private Runnable nextTask() {
+        Runnable result = tasks.poll();
+        while (null == result && !closed && threadBound.getAsBoolean()) {
+            try {
+                result = tasks.poll(THREAD_BOUND_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Close executor, queued commands are still executed but the draining thread will not be kept any more.
+     */
+    public void close() {
+        closed = true;
+    }
+}
@@ -27,14 +27,17 @@ import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnectionRegistry;
 import org.apache.shardingsphere.proxy.backend.schema.ProxySchemaContexts;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecutorTask;
 import org.apache.shardingsphere.proxy.frontend.executor.ChannelThreadExecutorGroup;
+import org.apache.shardingsphere.proxy.frontend.executor.CommandAdmissionController;
 import org.apache.shardingsphere.proxy.frontend.executor.CommandExecutorSelector;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
 import java.sql.SQLException;
+import java.util.concurrent.Executor;
 
 /**
  * Frontend channel inbound handler.
@@ -53,8 +56,9 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     
     @Override
     public void channelActive(final ChannelHandlerContext context) {
-        ChannelThreadExecutorGroup.getInstance().register(context.channel().id());
+        ChannelThreadExecutorGroup.getInstance().register(context.channel().id(), this::isThreadBound);
         databaseProtocolFrontendEngine.getAuthEngine().handshake(context, backendConnection);
+        BackendConnectionRegistry.getInstance().register(backendConnection);
         SingletonFacadeEngine.buildMetrics().ifPresent(metricsHandlerFacade -> metricsHandlerFacade.gaugeIncrement(MetricsLabelEnum.CHANNEL_COUNT.getName()));
     }
     
@@ -65,8 +69,19 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
             return;
         }
         SingletonFacadeEngine.buildMetrics().ifPresent(metricsHandlerFacade -> metricsHandlerFacade.counterIncrement(MetricsLabelEnum.REQUEST_TOTAL.getName()));
-        CommandExecutorSelector.getExecutor(databaseProtocolFrontendEngine.getFrontendContext().isOccupyThreadForPerConnection(), backendConnection.isSupportHint(),
-                backendConnection.getTransactionType(), context.channel().id()).execute(new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, message));
+        Executor executor = CommandExecutorSelector.getExecutor(databaseProtocolFrontendEngine.getFrontendContext().isOccupyThreadForPerConnection(), backendConnection.isSupportHint(),
+                backendConnection.getTransactionType(), context.channel().id());
+        String schemaName = null == backendConnection.getSchema() ? null : backendConnection.getSchema().getName();
+        CommandAdmissionController.getInstance().execute(context.channel().id(), backendConnection.getUserName(), schemaName, backendConnection.getStateHandler().isInTransaction(), executor,
+                new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, message),
+                rejection -> new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, message, rejection));
+    }
+    
+    private boolean isThreadBound() {
+        if (backendConnection.isSupportHint()) {
+            return true;
+        }
+        return TransactionType.LOCAL != backendConnection.getTransactionType() && backendConnection.getStateHandler().isInTransaction();
     }
     
     private boolean auth(final ChannelHandlerContext context, final ByteBuf message) {
@@ -84,7 +99,10 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelInactive(final ChannelHandlerContext context) throws SQLException {
         context.fireChannelInactive();
+        CommandAdmissionController.getInstance().cancel(context.channel().id());
         databaseProtocolFrontendEngine.release(backendConnection);
+        BackendConnectionRegistry.getInstance().unregister(backendConnection.getConnectionId());
+        backendConnection.cancelQuery();
         backendConnection.close(true);
         ChannelThreadExecutorGroup.getInstance().unregister(context.channel().id());
         SingletonFacadeEngine.buildMetrics().ifPresent(metricsHandlerFacade -> metricsHandlerFacade.gaugeDecrement(MetricsLabelEnum.CHANNEL_COUNT.getName()));
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.proxy.frontend.api.DirectQueryCommandExecutor;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class DirectQueryDataBufferTest {
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private DirectQueryCommandExecutor queryCommandExecutor;
+    
+    @Before
+    public void setUp() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+    }
+    
+    @Test
+    public void assertWriteRowsIntoOneBuffer() throws SQLException {
+        mockWriteQueryData(new byte[]{1, 2, 3}, new byte[]{4, 5});
+        DirectQueryDataBuffer directQueryDataBuffer = new DirectQueryDataBuffer(context);
+        assertTrue(directQueryDataBuffer.write(queryCommandExecutor));
+        assertTrue(directQueryDataBuffer.write(queryCommandExecutor));
+        verify(context, never()).write(any());
+        assertThat(directQueryDataBuffer.getUnflushedBytes(), is(5L));
+        directQueryDataBuffer.writePending();
+        assertThat(getWrittenBytes(), is(new byte[]{1, 2, 3, 4, 5}));
+        assertThat(directQueryDataBuffer.getUnflushedBytes(), is(5L));
+        directQueryDataBuffer.flush();
+        verify(context).flush();
+        assertThat(directQueryDataBuffer.getUnflushedBytes(), is(0L));
+    }
+    
+    @Test
+    public void assertWriteWhenBufferReachThreshold() throws SQLException {
+        mockWriteQueryData(new byte[16 * 1024]);
+        DirectQueryDataBuffer directQueryDataBuffer = new DirectQueryDataBuffer(context);
+        assertTrue(directQueryDataBuffer.write(queryCommandExecutor));
+        assertThat(getWrittenBytes().length, is(16 * 1024));
+        assertThat(directQueryDataBuffer.getUnflushedBytes(), is(16 * 1024L));
+    }
+    
+    @Test
+    public void assertWriteFailedWithoutTouchingWrittenRows() throws SQLException {
+        when(queryCommandExecutor.writeQueryData(any(ByteBuf.class))).thenAnswer(invocation -> {
+            ((ByteBuf) invocation.getArgument(0)).writeBytes(new byte[]{1, 2});
+            return true;
+        }).thenReturn(false);
+        DirectQueryDataBuffer directQueryDataBuffer = new DirectQueryDataBuffer(context);
+        assertTrue(directQueryDataBuffer.write(queryCommandExecutor));
+        assertFalse(directQueryDataBuffer.write(queryCommandExecutor));
+        directQueryDataBuffer.writePending();
+        assertThat(getWrittenBytes(), is(new byte[]{1, 2}));
+    }
+    
+    @Test
+    public void assertCloseReleasePendingBuffer() throws SQLException {
+        ArgumentCaptor<ByteBuf> bufferCaptor = ArgumentCaptor.forClass(ByteBuf.class);
+        when(queryCommandExecutor.writeQueryData(bufferCaptor.capture())).thenReturn(true);
+        DirectQueryDataBuffer directQueryDataBuffer = new DirectQueryDataBuffer(context);
+        directQueryDataBuffer.write(queryCommandExecutor);
+        directQueryDataBuffer.close();
+        assertThat(bufferCaptor.getValue().refCnt(), is(0));
+        directQueryDataBuffer.writePending();
+        verify(context, never()).write(any());
+    }
+    
+    private void mockWriteQueryData(final byte[]... rows) throws SQLException {
+        int[] index = new int[1];
+        when(queryCommandExecutor.writeQueryData(any(ByteBuf.class))).thenAnswer(invocation -> {
+            ((ByteBuf) invocation.getArgument(0)).writeBytes(rows[index[0]++]);
+            return true;
+        });
+    }
+    
+    private byte[] getWrittenBytes() {
+        ArgumentCaptor<ByteBuf> bufferCaptor = ArgumentCaptor.forClass(ByteBuf.class);
+        verify(context).write(bufferCaptor.capture());
+        return ByteBufUtil.getBytes(bufferCaptor.getValue());
+    }
+}
@@ -29,7 +29,7 @@ public final class ChannelThreadExecutorGroupTest {
     @Test
     public void assertRegister() {
         ChannelId channelId = mock(ChannelId.class);
-        ChannelThreadExecutorGroup.getInstance().register(channelId);
+        ChannelThreadExecutorGroup.getInstance().register(channelId, () -> false);
         assertNotNull(ChannelThreadExecutorGroup.getInstance().get(channelId));
         ChannelThreadExecutorGroup.getInstance().unregister(channelId);
     }
@@ -37,7 +37,7 @@ public final class ChannelThreadExecutorGroupTest {
     @Test
     public void assertUnregister() {
         ChannelId channelId = mock(ChannelId.class);
-        ChannelThreadExecutorGroup.getInstance().register(channelId);
+        ChannelThreadExecutorGroup.getInstance().register(channelId, () -> false);
         ChannelThreadExecutorGroup.getInstance().unregister(channelId);
         assertNull(ChannelThreadExecutorGroup.getInstance().get(channelId));
     }
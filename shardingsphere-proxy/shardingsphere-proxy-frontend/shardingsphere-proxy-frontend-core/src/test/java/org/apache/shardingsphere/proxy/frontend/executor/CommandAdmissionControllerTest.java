@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import io.netty.channel.ChannelId;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.exception.AdmissionRejectedException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class CommandAdmissionControllerTest {
+    
+    private final Queue<Runnable> dispatchedTasks = new LinkedList<>();
+    
+    private final Executor executor = dispatchedTasks::add;
+    
+    private final List<String> executedCommands = new LinkedList<>();
+    
+    private final ChannelId channelId = mock(ChannelId.class);
+    
+    @Test
+    public void assertExecuteWhenDisabled() {
+        CommandAdmissionController controller = new CommandAdmissionController(0, 1, 0, 1);
+        for (int i = 0; i < 3; i++) {
+            controller.execute(channelId, "root", "sharding_db", false, executor, createCommand("command_" + i), this::createRejectedCommand);
+        }
+        assertThat(dispatchedTasks.size(), is(3));
+    }
+    
+    @Test
+    public void assertQueueWhenUserMaxConcurrencyReached() {
+        CommandAdmissionController controller = new CommandAdmissionController(1, 10, 0, 10);
+        controller.execute(channelId, "root", "sharding_db", false, executor, createCommand("command_0"), this::createRejectedCommand);
+        controller.execute(channelId, "root", "sharding_db", false, executor, createCommand("command_1"), this::createRejectedCommand);
+        assertThat(dispatchedTasks.size(), is(1));
+        runDispatchedTasks();
+        assertThat(executedCommands, is(Arrays.asList("command_0", "command_1")));
+    }
+    
+    @Test
+    public void assertRejectWhenUserQueueIsFull() {
+        CommandAdmissionController controller = new CommandAdmissionController(1, 1, 0, 10);
+        controller.execute(channelId, "root", "sharding_db", false, executor, createCommand("command_0"), this::createRejectedCommand);
+        controller.execute(channelId, "root", "sharding_db", false, executor, createCommand("command_1"), this::createRejectedCommand);
+        controller.execute(channelId, "root", "sharding_db", false, executor, createCommand("command_2"), this::createRejectedCommand);
+        assertThat(dispatchedTasks.size(), is(1));
+        runDispatchedTasks();
+        assertThat(executedCommands, is(Arrays.asList("command_0", "command_1", "rejected by " + ConfigurationPropertyKey.PROXY_ADMISSION_USER_MAX_QUEUE_SIZE.getKey())));
+    }
+    
+    @Test
+    public void assertRejectedCommandKeepOrderBehindQueuedCommands() {
+        CommandAdmissionController controller = new CommandAdmissionController(1, 1, 0, 10);
+        controller.execute(channelId, "root", "sharding_db", false, executor, createCommand("command_0"), this::createRejectedCommand);
+        controller.execute(channelId, "root", "sharding_db", false, executor, createCommand("command_1"), this::createRejectedCommand);
+        controller.execute(channelId, "root", "sharding_db", false, executor, createCommand("command_2"), this::createRejectedCommand);
+        controller.execute(channelId, "root", "sharding_db", false, executor, createCommand("command_3"), this::createRejectedCommand);
+        runDispatchedTasks();
+        String rejected = "rejected by " + ConfigurationPropertyKey.PROXY_ADMISSION_USER_MAX_QUEUE_SIZE.getKey();
+        assertThat(executedCommands, is(Arrays.asList("command_0", "command_1", rejected, rejected)));
+    }
+    
+    @Test
+    public void assertRejectWhenSchemaQueueIsFull() {
+        CommandAdmissionController controller = new CommandAdmissionController(0, 10, 1, 1);
+        controller.execute(channelId, "user_0", "sharding_db", false, executor, createCommand("command_0"), this::createRejectedCommand);
+        controller.execute(channelId, "user_1", "sharding_db", false, executor, createCommand("command_1"), this::createRejectedCommand);
+        controller.execute(channelId, "user_2", "sharding_db", false, executor, createCommand("command_2"), this::createRejectedCommand);
+        assertThat(dispatchedTasks.size(), is(2));
+        runDispatchedTasks();
+        assertThat(executedCommands, is(Arrays.asList("command_0", "rejected by " + ConfigurationPropertyKey.PROXY_ADMISSION_SCHEMA_MAX_QUEUE_SIZE.getKey(), "command_1")));
+    }
+    
+    @Test
+    public void assertAdmitQueuedUsersInRoundRobin() {
+        CommandAdmissionController controller = new CommandAdmissionController(0, 10, 1, 10);
+        controller.execute(channelId, "user_0", "sharding_db", false, executor, createCommand("user_0_command_0"), this::createRejectedCommand);
+        controller.execute(channelId, "user_0", "sharding_db", false, executor, createCommand("user_0_command_1"), this::createRejectedCommand);
+        controller.execute(channelId, "user_0", "sharding_db", false, executor, createCommand("user_0_command_2"), this::createRejectedCommand);
+        controller.execute(channelId, "user_1", "sharding_db", false, executor, createCommand("user_1_command_0"), this::createRejectedCommand);
+        runDispatchedTasks();
+        assertThat(executedCommands, is(Arrays.asList("user_0_command_0", "user_0_command_1", "user_1_command_0", "user_0_command_2")));
+    }
+    
+    @Test
+    public void assertAdmitInTransaction() {
+        CommandAdmissionController controller = new CommandAdmissionController(1, 10, 0, 10);
+        controller.execute(channelId, "root", "sharding_db", false, executor, createCommand("command_0"), this::createRejectedCommand);
+        controller.execute(channelId, "root", "sharding_db", true, executor, createCommand("command_1"), this::createRejectedCommand);
+        assertThat(dispatchedTasks.size(), is(2));
+    }
+    
+    @Test
+    public void assertCancelQueuedCommandsOfClosedChannel() {
+        CommandAdmissionController controller = new CommandAdmissionController(1, 1, 0, 10);
+        ChannelId closedChannelId = mock(ChannelId.class);
+        controller.execute(channelId, "root", "sharding_db", false, executor, createCommand("command_0"), this::createRejectedCommand);
+        controller.execute(closedChannelId, "root", "sharding_db", false, executor, createCommand("cancelled_command"), this::createRejectedCommand);
+        controller.cancel(closedChannelId);
+        controller.execute(channelId, "root", "sharding_db", false, executor, createCommand("command_1"), this::createRejectedCommand);
+        assertThat(dispatchedTasks.size(), is(2));
+        runDispatchedTasks();
+        assertThat(executedCommands, is(Arrays.asList("command_0", "cancelled_command", "command_1")));
+    }
+    
+    private Runnable createCommand(final String name) {
+        return () -> executedCommands.add(name);
+    }
+    
+    private Runnable createRejectedCommand(final AdmissionRejectedException rejection) {
+        return () -> executedCommands.add("rejected by " + rejection.getResource());
+    }
+    
+    private void runDispatchedTasks() {
+        Runnable each;
+        while (null != (each = dispatchedTasks.poll())) {
+            each.run();
+        }
+    }
+}
@@ -21,7 +21,7 @@ import io.netty.channel.ChannelId;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.junit.Test;
 
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertThat;
@@ -30,29 +30,29 @@ import static org.mockito.Mockito.mock;
 public final class ExecutorGroupTest {
     
     @Test
-    public void assertGetExecutorServiceWithLocal() {
+    public void assertGetExecutorWithLocal() {
         ChannelId channelId = mock(ChannelId.class);
-        assertThat(CommandExecutorSelector.getExecutor(false, false, TransactionType.LOCAL, channelId), instanceOf(ExecutorService.class));
+        assertThat(CommandExecutorSelector.getExecutor(false, false, TransactionType.LOCAL, channelId), instanceOf(Executor.class));
     }
     
     @Test
-    public void assertGetExecutorServiceWithOccupyThreadForPerConnection() {
+    public void assertGetExecutorWithOccupyThreadForPerConnection() {
         ChannelId channelId = mock(ChannelId.class);
-        ChannelThreadExecutorGroup.getInstance().register(channelId);
-        assertThat(CommandExecutorSelector.getExecutor(true, false, TransactionType.LOCAL, channelId), instanceOf(ExecutorService.class));
+        ChannelThreadExecutorGroup.getInstance().register(channelId, () -> false);
+        assertThat(CommandExecutorSelector.getExecutor(true, false, TransactionType.LOCAL, channelId), instanceOf(Executor.class));
     }
     
     @Test
-    public void assertGetExecutorServiceWithXA() {
+    public void assertGetExecutorWithXA() {
         ChannelId channelId = mock(ChannelId.class);
-        ChannelThreadExecutorGroup.getInstance().register(channelId);
-        assertThat(CommandExecutorSelector.getExecutor(false, false, TransactionType.XA, channelId), instanceOf(ExecutorService.class));
+        ChannelThreadExecutorGroup.getInstance().register(channelId, () -> false);
+        assertThat(CommandExecutorSelector.getExecutor(false, false, TransactionType.XA, channelId), instanceOf(Executor.class));
     }
     
     @Test
-    public void assertGetExecutorServiceWithBASE() {
+    public void assertGetExecutorWithBASE() {
         ChannelId channelId = mock(ChannelId.class);
-        ChannelThreadExecutorGroup.getInstance().register(channelId);
-        assertThat(CommandExecutorSelector.getExecutor(false, false, TransactionType.BASE, channelId), instanceOf(ExecutorService.class));
+        ChannelThreadExecutorGroup.getInstance().register(channelId, () -> false);
+        assertThat(CommandExecutorSelector.getExecutor(false, false, TransactionType.BASE, channelId), instanceOf(Executor.class));
     }
 }
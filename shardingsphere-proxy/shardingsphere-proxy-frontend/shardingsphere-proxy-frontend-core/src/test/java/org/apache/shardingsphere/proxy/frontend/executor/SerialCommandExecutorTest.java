@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SerialCommandExecutorTest {
+    
+    private final ExecutorService sharedExecutorService = Executors.newFixedThreadPool(4);
+    
+    @After
+    public void tearDown() {
+        sharedExecutorService.shutdownNow();
+    }
+    
+    @Test
+    public void assertExecuteInOrder() throws InterruptedException {
+        SerialCommandExecutor executor = new SerialCommandExecutor(sharedExecutorService, () -> false);
+        List<Integer> actual = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++) {
+            int index = i;
+            executor.execute(() -> {
+                actual.add(index);
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            assertThat(actual.get(i), is(i));
+        }
+    }
+    
+    @Test
+    public void assertExecuteOnSameThreadWhenThreadBound() throws InterruptedException {
+        SerialCommandExecutor executor = new SerialCommandExecutor(sharedExecutorService, () -> true);
+        List<Thread> actual = new CopyOnWriteArrayList<>();
+        CountDownLatch first = new CountDownLatch(1);
+        executor.execute(() -> {
+            actual.add(Thread.currentThread());
+            first.countDown();
+        });
+        assertTrue(first.await(5, TimeUnit.SECONDS));
+        CountDownLatch second = new CountDownLatch(1);
+        executor.execute(() -> {
+            actual.add(Thread.currentThread());
+            second.countDown();
+        });
+        assertTrue(second.await(5, TimeUnit.SECONDS));
+        executor.close();
+        assertThat(actual.get(0), is(actual.get(1)));
+    }
+}
@@ -22,6 +22,7 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.db.protocol.error.CommonErrorCode;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLServerErrorCode;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.proxy.backend.exception.AdmissionRejectedException;
 import org.apache.shardingsphere.proxy.backend.exception.NoDatabaseSelectedException;
 import org.apache.shardingsphere.proxy.backend.exception.TableModifyInTransactionException;
 import org.apache.shardingsphere.proxy.backend.exception.UnknownDatabaseException;
@@ -29,6 +30,7 @@ import org.apache.shardingsphere.proxy.backend.text.sctl.ShardingCTLErrorCode;
 import org.apache.shardingsphere.proxy.backend.text.sctl.exception.ShardingCTLException;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 
 /**
  * ERR packet factory for MySQL.
@@ -44,6 +46,9 @@ public final class MySQLErrPacketFactory {
      * @return instance of MySQL ERR packet
      */
     public static MySQLErrPacket newInstance(final int sequenceId, final Exception cause) {
+        if (cause instanceof SQLTimeoutException && null == ((SQLTimeoutException) cause).getSQLState()) {
+            return new MySQLErrPacket(sequenceId, MySQLServerErrorCode.ER_QUERY_INTERRUPTED);
+        }
         if (cause instanceof SQLException) {
             SQLException sqlException = (SQLException) cause;
             return null != sqlException.getSQLState() ? new MySQLErrPacket(sequenceId, sqlException.getErrorCode(), sqlException.getSQLState(), sqlException.getMessage())
@@ -59,6 +64,11 @@ public final class MySQLErrPacketFactory {
         if (cause instanceof UnknownDatabaseException) {
             return new MySQLErrPacket(sequenceId, MySQLServerErrorCode.ER_BAD_DB_ERROR, ((UnknownDatabaseException) cause).getDatabaseName());
         }
+        if (cause instanceof AdmissionRejectedException) {
+            AdmissionRejectedException admissionRejectedException = (AdmissionRejectedException) cause;
+            return new MySQLErrPacket(sequenceId, MySQLServerErrorCode.ER_USER_LIMIT_REACHED,
+                    admissionRejectedException.getUserName(), admissionRejectedException.getResource(), admissionRejectedException.getCurrentValue());
+        }
         if (cause instanceof NoDatabaseSelectedException) {
             return new MySQLErrPacket(sequenceId, MySQLServerErrorCode.ER_NO_DB_ERROR);
         }
@@ -33,7 +33,10 @@ import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKe
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.schema.ProxySchemaContexts;
 import org.apache.shardingsphere.proxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.api.DirectQueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.ChannelWritabilityAwaiter;
+import org.apache.shardingsphere.proxy.frontend.command.DirectQueryDataBuffer;
 import org.apache.shardingsphere.proxy.frontend.engine.CommandExecuteEngine;
 import org.apache.shardingsphere.proxy.frontend.mysql.MySQLErrPacketFactory;
 
@@ -52,7 +55,7 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     
     @Override
     public MySQLCommandPacket getCommandPacket(final PacketPayload payload, final CommandPacketType type, final BackendConnection backendConnection) throws SQLException {
-        return MySQLCommandPacketFactory.newInstance((MySQLCommandPacketType) type, (MySQLPacketPayload) payload);
+        return MySQLCommandPacketFactory.newInstance((MySQLCommandPacketType) type, (MySQLPacketPayload) payload, backendConnection.getConnectionId());
     }
     
     @Override
@@ -60,6 +63,11 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
         return MySQLCommandExecutorFactory.newInstance((MySQLCommandPacketType) type, packet, backendConnection);
     }
     
+    @Override
+    public boolean isAdmissionExempted(final CommandPacketType type) {
+        return MySQLCommandPacketType.COM_QUIT == type || MySQLCommandPacketType.COM_STMT_CLOSE == type || MySQLCommandPacketType.COM_STMT_SEND_LONG_DATA == type;
+    }
+    
     @Override
     public DatabasePacket<?> getErrorPacket(final Exception cause) {
         return MySQLErrPacketFactory.newInstance(1, cause);
@@ -79,20 +87,29 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
         }
         int count = 0;
         int flushThreshold = ProxySchemaContexts.getInstance().getSchemaContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        int flushBytes = ProxySchemaContexts.getInstance().getSchemaContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES);
         int currentSequenceId = 0;
-        while (queryCommandExecutor.next()) {
-            count++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                context.flush();
-                backendConnection.getResourceSynchronizer().doAwaitUntil();
-            }
-            DatabasePacket<?> dataValue = queryCommandExecutor.getQueryData();
-            context.write(dataValue);
-            if (flushThreshold == count) {
-                context.flush();
-                count = 0;
+        boolean isDirect = queryCommandExecutor instanceof DirectQueryCommandExecutor;
+        try (DirectQueryDataBuffer directQueryDataBuffer = new DirectQueryDataBuffer(context)) {
+            while (queryCommandExecutor.next()) {
+                while (!context.channel().isWritable() && context.channel().isActive()) {
+                    directQueryDataBuffer.flush();
+                    count = 0;
+                    ChannelWritabilityAwaiter.await(context.channel(), backendConnection);
+                }
+                isDirect = isDirect && directQueryDataBuffer.write((DirectQueryCommandExecutor) queryCommandExecutor);
+                if (!isDirect) {
+                    directQueryDataBuffer.writePending();
+                    DatabasePacket<?> dataValue = queryCommandExecutor.getQueryData();
+                    context.write(dataValue);
+                }
+                if (isDirect ? directQueryDataBuffer.getUnflushedBytes() >= flushBytes : ++count >= flushThreshold) {
+                    directQueryDataBuffer.flush();
+                    count = 0;
+                }
+                currentSequenceId++;
             }
-            currentSequenceId++;
+            directQueryDataBuffer.writePending();
         }
         context.write(new MySQLEofPacket(++currentSequenceId + headerPackagesCount));
     }
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendCursor;
+import org.apache.shardingsphere.proxy.backend.response.query.QueryData;
+
+import java.sql.SQLException;
+import java.util.LinkedList;
+import java.util.Queue;
+
+/**
+ * Cursor for MySQL.
+ *
+ * <p>
+ *     Cursor is opened by COM_STMT_EXECUTE with read only cursor type and kept on backend connection, rows of it are fetched by COM_STMT_FETCH.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class MySQLCursor implements BackendCursor {
+    
+    private final DatabaseCommunicationEngine databaseCommunicationEngine;
+    
+    private Queue<QueryData> materializedRows;
+    
+    private QueryData currentRow;
+    
+    @Override
+    public boolean isQuery() {
+        return true;
+    }
+    
+    @Override
+    public void materialize() throws SQLException {
+        if (null != materializedRows) {
+            return;
+        }
+        Queue<QueryData> rows = new LinkedList<>();
+        while (databaseCommunicationEngine.next()) {
+            rows.add(databaseCommunicationEngine.getQueryData());
+        }
+        materializedRows = rows;
+    }
+    
+    /**
+     * Goto next row.
+     *
+     * @return has more row or not
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        if (null == materializedRows) {
+            return databaseCommunicationEngine.next();
+        }
+        currentRow = materializedRows.poll();
+        return null != currentRow;
+    }
+    
+    /**
+     * Get query data of current row.
+     *
+     * @return query data
+     * @throws SQLException SQL exception
+     */
+    public QueryData getQueryData() throws SQLException {
+        return null == materializedRows ? databaseCommunicationEngine.getQueryData() : currentRow;
+    }
+}
@@ -18,8 +18,11 @@
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.close;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLConnectionScopeBinaryStatementRegistry;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.close.MySQLComStmtClosePacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.frontend.api.CommandExecutor;
 
 import java.util.Collection;
@@ -33,10 +36,15 @@ public final class MySQLComStmtCloseExecutor implements CommandExecutor {
     
     private final MySQLComStmtClosePacket packet;
     
+    private final BackendConnection backendConnection;
+    
     @Override
     public Collection<DatabasePacket<?>> execute() {
-        //TODO we need to design the cache in future.
-//        packet.removeCachedStatement();
+        backendConnection.closeCursor(String.valueOf(packet.getStatementId()));
+        MySQLConnectionScopeBinaryStatementRegistry registry = MySQLBinaryStatementRegistry.getInstance().get(backendConnection.getConnectionId());
+        if (null != registry) {
+            registry.remove(packet.getStatementId());
+        }
         return Collections.emptyList();
     }
 }
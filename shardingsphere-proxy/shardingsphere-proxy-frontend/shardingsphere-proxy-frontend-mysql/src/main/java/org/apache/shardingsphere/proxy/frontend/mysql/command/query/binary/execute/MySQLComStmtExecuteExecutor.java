@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.exec
 import lombok.Getter;
 import org.apache.shardingsphere.db.protocol.error.CommonErrorCode;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLStatusFlag;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLFieldCountPacket;
@@ -29,6 +30,8 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.executor.sql.log.SQLExecutionPhase;
+import org.apache.shardingsphere.infra.executor.sql.log.SlowQueryLogger;
 import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
 import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngineFactory;
@@ -41,6 +44,7 @@ import org.apache.shardingsphere.proxy.backend.response.update.UpdateResponse;
 import org.apache.shardingsphere.proxy.backend.schema.ProxySchemaContexts;
 import org.apache.shardingsphere.proxy.frontend.api.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.MySQLErrPacketFactory;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.MySQLCursor;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 
 import java.sql.SQLException;
@@ -55,6 +59,10 @@ import java.util.List;
  */
 public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
+    private final MySQLComStmtExecutePacket packet;
+    
+    private final BackendConnection backendConnection;
+    
     private final DatabaseCommunicationEngine databaseCommunicationEngine;
     
     private volatile boolean isQuery;
@@ -67,17 +75,24 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
     private int currentSequenceId;
     
+    private List<MySQLColumnType> columnTypes;
+    
     public MySQLComStmtExecuteExecutor(final MySQLComStmtExecutePacket comStmtExecutePacket, final BackendConnection backendConnection) {
+        packet = comStmtExecutePacket;
+        this.backendConnection = backendConnection;
+        long startTime = System.nanoTime();
         SQLStatement sqlStatement = backendConnection.getSchema().getRuntimeContext().getSqlParserEngine().parse(comStmtExecutePacket.getSql(), true);
+        SlowQueryLogger.recordPhase(SQLExecutionPhase.PARSE, startTime);
         databaseCommunicationEngine = DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(sqlStatement,
                 comStmtExecutePacket.getSql(), comStmtExecutePacket.getParameters(), backendConnection);
     }
     
     @Override
-    public Collection<DatabasePacket<?>> execute() {
+    public Collection<DatabasePacket<?>> execute() throws SQLException {
         if (ProxySchemaContexts.getInstance().getSchemaContexts().isCircuitBreak()) {
             return Collections.singletonList(new MySQLErrPacket(1, CommonErrorCode.CIRCUIT_BREAK_MODE));
         }
+        backendConnection.closeCursor(String.valueOf(packet.getStatementId()));
         BackendResponse backendResponse = databaseCommunicationEngine.execute();
         if (backendResponse instanceof ErrorResponse) {
             isErrorResponse = true;
@@ -87,8 +102,12 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
             isUpdateResponse = true;
             return Collections.singletonList(createUpdatePacket((UpdateResponse) backendResponse));
         }
+        if (packet.isCursorOpen()) {
+            backendConnection.openCursor(String.valueOf(packet.getStatementId()), new MySQLCursor(databaseCommunicationEngine));
+            return createQueryPacket((QueryResponse) backendResponse, MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue() | MySQLStatusFlag.SERVER_STATUS_CURSOR_EXISTS.getValue());
+        }
         isQuery = true;
-        return createQueryPacket((QueryResponse) backendResponse);
+        return createQueryPacket((QueryResponse) backendResponse, MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue());
     }
     
     private MySQLErrPacket createErrorPacket(final Exception cause) {
@@ -99,7 +118,7 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
         return new MySQLOKPacket(1, updateResponse.getUpdateCount(), updateResponse.getLastInsertId());
     }
     
-    private Collection<DatabasePacket<?>> createQueryPacket(final QueryResponse backendResponse) {
+    private Collection<DatabasePacket<?>> createQueryPacket(final QueryResponse backendResponse, final int statusFlags) {
         Collection<DatabasePacket<?>> result = new LinkedList<>();
         List<QueryHeader> queryHeader = backendResponse.getQueryHeaders();
         result.add(new MySQLFieldCountPacket(++currentSequenceId, queryHeader.size()));
@@ -107,7 +126,7 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
             result.add(new MySQLColumnDefinition41Packet(++currentSequenceId, each.getSchema(), each.getTable(), each.getTable(),
                     each.getColumnLabel(), each.getColumnName(), each.getColumnLength(), MySQLColumnType.valueOfJDBCType(each.getColumnType()), each.getDecimals()));
         }
-        result.add(new MySQLEofPacket(++currentSequenceId));
+        result.add(new MySQLEofPacket(++currentSequenceId, 0, statusFlags));
         return result;
     }
     
@@ -128,10 +147,14 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     }
     
     private List<MySQLColumnType> getMySQLColumnTypes(final QueryData queryData) {
+        if (null != columnTypes) {
+            return columnTypes;
+        }
         List<MySQLColumnType> result = new ArrayList<>(queryData.getColumnTypes().size());
         for (int i = 0; i < queryData.getColumnTypes().size(); i++) {
             result.add(MySQLColumnType.valueOfJDBCType(queryData.getColumnTypes().get(i)));
         }
+        columnTypes = result;
         return result;
     }
 }
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.fetch;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLServerErrorCode;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLStatusFlag;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLBinaryResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.fetch.MySQLComStmtFetchPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.response.query.QueryData;
+import org.apache.shardingsphere.proxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.MySQLCursor;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * COM_STMT_FETCH command executor for MySQL.
+ */
+@RequiredArgsConstructor
+public final class MySQLComStmtFetchExecutor implements CommandExecutor {
+    
+    private final MySQLComStmtFetchPacket packet;
+    
+    private final BackendConnection backendConnection;
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() throws SQLException {
+        String cursorName = String.valueOf(packet.getStatementId());
+        Optional<MySQLCursor> cursor = backendConnection.getCursor(cursorName, MySQLCursor.class);
+        if (!cursor.isPresent()) {
+            return Collections.singletonList(new MySQLErrPacket(1, MySQLServerErrorCode.ER_STMT_HAS_NO_OPEN_CURSOR, packet.getStatementId()));
+        }
+        Collection<DatabasePacket<?>> result = new LinkedList<>();
+        int currentSequenceId = 0;
+        List<MySQLColumnType> columnTypes = null;
+        boolean isLastRowSent = false;
+        for (long i = 0; i < packet.getNumRows(); i++) {
+            if (!cursor.get().next()) {
+                isLastRowSent = true;
+                break;
+            }
+            QueryData queryData = cursor.get().getQueryData();
+            if (null == columnTypes) {
+                columnTypes = getMySQLColumnTypes(queryData);
+            }
+            result.add(new MySQLBinaryResultSetRowPacket(++currentSequenceId, queryData.getData(), columnTypes));
+        }
+        int statusFlags = MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue() | MySQLStatusFlag.SERVER_STATUS_CURSOR_EXISTS.getValue();
+        if (isLastRowSent) {
+            backendConnection.closeCursor(cursorName);
+            statusFlags |= MySQLStatusFlag.SERVER_STATUS_LAST_ROW_SENT.getValue();
+        }
+        result.add(new MySQLEofPacket(++currentSequenceId, 0, statusFlags));
+        return result;
+    }
+    
+    private List<MySQLColumnType> getMySQLColumnTypes(final QueryData queryData) {
+        List<MySQLColumnType> result = new ArrayList<>(queryData.getColumnTypes().size());
+        for (int each : queryData.getColumnTypes()) {
+            result.add(MySQLColumnType.valueOfJDBCType(each));
+        }
+        return result;
+    }
+}
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLColumnType;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLServerErrorCode;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLConnectionScopeBinaryStatementRegistry;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.prepare.MySQLComStmtPrepareOKPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.prepare.MySQLComStmtPreparePacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
@@ -40,15 +41,16 @@ import java.util.LinkedList;
  */
 public final class MySQLComStmtPrepareExecutor implements CommandExecutor {
     
-    private static final MySQLBinaryStatementRegistry PREPARED_STATEMENT_REGISTRY = MySQLBinaryStatementRegistry.getInstance();
-    
     private final MySQLComStmtPreparePacket packet;
     
     private final SchemaContext schema;
     
+    private final MySQLConnectionScopeBinaryStatementRegistry binaryStatementRegistry;
+    
     public MySQLComStmtPrepareExecutor(final MySQLComStmtPreparePacket packet, final BackendConnection backendConnection) {
         this.packet = packet;
         schema = backendConnection.getSchema();
+        binaryStatementRegistry = MySQLBinaryStatementRegistry.getInstance().get(backendConnection.getConnectionId());
     }
     
     private int getColumnsCount(final SQLStatement sqlStatement) {
@@ -64,9 +66,13 @@ public final class MySQLComStmtPrepareExecutor implements CommandExecutor {
             result.add(new MySQLErrPacket(++currentSequenceId, MySQLServerErrorCode.ER_UNSUPPORTED_PS));
             return result;
         }
+        if (binaryStatementRegistry.isFull()) {
+            result.add(new MySQLErrPacket(++currentSequenceId, MySQLServerErrorCode.ER_MAX_PREPARED_STMT_COUNT_REACHED, MySQLConnectionScopeBinaryStatementRegistry.MAX_STATEMENT_COUNT));
+            return result;
+        }
         int parametersCount = sqlStatement.getParameterCount();
         int columnsCount = getColumnsCount(sqlStatement);
-        result.add(new MySQLComStmtPrepareOKPacket(++currentSequenceId, PREPARED_STATEMENT_REGISTRY.register(packet.getSql(), parametersCount), columnsCount, parametersCount, 0));
+        result.add(new MySQLComStmtPrepareOKPacket(++currentSequenceId, binaryStatementRegistry.register(packet.getSql(), parametersCount), columnsCount, parametersCount, 0));
         if (parametersCount > 0) {
             for (int i = 0; i < parametersCount; i++) {
                 result.add(new MySQLColumnDefinition41Packet(++currentSequenceId, "", "", "", "?", "", 0, MySQLColumnType.MYSQL_TYPE_VAR_STRING, 0));
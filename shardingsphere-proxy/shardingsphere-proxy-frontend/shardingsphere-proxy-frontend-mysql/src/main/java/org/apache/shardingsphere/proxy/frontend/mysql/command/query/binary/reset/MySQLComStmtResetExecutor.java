@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.reset.MySQLComStmtResetPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.frontend.api.CommandExecutor;
 
 import java.util.Collection;
@@ -34,8 +35,11 @@ public final class MySQLComStmtResetExecutor implements CommandExecutor {
     
     private final MySQLComStmtResetPacket packet;
     
+    private final BackendConnection backendConnection;
+    
     @Override
     public Collection<DatabasePacket<?>> execute() {
+        backendConnection.closeCursor(String.valueOf(packet.getStatementId()));
         // TODO we should implement the stmt reset after supporting COM_STMT_SEND_LONG_DATA
         return Collections.singletonList(new MySQLOKPacket(1));
     }
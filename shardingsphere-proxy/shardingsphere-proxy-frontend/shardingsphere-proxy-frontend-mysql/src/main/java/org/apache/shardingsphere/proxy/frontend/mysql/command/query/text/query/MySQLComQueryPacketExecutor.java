@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query;
 
+import io.netty.buffer.ByteBuf;
 import lombok.Getter;
 import org.apache.shardingsphere.db.protocol.error.CommonErrorCode;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLColumnType;
@@ -29,6 +30,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.que
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypes;
 import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.query.QueryHeader;
@@ -40,7 +42,8 @@ import org.apache.shardingsphere.proxy.backend.response.update.UpdateResponse;
 import org.apache.shardingsphere.proxy.backend.schema.ProxySchemaContexts;
 import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandlerFactory;
-import org.apache.shardingsphere.proxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.backend.text.query.QueryBackendHandler;
+import org.apache.shardingsphere.proxy.frontend.api.DirectQueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.MySQLErrPacketFactory;
 
 import java.sql.SQLException;
@@ -52,7 +55,9 @@ import java.util.List;
 /**
  * COM_QUERY command packet executor for MySQL.
  */
-public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
+public final class MySQLComQueryPacketExecutor implements DirectQueryCommandExecutor {
+    
+    private static final int MAX_PAYLOAD_LENGTH = 0xFFFFFF;
     
     private final TextProtocolBackendHandler textProtocolBackendHandler;
     
@@ -66,6 +71,8 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     private int currentSequenceId;
     
+    private int columnCount;
+    
     public MySQLComQueryPacketExecutor(final MySQLComQueryPacket comQueryPacket, final BackendConnection backendConnection) {
         textProtocolBackendHandler = TextProtocolBackendHandlerFactory.newInstance(DatabaseTypes.getActualDatabaseType("MySQL"), comQueryPacket.getSql(), backendConnection);
     }
@@ -99,6 +106,7 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     private Collection<DatabasePacket<?>> createQueryPackets(final QueryResponse backendResponse) {
         Collection<DatabasePacket<?>> result = new LinkedList<>();
         List<QueryHeader> queryHeader = backendResponse.getQueryHeaders();
+        columnCount = queryHeader.size();
         result.add(new MySQLFieldCountPacket(++currentSequenceId, queryHeader.size()));
         for (QueryHeader each : queryHeader) {
             result.add(new MySQLColumnDefinition41Packet(++currentSequenceId, getColumnFieldDetailFlag(each), each.getSchema(), each.getTable(), each.getTable(), 
@@ -107,7 +115,7 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
         result.add(new MySQLEofPacket(++currentSequenceId));
         return result;
     }
-
+    
     private int getColumnFieldDetailFlag(final QueryHeader header) {
         int result = 0;
         if (header.isPrimaryKey()) {
@@ -139,4 +147,25 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     public MySQLPacket getQueryData() throws SQLException {
         return new MySQLTextResultSetRowPacket(++currentSequenceId, textProtocolBackendHandler.getQueryData().getData());
     }
+    
+    @Override
+    public boolean writeQueryData(final ByteBuf out) throws SQLException {
+        if (!(textProtocolBackendHandler instanceof QueryBackendHandler)) {
+            return false;
+        }
+        int headerIndex = out.writerIndex();
+        out.writeZero(MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH);
+        MySQLPacketPayload payload = new MySQLPacketPayload(out);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            MySQLTextResultSetRowPacket.writeValue(payload, ((QueryBackendHandler) textProtocolBackendHandler).getValue(columnIndex));
+        }
+        int payloadLength = out.writerIndex() - headerIndex - MySQLPacket.PAYLOAD_LENGTH - MySQLPacket.SEQUENCE_LENGTH;
+        if (payloadLength >= MAX_PAYLOAD_LENGTH) {
+            out.writerIndex(headerIndex);
+            return false;
+        }
+        out.setMediumLE(headerIndex, payloadLength);
+        out.setByte(headerIndex + MySQLPacket.PAYLOAD_LENGTH, ++currentSequenceId);
+        return true;
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.frontend.mysql;
 
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.proxy.backend.exception.AdmissionRejectedException;
 import org.apache.shardingsphere.proxy.backend.exception.NoDatabaseSelectedException;
 import org.apache.shardingsphere.proxy.backend.exception.TableModifyInTransactionException;
 import org.apache.shardingsphere.proxy.backend.exception.UnknownDatabaseException;
@@ -42,7 +43,7 @@ public final class MySQLErrPacketFactoryTest {
         assertThat(actual.getSqlState(), is("XXX"));
         assertThat(actual.getErrorMessage(), is("No reason"));
     }
-
+    
     @Test
     public void assertNewInstanceWithSQLExceptionOfNullSqlState() {
         MySQLErrPacket actual = MySQLErrPacketFactory.newInstance(1, new SQLException(new RuntimeException("No reason")));
@@ -51,7 +52,7 @@ public final class MySQLErrPacketFactoryTest {
         assertThat(actual.getSqlState(), is("HY000"));
         assertThat(actual.getErrorMessage(), endsWith("No reason"));
     }
-
+    
     @Test
     public void assertNewInstanceWithSQLExceptionOfNullParam() {
         MySQLErrPacket actual = MySQLErrPacketFactory.newInstance(1, new SQLException());
@@ -107,6 +108,15 @@ public final class MySQLErrPacketFactoryTest {
         assertThat(actual.getErrorMessage(), is("No database selected"));
     }
     
+    @Test
+    public void assertNewInstanceWithAdmissionRejectedException() {
+        MySQLErrPacket actual = MySQLErrPacketFactory.newInstance(1, new AdmissionRejectedException("root", "proxy.admission.user.max.queue.size", 128));
+        assertThat(actual.getSequenceId(), is(1));
+        assertThat(actual.getErrorCode(), is(1226));
+        assertThat(actual.getSqlState(), is("42000"));
+        assertThat(actual.getErrorMessage(), is("User 'root' has exceeded the 'proxy.admission.user.max.queue.size' resource (current value: 128)"));
+    }
+    
     @Test
     public void assertNewInstanceWithOtherException() {
         MySQLErrPacket actual = MySQLErrPacketFactory.newInstance(1, new RuntimeException("No reason"));
@@ -18,7 +18,10 @@
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.execute;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLStatusFlag;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLComStmtExecutePacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.query.QueryHeader;
 import org.apache.shardingsphere.kernel.context.SchemaContext;
 import org.apache.shardingsphere.kernel.context.runtime.RuntimeContext;
@@ -27,6 +30,7 @@ import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.Bac
 import org.apache.shardingsphere.proxy.backend.response.error.ErrorResponse;
 import org.apache.shardingsphere.proxy.backend.response.query.QueryResponse;
 import org.apache.shardingsphere.proxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.MySQLCursor;
 import org.apache.shardingsphere.rdl.parser.engine.ShardingSphereSQLParserEngine;
 import org.hamcrest.Matchers;
 import org.junit.Test;
@@ -36,10 +40,15 @@ import org.mockito.internal.util.reflection.FieldSetter;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -101,4 +110,26 @@ public final class MySQLComStmtExecuteExecutorTest {
         mysqlComStmtExecuteExecutor.execute();
         assertThat(mysqlComStmtExecuteExecutor.isQuery(), Matchers.is(true));
     }
+    
+    @Test
+    @SneakyThrows
+    public void assertExecuteWithCursor() {
+        BackendConnection backendConnection = mock(BackendConnection.class);
+        SchemaContext schema = mock(SchemaContext.class);
+        RuntimeContext runtimeContext = mock(RuntimeContext.class);
+        ShardingSphereSQLParserEngine sqlParserEngine = mock(ShardingSphereSQLParserEngine.class);
+        when(runtimeContext.getSqlParserEngine()).thenReturn(sqlParserEngine);
+        when(schema.getRuntimeContext()).thenReturn(runtimeContext);
+        when(backendConnection.getSchema()).thenReturn(schema);
+        MySQLComStmtExecutePacket packet = mock(MySQLComStmtExecutePacket.class);
+        when(packet.getStatementId()).thenReturn(1);
+        when(packet.isCursorOpen()).thenReturn(true);
+        MySQLComStmtExecuteExecutor mysqlComStmtExecuteExecutor = new MySQLComStmtExecuteExecutor(packet, backendConnection);
+        FieldSetter.setField(mysqlComStmtExecuteExecutor, MySQLComStmtExecuteExecutor.class.getDeclaredField("databaseCommunicationEngine"), databaseCommunicationEngine);
+        when(databaseCommunicationEngine.execute()).thenReturn(new QueryResponse(Collections.singletonList(mock(QueryHeader.class))));
+        List<DatabasePacket<?>> actual = new ArrayList<>(mysqlComStmtExecuteExecutor.execute());
+        assertThat(mysqlComStmtExecuteExecutor.isQuery(), Matchers.is(false));
+        assertThat(((MySQLEofPacket) actual.get(actual.size() - 1)).getStatusFlags() & MySQLStatusFlag.SERVER_STATUS_CURSOR_EXISTS.getValue(), Matchers.is(MySQLStatusFlag.SERVER_STATUS_CURSOR_EXISTS.getValue()));
+        verify(backendConnection).openCursor(eq("1"), any(MySQLCursor.class));
+    }
 }
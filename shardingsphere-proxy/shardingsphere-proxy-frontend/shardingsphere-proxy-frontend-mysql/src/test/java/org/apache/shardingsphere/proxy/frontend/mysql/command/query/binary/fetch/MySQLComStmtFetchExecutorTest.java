@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.fetch;
+
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLStatusFlag;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLBinaryResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.fetch.MySQLComStmtFetchPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.response.query.QueryData;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.MySQLCursor;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLComStmtFetchExecutorTest {
+    
+    @Mock
+    private MySQLComStmtFetchPacket packet;
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Mock
+    private DatabaseCommunicationEngine databaseCommunicationEngine;
+    
+    @Before
+    public void setUp() {
+        when(packet.getStatementId()).thenReturn(1);
+    }
+    
+    @Test
+    public void assertExecuteWithoutOpenCursor() throws SQLException {
+        when(backendConnection.getCursor("1", MySQLCursor.class)).thenReturn(Optional.empty());
+        List<DatabasePacket<?>> actual = new ArrayList<>(new MySQLComStmtFetchExecutor(packet, backendConnection).execute());
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0), instanceOf(MySQLErrPacket.class));
+    }
+    
+    @Test
+    public void assertExecuteWithRemainingRows() throws SQLException {
+        when(packet.getNumRows()).thenReturn(2L);
+        when(backendConnection.getCursor("1", MySQLCursor.class)).thenReturn(Optional.of(new MySQLCursor(databaseCommunicationEngine)));
+        when(databaseCommunicationEngine.next()).thenReturn(true);
+        when(databaseCommunicationEngine.getQueryData()).thenReturn(new QueryData(Collections.singletonList(Types.INTEGER), Collections.singletonList(1)));
+        List<DatabasePacket<?>> actual = new ArrayList<>(new MySQLComStmtFetchExecutor(packet, backendConnection).execute());
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0), instanceOf(MySQLBinaryResultSetRowPacket.class));
+        assertThat(actual.get(1), instanceOf(MySQLBinaryResultSetRowPacket.class));
+        assertThat(((MySQLEofPacket) actual.get(2)).getStatusFlags() & MySQLStatusFlag.SERVER_STATUS_LAST_ROW_SENT.getValue(), is(0));
+        verify(backendConnection, never()).closeCursor("1");
+    }
+    
+    @Test
+    public void assertExecuteWithLastRowSent() throws SQLException {
+        when(packet.getNumRows()).thenReturn(2L);
+        when(backendConnection.getCursor("1", MySQLCursor.class)).thenReturn(Optional.of(new MySQLCursor(databaseCommunicationEngine)));
+        when(databaseCommunicationEngine.next()).thenReturn(true, false);
+        when(databaseCommunicationEngine.getQueryData()).thenReturn(new QueryData(Collections.singletonList(Types.INTEGER), Collections.singletonList(1)));
+        List<DatabasePacket<?>> actual = new ArrayList<>(new MySQLComStmtFetchExecutor(packet, backendConnection).execute());
+        assertThat(actual.size(), is(2));
+        MySQLEofPacket eofPacket = (MySQLEofPacket) actual.get(1);
+        assertThat(eofPacket.getSequenceId(), is(2));
+        assertThat(eofPacket.getStatusFlags() & MySQLStatusFlag.SERVER_STATUS_LAST_ROW_SENT.getValue(), is(MySQLStatusFlag.SERVER_STATUS_LAST_ROW_SENT.getValue()));
+        verify(backendConnection).closeCursor("1");
+    }
+}
@@ -17,13 +17,19 @@
 
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query;
 
+import com.google.common.base.Strings;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
 import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.error.ErrorResponse;
+import org.apache.shardingsphere.proxy.backend.response.query.QueryData;
 import org.apache.shardingsphere.proxy.backend.response.query.QueryResponse;
 import org.apache.shardingsphere.proxy.backend.response.update.UpdateResponse;
 import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandler;
+import org.apache.shardingsphere.proxy.backend.text.query.QueryBackendHandler;
 import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -32,9 +38,12 @@ import org.mockito.internal.util.reflection.FieldSetter;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -75,4 +84,75 @@ public final class MySQLComQueryPacketExecutorTest {
         mysqlComQueryPacketExecutor.execute();
         assertThat(mysqlComQueryPacketExecutor.isQuery(), Matchers.is(true));
     }
+    
+    @Test
+    @SneakyThrows
+    public void assertWriteQueryDataWithoutQueryBackendHandler() {
+        FieldSetter.setField(mysqlComQueryPacketExecutor, MySQLComQueryPacketExecutor.class.getDeclaredField("textProtocolBackendHandler"), textProtocolBackendHandler);
+        ByteBuf out = Unpooled.buffer();
+        assertFalse(mysqlComQueryPacketExecutor.writeQueryData(out));
+        assertFalse(out.isReadable());
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertWriteQueryData() {
+        QueryBackendHandler queryBackendHandler = mockQueryBackendHandler();
+        when(queryBackendHandler.getValue(1)).thenReturn("foo");
+        when(queryBackendHandler.getValue(2)).thenReturn(null);
+        mysqlComQueryPacketExecutor.execute();
+        ByteBuf out = Unpooled.buffer();
+        assertTrue(mysqlComQueryPacketExecutor.writeQueryData(out));
+        assertThat(ByteBufUtil.getBytes(out), Matchers.is(new byte[]{5, 0, 0, 5, 3, 'f', 'o', 'o', (byte) 0xfb}));
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertWriteQueryDataWithSequenceIdOfEachRow() {
+        QueryBackendHandler queryBackendHandler = mockQueryBackendHandler();
+        when(queryBackendHandler.getValue(1)).thenReturn(1L, 2L);
+        when(queryBackendHandler.getValue(2)).thenReturn(true, false);
+        mysqlComQueryPacketExecutor.execute();
+        ByteBuf out = Unpooled.buffer();
+        assertTrue(mysqlComQueryPacketExecutor.writeQueryData(out));
+        assertTrue(mysqlComQueryPacketExecutor.writeQueryData(out));
+        assertThat(ByteBufUtil.getBytes(out), Matchers.is(new byte[]{4, 0, 0, 5, 1, '1', 1, 1, 4, 0, 0, 6, 1, '2', 1, 0}));
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertWriteQueryDataWithPayloadLengthLessThanMaxPacketLength() {
+        QueryBackendHandler queryBackendHandler = mockQueryBackendHandler();
+        when(queryBackendHandler.getValue(1)).thenReturn(Strings.repeat("x", 0xFFFFFF - 6));
+        when(queryBackendHandler.getValue(2)).thenReturn(null);
+        mysqlComQueryPacketExecutor.execute();
+        ByteBuf out = Unpooled.buffer();
+        assertTrue(mysqlComQueryPacketExecutor.writeQueryData(out));
+        assertThat(out.readMediumLE(), Matchers.is(0xFFFFFE));
+        assertThat(out.readByte(), Matchers.is((byte) 5));
+        assertThat(out.readableBytes(), Matchers.is(0xFFFFFE));
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertWriteQueryDataFallbackWhenPayloadLengthReachMaxPacketLength() {
+        QueryBackendHandler queryBackendHandler = mockQueryBackendHandler();
+        when(queryBackendHandler.getValue(1)).thenReturn(Strings.repeat("x", 0xFFFFFF - 5));
+        when(queryBackendHandler.getValue(2)).thenReturn(null);
+        when(queryBackendHandler.getQueryData()).thenReturn(new QueryData(Collections.emptyList(), Collections.emptyList()));
+        mysqlComQueryPacketExecutor.execute();
+        ByteBuf out = Unpooled.buffer();
+        out.writeByte(0xff);
+        assertFalse(mysqlComQueryPacketExecutor.writeQueryData(out));
+        assertThat(ByteBufUtil.getBytes(out), Matchers.is(new byte[]{(byte) 0xff}));
+        assertThat(mysqlComQueryPacketExecutor.getQueryData().getSequenceId(), Matchers.is(5));
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private QueryBackendHandler mockQueryBackendHandler() throws SQLException {
+        QueryBackendHandler result = mock(QueryBackendHandler.class);
+        FieldSetter.setField(mysqlComQueryPacketExecutor, MySQLComQueryPacketExecutor.class.getDeclaredField("textProtocolBackendHandler"), result);
+        when(result.execute()).thenReturn(new QueryResponse(Arrays.asList(mock(QueryHeader.class), mock(QueryHeader.class))));
+        return result;
+    }
 }
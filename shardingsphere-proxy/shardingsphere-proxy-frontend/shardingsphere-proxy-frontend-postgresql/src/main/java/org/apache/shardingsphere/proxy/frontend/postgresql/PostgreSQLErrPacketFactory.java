@@ -20,15 +20,22 @@ package org.apache.shardingsphere.proxy.frontend.postgresql;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
+import org.apache.shardingsphere.proxy.backend.exception.AdmissionRejectedException;
 import org.postgresql.util.PSQLException;
 import org.postgresql.util.ServerErrorMessage;
 
+import java.sql.SQLTimeoutException;
+
 /**
  * ERR packet factory for PostgreSQL.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class PostgreSQLErrPacketFactory {
     
+    private static final String QUERY_CANCELED_SQL_STATE = "57014";
+    
+    private static final String CONFIGURATION_LIMIT_EXCEEDED_SQL_STATE = "53400";
+    
     /**
      * New instance of PostgreSQL ERR packet.
      * 
@@ -36,7 +43,7 @@ public final class PostgreSQLErrPacketFactory {
      * @return instance of PostgreSQL ERR packet
      */
     public static PostgreSQLErrorResponsePacket newInstance(final Exception cause) {
-        if (cause instanceof PSQLException) {
+        if (cause instanceof PSQLException && null != ((PSQLException) cause).getServerErrorMessage()) {
             ServerErrorMessage serverErrorMessage = ((PSQLException) cause).getServerErrorMessage();
             PostgreSQLErrorResponsePacket errorResponsePacket = new PostgreSQLErrorResponsePacket();
             errorResponsePacket.addField(PostgreSQLErrorResponsePacket.FIELD_TYPE_SEVERITY, serverErrorMessage.getSeverity());
@@ -46,6 +53,16 @@ public final class PostgreSQLErrPacketFactory {
             return errorResponsePacket;
         }
         PostgreSQLErrorResponsePacket errorResponsePacket = new PostgreSQLErrorResponsePacket();
+        if (cause instanceof AdmissionRejectedException) {
+            AdmissionRejectedException admissionRejectedException = (AdmissionRejectedException) cause;
+            errorResponsePacket.addField(PostgreSQLErrorResponsePacket.FIELD_TYPE_CODE, CONFIGURATION_LIMIT_EXCEEDED_SQL_STATE);
+            errorResponsePacket.addField(PostgreSQLErrorResponsePacket.FIELD_TYPE_MESSAGE, String.format("User '%s' has exceeded the '%s' resource (current value: %s)",
+                    admissionRejectedException.getUserName(), admissionRejectedException.getResource(), admissionRejectedException.getCurrentValue()));
+            return errorResponsePacket;
+        }
+        if (cause instanceof SQLTimeoutException) {
+            errorResponsePacket.addField(PostgreSQLErrorResponsePacket.FIELD_TYPE_CODE, QUERY_CANCELED_SQL_STATE);
+        }
         errorResponsePacket.addField(PostgreSQLErrorResponsePacket.FIELD_TYPE_MESSAGE, cause.getMessage());
         return errorResponsePacket;
     }
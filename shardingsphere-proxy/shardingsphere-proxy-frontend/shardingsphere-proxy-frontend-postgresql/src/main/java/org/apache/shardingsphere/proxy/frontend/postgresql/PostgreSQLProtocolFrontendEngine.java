@@ -24,6 +24,7 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.bin
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.frontend.context.FrontendContext;
 import org.apache.shardingsphere.proxy.frontend.postgresql.auth.PostgreSQLAuthenticationEngine;
+import org.apache.shardingsphere.proxy.frontend.postgresql.auth.PostgreSQLBackendKeyRegistry;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLCommandExecuteEngine;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 
@@ -33,7 +34,7 @@ import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngi
 @Getter
 public final class PostgreSQLProtocolFrontendEngine implements DatabaseProtocolFrontendEngine {
     
-    private final FrontendContext frontendContext = new FrontendContext(true, false);
+    private final FrontendContext frontendContext = new FrontendContext(true, true);
     
     private final PostgreSQLAuthenticationEngine authEngine = new PostgreSQLAuthenticationEngine();
     
@@ -49,5 +50,6 @@ public final class PostgreSQLProtocolFrontendEngine implements DatabaseProtocolF
     @Override
     public void release(final BackendConnection backendConnection) {
         BinaryStatementRegistry.getInstance().unregister(backendConnection.getConnectionId());
+        PostgreSQLBackendKeyRegistry.getInstance().unregister(backendConnection.getConnectionId());
     }
 }
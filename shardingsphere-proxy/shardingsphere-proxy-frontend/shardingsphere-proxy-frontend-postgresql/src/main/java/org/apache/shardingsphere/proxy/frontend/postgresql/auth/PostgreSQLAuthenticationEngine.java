@@ -24,11 +24,13 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.bin
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.handshake.PostgreSQLAuthenticationOKPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.handshake.PostgreSQLBackendKeyDataPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.handshake.PostgreSQLComStartupPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.handshake.PostgreSQLParameterStatusPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.handshake.PostgreSQLSSLNegativePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnectionRegistry;
 import org.apache.shardingsphere.proxy.backend.schema.ProxySchemaContexts;
 import org.apache.shardingsphere.proxy.frontend.ConnectionIdGenerator;
 import org.apache.shardingsphere.proxy.frontend.engine.AuthenticationEngine;
@@ -42,6 +44,10 @@ public final class PostgreSQLAuthenticationEngine implements AuthenticationEngin
     
     private static final int SSL_REQUEST_CODE = 80877103;
     
+    private static final int CANCEL_REQUEST_PAYLOAD_LENGTH = 16;
+    
+    private static final int CANCEL_REQUEST_CODE = 80877102;
+    
     private static final String DATABASE_NAME_KEYWORD = "database";
     
     @Override
@@ -49,6 +55,7 @@ public final class PostgreSQLAuthenticationEngine implements AuthenticationEngin
         int connectionId = ConnectionIdGenerator.getInstance().nextId();
         backendConnection.setConnectionId(connectionId);
         BinaryStatementRegistry.getInstance().register(connectionId);
+        PostgreSQLBackendKeyRegistry.getInstance().register(connectionId);
     }
     
     @Override
@@ -58,6 +65,12 @@ public final class PostgreSQLAuthenticationEngine implements AuthenticationEngin
             return false;
         }
         payload.getByteBuf().resetReaderIndex();
+        if (CANCEL_REQUEST_PAYLOAD_LENGTH == payload.getByteBuf().markReaderIndex().readInt() && CANCEL_REQUEST_CODE == payload.getByteBuf().readInt()) {
+            cancelQuery(payload.getByteBuf().readInt(), payload.getByteBuf().readInt());
+            context.close();
+            return false;
+        }
+        payload.getByteBuf().resetReaderIndex();
         PostgreSQLComStartupPacket comStartupPacket = new PostgreSQLComStartupPacket((PostgreSQLPacketPayload) payload);
         String databaseName = comStartupPacket.getParametersMap().get(DATABASE_NAME_KEYWORD);
         if (!Strings.isNullOrEmpty(databaseName) && !ProxySchemaContexts.getInstance().schemaExists(databaseName)) {
@@ -71,10 +84,17 @@ public final class PostgreSQLAuthenticationEngine implements AuthenticationEngin
         backendConnection.setCurrentSchema(databaseName);
         // TODO send a md5 authentication request message
         context.write(new PostgreSQLAuthenticationOKPacket(true));
+        context.write(new PostgreSQLBackendKeyDataPacket(backendConnection.getConnectionId(), PostgreSQLBackendKeyRegistry.getInstance().getSecretKey(backendConnection.getConnectionId())));
         context.write(new PostgreSQLParameterStatusPacket("server_version", "12.3"));
         context.write(new PostgreSQLParameterStatusPacket("client_encoding", "UTF8"));
         context.write(new PostgreSQLParameterStatusPacket("server_encoding", "UTF8"));
         context.writeAndFlush(new PostgreSQLReadyForQueryPacket());
         return true;
     }
+    
+    private void cancelQuery(final int processId, final int secretKey) {
+        if (PostgreSQLBackendKeyRegistry.getInstance().isValid(processId, secretKey)) {
+            BackendConnectionRegistry.getInstance().get(processId).ifPresent(BackendConnection::cancelQuery);
+        }
+    }
 }
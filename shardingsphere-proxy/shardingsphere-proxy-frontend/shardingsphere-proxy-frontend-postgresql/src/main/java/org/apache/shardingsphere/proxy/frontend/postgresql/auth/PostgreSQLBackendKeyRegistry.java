@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.auth;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Backend key registry for PostgreSQL, which holds secret keys of cancel request.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLBackendKeyRegistry {
+    
+    private static final PostgreSQLBackendKeyRegistry INSTANCE = new PostgreSQLBackendKeyRegistry();
+    
+    private final Map<Integer, Integer> secretKeys = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance.
+     *
+     * @return instance
+     */
+    public static PostgreSQLBackendKeyRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register connection and generate secret key.
+     *
+     * @param connectionId connection ID
+     * @return secret key
+     */
+    public int register(final int connectionId) {
+        int result = ThreadLocalRandom.current().nextInt();
+        secretKeys.put(connectionId, result);
+        return result;
+    }
+    
+    /**
+     * Get secret key.
+     *
+     * @param connectionId connection ID
+     * @return secret key
+     */
+    public int getSecretKey(final int connectionId) {
+        return secretKeys.getOrDefault(connectionId, 0);
+    }
+    
+    /**
+     * Judge whether backend key is valid or not.
+     *
+     * @param connectionId connection ID
+     * @param secretKey secret key
+     * @return backend key is valid or not
+     */
+    public boolean isValid(final int connectionId, final int secretKey) {
+        Integer actual = secretKeys.get(connectionId);
+        return null != actual && actual == secretKey;
+    }
+    
+    /**
+     * Unregister connection.
+     *
+     * @param connectionId connection ID
+     */
+    public void unregister(final int connectionId) {
+        secretKeys.remove(connectionId);
+    }
+}
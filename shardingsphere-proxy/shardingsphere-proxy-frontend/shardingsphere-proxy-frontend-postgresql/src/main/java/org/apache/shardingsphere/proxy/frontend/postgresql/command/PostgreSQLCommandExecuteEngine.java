@@ -27,28 +27,46 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQ
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketFactory;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketTypeLoader;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.execute.PostgreSQLPortalSuspendedPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
-import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.schema.ProxySchemaContexts;
 import org.apache.shardingsphere.proxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.api.DirectQueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.api.PipelinedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.ChannelWritabilityAwaiter;
+import org.apache.shardingsphere.proxy.frontend.command.DirectQueryDataBuffer;
 import org.apache.shardingsphere.proxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.proxy.frontend.postgresql.PostgreSQLErrPacketFactory;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.execute.PostgreSQLComExecuteExecutor;
 
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.Optional;
 
 /**
  * Command execute engine for PostgreSQL.
+ * 
+ * <p>
+ *     Messages of extended query are pipelined until sync, which means their responses are flushed and ready for query is sent only when sync is received.
+ *     Once a message of extended query failed, the following messages are discarded until sync.
+ *     Message of extended query rejected by admission control fails like others, sync, flush and terminate are never rejected to keep protocol flow.
+ * </p>
  */
 public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngine {
     
+    private volatile PostgreSQLCommandPacketType currentCommandPacketType;
+    
+    private volatile boolean extendedQueryFailed;
+    
     @Override
     public PostgreSQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
-        return PostgreSQLCommandPacketTypeLoader.getCommandPacketType((PostgreSQLPacketPayload) payload);
+        currentCommandPacketType = PostgreSQLCommandPacketTypeLoader.getCommandPacketType((PostgreSQLPacketPayload) payload);
+        return currentCommandPacketType;
     }
     
     @Override
@@ -58,50 +76,95 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
     
     @Override
     public CommandExecutor getCommandExecutor(final CommandPacketType type, final CommandPacket packet, final BackendConnection backendConnection) {
+        if (PostgreSQLCommandPacketType.SYNC == type) {
+            extendedQueryFailed = false;
+        } else if (extendedQueryFailed && isExtendedQuery((PostgreSQLCommandPacketType) type)) {
+            return (PipelinedCommandExecutor) Collections::emptyList;
+        }
         return PostgreSQLCommandExecutorFactory.newInstance((PostgreSQLCommandPacketType) type, (PostgreSQLCommandPacket) packet, backendConnection);
     }
     
+    @Override
+    public boolean isAdmissionExempted(final CommandPacketType type) {
+        PostgreSQLCommandPacketType commandPacketType = (PostgreSQLCommandPacketType) type;
+        return PostgreSQLCommandPacketType.SYNC == commandPacketType || PostgreSQLCommandPacketType.FLUSH == commandPacketType || PostgreSQLCommandPacketType.TERMINATE == commandPacketType
+                || extendedQueryFailed && isExtendedQuery(commandPacketType);
+    }
+    
     @Override
     public DatabasePacket<?> getErrorPacket(final Exception cause) {
-        PostgreSQLErrorResponsePacket errorResponsePacket = new PostgreSQLErrorResponsePacket();
-        errorResponsePacket.addField(PostgreSQLErrorResponsePacket.FIELD_TYPE_MESSAGE, cause.getMessage());
-        return errorResponsePacket;
+        return PostgreSQLErrPacketFactory.newInstance(cause);
     }
     
     @Override
     public Optional<DatabasePacket<?>> getOtherPacket() {
+        if (null != currentCommandPacketType && isExtendedQuery(currentCommandPacketType)) {
+            extendedQueryFailed = true;
+            return Optional.empty();
+        }
         return Optional.of(new PostgreSQLReadyForQueryPacket());
     }
     
+    private boolean isExtendedQuery(final PostgreSQLCommandPacketType type) {
+        return PostgreSQLCommandPacketType.PARSE == type || PostgreSQLCommandPacketType.BIND == type || PostgreSQLCommandPacketType.DESCRIBE == type
+                || PostgreSQLCommandPacketType.EXECUTE == type || PostgreSQLCommandPacketType.CLOSE == type;
+    }
+    
     @Override
     @SneakyThrows
     public void writeQueryData(final ChannelHandlerContext context,
                                final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount) {
+        boolean isPipelined = queryCommandExecutor instanceof PipelinedCommandExecutor;
         if (queryCommandExecutor.isQuery() && !context.channel().isActive()) {
             context.write(new PostgreSQLCommandCompletePacket());
-            context.write(new PostgreSQLReadyForQueryPacket());
+            writeReadyForQueryIfNecessary(context, isPipelined);
             return;
         }
+        if (queryCommandExecutor.isErrorResponse() && isPipelined) {
+            extendedQueryFailed = true;
+        }
         if (queryCommandExecutor.isErrorResponse() || queryCommandExecutor.isUpdateResponse()) {
-            context.write(new PostgreSQLReadyForQueryPacket());
+            writeReadyForQueryIfNecessary(context, isPipelined);
+            return;
+        }
+        if (!queryCommandExecutor.isQuery() && isPipelined) {
             return;
         }
         int count = 0;
         int proxyFrontendFlushThreshold = ProxySchemaContexts.getInstance().getSchemaContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        while (queryCommandExecutor.next()) {
-            count++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                context.flush();
-                backendConnection.getResourceSynchronizer().doAwaitUntil();
-            }
-            DatabasePacket<?> resultValue = queryCommandExecutor.getQueryData();
-            context.write(resultValue);
-            if (proxyFrontendFlushThreshold == count) {
-                context.flush();
-                count = 0;
+        int proxyFrontendFlushBytes = ProxySchemaContexts.getInstance().getSchemaContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES);
+        boolean isDirect = queryCommandExecutor instanceof DirectQueryCommandExecutor;
+        try (DirectQueryDataBuffer directQueryDataBuffer = new DirectQueryDataBuffer(context)) {
+            while (queryCommandExecutor.next()) {
+                while (!context.channel().isWritable() && context.channel().isActive()) {
+                    directQueryDataBuffer.flush();
+                    count = 0;
+                    ChannelWritabilityAwaiter.await(context.channel(), backendConnection);
+                }
+                isDirect = isDirect && directQueryDataBuffer.write((DirectQueryCommandExecutor) queryCommandExecutor);
+                if (!isDirect) {
+                    directQueryDataBuffer.writePending();
+                    DatabasePacket<?> resultValue = queryCommandExecutor.getQueryData();
+                    context.write(resultValue);
+                }
+                if (isDirect ? directQueryDataBuffer.getUnflushedBytes() >= proxyFrontendFlushBytes : ++count >= proxyFrontendFlushThreshold) {
+                    directQueryDataBuffer.flush();
+                    count = 0;
+                }
             }
+            directQueryDataBuffer.writePending();
+        }
+        if (queryCommandExecutor instanceof PostgreSQLComExecuteExecutor && ((PostgreSQLComExecuteExecutor) queryCommandExecutor).isSuspended()) {
+            context.write(new PostgreSQLPortalSuspendedPacket());
+        } else {
+            context.write(new PostgreSQLCommandCompletePacket());
+        }
+        writeReadyForQueryIfNecessary(context, isPipelined);
+    }
+    
+    private void writeReadyForQueryIfNecessary(final ChannelHandlerContext context, final boolean isPipelined) {
+        if (!isPipelined) {
+            context.write(new PostgreSQLReadyForQueryPacket());
         }
-        context.write(new PostgreSQLCommandCompletePacket());
-        context.write(new PostgreSQLReadyForQueryPacket());
     }
 }
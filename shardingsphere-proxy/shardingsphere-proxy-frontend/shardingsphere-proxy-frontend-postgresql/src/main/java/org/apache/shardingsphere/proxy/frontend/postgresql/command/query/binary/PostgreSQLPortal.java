@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLColumnType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLBinaryResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLDataRowPacket;
+import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendCursor;
+import org.apache.shardingsphere.proxy.backend.response.query.QueryData;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Portal for PostgreSQL.
+ * 
+ * <p>
+ *     Portal is opened by bind and kept on backend connection, rows of it are fetched by execute and may be suspended by max rows of execute.
+ *     Portal of statement without result set only keeps the packet to complete execute.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLPortal implements BackendCursor {
+    
+    private final DatabaseCommunicationEngine databaseCommunicationEngine;
+    
+    private final boolean binaryRowData;
+    
+    @Getter
+    private final PostgreSQLPacket completePacket;
+    
+    private List<PostgreSQLColumnType> columnTypes;
+    
+    private Queue<QueryData> materializedRows;
+    
+    private QueryData currentRow;
+    
+    public PostgreSQLPortal(final DatabaseCommunicationEngine databaseCommunicationEngine, final boolean binaryRowData) {
+        this(databaseCommunicationEngine, binaryRowData, null);
+    }
+    
+    public PostgreSQLPortal(final PostgreSQLPacket completePacket) {
+        this(null, false, completePacket);
+    }
+    
+    @Override
+    public boolean isQuery() {
+        return null != databaseCommunicationEngine;
+    }
+    
+    @Override
+    public void materialize() throws SQLException {
+        if (null != materializedRows) {
+            return;
+        }
+        Queue<QueryData> rows = new LinkedList<>();
+        while (databaseCommunicationEngine.next()) {
+            rows.add(databaseCommunicationEngine.getQueryData());
+        }
+        materializedRows = rows;
+    }
+    
+    /**
+     * Goto next row.
+     *
+     * @return has more row or not
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        if (null == materializedRows) {
+            return databaseCommunicationEngine.next();
+        }
+        currentRow = materializedRows.poll();
+        return null != currentRow;
+    }
+    
+    /**
+     * Get query data of current row.
+     *
+     * @return packet of query data
+     * @throws SQLException SQL exception
+     */
+    public PostgreSQLPacket getQueryData() throws SQLException {
+        QueryData queryData = null == materializedRows ? databaseCommunicationEngine.getQueryData() : currentRow;
+        return binaryRowData ? new PostgreSQLBinaryResultSetRowPacket(queryData.getData(), getPostgreSQLColumnTypes(queryData)) : new PostgreSQLDataRowPacket(queryData.getData());
+    }
+    
+    private List<PostgreSQLColumnType> getPostgreSQLColumnTypes(final QueryData queryData) {
+        if (null != columnTypes) {
+            return columnTypes;
+        }
+        List<PostgreSQLColumnType> result = new ArrayList<>(queryData.getColumnTypes().size());
+        for (int i = 0; i < queryData.getColumnTypes().size(); i++) {
+            result.add(PostgreSQLColumnType.valueOfJDBCType(queryData.getColumnTypes().get(i)));
+        }
+        columnTypes = result;
+        return result;
+    }
+}
@@ -17,36 +17,32 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.bind;
 
-import lombok.Getter;
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
-import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLColumnType;
-import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLColumnDescription;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
-import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLBinaryResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLBindCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLComBindPacket;
-import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLDataRowPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLEmptyQueryResponsePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
 import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.log.SQLExecutionPhase;
+import org.apache.shardingsphere.infra.executor.sql.log.SlowQueryLogger;
 import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
 import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngineFactory;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.proxy.backend.response.error.ErrorResponse;
-import org.apache.shardingsphere.proxy.backend.response.query.QueryData;
 import org.apache.shardingsphere.proxy.backend.response.query.QueryResponse;
 import org.apache.shardingsphere.proxy.backend.response.update.UpdateResponse;
 import org.apache.shardingsphere.proxy.backend.schema.ProxySchemaContexts;
-import org.apache.shardingsphere.proxy.frontend.api.QueryCommandExecutor;
-import org.apache.shardingsphere.proxy.frontend.postgresql.PostgreSQLErrPacketFactory;
+import org.apache.shardingsphere.proxy.frontend.api.PipelinedCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.PostgreSQLPortal;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 
 import java.sql.ResultSetMetaData;
-import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -55,25 +51,27 @@ import java.util.Optional;
 
 /**
  * Command bind executor for PostgreSQL.
+ * 
+ * <p>
+ *     Result of statement is not written by bind, but kept as portal on backend connection and completed by execute.
+ *     Error of statement is thrown to discard the following messages of extended query until sync.
+ * </p>
  */
-public final class PostgreSQLComBindExecutor implements QueryCommandExecutor {
+public final class PostgreSQLComBindExecutor implements PipelinedCommandExecutor {
     
     private final PostgreSQLComBindPacket packet;
-            
-    private final DatabaseCommunicationEngine databaseCommunicationEngine;
-    
-    private volatile boolean isQuery;
     
-    @Getter
-    private volatile boolean isUpdateResponse;
+    private final BackendConnection backendConnection;
     
-    @Getter
-    private volatile boolean isErrorResponse;
+    private final DatabaseCommunicationEngine databaseCommunicationEngine;
     
     public PostgreSQLComBindExecutor(final PostgreSQLComBindPacket packet, final BackendConnection backendConnection) {
         this.packet = packet;
+        this.backendConnection = backendConnection;
         if (null != packet.getSql()) {
+            long startTime = System.nanoTime();
             SQLStatement sqlStatement = backendConnection.getSchema().getRuntimeContext().getSqlParserEngine().parse(packet.getSql(), true);
+            SlowQueryLogger.recordPhase(SQLExecutionPhase.PARSE, startTime);
             databaseCommunicationEngine =
                     DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(sqlStatement, packet.getSql(), packet.getParameters(), backendConnection);
         } else {
@@ -82,41 +80,38 @@ public final class PostgreSQLComBindExecutor implements QueryCommandExecutor {
     }
     
     @Override
+    @SneakyThrows
     public Collection<DatabasePacket<?>> execute() {
         if (ProxySchemaContexts.getInstance().getSchemaContexts().isCircuitBreak()) {
             return Collections.singletonList(new PostgreSQLErrorResponsePacket());
         }
-        List<DatabasePacket<?>> result = new LinkedList<>();
-        result.add(new PostgreSQLBindCompletePacket());
+        backendConnection.closeCursor(packet.getPortal());
         if (null == databaseCommunicationEngine) {
-            return result;
+            backendConnection.openCursor(packet.getPortal(), new PostgreSQLPortal(new PostgreSQLEmptyQueryResponsePacket()));
+            return Collections.singletonList(new PostgreSQLBindCompletePacket());
         }
         BackendResponse backendResponse = databaseCommunicationEngine.execute();
         if (backendResponse instanceof ErrorResponse) {
-            isErrorResponse = true;
-            result.add(createErrorPacket((ErrorResponse) backendResponse));
+            throw ((ErrorResponse) backendResponse).getCause();
         }
+        List<DatabasePacket<?>> result = new LinkedList<>();
+        result.add(new PostgreSQLBindCompletePacket());
         if (backendResponse instanceof UpdateResponse) {
-            isUpdateResponse = true;
-            result.add(createUpdatePacket((UpdateResponse) backendResponse));
+            backendConnection.openCursor(packet.getPortal(), new PostgreSQLPortal(createUpdatePacket((UpdateResponse) backendResponse)));
         }
         if (backendResponse instanceof QueryResponse) {
+            backendConnection.openCursor(packet.getPortal(), new PostgreSQLPortal(databaseCommunicationEngine, packet.isBinaryRowData()));
             createQueryPacket((QueryResponse) backendResponse).ifPresent(result::add);
         }
         return result;
     }
     
-    private PostgreSQLErrorResponsePacket createErrorPacket(final ErrorResponse errorResponse) {
-        return PostgreSQLErrPacketFactory.newInstance(errorResponse.getCause());
-    }
-    
     private PostgreSQLCommandCompletePacket createUpdatePacket(final UpdateResponse updateResponse) {
         return new PostgreSQLCommandCompletePacket(updateResponse.getType(), updateResponse.getUpdateCount());
     }
     
     private Optional<PostgreSQLRowDescriptionPacket> createQueryPacket(final QueryResponse queryResponse) {
         List<PostgreSQLColumnDescription> columnDescriptions = getPostgreSQLColumnDescriptions(queryResponse);
-        isQuery = !columnDescriptions.isEmpty();
         if (columnDescriptions.isEmpty() || packet.isBinaryRowData()) {
             return Optional.empty();
         }
@@ -133,28 +128,4 @@ public final class PostgreSQLComBindExecutor implements QueryCommandExecutor {
         }
         return result;
     }
-    
-    @Override
-    public boolean isQuery() {
-        return isQuery;
-    }
-    
-    @Override
-    public boolean next() throws SQLException {
-        return null != databaseCommunicationEngine && databaseCommunicationEngine.next();
-    }
-    
-    @Override
-    public PostgreSQLPacket getQueryData() throws SQLException {
-        QueryData queryData = databaseCommunicationEngine.getQueryData();
-        return packet.isBinaryRowData() ? new PostgreSQLBinaryResultSetRowPacket(queryData.getData(), getPostgreSQLColumnTypes(queryData)) : new PostgreSQLDataRowPacket(queryData.getData());
-    }
-    
-    private List<PostgreSQLColumnType> getPostgreSQLColumnTypes(final QueryData queryData) {
-        List<PostgreSQLColumnType> result = new ArrayList<>(queryData.getColumnTypes().size());
-        for (int i = 0; i < queryData.getColumnTypes().size(); i++) {
-            result.add(PostgreSQLColumnType.valueOfJDBCType(queryData.getColumnTypes().get(i)));
-        }
-        return result;
-    }
 }
@@ -18,7 +18,7 @@
 package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.describe;
 
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
-import org.apache.shardingsphere.proxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.api.PipelinedCommandExecutor;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -26,7 +26,7 @@ import java.util.Collections;
 /**
  * Command describe for PostgreSQL.
  */
-public final class PostgreSQLComDescribeExecutor implements CommandExecutor {
+public final class PostgreSQLComDescribeExecutor implements PipelinedCommandExecutor {
     
     @Override
     public Collection<DatabasePacket<?>> execute() {
@@ -17,19 +17,93 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.execute;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
-import org.apache.shardingsphere.proxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.execute.PostgreSQLComExecutePacket;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.frontend.api.PipelinedCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.PostgreSQLPortal;
 
+import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 
 /**
  * Command execute executor for PostgreSQL.
+ * 
+ * <p>
+ *     Rows of portal are fetched until max rows of execute reached, then portal is suspended and kept for next execute.
+ *     Portal is closed as soon as all of its rows are fetched, portal without result set is completed and closed at once.
+ * </p>
  */
-public final class PostgreSQLComExecuteExecutor implements CommandExecutor {
+@RequiredArgsConstructor
+public final class PostgreSQLComExecuteExecutor implements QueryCommandExecutor, PipelinedCommandExecutor {
+    
+    private static final String INVALID_CURSOR_NAME_SQL_STATE = "34000";
+    
+    private final PostgreSQLComExecutePacket packet;
+    
+    private final BackendConnection backendConnection;
+    
+    private volatile PostgreSQLPortal portal;
+    
+    private int fetchedRows;
+    
+    @Getter
+    private volatile boolean suspended;
     
     @Override
-    public Collection<DatabasePacket<?>> execute() {
+    public Collection<DatabasePacket<?>> execute() throws SQLException {
+        Optional<PostgreSQLPortal> cursor = backendConnection.getCursor(packet.getPortal(), PostgreSQLPortal.class);
+        if (!cursor.isPresent()) {
+            throw new SQLException(String.format("Portal '%s' does not exist", packet.getPortal()), INVALID_CURSOR_NAME_SQL_STATE);
+        }
+        if (!cursor.get().isQuery()) {
+            backendConnection.closeCursor(packet.getPortal());
+            return Collections.singletonList(cursor.get().getCompletePacket());
+        }
+        portal = cursor.get();
         return Collections.emptyList();
     }
+    
+    @Override
+    public boolean isQuery() {
+        return null != portal;
+    }
+    
+    @Override
+    public boolean isUpdateResponse() {
+        return false;
+    }
+    
+    @Override
+    public boolean isErrorResponse() {
+        return false;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (null == portal) {
+            return false;
+        }
+        if (packet.getMaxRows() > 0 && fetchedRows >= packet.getMaxRows()) {
+            suspended = true;
+            return false;
+        }
+        if (portal.next()) {
+            fetchedRows++;
+            return true;
+        }
+        backendConnection.closeCursor(packet.getPortal());
+        return false;
+    }
+    
+    @Override
+    public PostgreSQLPacket getQueryData() throws SQLException {
+        return portal.getQueryData();
+    }
 }
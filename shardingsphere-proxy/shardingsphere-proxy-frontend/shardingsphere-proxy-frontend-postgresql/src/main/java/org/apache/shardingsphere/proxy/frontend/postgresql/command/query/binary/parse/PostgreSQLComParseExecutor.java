@@ -24,7 +24,7 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.bin
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.parse.PostgreSQLParseCompletePacket;
 import org.apache.shardingsphere.kernel.context.SchemaContext;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
-import org.apache.shardingsphere.proxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.api.PipelinedCommandExecutor;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 
 import java.util.Collection;
@@ -33,7 +33,7 @@ import java.util.Collections;
 /**
  * PostgreSQL command parse executor.
  */
-public final class PostgreSQLComParseExecutor implements CommandExecutor {
+public final class PostgreSQLComParseExecutor implements PipelinedCommandExecutor {
     
     private final PostgreSQLComParsePacket packet;
     
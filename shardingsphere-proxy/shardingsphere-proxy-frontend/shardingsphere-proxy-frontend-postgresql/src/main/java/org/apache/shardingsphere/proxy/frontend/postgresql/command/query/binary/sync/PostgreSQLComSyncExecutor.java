@@ -17,7 +17,10 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.sync;
 
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.frontend.api.CommandExecutor;
 
 import java.util.Collection;
@@ -25,11 +28,21 @@ import java.util.Collections;
 
 /**
  * Command sync executor for PostgreSQL.
+ * 
+ * <p>
+ *     Sync ends implicit transaction of extended query, so portals are closed unless in transaction.
+ * </p>
  */
+@RequiredArgsConstructor
 public final class PostgreSQLComSyncExecutor implements CommandExecutor {
     
+    private final BackendConnection backendConnection;
+    
     @Override
     public Collection<DatabasePacket<?>> execute() {
-        return Collections.emptyList();
+        if (!backendConnection.getStateHandler().isInTransaction()) {
+            backendConnection.closeCursors();
+        }
+        return Collections.singletonList(new PostgreSQLReadyForQueryPacket());
     }
 }
@@ -17,15 +17,18 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.text;
 
+import io.netty.buffer.ByteBuf;
 import lombok.Getter;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLColumnDescription;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLDataRowPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypes;
 import org.apache.shardingsphere.infra.executor.sql.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.query.QueryHeader;
@@ -37,7 +40,8 @@ import org.apache.shardingsphere.proxy.backend.response.update.UpdateResponse;
 import org.apache.shardingsphere.proxy.backend.schema.ProxySchemaContexts;
 import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandlerFactory;
-import org.apache.shardingsphere.proxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.backend.text.query.QueryBackendHandler;
+import org.apache.shardingsphere.proxy.frontend.api.DirectQueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.PostgreSQLErrPacketFactory;
 
 import java.sql.ResultSetMetaData;
@@ -51,7 +55,7 @@ import java.util.Optional;
 /**
  * Command query executor for PostgreSQL.
  */
-public final class PostgreSQLComQueryExecutor implements QueryCommandExecutor {
+public final class PostgreSQLComQueryExecutor implements DirectQueryCommandExecutor {
     
     private final TextProtocolBackendHandler textProtocolBackendHandler;
     
@@ -63,6 +67,8 @@ public final class PostgreSQLComQueryExecutor implements QueryCommandExecutor {
     @Getter
     private volatile boolean isErrorResponse;
     
+    private int columnCount;
+    
     public PostgreSQLComQueryExecutor(final PostgreSQLComQueryPacket comQueryPacket, final BackendConnection backendConnection) {
         textProtocolBackendHandler = TextProtocolBackendHandlerFactory.newInstance(DatabaseTypes.getActualDatabaseType("PostgreSQL"), comQueryPacket.getSql(), backendConnection);
     }
@@ -96,6 +102,7 @@ public final class PostgreSQLComQueryExecutor implements QueryCommandExecutor {
     private Optional<PostgreSQLRowDescriptionPacket> createQueryPacket(final QueryResponse queryResponse) {
         List<PostgreSQLColumnDescription> columnDescriptions = getPostgreSQLColumnDescriptions(queryResponse);
         isQuery = !columnDescriptions.isEmpty();
+        columnCount = columnDescriptions.size();
         if (columnDescriptions.isEmpty()) {
             return Optional.empty();
         }
@@ -127,4 +134,21 @@ public final class PostgreSQLComQueryExecutor implements QueryCommandExecutor {
     public PostgreSQLPacket getQueryData() throws SQLException {
         return new PostgreSQLDataRowPacket(textProtocolBackendHandler.getQueryData().getData());
     }
+    
+    @Override
+    public boolean writeQueryData(final ByteBuf out) throws SQLException {
+        if (!(textProtocolBackendHandler instanceof QueryBackendHandler)) {
+            return false;
+        }
+        out.writeByte(PostgreSQLCommandPacketType.DATA_ROW.getValue());
+        int lengthIndex = out.writerIndex();
+        out.writeInt(0);
+        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(out);
+        payload.writeInt2(columnCount);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            PostgreSQLDataRowPacket.writeValue(payload, ((QueryBackendHandler) textProtocolBackendHandler).getValue(columnIndex));
+        }
+        out.setInt(lengthIndex, out.writerIndex() - lengthIndex);
+        return true;
+    }
 }
@@ -19,17 +19,28 @@ package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
 import io.netty.channel.ChannelHandlerContext;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.proxy.frontend.api.PipelinedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.api.QueryCommandExecutor;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class PostgreSQLCommandExecuteEngineTest {
@@ -49,4 +60,60 @@ public final class PostgreSQLCommandExecuteEngineTest {
         postgreSQLCommandExecuteEngine.writeQueryData(channelHandlerContext, null, queryCommandExecutor, 0);
         verify(channelHandlerContext, times(1)).write(isA(PostgreSQLReadyForQueryPacket.class));
     }
+    
+    @Test
+    @SneakyThrows
+    public void assertWriteQueryDataWithPipelinedError() {
+        PostgreSQLCommandExecuteEngine postgreSQLCommandExecuteEngine = new PostgreSQLCommandExecuteEngine();
+        QueryCommandExecutor pipelinedCommandExecutor = mock(QueryCommandExecutor.class, withSettings().extraInterfaces(PipelinedCommandExecutor.class));
+        when(pipelinedCommandExecutor.isErrorResponse()).thenReturn(true);
+        postgreSQLCommandExecuteEngine.writeQueryData(channelHandlerContext, null, pipelinedCommandExecutor, 0);
+        verify(channelHandlerContext, never()).write(isA(PostgreSQLReadyForQueryPacket.class));
+    }
+    
+    @Test
+    public void assertGetOtherPacketWithExtendedQuery() {
+        PostgreSQLCommandExecuteEngine postgreSQLCommandExecuteEngine = new PostgreSQLCommandExecuteEngine();
+        PostgreSQLPacketPayload payload = mock(PostgreSQLPacketPayload.class);
+        when(payload.readInt1()).thenReturn((int) 'B');
+        postgreSQLCommandExecuteEngine.getCommandPacketType(payload);
+        assertFalse(postgreSQLCommandExecuteEngine.getOtherPacket().isPresent());
+        assertThat(postgreSQLCommandExecuteEngine.getCommandExecutor(PostgreSQLCommandPacketType.EXECUTE, null, null), instanceOf(PipelinedCommandExecutor.class));
+    }
+    
+    @Test
+    public void assertGetCommandPacketTypeWithClose() {
+        PostgreSQLPacketPayload payload = mock(PostgreSQLPacketPayload.class);
+        when(payload.readInt1()).thenReturn((int) 'C');
+        assertThat(new PostgreSQLCommandExecuteEngine().getCommandPacketType(payload), is(PostgreSQLCommandPacketType.CLOSE));
+    }
+    
+    @Test
+    public void assertGetOtherPacketWithSimpleQuery() {
+        PostgreSQLCommandExecuteEngine postgreSQLCommandExecuteEngine = new PostgreSQLCommandExecuteEngine();
+        PostgreSQLPacketPayload payload = mock(PostgreSQLPacketPayload.class);
+        when(payload.readInt1()).thenReturn((int) 'Q');
+        postgreSQLCommandExecuteEngine.getCommandPacketType(payload);
+        assertTrue(postgreSQLCommandExecuteEngine.getOtherPacket().isPresent());
+    }
+    
+    @Test
+    public void assertIsAdmissionExempted() {
+        PostgreSQLCommandExecuteEngine postgreSQLCommandExecuteEngine = new PostgreSQLCommandExecuteEngine();
+        assertTrue(postgreSQLCommandExecuteEngine.isAdmissionExempted(PostgreSQLCommandPacketType.SYNC));
+        assertTrue(postgreSQLCommandExecuteEngine.isAdmissionExempted(PostgreSQLCommandPacketType.TERMINATE));
+        assertFalse(postgreSQLCommandExecuteEngine.isAdmissionExempted(PostgreSQLCommandPacketType.BIND));
+        assertFalse(postgreSQLCommandExecuteEngine.isAdmissionExempted(PostgreSQLCommandPacketType.QUERY));
+    }
+    
+    @Test
+    public void assertIsAdmissionExemptedAfterExtendedQueryFailed() {
+        PostgreSQLCommandExecuteEngine postgreSQLCommandExecuteEngine = new PostgreSQLCommandExecuteEngine();
+        PostgreSQLPacketPayload payload = mock(PostgreSQLPacketPayload.class);
+        when(payload.readInt1()).thenReturn((int) 'P');
+        postgreSQLCommandExecuteEngine.getCommandPacketType(payload);
+        assertFalse(postgreSQLCommandExecuteEngine.getOtherPacket().isPresent());
+        assertTrue(postgreSQLCommandExecuteEngine.isAdmissionExempted(PostgreSQLCommandPacketType.BIND));
+        assertFalse(postgreSQLCommandExecuteEngine.isAdmissionExempted(PostgreSQLCommandPacketType.QUERY));
+    }
 }
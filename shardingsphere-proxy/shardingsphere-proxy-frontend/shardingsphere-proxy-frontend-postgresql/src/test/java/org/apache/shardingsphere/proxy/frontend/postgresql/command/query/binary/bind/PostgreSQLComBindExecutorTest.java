@@ -18,24 +18,36 @@
 package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.bind;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLBindCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLComBindPacket;
-import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLEmptyQueryResponsePacket;
 import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.response.error.ErrorResponse;
+import org.apache.shardingsphere.proxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.PostgreSQLPortal;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.internal.util.reflection.FieldSetter;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.postgresql.util.PSQLException;
 import org.postgresql.util.ServerErrorMessage;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
-import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -44,14 +56,57 @@ public final class PostgreSQLComBindExecutorTest {
     @Mock
     private DatabaseCommunicationEngine databaseCommunicationEngine;
     
-    @Test
+    @Mock
+    private PostgreSQLComBindPacket packet;
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Test(expected = PSQLException.class)
     @SneakyThrows
     public void assertExecuteHasError() {
-        PostgreSQLComBindExecutor postgreSQLComBindExecutor = new PostgreSQLComBindExecutor(mock(PostgreSQLComBindPacket.class), null);
-        FieldSetter.setField(postgreSQLComBindExecutor, PostgreSQLComBindExecutor.class.getDeclaredField("databaseCommunicationEngine"), databaseCommunicationEngine);
-        ErrorResponse errorResponse = new ErrorResponse(new PSQLException(mock(ServerErrorMessage.class)));
-        when(databaseCommunicationEngine.execute()).thenReturn(errorResponse);
-        assertThat(((LinkedList) postgreSQLComBindExecutor.execute()).get(1), instanceOf(PostgreSQLErrorResponsePacket.class));
-        assertTrue(postgreSQLComBindExecutor.isErrorResponse());
+        PostgreSQLComBindExecutor postgreSQLComBindExecutor = newPostgreSQLComBindExecutor();
+        when(databaseCommunicationEngine.execute()).thenReturn(new ErrorResponse(new PSQLException(mock(ServerErrorMessage.class))));
+        try {
+            postgreSQLComBindExecutor.execute();
+        } finally {
+            verify(backendConnection, never()).openCursor(eq(""), any());
+        }
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertExecuteWithUpdate() {
+        PostgreSQLComBindExecutor postgreSQLComBindExecutor = newPostgreSQLComBindExecutor();
+        when(databaseCommunicationEngine.execute()).thenReturn(new UpdateResponse());
+        List<?> actual = new ArrayList<>(postgreSQLComBindExecutor.execute());
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0), instanceOf(PostgreSQLBindCompletePacket.class));
+        assertThat(getOpenedPortal().getCompletePacket(), instanceOf(PostgreSQLCommandCompletePacket.class));
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertExecuteWithEmptyQuery() {
+        when(packet.getPortal()).thenReturn("");
+        List<?> actual = new ArrayList<>(new PostgreSQLComBindExecutor(packet, backendConnection).execute());
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0), instanceOf(PostgreSQLBindCompletePacket.class));
+        assertFalse(getOpenedPortal().isQuery());
+        assertThat(getOpenedPortal().getCompletePacket(), instanceOf(PostgreSQLEmptyQueryResponsePacket.class));
+    }
+    
+    @SneakyThrows
+    private PostgreSQLComBindExecutor newPostgreSQLComBindExecutor() {
+        when(packet.getPortal()).thenReturn("");
+        PostgreSQLComBindExecutor result = new PostgreSQLComBindExecutor(packet, backendConnection);
+        FieldSetter.setField(result, PostgreSQLComBindExecutor.class.getDeclaredField("databaseCommunicationEngine"), databaseCommunicationEngine);
+        return result;
+    }
+    
+    private PostgreSQLPortal getOpenedPortal() {
+        ArgumentCaptor<PostgreSQLPortal> portal = ArgumentCaptor.forClass(PostgreSQLPortal.class);
+        verify(backendConnection).openCursor(eq(""), portal.capture());
+        return portal.getValue();
     }
 }
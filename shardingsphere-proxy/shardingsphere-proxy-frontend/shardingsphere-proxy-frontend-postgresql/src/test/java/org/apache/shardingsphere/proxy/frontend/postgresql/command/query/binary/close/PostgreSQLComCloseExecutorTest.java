@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.close;
+
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.close.PostgreSQLCloseCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.close.PostgreSQLComClosePacket;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PostgreSQLComCloseExecutorTest {
+    
+    @Mock
+    private PostgreSQLComClosePacket packet;
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Test
+    public void assertExecuteWithPortal() {
+        when(packet.isPortal()).thenReturn(true);
+        when(packet.getName()).thenReturn("portal_1");
+        assertThat(new PostgreSQLComCloseExecutor(packet, backendConnection).execute().iterator().next(), instanceOf(PostgreSQLCloseCompletePacket.class));
+        verify(backendConnection).closeCursor("portal_1");
+    }
+    
+    @Test
+    public void assertExecuteWithStatement() {
+        assertThat(new PostgreSQLComCloseExecutor(packet, backendConnection).execute().iterator().next(), instanceOf(PostgreSQLCloseCompletePacket.class));
+        verify(backendConnection, never()).closeCursor(anyString());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.execute;
+
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.execute.PostgreSQLComExecutePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.PostgreSQLPortal;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PostgreSQLComExecuteExecutorTest {
+    
+    @Mock
+    private PostgreSQLComExecutePacket packet;
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Mock
+    private PostgreSQLPortal portal;
+    
+    @Test(expected = SQLException.class)
+    public void assertExecuteWithoutPortal() throws SQLException {
+        when(packet.getPortal()).thenReturn("");
+        when(backendConnection.getCursor("", PostgreSQLPortal.class)).thenReturn(Optional.empty());
+        new PostgreSQLComExecuteExecutor(packet, backendConnection).execute();
+    }
+    
+    @Test
+    public void assertExecuteWithoutResultSet() throws SQLException {
+        when(packet.getPortal()).thenReturn("");
+        PostgreSQLCommandCompletePacket completePacket = new PostgreSQLCommandCompletePacket("UPDATE", 1L);
+        when(backendConnection.getCursor("", PostgreSQLPortal.class)).thenReturn(Optional.of(new PostgreSQLPortal(completePacket)));
+        PostgreSQLComExecuteExecutor executeExecutor = new PostgreSQLComExecuteExecutor(packet, backendConnection);
+        assertThat(executeExecutor.execute(), is(Collections.singletonList(completePacket)));
+        assertFalse(executeExecutor.isQuery());
+        assertFalse(executeExecutor.next());
+        verify(backendConnection).closeCursor("");
+    }
+    
+    @Test
+    public void assertExecuteWithMaxRowsSuspended() throws SQLException {
+        when(packet.getPortal()).thenReturn("");
+        when(packet.getMaxRows()).thenReturn(1);
+        when(backendConnection.getCursor("", PostgreSQLPortal.class)).thenReturn(Optional.of(portal));
+        when(portal.isQuery()).thenReturn(true);
+        when(portal.next()).thenReturn(true);
+        PostgreSQLComExecuteExecutor executeExecutor = new PostgreSQLComExecuteExecutor(packet, backendConnection);
+        executeExecutor.execute();
+        assertTrue(executeExecutor.isQuery());
+        assertTrue(executeExecutor.next());
+        assertFalse(executeExecutor.next());
+        assertTrue(executeExecutor.isSuspended());
+        verify(backendConnection, never()).closeCursor("");
+    }
+    
+    @Test
+    public void assertExecuteUntilPortalExhausted() throws SQLException {
+        when(packet.getPortal()).thenReturn("");
+        when(backendConnection.getCursor("", PostgreSQLPortal.class)).thenReturn(Optional.of(portal));
+        when(portal.isQuery()).thenReturn(true);
+        when(portal.next()).thenReturn(true, false);
+        PostgreSQLComExecuteExecutor executeExecutor = new PostgreSQLComExecuteExecutor(packet, backendConnection);
+        executeExecutor.execute();
+        assertTrue(executeExecutor.next());
+        assertFalse(executeExecutor.next());
+        assertFalse(executeExecutor.isSuspended());
+        verify(backendConnection).closeCursor("");
+    }
+}
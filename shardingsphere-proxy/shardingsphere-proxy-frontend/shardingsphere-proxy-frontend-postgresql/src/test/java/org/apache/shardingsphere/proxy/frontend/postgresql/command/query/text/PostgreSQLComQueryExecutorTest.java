@@ -17,11 +17,17 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.text;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
+import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.error.ErrorResponse;
+import org.apache.shardingsphere.proxy.backend.response.query.QueryResponse;
 import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandler;
+import org.apache.shardingsphere.proxy.backend.text.query.QueryBackendHandler;
 import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -31,7 +37,12 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.postgresql.util.PSQLException;
 import org.postgresql.util.ServerErrorMessage;
 
+import java.sql.Types;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -51,4 +62,37 @@ public final class PostgreSQLComQueryExecutorTest {
         assertThat(postgreSQLComQueryExecutor.execute().iterator().next(), Matchers.instanceOf(PostgreSQLErrorResponsePacket.class));
         assertThat(postgreSQLComQueryExecutor.isErrorResponse(), Matchers.is(true));
     }
+    
+    @Test
+    @SneakyThrows
+    public void assertWriteQueryData() {
+        PostgreSQLComQueryExecutor postgreSQLComQueryExecutor = new PostgreSQLComQueryExecutor(mock(PostgreSQLComQueryPacket.class), null);
+        QueryBackendHandler queryBackendHandler = mock(QueryBackendHandler.class);
+        FieldSetter.setField(postgreSQLComQueryExecutor, PostgreSQLComQueryExecutor.class.getDeclaredField("textProtocolBackendHandler"), queryBackendHandler);
+        when(queryBackendHandler.execute()).thenReturn(new QueryResponse(Arrays.asList(mockQueryHeader(), mockQueryHeader(), mockQueryHeader())));
+        when(queryBackendHandler.getValue(1)).thenReturn("foo");
+        when(queryBackendHandler.getValue(2)).thenReturn(null);
+        when(queryBackendHandler.getValue(3)).thenReturn(new byte[]{1, 2});
+        postgreSQLComQueryExecutor.execute();
+        ByteBuf out = Unpooled.buffer();
+        assertTrue(postgreSQLComQueryExecutor.writeQueryData(out));
+        byte[] expected = {'D', 0, 0, 0, 23, 0, 3, 0, 0, 0, 3, 'f', 'o', 'o', (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0, 0, 0, 2, 1, 2};
+        assertThat(ByteBufUtil.getBytes(out), Matchers.is(expected));
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertWriteQueryDataWithoutQueryBackendHandler() {
+        PostgreSQLComQueryExecutor postgreSQLComQueryExecutor = new PostgreSQLComQueryExecutor(mock(PostgreSQLComQueryPacket.class), null);
+        FieldSetter.setField(postgreSQLComQueryExecutor, PostgreSQLComQueryExecutor.class.getDeclaredField("textProtocolBackendHandler"), textProtocolBackendHandler);
+        ByteBuf out = Unpooled.buffer();
+        assertFalse(postgreSQLComQueryExecutor.writeQueryData(out));
+        assertFalse(out.isReadable());
+    }
+    
+    private QueryHeader mockQueryHeader() {
+        QueryHeader result = mock(QueryHeader.class);
+        when(result.getColumnType()).thenReturn(Types.VARCHAR);
+        return result;
+    }
 }
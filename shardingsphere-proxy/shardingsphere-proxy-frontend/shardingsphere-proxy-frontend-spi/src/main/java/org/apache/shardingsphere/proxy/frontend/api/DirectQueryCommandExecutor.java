@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.api;
+
+import io.netty.buffer.ByteBuf;
+
+import java.sql.SQLException;
+
+/**
+ * Query command executor which writes query data into buffer in wire format directly, without creating packet for each row.
+ */
+public interface DirectQueryCommandExecutor extends QueryCommandExecutor {
+    
+    /**
+     * Write query data of current row.
+     *
+     * @param out buffer to be written
+     * @return written or not, query data of current row should be got by {@code getQueryData} if not written
+     * @throws SQLException SQL exception
+     */
+    boolean writeQueryData(ByteBuf out) throws SQLException;
+}
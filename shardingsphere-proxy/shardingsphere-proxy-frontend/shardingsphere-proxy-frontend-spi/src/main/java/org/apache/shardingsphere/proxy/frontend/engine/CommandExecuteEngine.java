@@ -63,6 +63,18 @@ public interface CommandExecuteEngine {
      */
     CommandExecutor getCommandExecutor(CommandPacketType type, CommandPacket packet, BackendConnection backendConnection);
     
+    /**
+     * Judge whether command should be executed even if rejected by admission control.
+     * 
+     * <p>
+     *     Commands without response or required by protocol flow should not be answered with error.
+     * </p>
+     *
+     * @param type command packet type
+     * @return command should be executed even if rejected or not
+     */
+    boolean isAdmissionExempted(CommandPacketType type);
+    
     /**
      * Get error packet.
      *
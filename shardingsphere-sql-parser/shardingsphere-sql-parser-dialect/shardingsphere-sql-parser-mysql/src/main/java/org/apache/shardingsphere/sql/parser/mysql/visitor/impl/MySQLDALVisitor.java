@@ -188,7 +188,10 @@ public final class MySQLDALVisitor extends MySQLVisitor implements DALVisitor {
     
     @Override
     public ASTNode visitKill(final KillContext ctx) {
-        return new KillStatement();
+        KillStatement result = new KillStatement();
+        result.setProcessId(Long.parseLong(ctx.NUMBER_(0).getText()));
+        result.setKillQuery(null != ctx.QUERY());
+        return result;
     }
     
     @Override
@@ -17,10 +17,18 @@
 
 package org.apache.shardingsphere.sql.parser.sql.statement.dal.dialect.mysql;
 
+import lombok.Getter;
+import lombok.Setter;
 import org.apache.shardingsphere.sql.parser.sql.statement.dal.DALStatement;
 
 /**
  * Kill statement.
  */
+@Getter
+@Setter
 public final class KillStatement extends DALStatement {
+    
+    private long processId;
+    
+    private boolean killQuery;
 }
@@ -32,7 +32,14 @@ import javax.transaction.TransactionManager;
  */
 public final class BitronixXATransactionManager implements XATransactionManager {
     
-    private final BitronixTransactionManager bitronixTransactionManager = TransactionManagerServices.getTransactionManager();
+    private final BitronixTransactionManager bitronixTransactionManager = createTransactionManager();
+    
+    private static BitronixTransactionManager createTransactionManager() {
+        if (!TransactionManagerServices.isTransactionManagerRunning()) {
+            TransactionManagerServices.getConfiguration().setAsynchronous2Pc(true);
+        }
+        return TransactionManagerServices.getTransactionManager();
+    }
     
     @Override
     public void init() {
@@ -23,16 +23,20 @@ import org.apache.shardingsphere.transaction.core.ResourceDataSource;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.apache.shardingsphere.transaction.spi.ShardingTransactionManager;
 import org.apache.shardingsphere.transaction.xa.jta.datasource.XATransactionDataSource;
+import org.apache.shardingsphere.transaction.xa.manager.XATransactionLogLoader;
 import org.apache.shardingsphere.transaction.xa.manager.XATransactionManagerLoader;
+import org.apache.shardingsphere.transaction.xa.spi.XATransactionLog;
 import org.apache.shardingsphere.transaction.xa.spi.XATransactionManager;
 
 import javax.transaction.RollbackException;
 import javax.transaction.Status;
 import javax.transaction.SystemException;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 
 /**
@@ -44,14 +48,34 @@ public final class XAShardingTransactionManager implements ShardingTransactionMa
     
     private final XATransactionManager xaTransactionManager = XATransactionManagerLoader.getInstance().getTransactionManager();
     
+    private XATransactionLog xaTransactionLog;
+    
+    @SneakyThrows(IOException.class)
     @Override
     public void init(final DatabaseType databaseType, final Collection<ResourceDataSource> resourceDataSources) {
+        xaTransactionLog = XATransactionLogLoader.getInstance().acquireTransactionLog().orElse(null);
         for (ResourceDataSource each : resourceDataSources) {
-            cachedDataSources.put(each.getOriginalName(), new XATransactionDataSource(databaseType, each.getUniqueResourceName(), each.getDataSource(), xaTransactionManager));
+            cachedDataSources.put(each.getOriginalName(), new XATransactionDataSource(databaseType, each.getUniqueResourceName(), each.getDataSource(), xaTransactionManager, xaTransactionLog));
         }
+        recover();
         xaTransactionManager.init();
     }
     
+    private void recover() {
+        if (null == xaTransactionLog) {
+            return;
+        }
+        Collection<String> globalTransactionIds = xaTransactionLog.getCommittingGlobalTransactionIds();
+        if (globalTransactionIds.isEmpty()) {
+            return;
+        }
+        Collection<String> recoveredGlobalTransactionIds = new HashSet<>();
+        for (XATransactionDataSource each : cachedDataSources.values()) {
+            recoveredGlobalTransactionIds.addAll(each.recover(globalTransactionIds));
+        }
+        recoveredGlobalTransactionIds.forEach(xaTransactionLog::logCompleted);
+    }
+    
     @Override
     public TransactionType getTransactionType() {
         return TransactionType.XA;
@@ -97,5 +121,9 @@ public final class XAShardingTransactionManager implements ShardingTransactionMa
         }
         cachedDataSources.clear();
         xaTransactionManager.close();
+        if (null != xaTransactionLog) {
+            XATransactionLogLoader.getInstance().releaseTransactionLog();
+            xaTransactionLog = null;
+        }
     }
 }
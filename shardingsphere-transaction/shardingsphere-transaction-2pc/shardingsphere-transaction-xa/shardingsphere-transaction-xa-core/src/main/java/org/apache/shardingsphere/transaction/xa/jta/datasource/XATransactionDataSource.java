@@ -18,27 +18,37 @@
 package org.apache.shardingsphere.transaction.xa.jta.datasource;
 
 import com.google.common.collect.Sets;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.transaction.xa.jta.connection.XAConnectionFactory;
+import org.apache.shardingsphere.transaction.xa.jta.log.XATransactionLogResource;
 import org.apache.shardingsphere.transaction.xa.spi.SingleXAResource;
+import org.apache.shardingsphere.transaction.xa.spi.XATransactionLog;
 import org.apache.shardingsphere.transaction.xa.spi.XATransactionManager;
 
 import javax.sql.DataSource;
 import javax.sql.XAConnection;
 import javax.sql.XADataSource;
 import javax.transaction.RollbackException;
+import javax.transaction.Status;
 import javax.transaction.Synchronization;
 import javax.transaction.SystemException;
 import javax.transaction.Transaction;
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
 import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
 /**
  * XA transaction data source.
  */
+@Slf4j
 public final class XATransactionDataSource implements AutoCloseable {
     
     private static final Set<String> CONTAINER_DATASOURCE_NAMES = Sets.newHashSet("AtomikosDataSourceBean", "BasicManagedDataSource");
@@ -51,14 +61,18 @@ public final class XATransactionDataSource implements AutoCloseable {
     
     private final DataSource dataSource;
     
+    private final XATransactionLog xaTransactionLog;
+    
     private XADataSource xaDataSource;
     
     private XATransactionManager xaTransactionManager;
     
-    public XATransactionDataSource(final DatabaseType databaseType, final String resourceName, final DataSource dataSource, final XATransactionManager xaTransactionManager) {
+    public XATransactionDataSource(final DatabaseType databaseType, final String resourceName, final DataSource dataSource,
+                                   final XATransactionManager xaTransactionManager, final XATransactionLog xaTransactionLog) {
         this.databaseType = databaseType;
         this.resourceName = resourceName;
         this.dataSource = dataSource;
+        this.xaTransactionLog = xaTransactionLog;
         if (!CONTAINER_DATASOURCE_NAMES.contains(dataSource.getClass().getSimpleName())) {
             xaDataSource = XADataSourceFactory.build(databaseType, dataSource);
             this.xaTransactionManager = xaTransactionManager;
@@ -82,16 +96,20 @@ public final class XATransactionDataSource implements AutoCloseable {
         XAConnection xaConnection = XAConnectionFactory.createXAConnection(databaseType, xaDataSource, result);
         Transaction transaction = xaTransactionManager.getTransactionManager().getTransaction();
         if (!enlistedTransactions.get().contains(transaction)) {
-            transaction.enlistResource(new SingleXAResource(resourceName, xaConnection.getXAResource()));
+            XAResource xaResource = null == xaTransactionLog ? xaConnection.getXAResource() : new XATransactionLogResource(xaConnection.getXAResource(), xaTransactionLog);
+            transaction.enlistResource(new SingleXAResource(resourceName, xaResource));
             transaction.registerSynchronization(new Synchronization() {
                 @Override
                 public void beforeCompletion() {
                     enlistedTransactions.get().remove(transaction);
                 }
-    
+                
                 @Override
                 public void afterCompletion(final int status) {
                     enlistedTransactions.get().clear();
+                    if (Status.STATUS_COMMITTED == status && xaResource instanceof XATransactionLogResource) {
+                        ((XATransactionLogResource) xaResource).complete();
+                    }
                 }
             });
             enlistedTransactions.get().add(transaction);
@@ -99,6 +117,47 @@ public final class XATransactionDataSource implements AutoCloseable {
         return result;
     }
     
+    /**
+     * Commit prepared XA branches of transactions whose commit decisions are logged but not completed.
+     *
+     * @param globalTransactionIds global transaction IDs whose commit decisions are logged
+     * @return global transaction IDs which have prepared branches committed
+     */
+    public Collection<String> recover(final Collection<String> globalTransactionIds) {
+        if (null == xaDataSource || globalTransactionIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Collection<String> result = new HashSet<>();
+        XAConnection xaConnection = null;
+        try {
+            xaConnection = xaDataSource.getXAConnection();
+            XAResource xaResource = xaConnection.getXAResource();
+            Xid[] xids = xaResource.recover(XAResource.TMSTARTRSCAN | XAResource.TMENDRSCAN);
+            for (Xid each : null == xids ? new Xid[0] : xids) {
+                String globalTransactionId = XATransactionLogResource.getGlobalTransactionId(each);
+                if (globalTransactionIds.contains(globalTransactionId)) {
+                    xaResource.commit(each, false);
+                    result.add(globalTransactionId);
+                }
+            }
+        } catch (final SQLException | XAException ex) {
+            log.warn("Recover XA transactions of `{}` failure: ", resourceName, ex);
+        } finally {
+            close(xaConnection);
+        }
+        return result;
+    }
+    
+    private void close(final XAConnection xaConnection) {
+        if (null == xaConnection) {
+            return;
+        }
+        try {
+            xaConnection.close();
+        } catch (final SQLException ignored) {
+        }
+    }
+    
     @Override
     public void close() {
         if (!CONTAINER_DATASOURCE_NAMES.contains(dataSource.getClass().getSimpleName())) {
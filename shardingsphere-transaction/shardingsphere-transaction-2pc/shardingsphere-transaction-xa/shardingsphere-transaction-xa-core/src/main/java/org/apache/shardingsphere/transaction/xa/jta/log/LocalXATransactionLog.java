@@ -0,0 +1,300 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.jta.log;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.transaction.xa.spi.XATransactionLog;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local XA transaction log.
+ *
+ * <p>
+ * Records are appended to local file by one flush thread, commit decisions of concurrent transactions
+ * are written in one batch and made durable by one fsync, which is group commit.
+ * It is enabled by registering it as SPI of {@code org.apache.shardingsphere.transaction.xa.spi.XATransactionLog},
+ * path of log file is configured by system property {@value #PATH_KEY}, {@code logs/xa_decision.log} by default.
+ * </p>
+ *
+ * <p>
+ * Log file is compacted on initialization, and by flush thread whenever completed records since last compaction reach threshold,
+ * so only decisions not completed yet are kept.
+ * </p>
+ */
+@Slf4j
+public final class LocalXATransactionLog implements XATransactionLog {
+    
+    public static final String PATH_KEY = "shardingsphere.xa.transaction.log.path";
+    
+    private static final String COMMITTING = "C";
+    
+    private static final String COMPLETED = "D";
+    
+    private static final long RETENTION_MILLIS = TimeUnit.DAYS.toMillis(7L);
+    
+    private static final String DEFAULT_PATH = "logs" + File.separator + "xa_decision.log";
+    
+    private static final int DEFAULT_COMPACT_THRESHOLD = 100000;
+    
+    private final Path path;
+    
+    private final int compactThreshold;
+    
+    private final Map<String, CompletableFuture<Void>> committingTransactions = new ConcurrentHashMap<>();
+    
+    private final Set<String> loadedTransactions = ConcurrentHashMap.newKeySet();
+    
+    private final BlockingQueue<LogRecord> records = new LinkedBlockingQueue<>();
+    
+    private final Map<String, String> uncompletedRecords = new LinkedHashMap<>();
+    
+    private int completedCount;
+    
+    private FileChannel channel;
+    
+    private Thread flushThread;
+    
+    private volatile boolean running;
+    
+    public LocalXATransactionLog() {
+        this(new File(System.getProperty(PATH_KEY, DEFAULT_PATH)));
+    }
+    
+    public LocalXATransactionLog(final File file) {
+        this(file, DEFAULT_COMPACT_THRESHOLD);
+    }
+    
+    public LocalXATransactionLog(final File file, final int compactThreshold) {
+        path = file.toPath();
+        this.compactThreshold = compactThreshold;
+    }
+    
+    @Override
+    public synchronized void init() throws IOException {
+        if (running) {
+            return;
+        }
+        Map<String, Long> committing = load();
+        uncompletedRecords.clear();
+        for (Entry<String, Long> entry : committing.entrySet()) {
+            uncompletedRecords.put(entry.getKey(), formatCommitting(entry.getKey(), entry.getValue()) + System.lineSeparator());
+        }
+        completedCount = 0;
+        channel = compact();
+        loadedTransactions.addAll(committing.keySet());
+        running = true;
+        flushThread = new Thread(this::flush, "ShardingSphere-XA-Transaction-Log-Flush");
+        flushThread.setDaemon(true);
+        flushThread.start();
+    }
+    
+    private Map<String, Long> load() throws IOException {
+        Map<String, Long> result = new LinkedHashMap<>();
+        if (!Files.exists(path)) {
+            return result;
+        }
+        for (String each : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            String[] fields = each.split(" ");
+            if (3 == fields.length && COMMITTING.equals(fields[0])) {
+                result.put(fields[1], Long.parseLong(fields[2]));
+            } else if (2 == fields.length && COMPLETED.equals(fields[0])) {
+                result.remove(fields[1]);
+            }
+        }
+        long expiredTime = System.currentTimeMillis() - RETENTION_MILLIS;
+        result.entrySet().removeIf(entry -> {
+            boolean expired = entry.getValue() < expiredTime;
+            if (expired) {
+                log.warn("Discard expired XA commit decision `{}`, it should have been recovered by XA transaction manager.", entry.getKey());
+            }
+            return expired;
+        });
+        return result;
+    }
+    
+    private FileChannel compact() throws IOException {
+        if (null != path.getParent()) {
+            Files.createDirectories(path.getParent());
+        }
+        Path compactedPath = path.resolveSibling(path.getFileName() + ".compact");
+        FileChannel result = FileChannel.open(compactedPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            write(result, String.join("", uncompletedRecords.values()));
+            result.force(true);
+            Files.move(compactedPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            result.close();
+            throw ex;
+        }
+        return result;
+    }
+    
+    @Override
+    public void logCommitting(final String globalTransactionId) throws IOException {
+        if (!running) {
+            throw new IOException("XA transaction log is not initialized.");
+        }
+        CompletableFuture<Void> durable = committingTransactions.computeIfAbsent(globalTransactionId, key -> {
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            records.add(new LogRecord(key, formatCommitting(key, System.currentTimeMillis()) + System.lineSeparator(), result));
+            return result;
+        });
+        try {
+            durable.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting XA commit decision durable.");
+        } catch (final ExecutionException ex) {
+            throw new IOException(ex.getCause());
+        }
+    }
+    
+    private String formatCommitting(final String globalTransactionId, final long timestamp) {
+        return String.format("%s %s %d", COMMITTING, globalTransactionId, timestamp);
+    }
+    
+    @Override
+    public void logCompleted(final String globalTransactionId) {
+        boolean committing = null != committingTransactions.remove(globalTransactionId);
+        if ((loadedTransactions.remove(globalTransactionId) || committing) && running) {
+            records.add(new LogRecord(globalTransactionId, String.format("%s %s%n", COMPLETED, globalTransactionId), null));
+        }
+    }
+    
+    @Override
+    public Collection<String> getCommittingGlobalTransactionIds() {
+        return new HashSet<>(loadedTransactions);
+    }
+    
+    private void flush() {
+        List<LogRecord> batch = new ArrayList<>();
+        while (running || !records.isEmpty()) {
+            try {
+                LogRecord first = records.poll(100L, TimeUnit.MILLISECONDS);
+                if (null == first) {
+                    continue;
+                }
+                batch.add(first);
+                records.drainTo(batch);
+                write(batch);
+                compactIfNecessary();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+    
+    private void write(final List<LogRecord> batch) {
+        StringBuilder content = new StringBuilder();
+        boolean durable = false;
+        for (LogRecord each : batch) {
+            content.append(each.content);
+            durable = durable || null != each.durable;
+        }
+        try {
+            write(channel, content.toString());
+            if (durable) {
+                channel.force(false);
+            }
+        } catch (final IOException ex) {
+            log.error("Write XA transaction log failure: ", ex);
+            batch.stream().filter(each -> null != each.durable).forEach(each -> each.durable.completeExceptionally(ex));
+            return;
+        }
+        for (LogRecord each : batch) {
+            if (null == each.durable) {
+                uncompletedRecords.remove(each.globalTransactionId);
+                completedCount++;
+            } else {
+                uncompletedRecords.put(each.globalTransactionId, each.content);
+                each.durable.complete(null);
+            }
+        }
+    }
+    
+    private void write(final FileChannel fileChannel, final String content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            fileChannel.write(buffer);
+        }
+    }
+    
+    private void compactIfNecessary() {
+        if (completedCount < compactThreshold) {
+            return;
+        }
+        completedCount = 0;
+        try {
+            FileChannel compactedChannel = compact();
+            channel.close();
+            channel = compactedChannel;
+        } catch (final IOException ex) {
+            log.error("Compact XA transaction log failure: ", ex);
+        }
+    }
+    
+    @Override
+    public synchronized void close() throws Exception {
+        if (!running) {
+            return;
+        }
+        running = false;
+        flushThread.join();
+        channel.close();
+        committingTransactions.clear();
+        loadedTransactions.clear();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LogRecord {
+        
+        private final String globalTransactionId;
+        
+        private final String content;
+        
+        private final CompletableFuture<Void> durable;
+    }
+}
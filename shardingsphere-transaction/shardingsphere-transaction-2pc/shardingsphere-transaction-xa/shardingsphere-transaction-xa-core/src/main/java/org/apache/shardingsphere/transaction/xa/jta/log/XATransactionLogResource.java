@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.jta.log;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.transaction.xa.spi.XATransactionLog;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+import java.io.IOException;
+
+/**
+ * XA resource which logs commit decision into XA transaction log before second phase commit.
+ */
+@RequiredArgsConstructor
+public final class XATransactionLogResource implements XAResource {
+    
+    private final XAResource delegate;
+    
+    private final XATransactionLog transactionLog;
+    
+    private volatile String committingGlobalTransactionId;
+    
+    /**
+     * Get global transaction ID of XID.
+     *
+     * @param xid XID
+     * @return global transaction ID
+     */
+    public static String getGlobalTransactionId(final Xid xid) {
+        StringBuilder result = new StringBuilder(Integer.toHexString(xid.getFormatId())).append(':');
+        for (byte each : xid.getGlobalTransactionId()) {
+            result.append(String.format("%02x", each));
+        }
+        return result.toString();
+    }
+    
+    /**
+     * Log XA transaction completed if commit decision logged by this resource.
+     */
+    public void complete() {
+        if (null != committingGlobalTransactionId) {
+            transactionLog.logCompleted(committingGlobalTransactionId);
+            committingGlobalTransactionId = null;
+        }
+    }
+    
+    @Override
+    public void commit(final Xid xid, final boolean onePhase) throws XAException {
+        if (!onePhase) {
+            String globalTransactionId = getGlobalTransactionId(xid);
+            try {
+                transactionLog.logCommitting(globalTransactionId);
+            } catch (final IOException ex) {
+                XAException xaException = new XAException(XAException.XAER_RMERR);
+                xaException.initCause(ex);
+                throw xaException;
+            }
+            committingGlobalTransactionId = globalTransactionId;
+        }
+        delegate.commit(xid, onePhase);
+    }
+    
+    @Override
+    public void end(final Xid xid, final int flags) throws XAException {
+        delegate.end(xid, flags);
+    }
+    
+    @Override
+    public void forget(final Xid xid) throws XAException {
+        delegate.forget(xid);
+    }
+    
+    @Override
+    public int getTransactionTimeout() throws XAException {
+        return delegate.getTransactionTimeout();
+    }
+    
+    @Override
+    public boolean isSameRM(final XAResource xaResource) throws XAException {
+        return delegate.isSameRM(xaResource instanceof XATransactionLogResource ? ((XATransactionLogResource) xaResource).delegate : xaResource);
+    }
+    
+    @Override
+    public int prepare(final Xid xid) throws XAException {
+        return delegate.prepare(xid);
+    }
+    
+    @Override
+    public Xid[] recover(final int flag) throws XAException {
+        return delegate.recover(flag);
+    }
+    
+    @Override
+    public void rollback(final Xid xid) throws XAException {
+        delegate.rollback(xid);
+    }
+    
+    @Override
+    public boolean setTransactionTimeout(final int seconds) throws XAException {
+        return delegate.setTransactionTimeout(seconds);
+    }
+    
+    @Override
+    public void start(final Xid xid, final int flags) throws XAException {
+        delegate.start(xid, flags);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.manager;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.transaction.xa.spi.XATransactionLog;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * XA transaction log loader.
+ * 
+ * <p>
+ * XA transaction log is disabled unless registered by SPI, it is shared by XA sharding transaction managers of all schemas,
+ * initialized when first acquired and closed when last released.
+ * </p>
+ */
+@Slf4j
+public final class XATransactionLogLoader {
+    
+    private static final XATransactionLogLoader INSTANCE = new XATransactionLogLoader();
+    
+    private final XATransactionLog transactionLog;
+    
+    private int referenceCount;
+    
+    private XATransactionLogLoader() {
+        transactionLog = load();
+    }
+    
+    private XATransactionLog load() {
+        Iterator<XATransactionLog> xaTransactionLogs = ServiceLoader.load(XATransactionLog.class).iterator();
+        if (!xaTransactionLogs.hasNext()) {
+            return null;
+        }
+        XATransactionLog result = xaTransactionLogs.next();
+        if (xaTransactionLogs.hasNext()) {
+            log.warn("There are more than one XA transaction logs existing, chosen first one by default.");
+        }
+        return result;
+    }
+    
+    /**
+     * Get instance of XA transaction log SPI loader.
+     * 
+     * @return instance of XA transaction log SPI loader
+     */
+    public static XATransactionLogLoader getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Acquire XA transaction log.
+     * 
+     * @return XA transaction log, empty if no XA transaction log registered
+     * @throws IOException IO exception
+     */
+    public synchronized Optional<XATransactionLog> acquireTransactionLog() throws IOException {
+        if (null == transactionLog) {
+            return Optional.empty();
+        }
+        if (0 == referenceCount) {
+            transactionLog.init();
+        }
+        referenceCount++;
+        return Optional.of(transactionLog);
+    }
+    
+    /**
+     * Release XA transaction log acquired.
+     * 
+     * @throws Exception exception
+     */
+    public synchronized void releaseTransactionLog() throws Exception {
+        if (null == transactionLog || 0 == referenceCount) {
+            return;
+        }
+        referenceCount--;
+        if (0 == referenceCount) {
+            transactionLog.close();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypes;
+import org.apache.shardingsphere.transaction.xa.fixture.DataSourceUtils;
+import org.apache.shardingsphere.transaction.xa.jta.datasource.XADataSourceFactory;
+import org.apache.shardingsphere.transaction.xa.manager.XATransactionManagerLoader;
+import org.apache.shardingsphere.transaction.xa.spi.SingleXAResource;
+import org.apache.shardingsphere.transaction.xa.spi.XATransactionManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.XAConnection;
+import javax.sql.XADataSource;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public final class XATransactionCommitTest {
+    
+    private final XATransactionManager xaTransactionManager = XATransactionManagerLoader.getInstance().getTransactionManager();
+    
+    private final Map<String, XADataSource> xaDataSources = new HashMap<>();
+    
+    private final Collection<XAConnection> xaConnections = new LinkedList<>();
+    
+    @Before
+    public void setUp() {
+        DatabaseType databaseType = DatabaseTypes.getActualDatabaseType("H2");
+        for (String each : new String[]{"commit_ds_0", "commit_ds_1"}) {
+            XADataSource xaDataSource = XADataSourceFactory.build(databaseType, DataSourceUtils.build(HikariDataSource.class, databaseType, each));
+            xaDataSources.put(each, xaDataSource);
+            xaTransactionManager.registerRecoveryResource(each, xaDataSource);
+        }
+        xaTransactionManager.init();
+    }
+    
+    @After
+    public void tearDown() throws Exception {
+        for (XAConnection each : xaConnections) {
+            each.close();
+        }
+        for (Entry<String, XADataSource> entry : xaDataSources.entrySet()) {
+            xaTransactionManager.removeRecoveryResource(entry.getKey(), entry.getValue());
+        }
+        xaTransactionManager.close();
+    }
+    
+    @Test
+    public void assertCommitSingleBranchInOnePhase() throws Exception {
+        xaTransactionManager.getTransactionManager().begin();
+        XAResource branch = enlistBranch("commit_ds_0");
+        xaTransactionManager.getTransactionManager().commit();
+        verify(branch, never()).prepare(any(Xid.class));
+        verify(branch).commit(any(Xid.class), eq(true));
+    }
+    
+    @Test
+    public void assertCommitMultipleBranchesInTwoPhases() throws Exception {
+        xaTransactionManager.getTransactionManager().begin();
+        XAResource branch0 = enlistBranch("commit_ds_0");
+        XAResource branch1 = enlistBranch("commit_ds_1");
+        xaTransactionManager.getTransactionManager().commit();
+        verify(branch0).prepare(any(Xid.class));
+        verify(branch1).prepare(any(Xid.class));
+        verify(branch0).commit(any(Xid.class), eq(false));
+        verify(branch1).commit(any(Xid.class), eq(false));
+    }
+    
+    @Test
+    public void assertSkipCommitForReadOnlyBranch() throws Exception {
+        xaTransactionManager.getTransactionManager().begin();
+        XAResource readOnlyBranch = enlistBranch("commit_ds_0");
+        doReturn(XAResource.XA_RDONLY).when(readOnlyBranch).prepare(any(Xid.class));
+        XAResource branch = enlistBranch("commit_ds_1");
+        xaTransactionManager.getTransactionManager().commit();
+        verify(readOnlyBranch).prepare(any(Xid.class));
+        verify(readOnlyBranch, never()).commit(any(Xid.class), anyBoolean());
+        verify(branch).commit(any(Xid.class), eq(false));
+    }
+    
+    private XAResource enlistBranch(final String dataSourceName) throws Exception {
+        XAConnection xaConnection = getXAConnection(dataSourceName);
+        XAResource result = mock(XAResource.class, delegatesTo(xaConnection.getXAResource()));
+        xaTransactionManager.getTransactionManager().getTransaction().enlistResource(new SingleXAResource(dataSourceName, result));
+        return result;
+    }
+    
+    private XAConnection getXAConnection(final String dataSourceName) throws SQLException {
+        XAConnection result = xaDataSources.get(dataSourceName).getXAConnection();
+        xaConnections.add(result);
+        return result;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.fixture;
+
+import lombok.Getter;
+import org.apache.shardingsphere.transaction.xa.spi.XATransactionLog;
+
+import java.util.Collection;
+import java.util.Collections;
+
+@Getter
+public final class FixtureXATransactionLog implements XATransactionLog {
+    
+    private int initCount;
+    
+    private int closeCount;
+    
+    @Override
+    public void init() {
+        initCount++;
+    }
+    
+    @Override
+    public void logCommitting(final String globalTransactionId) {
+    }
+    
+    @Override
+    public void logCompleted(final String globalTransactionId) {
+    }
+    
+    @Override
+    public Collection<String> getCommittingGlobalTransactionIds() {
+        return Collections.emptyList();
+    }
+    
+    @Override
+    public void close() {
+        closeCount++;
+    }
+}
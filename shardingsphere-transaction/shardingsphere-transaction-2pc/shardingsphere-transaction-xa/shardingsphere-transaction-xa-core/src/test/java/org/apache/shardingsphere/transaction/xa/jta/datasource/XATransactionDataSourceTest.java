@@ -21,7 +21,10 @@ import com.atomikos.jdbc.AtomikosDataSourceBean;
 import com.zaxxer.hikari.HikariDataSource;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypes;
 import org.apache.shardingsphere.transaction.xa.fixture.DataSourceUtils;
+import org.apache.shardingsphere.transaction.xa.fixture.ReflectiveUtil;
+import org.apache.shardingsphere.transaction.xa.jta.log.XATransactionLogResource;
 import org.apache.shardingsphere.transaction.xa.spi.SingleXAResource;
+import org.apache.shardingsphere.transaction.xa.spi.XATransactionLog;
 import org.apache.shardingsphere.transaction.xa.spi.XATransactionManager;
 import org.junit.Before;
 import org.junit.Test;
@@ -30,17 +33,29 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import javax.sql.DataSource;
+import javax.sql.XAConnection;
 import javax.sql.XADataSource;
 import javax.transaction.RollbackException;
 import javax.transaction.Synchronization;
 import javax.transaction.SystemException;
 import javax.transaction.Transaction;
 import javax.transaction.TransactionManager;
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -51,6 +66,9 @@ public final class XATransactionDataSourceTest {
     @Mock
     private XATransactionManager xaTransactionManager;
     
+    @Mock
+    private XATransactionLog xaTransactionLog;
+    
     @Mock
     private TransactionManager transactionManager;
     
@@ -66,7 +84,7 @@ public final class XATransactionDataSourceTest {
     @Test
     public void assertGetAtomikosConnection() throws SQLException, RollbackException, SystemException {
         DataSource dataSource = DataSourceUtils.build(AtomikosDataSourceBean.class, DatabaseTypes.getActualDatabaseType("H2"), "ds1");
-        XATransactionDataSource transactionDataSource = new XATransactionDataSource(DatabaseTypes.getActualDatabaseType("H2"), "ds1", dataSource, xaTransactionManager);
+        XATransactionDataSource transactionDataSource = new XATransactionDataSource(DatabaseTypes.getActualDatabaseType("H2"), "ds1", dataSource, xaTransactionManager, xaTransactionLog);
         try (Connection ignored = transactionDataSource.getConnection()) {
             verify(xaTransactionManager, times(0)).getTransactionManager();
         }
@@ -75,7 +93,7 @@ public final class XATransactionDataSourceTest {
     @Test
     public void assertGetHikariConnection() throws SQLException, RollbackException, SystemException {
         DataSource dataSource = DataSourceUtils.build(HikariDataSource.class, DatabaseTypes.getActualDatabaseType("H2"), "ds1");
-        XATransactionDataSource transactionDataSource = new XATransactionDataSource(DatabaseTypes.getActualDatabaseType("H2"), "ds1", dataSource, xaTransactionManager);
+        XATransactionDataSource transactionDataSource = new XATransactionDataSource(DatabaseTypes.getActualDatabaseType("H2"), "ds1", dataSource, xaTransactionManager, xaTransactionLog);
         try (Connection ignored = transactionDataSource.getConnection()) {
             verify(transaction).enlistResource(any(SingleXAResource.class));
             verify(transaction).registerSynchronization(any(Synchronization.class));
@@ -86,21 +104,48 @@ public final class XATransactionDataSourceTest {
         }
     }
     
+    @Test
+    public void assertRecover() throws SQLException, XAException {
+        DataSource dataSource = DataSourceUtils.build(HikariDataSource.class, DatabaseTypes.getActualDatabaseType("H2"), "ds1");
+        XATransactionDataSource transactionDataSource = new XATransactionDataSource(DatabaseTypes.getActualDatabaseType("H2"), "ds1", dataSource, xaTransactionManager, xaTransactionLog);
+        XADataSource xaDataSource = mock(XADataSource.class);
+        XAConnection xaConnection = mock(XAConnection.class);
+        XAResource xaResource = mock(XAResource.class);
+        when(xaDataSource.getXAConnection()).thenReturn(xaConnection);
+        when(xaConnection.getXAResource()).thenReturn(xaResource);
+        Xid committingXid = createXid((byte) 1);
+        Xid otherXid = createXid((byte) 2);
+        when(xaResource.recover(anyInt())).thenReturn(new Xid[]{committingXid, otherXid});
+        ReflectiveUtil.setProperty(transactionDataSource, "xaDataSource", xaDataSource);
+        String globalTransactionId = XATransactionLogResource.getGlobalTransactionId(committingXid);
+        assertThat(transactionDataSource.recover(Collections.singleton(globalTransactionId)), is(Collections.singleton(globalTransactionId)));
+        verify(xaResource).commit(committingXid, false);
+        verify(xaResource, never()).commit(eq(otherXid), anyBoolean());
+        verify(xaConnection).close();
+    }
+    
+    private Xid createXid(final byte globalTransactionId) {
+        Xid result = mock(Xid.class);
+        when(result.getFormatId()).thenReturn(1);
+        when(result.getGlobalTransactionId()).thenReturn(new byte[]{globalTransactionId});
+        return result;
+    }
+    
     @Test
     public void assertCloseAtomikosDataSourceBean() {
         DataSource dataSource = DataSourceUtils.build(AtomikosDataSourceBean.class, DatabaseTypes.getActualDatabaseType("H2"), "ds11");
-        XATransactionDataSource transactionDataSource = new XATransactionDataSource(DatabaseTypes.getActualDatabaseType("H2"), "ds11", dataSource, xaTransactionManager);
+        XATransactionDataSource transactionDataSource = new XATransactionDataSource(DatabaseTypes.getActualDatabaseType("H2"), "ds11", dataSource, xaTransactionManager, xaTransactionLog);
         transactionDataSource.close();
         verify(xaTransactionManager, times(0)).removeRecoveryResource(anyString(), any(XADataSource.class));
-       
+    
     }
     
     @Test
     public void assertCloseHikariDataSource() {
         DataSource dataSource = DataSourceUtils.build(HikariDataSource.class, DatabaseTypes.getActualDatabaseType("H2"), "ds1");
-        XATransactionDataSource transactionDataSource = new XATransactionDataSource(DatabaseTypes.getActualDatabaseType("H2"), "ds1", dataSource, xaTransactionManager);
+        XATransactionDataSource transactionDataSource = new XATransactionDataSource(DatabaseTypes.getActualDatabaseType("H2"), "ds1", dataSource, xaTransactionManager, xaTransactionLog);
         transactionDataSource.close();
         verify(xaTransactionManager).removeRecoveryResource(anyString(), any(XADataSource.class));
-        
+    
     }
 }
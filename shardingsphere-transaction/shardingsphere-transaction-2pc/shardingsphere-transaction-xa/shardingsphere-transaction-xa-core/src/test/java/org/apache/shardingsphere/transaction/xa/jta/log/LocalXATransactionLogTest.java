@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.jta.log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LocalXATransactionLogTest {
+    
+    private File file;
+    
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("xa_decision", ".log");
+    }
+    
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+    
+    @Test
+    public void assertLoadCommittingGlobalTransactionIds() throws Exception {
+        LocalXATransactionLog transactionLog = new LocalXATransactionLog(file);
+        transactionLog.init();
+        transactionLog.logCommitting("1:01");
+        transactionLog.logCommitting("1:02");
+        transactionLog.logCompleted("1:01");
+        assertTrue(transactionLog.getCommittingGlobalTransactionIds().isEmpty());
+        transactionLog.close();
+        LocalXATransactionLog reloadedTransactionLog = new LocalXATransactionLog(file);
+        reloadedTransactionLog.init();
+        assertThat(reloadedTransactionLog.getCommittingGlobalTransactionIds(), is(Collections.singleton("1:02")));
+        reloadedTransactionLog.logCompleted("1:02");
+        assertTrue(reloadedTransactionLog.getCommittingGlobalTransactionIds().isEmpty());
+        reloadedTransactionLog.close();
+    }
+    
+    @Test
+    public void assertCompactOnInit() throws Exception {
+        long now = System.currentTimeMillis();
+        Files.write(file.toPath(), Arrays.asList("C 1:01 " + now, "C 1:02 " + now, "D 1:01", "C 1:03 0"), StandardCharsets.UTF_8);
+        LocalXATransactionLog transactionLog = new LocalXATransactionLog(file);
+        transactionLog.init();
+        assertThat(transactionLog.getCommittingGlobalTransactionIds(), is(Collections.singleton("1:02")));
+        assertThat(Files.readAllLines(file.toPath(), StandardCharsets.UTF_8), is(Collections.singletonList("C 1:02 " + now)));
+        transactionLog.close();
+    }
+    
+    @Test
+    public void assertCompactByFlushThread() throws Exception {
+        LocalXATransactionLog transactionLog = new LocalXATransactionLog(file, 2);
+        transactionLog.init();
+        transactionLog.logCommitting("1:01");
+        transactionLog.logCommitting("1:02");
+        transactionLog.logCompleted("1:01");
+        transactionLog.logCommitting("1:03");
+        transactionLog.logCompleted("1:02");
+        transactionLog.close();
+        List<String> actual = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertThat(actual.size(), is(1));
+        assertTrue(actual.get(0).startsWith("C 1:03 "));
+        LocalXATransactionLog reloadedTransactionLog = new LocalXATransactionLog(file);
+        reloadedTransactionLog.init();
+        assertThat(reloadedTransactionLog.getCommittingGlobalTransactionIds(), is(Collections.singleton("1:03")));
+        reloadedTransactionLog.close();
+    }
+    
+    @Test
+    public void assertConfigurePathBySystemProperty() throws Exception {
+        System.setProperty(LocalXATransactionLog.PATH_KEY, file.getPath());
+        try {
+            LocalXATransactionLog transactionLog = new LocalXATransactionLog();
+            transactionLog.init();
+            transactionLog.logCommitting("1:01");
+            transactionLog.close();
+        } finally {
+            System.clearProperty(LocalXATransactionLog.PATH_KEY);
+        }
+        assertThat(Files.readAllLines(file.toPath(), StandardCharsets.UTF_8).size(), is(1));
+    }
+    
+    @Test(timeout = 10000L)
+    public void assertLogCommittingConcurrently() throws Exception {
+        LocalXATransactionLog transactionLog = new LocalXATransactionLog(file);
+        transactionLog.init();
+        int concurrency = 16;
+        ExecutorService executorService = Executors.newFixedThreadPool(concurrency);
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Future<?>> futures = new LinkedList<>();
+        for (int i = 0; i < concurrency; i++) {
+            String globalTransactionId = "1:" + i;
+            futures.add(executorService.submit(() -> {
+                latch.await();
+                transactionLog.logCommitting(globalTransactionId);
+                return null;
+            }));
+        }
+        latch.countDown();
+        for (Future<?> each : futures) {
+            each.get();
+        }
+        executorService.shutdown();
+        transactionLog.close();
+        assertThat(new HashSet<>(Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)).size(), is(concurrency));
+    }
+    
+    @Test(expected = IOException.class)
+    public void assertLogCommittingWithoutInit() throws IOException {
+        new LocalXATransactionLog(file).logCommitting("1:01");
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.jta.log;
+
+import org.apache.shardingsphere.transaction.xa.spi.XATransactionLog;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+import java.io.IOException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class XATransactionLogResourceTest {
+    
+    @Mock
+    private XAResource delegate;
+    
+    @Mock
+    private XATransactionLog transactionLog;
+    
+    @Mock
+    private Xid xid;
+    
+    private XATransactionLogResource xaResource;
+    
+    @Before
+    public void setUp() {
+        xaResource = new XATransactionLogResource(delegate, transactionLog);
+    }
+    
+    private void mockGlobalTransactionId() {
+        when(xid.getFormatId()).thenReturn(4660);
+        when(xid.getGlobalTransactionId()).thenReturn(new byte[]{0x0a, 0x1b});
+    }
+    
+    @Test
+    public void assertGetGlobalTransactionId() {
+        mockGlobalTransactionId();
+        assertThat(XATransactionLogResource.getGlobalTransactionId(xid), is("1234:0a1b"));
+    }
+    
+    @Test
+    public void assertCommitInTwoPhases() throws XAException, IOException {
+        mockGlobalTransactionId();
+        xaResource.commit(xid, false);
+        verify(transactionLog).logCommitting("1234:0a1b");
+        verify(delegate).commit(xid, false);
+        xaResource.complete();
+        verify(transactionLog).logCompleted("1234:0a1b");
+    }
+    
+    @Test
+    public void assertCommitInOnePhase() throws XAException, IOException {
+        xaResource.commit(xid, true);
+        verify(transactionLog, never()).logCommitting(anyString());
+        verify(delegate).commit(xid, true);
+        xaResource.complete();
+        verify(transactionLog, never()).logCompleted(anyString());
+    }
+    
+    @Test
+    public void assertCommitWhenLogFailed() throws XAException, IOException {
+        mockGlobalTransactionId();
+        doThrow(new IOException("disk full")).when(transactionLog).logCommitting("1234:0a1b");
+        try {
+            xaResource.commit(xid, false);
+            fail("Expected XAException.");
+        } catch (final XAException ex) {
+            assertThat(ex.errorCode, is(XAException.XAER_RMERR));
+        }
+        verify(delegate, never()).commit(xid, false);
+    }
+}
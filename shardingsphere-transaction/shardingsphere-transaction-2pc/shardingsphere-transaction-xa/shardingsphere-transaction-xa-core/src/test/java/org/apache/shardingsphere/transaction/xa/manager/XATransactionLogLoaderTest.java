@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.manager;
+
+import org.apache.shardingsphere.transaction.xa.fixture.FixtureXATransactionLog;
+import org.apache.shardingsphere.transaction.xa.spi.XATransactionLog;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class XATransactionLogLoaderTest {
+    
+    @Test
+    public void assertAcquireAndReleaseTransactionLog() throws Exception {
+        XATransactionLog actual = XATransactionLogLoader.getInstance().acquireTransactionLog().get();
+        assertThat(actual, instanceOf(FixtureXATransactionLog.class));
+        FixtureXATransactionLog transactionLog = (FixtureXATransactionLog) actual;
+        int initCount = transactionLog.getInitCount();
+        int closeCount = transactionLog.getCloseCount();
+        assertThat(XATransactionLogLoader.getInstance().acquireTransactionLog().get(), sameInstance(actual));
+        assertThat(transactionLog.getInitCount(), is(initCount));
+        XATransactionLogLoader.getInstance().releaseTransactionLog();
+        assertThat(transactionLog.getCloseCount(), is(closeCount));
+        XATransactionLogLoader.getInstance().releaseTransactionLog();
+        assertThat(transactionLog.getCloseCount(), is(closeCount + 1));
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.transaction.xa.narayana.manager;
 
+import com.arjuna.ats.arjuna.common.arjPropertyManager;
 import com.arjuna.ats.arjuna.recovery.RecoveryManager;
 import com.arjuna.ats.internal.jta.recovery.arjunacore.XARecoveryModule;
 import com.arjuna.ats.jbossatx.jta.RecoveryManagerService;
@@ -33,12 +34,17 @@ import javax.transaction.TransactionManager;
  */
 public final class NarayanaXATransactionManager implements XATransactionManager {
     
-    private final TransactionManager transactionManager = jtaPropertyManager.getJTAEnvironmentBean().getTransactionManager();
+    private final TransactionManager transactionManager = createTransactionManager();
     
     private final XARecoveryModule xaRecoveryModule = XARecoveryModule.getRegisteredXARecoveryModule();
     
     private final RecoveryManagerService recoveryManagerService = new RecoveryManagerService();
     
+    private static TransactionManager createTransactionManager() {
+        arjPropertyManager.getCoordinatorEnvironmentBean().setAsyncPrepare(true);
+        return jtaPropertyManager.getJTAEnvironmentBean().getTransactionManager();
+    }
+    
     @Override
     public void init() {
         RecoveryManager.delayRecoveryManagerThread();
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.spi;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * XA transaction log, which records commit decisions of XA transactions for recovery.
+ */
+public interface XATransactionLog extends AutoCloseable {
+    
+    /**
+     * Initialize XA transaction log and load commit decisions not completed yet.
+     *
+     * @throws IOException IO exception
+     */
+    void init() throws IOException;
+    
+    /**
+     * Log commit decision of XA transaction, return after decision is durable.
+     *
+     * @param globalTransactionId global transaction ID
+     * @throws IOException IO exception
+     */
+    void logCommitting(String globalTransactionId) throws IOException;
+    
+    /**
+     * Log XA transaction completed, completion is not required to be durable.
+     *
+     * @param globalTransactionId global transaction ID
+     */
+    void logCompleted(String globalTransactionId);
+    
+    /**
+     * Get global transaction IDs loaded on initialization, which are committing but not completed.
+     *
+     * @return global transaction IDs
+     */
+    Collection<String> getCommittingGlobalTransactionIds();
+}
@@ -27,6 +27,7 @@ import javax.transaction.xa.XAException;
 import javax.transaction.xa.XAResource;
 import javax.transaction.xa.Xid;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.verify;
 
@@ -75,6 +76,12 @@ public final class SingleXAResourceTest {
         assertTrue(singleXAResource.isSameRM(new SingleXAResource("ds1", xaResource)));
     }
     
+    @Test
+    public void assertIsNotSameRM() {
+        assertFalse(singleXAResource.isSameRM(new SingleXAResource("ds2", xaResource)));
+        assertFalse(singleXAResource.isSameRM(xaResource));
+    }
+    
     @Test
     public void assertPrepare() throws XAException {
         singleXAResource.prepare(xid);